@@ -0,0 +1,79 @@
+package com.ddalkkak.date.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정
+ * 코스 생성 작업 전용 스레드 풀 (요청 스레드와 분리)
+ * 사전 생성 코스 풀 보충용 스레드 풀
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행되면 코스 생성 작업은 가상 스레드에서 실행
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 코스 생성 작업 실행기
+     * 큐가 가득 차면 TaskRejectedException을 던져 503으로 응답 (무제한 적재 방지)
+     */
+    @Bean(name = "courseGenerationExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor courseGenerationExecutor(
+            @Value("${course.async.core-pool-size:8}") int corePoolSize,
+            @Value("${course.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${course.async.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("course-gen-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 코스 생성 작업 실행기 (가상 스레드)
+     * 작업마다 가상 스레드를 만들고, 동시 실행 수는 스레드 풀 모드의 최대 스레드 수 + 큐 용량으로 제한
+     * 한도를 넘으면 TaskRejectedException을 던져 503으로 응답
+     */
+    @Bean(name = "courseGenerationExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor virtualCourseGenerationExecutor(
+            @Value("${course.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${course.async.queue-capacity:100}") int queueCapacity
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("course-gen-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return new BulkheadTaskExecutor(executor, maxPoolSize + queueCapacity);
+    }
+
+    /**
+     * 사전 생성 코스 풀 보충 실행기
+     * 보충은 최선 노력이므로 큐가 가득 차면 제출을 거부하고 (제출 측에서 진행 중 표시를 해제), 다음 보충 기회에 채움
+     */
+    @Bean(name = "pregenerationExecutor")
+    public ThreadPoolTaskExecutor pregenerationExecutor(
+            @Value("${course.pregeneration.pool-size:2}") int poolSize,
+            @Value("${course.pregeneration.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("course-pregen-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
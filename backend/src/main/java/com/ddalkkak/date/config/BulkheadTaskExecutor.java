@@ -0,0 +1,51 @@
+package com.ddalkkak.date.config;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수를 제한하는 실행기 래퍼 (벌크헤드)
+ * 가상 스레드 실행기는 작업마다 새 스레드를 만들어 큐가 없으므로,
+ * 한도를 넘는 작업은 대기시키지 않고 TaskRejectedException으로 거부 (스레드 풀 AbortPolicy와 동일하게 503 응답)
+ */
+public class BulkheadTaskExecutor implements TaskExecutor, AutoCloseable {
+
+    private final TaskExecutor delegate;
+    private final Semaphore permits;
+
+    public BulkheadTaskExecutor(TaskExecutor delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("동시 실행 한도 초과로 작업 거부");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 종료 시 위임 실행기도 닫음 (SimpleAsyncTaskExecutor는 실행 중인 작업 종료를 기다림)
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ddalkkak.date.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM 서킷 브레이커 설정값
+ * application.yml의 llm.circuit-breaker 설정을 바인딩 (모든 공급자 공통)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "llm.circuit-breaker")
+@Getter
+@Setter
+public class LlmCircuitBreakerProperties {
+
+    /**
+     * 서킷 브레이커 사용 여부 (false면 항상 호출)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실패율 계산에 사용하는 최근 호출 수
+     */
+    private int windowSize = 20;
+
+    /**
+     * 실패율을 판단하기 위한 최소 호출 수
+     */
+    private int minimumCalls = 10;
+
+    /**
+     * OPEN 전환 실패율 (0.0 ~ 1.0)
+     */
+    private double failureRateThreshold = 0.5;
+
+    /**
+     * 지연 호출로 판단하는 응답 시간 (밀리초)
+     */
+    private long slowCallThresholdMs = 8000;
+
+    /**
+     * OPEN 전환 지연 호출 비율 (0.0 ~ 1.0)
+     */
+    private double slowCallRateThreshold = 0.8;
+
+    /**
+     * OPEN 유지 시간 (밀리초, 이후 HALF_OPEN으로 시험 호출)
+     */
+    private long openDurationMs = 30000;
+
+    /**
+     * HALF_OPEN 상태에서 허용하는 시험 호출 수
+     */
+    private int halfOpenPermittedCalls = 2;
+}
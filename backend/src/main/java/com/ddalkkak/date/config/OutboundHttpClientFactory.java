@@ -0,0 +1,85 @@
+package com.ddalkkak.date.config;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 호출용 WebClient 생성기
+ * 클라이언트(호스트)마다 연결 풀을 하나씩 두고 연결을 재사용하여 코스 생성 경로에서 TCP/TLS 핸드셰이크를 제거
+ * 연결 풀 지표(reactor.netty.connection.provider.*: 활성/유휴/대기 연결 수, 연결 획득 시간)는
+ * Micrometer 전역 레지스트리로 노출되어 /actuator/metrics 에서 조회
+ */
+@Slf4j
+@Component
+public class OutboundHttpClientFactory implements DisposableBean {
+
+    private final OutboundHttpProperties properties;
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    public OutboundHttpClientFactory(OutboundHttpProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 클라이언트 전용 연결 풀을 사용하는 WebClient 빌더
+     *
+     * @param clientName 클라이언트 이름 (연결 풀 이름 및 설정 키)
+     * @param baseUrl    기본 URL
+     */
+    public WebClient.Builder builder(String clientName, String baseUrl) {
+        OutboundHttpProperties.Pool pool = properties.poolOf(clientName);
+        ConnectionProvider provider = providers.computeIfAbsent(clientName, name -> newConnectionProvider(name, pool));
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .responseTimeout(Duration.ofMillis(pool.getResponseTimeoutMs()))
+                .compress(true);
+
+        if (pool.isHttp2() && baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        log.info("외부 HTTP 클라이언트 생성 - 이름: {}, 최대 연결: {}, HTTP/2: {}",
+                clientName, pool.getMaxConnections(), pool.isHttp2());
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    private ConnectionProvider newConnectionProvider(String clientName, OutboundHttpProperties.Pool pool) {
+        return ConnectionProvider.builder("outbound-" + clientName)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMs()))
+                // 가장 최근에 반납된 연결부터 사용하여 유휴 연결이 자연스럽게 정리되도록 함
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 종료 시 연결 풀 정리
+     */
+    @Override
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+}
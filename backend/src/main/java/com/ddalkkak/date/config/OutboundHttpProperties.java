@@ -0,0 +1,87 @@
+package com.ddalkkak.date.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정값
+ * application.yml의 outbound.http 설정을 바인딩
+ * 클라이언트 이름(gemini, claude, openai, kakao-local, kakao-api)별로 연결 풀을 따로 두며,
+ * 설정하지 않은 항목은 Pool 필드 기본값을 사용
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbound.http")
+@Getter
+@Setter
+public class OutboundHttpProperties {
+
+    /**
+     * 클라이언트 이름 → 연결 풀 설정
+     */
+    private Map<String, Pool> clients = new LinkedHashMap<>();
+
+    /**
+     * 클라이언트 이름으로 설정 조회 (없으면 기본값)
+     */
+    public Pool poolOf(String clientName) {
+        return clients.getOrDefault(clientName, new Pool());
+    }
+
+    /**
+     * 호스트별 연결 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * 최대 연결 수 (HTTP/2는 연결당 여러 요청을 다중화)
+         */
+        private int maxConnections = 50;
+
+        /**
+         * 연결 획득 대기 요청 최대 수 (초과 시 즉시 실패)
+         */
+        private int pendingAcquireMaxCount = 200;
+
+        /**
+         * 연결 획득 대기 시간 (밀리초)
+         */
+        private long pendingAcquireTimeoutMs = 2000;
+
+        /**
+         * 유휴 연결 유지 시간 (밀리초, 상대 서버/로드밸런서의 유휴 종료보다 짧게)
+         */
+        private long maxIdleTimeMs = 55000;
+
+        /**
+         * 연결 최대 수명 (밀리초, DNS 변경 반영)
+         */
+        private long maxLifeTimeMs = 300000;
+
+        /**
+         * 백그라운드 유휴 연결 정리 주기 (밀리초)
+         */
+        private long evictInBackgroundMs = 30000;
+
+        /**
+         * TCP 연결 시간 제한 (밀리초)
+         */
+        private int connectTimeoutMs = 2000;
+
+        /**
+         * 응답 대기 시간 제한 (밀리초, 응답 조각 사이 간격 기준)
+         */
+        private long responseTimeoutMs = 30000;
+
+        /**
+         * HTTP/2 사용 여부 (HTTPS에서 ALPN으로 협상, 미지원 서버는 HTTP/1.1로 동작)
+         */
+        private boolean http2 = false;
+    }
+}
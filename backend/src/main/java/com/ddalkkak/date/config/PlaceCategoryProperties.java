@@ -0,0 +1,73 @@
+package com.ddalkkak.date.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 카테고리 분류 설정값
+ * application.yml의 place.category 설정을 바인딩
+ * keywords-file을 지정하면 그 파일의 place.category 테이블을 우선 사용하며,
+ * 파일 수정 후 /admin/places/reclassify 호출 시 재기동 없이 다시 읽어 전체 장소를 재분류
+ * (application.yml의 테이블을 바꾼 경우에는 재기동 필요)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "place.category")
+@Getter
+@Setter
+public class PlaceCategoryProperties {
+
+    /**
+     * 외부 키워드 파일 경로 (application.yml과 같은 place.category 구조의 YAML, 비어 있으면 사용 안 함)
+     */
+    private String keywordsFile;
+
+    /**
+     * 데이트 유형 ID → 카테고리 키워드 목록 (하나라도 포함되면 해당 유형에 매칭)
+     */
+    private Map<String, List<String>> dateTypeKeywords = new LinkedHashMap<>();
+
+    /**
+     * 카테고리와 무관하게 항상 매칭되는 데이트 유형 ID 목록
+     */
+    private List<String> matchAllDateTypes = new ArrayList<>();
+
+    /**
+     * 이미지 검색 쿼리 규칙 (목록 순서가 우선순위)
+     */
+    private List<ImageQueryRule> imageQueries = new ArrayList<>();
+
+    /**
+     * 매칭되는 규칙이 없을 때 사용하는 이미지 검색 쿼리
+     */
+    private String defaultImageQuery = "restaurant,cafe,seoul";
+
+    /**
+     * 이미지 검색 쿼리 규칙
+     */
+    @Getter
+    @Setter
+    public static class ImageQueryRule {
+
+        /**
+         * places.image_query_key 컬럼에 저장되는 키
+         */
+        private String key;
+
+        /**
+         * 이미지 검색 쿼리
+         */
+        private String query;
+
+        /**
+         * 카테고리 키워드 목록
+         */
+        private List<String> keywords = new ArrayList<>();
+    }
+}
@@ -60,6 +60,8 @@ public class SecurityConfig {
                                 "/auth/oauth2/**",
                                 "/oauth2/**",
                                 "/courses/generate",  // 비로그인 사용자도 코스 생성 가능
+                                "/courses/generate/**",  // 비동기 코스 생성
+                                "/courses/jobs/**",  // 코스 생성 작업 조회 및 SSE 구독
                                 "/courses/{courseId}",  // 코스 조회 및 수정 (비로그인 가능)
                                 "/courses/shared/**",  // 공유 코스 조회 (비회원 접근 가능)
                                 "/courses/*/share",  // 공유 URL 생성
@@ -73,11 +75,16 @@ public class SecurityConfig {
                                 "/auth/me",
                                 "/auth/logout",
                                 "/courses/saved",  // 저장된 코스 조회
+                                "/courses/saved/cursor",  // 저장된 코스 커서 조회
                                 "/courses/*/save",  // 코스 저장
                                 "/courses/*/confirm",  // 코스 확정
                                 "/courses/*/feedback"  // 피드백 제출 및 조회
                         ).authenticated()
 
+                        // 관리자 엔드포인트 (장소 수집, LLM 서킷 브레이커 제어)
+                        // 로그인 사용자는 모두 ROLE_USER이므로 ADMIN 권한이 부여되기 전까지는 닫혀 있음
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -1,8 +1,11 @@
 package com.ddalkkak.date.controller;
 
+import com.ddalkkak.date.dto.CourseGenerationJobResponse;
 import com.ddalkkak.date.dto.CourseGenerationRequest;
 import com.ddalkkak.date.dto.CourseResponse;
 import com.ddalkkak.date.dto.CourseUpdateRequest;
+import com.ddalkkak.date.dto.CursorPageResponse;
+import com.ddalkkak.date.service.CourseGenerationJobService;
 import com.ddalkkak.date.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,9 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -27,13 +34,14 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseGenerationJobService courseGenerationJobService;
 
     /**
      * 코스 생성 (AI 추천)
      */
     @Operation(summary = "코스 생성", description = "사용자 입력(지역, 데이트 유형, 예산)을 기반으로 AI가 최적화된 데이트 코스를 생성합니다")
     @PostMapping("/generate")
-    public ResponseEntity<CourseResponse> generateCourse(
+    public Mono<ResponseEntity<CourseResponse>> generateCourse(
             @Valid @RequestBody CourseGenerationRequest request) {
 
         long startTime = System.currentTimeMillis();
@@ -41,12 +49,61 @@ public class CourseController {
         log.info("코스 생성 요청 - 지역: {}, 데이트 유형: {}, 예산: {}",
                 request.getRegionId(), request.getDateTypeId(), request.getBudgetPresetId());
 
-        CourseResponse response = courseService.generateCourse(request);
+        // 요청 스레드는 즉시 반환되고, 응답은 코스 생성 완료 시 비동기로 전송
+        return courseService.generateCourseReactive(request)
+                .map(response -> {
+                    long duration = System.currentTimeMillis() - startTime;
+                    log.info("코스 생성 완료 - 코스 ID: {}, 소요 시간: {}ms", response.getCourseId(), duration);
+                    return ResponseEntity.ok(response);
+                });
+    }
 
-        long duration = System.currentTimeMillis() - startTime;
-        log.info("코스 생성 완료 - 코스 ID: {}, 소요 시간: {}ms", response.getCourseId(), duration);
+    /**
+     * 비동기 코스 생성 요청
+     * 작업 ID를 즉시 반환하고 생성은 백그라운드에서 수행
+     */
+    @Operation(summary = "비동기 코스 생성", description = "코스 생성 작업을 등록하고 작업 ID를 즉시 반환합니다. 결과는 작업 조회 또는 SSE로 받을 수 있습니다")
+    @PostMapping("/generate/async")
+    public ResponseEntity<CourseGenerationJobResponse> generateCourseAsync(
+            @Valid @RequestBody CourseGenerationRequest request) {
 
-        return ResponseEntity.ok(response);
+        log.info("비동기 코스 생성 요청 - 지역: {}, 데이트 유형: {}, 예산: {}",
+                request.getRegionId(), request.getDateTypeId(), request.getBudgetPresetId());
+
+        CourseGenerationJobResponse response = courseGenerationJobService.submit(request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 스트리밍 코스 생성 (SSE)
+     * 장소가 확정될 때마다 place 이벤트, 저장된 최종 코스는 completed 이벤트로 전달
+     */
+    @Operation(summary = "스트리밍 코스 생성", description = "생성 중인 코스의 장소를 확정되는 즉시 Server-Sent Events(place)로 전달하고, 최종 코스를 completed 이벤트로 전달합니다. 최종 코스가 앞서 받은 장소와 다를 수 있으므로 completed 기준으로 교체해야 합니다")
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter generateCourseStream(@Valid @RequestBody CourseGenerationRequest request) {
+        log.info("스트리밍 코스 생성 요청 - 지역: {}, 데이트 유형: {}, 예산: {}",
+                request.getRegionId(), request.getDateTypeId(), request.getBudgetPresetId());
+
+        return courseGenerationJobService.streamGeneration(request);
+    }
+
+    /**
+     * 코스 생성 작업 상태 조회 (폴링)
+     */
+    @Operation(summary = "코스 생성 작업 조회", description = "작업 ID로 비동기 코스 생성 작업의 상태와 결과를 조회합니다")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CourseGenerationJobResponse> getCourseGenerationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(courseGenerationJobService.getJob(jobId));
+    }
+
+    /**
+     * 코스 생성 작업 완료 이벤트 구독 (SSE)
+     */
+    @Operation(summary = "코스 생성 작업 이벤트 구독", description = "작업 완료 시 completed 또는 failed 이벤트를 Server-Sent Events로 전달합니다")
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCourseGenerationJob(@PathVariable String jobId) {
+        return courseGenerationJobService.subscribe(jobId);
     }
 
     /**
@@ -115,6 +172,41 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    /**
+     * 저장된 코스 목록 커서 기반 조회
+     * JWT 인증 필요
+     */
+    @Operation(summary = "저장된 코스 조회 (커서)", description = "사용자가 저장한 코스를 최신순으로 커서 기반 페이지 조회합니다 (로그인 필요)")
+    @GetMapping("/saved/cursor")
+    public ResponseEntity<CursorPageResponse<CourseResponse>> getSavedCoursesByCursor(
+            @Parameter(hidden = true) Authentication authentication,
+            @RequestParam(value = "status", required = false) String statusParam,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        String kakaoId = authentication.getName();
+        log.info("저장된 코스 커서 조회 요청 - 카카오 ID: {}, 상태 필터: {}, 크기: {}", kakaoId, statusParam, size);
+
+        com.ddalkkak.date.entity.CourseStatus status = null;
+        if (statusParam != null && !statusParam.isBlank()) {
+            try {
+                status = com.ddalkkak.date.entity.CourseStatus.valueOf(statusParam.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 status 값: {}", statusParam);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        CursorPageResponse<CourseResponse> courses = courseService.getSavedCoursesByCursor(kakaoId, status, cursor, size);
+
+        log.info("저장된 코스 커서 조회 완료 - 카카오 ID: {}, 코스 수: {}, 다음 페이지: {}",
+                kakaoId, courses.getContent().size(), courses.isHasNext());
+
+        return ResponseEntity.ok(courses);
+    }
+
     /**
      * 코스 확정
      * JWT 인증 필요
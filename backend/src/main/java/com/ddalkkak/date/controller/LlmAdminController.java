@@ -0,0 +1,63 @@
+package com.ddalkkak.date.controller;
+
+import com.ddalkkak.date.service.LlmCircuitBreakerRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LLM 운영 컨트롤러
+ * 관리자용 API 엔드포인트 (ROLE_ADMIN 전용, SecurityConfig 참고)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/llm")
+@RequiredArgsConstructor
+@Tag(name = "LLM Admin", description = "LLM 공급자 운영 API (관리자용)")
+public class LlmAdminController {
+
+    private final LlmCircuitBreakerRegistry circuitBreakerRegistry;
+
+    @GetMapping("/circuit-breakers")
+    @Operation(summary = "서킷 브레이커 상태 조회", description = "LLM 공급자별 서킷 브레이커 상태, 실패율, 지연 호출 비율 조회")
+    public ResponseEntity<Map<String, Object>> getCircuitBreakers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("circuitBreakers", circuitBreakerRegistry.snapshots());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/circuit-breakers/{provider}/reset")
+    @Operation(summary = "서킷 브레이커 리셋", description = "공급자 서킷 브레이커를 CLOSED로 전환하고 호출 기록 초기화")
+    public ResponseEntity<Map<String, Object>> resetCircuitBreaker(@PathVariable String provider) {
+        log.info("서킷 브레이커 리셋 요청: {}", provider);
+
+        circuitBreakerRegistry.get(provider).reset();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("circuitBreaker", circuitBreakerRegistry.get(provider).snapshot());
+        response.put("message", "서킷 브레이커 리셋 완료");
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/circuit-breakers/{provider}/open")
+    @Operation(summary = "서킷 브레이커 강제 OPEN", description = "공급자 호출을 차단 (OPEN 유지 시간 이후 시험 호출로 자동 복구)")
+    public ResponseEntity<Map<String, Object>> openCircuitBreaker(@PathVariable String provider) {
+        log.info("서킷 브레이커 강제 OPEN 요청: {}", provider);
+
+        circuitBreakerRegistry.get(provider).forceOpen();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("circuitBreaker", circuitBreakerRegistry.get(provider).snapshot());
+        response.put("message", "서킷 브레이커 OPEN 완료");
+
+        return ResponseEntity.ok(response);
+    }
+}
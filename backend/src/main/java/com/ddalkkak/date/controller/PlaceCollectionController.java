@@ -140,6 +140,35 @@ public class PlaceCollectionController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/backfill-price")
+    @Operation(summary = "가격 범위 백필", description = "priceRange 문자열을 파싱하여 price_min/price_max 컬럼이 비어 있는 장소를 채움")
+    public ResponseEntity<Map<String, Object>> backfillPriceBounds() {
+        log.info("가격 범위 백필 요청");
+
+        int count = placeCollectionService.backfillPriceBounds();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("backfilledCount", count);
+        response.put("message", "가격 범위 백필 완료");
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/reclassify")
+    @Operation(summary = "장소 카테고리 재분류", description = "키워드 테이블을 다시 읽은 뒤(외부 키워드 파일 설정 시) 전체 장소의 데이트 유형 비트마스크와 이미지 쿼리 키를 다시 계산")
+    public ResponseEntity<Map<String, Object>> reclassifyPlaces() {
+        log.info("장소 카테고리 재분류 요청");
+
+        placeCollectionService.reloadCategoryKeywords();
+        int count = placeCollectionService.reclassifyPlaces();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("reclassifiedCount", count);
+        response.put("message", "카테고리 재분류 완료");
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/regions")
     @Operation(summary = "수집 가능한 지역 목록 조회", description = "데이터 수집이 가능한 서울 12개 지역 목록")
     public ResponseEntity<Map<String, Object>> getAvailableRegions() {
@@ -1,5 +1,7 @@
 package com.ddalkkak.date.controller;
 
+import com.ddalkkak.date.dto.CursorPageResponse;
+import com.ddalkkak.date.dto.PlaceAutocompleteResponse;
 import com.ddalkkak.date.dto.PlaceSearchResponse;
 import com.ddalkkak.date.service.PlaceService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,7 +30,7 @@ public class PlaceController {
     /**
      * 장소 검색
      */
-    @Operation(summary = "장소 검색", description = "검색어, 지역, 정렬 기준으로 장소를 검색합니다")
+    @Operation(summary = "장소 검색", description = "검색어, 지역, 무드 태그, 정렬 기준으로 장소를 검색합니다")
     @GetMapping("/search")
     public ResponseEntity<Page<PlaceSearchResponse>> searchPlaces(
             @Parameter(description = "검색어 (장소명, 카테고리, 주소)")
@@ -40,6 +42,15 @@ public class PlaceController {
             @Parameter(description = "정렬 기준 (distance, popularity, rating, 기본값: 데이트 적합도)")
             @RequestParam(required = false, defaultValue = "default") String sortBy,
 
+            @Parameter(description = "기준 위도 (distance 정렬 시 필요)")
+            @RequestParam(required = false) Double lat,
+
+            @Parameter(description = "기준 경도 (distance 정렬 시 필요)")
+            @RequestParam(required = false) Double lng,
+
+            @Parameter(description = "무드 태그 필터 (지정한 태그를 모두 가진 장소만, 예: moodTags=로맨틱&moodTags=아늑한)")
+            @RequestParam(required = false) List<String> moodTags,
+
             @Parameter(description = "페이지 번호 (0부터 시작)")
             @RequestParam(defaultValue = "0") int page,
 
@@ -48,28 +59,91 @@ public class PlaceController {
     ) {
         log.info("장소 검색 요청 - 검색어: {}, 지역: {}, 정렬: {}, 페이지: {}/{}", query, regionId, sortBy, page, size);
 
-        Page<PlaceSearchResponse> result = placeService.searchPlaces(query, regionId, sortBy, page, size);
+        Page<PlaceSearchResponse> result = placeService.searchPlaces(query, regionId, sortBy, lat, lng, moodTags, page, size);
 
         log.info("장소 검색 완료 - 결과 수: {}", result.getNumberOfElements());
 
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 장소 검색 (커서 기반 페이지네이션)
+     */
+    @Operation(summary = "장소 검색 (커서)", description = "전체 개수 없이 다음 페이지 커서로 장소를 검색합니다 (깊은 페이지도 첫 페이지와 같은 비용)")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponse<PlaceSearchResponse>> searchPlacesByCursor(
+            @Parameter(description = "검색어 (장소명, 카테고리, 주소)")
+            @RequestParam(required = false) String query,
+
+            @Parameter(description = "지역 ID 필터")
+            @RequestParam(required = false) String regionId,
+
+            @Parameter(description = "정렬 기준 (distance, popularity, rating, 기본값: 데이트 적합도)")
+            @RequestParam(required = false, defaultValue = "default") String sortBy,
+
+            @Parameter(description = "기준 위도 (distance 정렬 시 필요)")
+            @RequestParam(required = false) Double lat,
+
+            @Parameter(description = "기준 경도 (distance 정렬 시 필요)")
+            @RequestParam(required = false) Double lng,
+
+            @Parameter(description = "무드 태그 필터 (지정한 태그를 모두 가진 장소만, 예: moodTags=로맨틱&moodTags=아늑한)")
+            @RequestParam(required = false) List<String> moodTags,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("장소 커서 검색 요청 - 검색어: {}, 지역: {}, 정렬: {}, 커서: {}, 크기: {}", query, regionId, sortBy, cursor, size);
+
+        CursorPageResponse<PlaceSearchResponse> result =
+                placeService.searchPlacesByCursor(query, regionId, sortBy, lat, lng, moodTags, cursor, size);
+
+        log.info("장소 커서 검색 완료 - 결과 수: {}, 다음 페이지: {}", result.getContent().size(), result.isHasNext());
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 장소 자동완성
+     */
+    @Operation(summary = "장소 자동완성", description = "입력 중인 검색어로 시작하는 장소를 추천합니다 (초성 검색 지원, 예: ㅇㄴㄷ → 연남동)")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PlaceAutocompleteResponse>> autocomplete(
+            @Parameter(description = "입력 중인 검색어 (장소명 또는 주소 단어의 앞부분)")
+            @RequestParam String q,
+
+            @Parameter(description = "결과 개수 (최대 place.autocomplete.max-results)")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("장소 자동완성 요청 - 검색어: {}, 제한: {}", q, limit);
+
+        return ResponseEntity.ok(placeService.autocomplete(q, limit));
+    }
+
     /**
      * 유사 장소 추천
      */
-    @Operation(summary = "유사 장소 추천", description = "특정 장소와 유사한 장소를 추천합니다 (같은 카테고리, 같은 지역)")
+    @Operation(summary = "유사 장소 추천", description = "특정 장소와 유사한 장소를 추천합니다 (무드 태그, 카테고리, 가격대, 거리 유사도 순 / 좌표 지정 시 같은 카테고리, 같은 지역 중 가까운 순)")
     @GetMapping("/{placeId}/similar")
     public ResponseEntity<List<PlaceSearchResponse>> getSimilarPlaces(
             @Parameter(description = "기준 장소 ID")
             @PathVariable Long placeId,
 
             @Parameter(description = "결과 개수")
-            @RequestParam(defaultValue = "5") int limit
+            @RequestParam(defaultValue = "5") int limit,
+
+            @Parameter(description = "기준 위도 (지정 시 가까운 순)")
+            @RequestParam(required = false) Double lat,
+
+            @Parameter(description = "기준 경도 (지정 시 가까운 순)")
+            @RequestParam(required = false) Double lng
     ) {
         log.info("유사 장소 추천 요청 - 기준 장소 ID: {}, 제한: {}", placeId, limit);
 
-        List<PlaceSearchResponse> result = placeService.findSimilarPlaces(placeId, limit);
+        List<PlaceSearchResponse> result = placeService.findSimilarPlaces(placeId, limit, lat, lng);
 
         log.info("유사 장소 추천 완료 - 결과 수: {}", result.size());
 
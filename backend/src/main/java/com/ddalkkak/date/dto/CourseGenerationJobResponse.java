@@ -0,0 +1,52 @@
+package com.ddalkkak.date.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 코스 생성 작업 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "비동기 코스 생성 작업 응답")
+public class CourseGenerationJobResponse {
+
+    /**
+     * 작업 ID
+     */
+    @Schema(description = "작업 ID", example = "job-a1b2c3d4e5f6")
+    private String jobId;
+
+    /**
+     * 작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)
+     */
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private String status;
+
+    /**
+     * 생성된 코스 (COMPLETED 상태에서만 존재)
+     */
+    @Schema(description = "생성된 코스")
+    private CourseResponse course;
+
+    /**
+     * 실패 사유 (FAILED 상태에서만 존재)
+     */
+    @Schema(description = "실패 사유")
+    private String error;
+
+    /**
+     * 작업 생성 시간 (Unix timestamp)
+     */
+    @Schema(description = "작업 생성 시간", example = "1704067200000")
+    private Long createdAt;
+
+    /**
+     * 작업 완료 시간 (Unix timestamp, 진행 중이면 null)
+     */
+    @Schema(description = "작업 완료 시간", example = "1704067212000")
+    private Long completedAt;
+}
@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * 코스 생성 요청 DTO
  */
@@ -47,6 +49,12 @@ public class CourseGenerationRequest {
     @Schema(description = "직접 입력 금액 (원)", example = "50000")
     private Integer customAmount;
 
+    /**
+     * 무드 태그 필터 (지정한 태그를 모두 가진 장소만 후보로 사용, 선택)
+     */
+    @Schema(description = "무드 태그 필터 (선택)", example = "[\"로맨틱\", \"아늑한\"]")
+    private List<String> moodTags;
+
     /**
      * 실제 사용할 예산 범위 계산
      */
@@ -5,7 +5,9 @@ import com.ddalkkak.date.entity.Region;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * LLM 프롬프트 생성을 위한 컨텍스트 데이터
@@ -37,4 +39,21 @@ public class CoursePromptContext {
      * 후보 장소 목록 (필터링된 상위 20개)
      */
     private List<Place> candidatePlaces;
+
+    /**
+     * 장소 ID → 후보 장소 (LLM 응답 검증/매핑/저장 단계에서 DB 재조회 없이 사용)
+     * 지정하지 않으면 최초 조회 시 후보 장소 목록으로 생성
+     */
+    private Map<Long, Place> candidatesById;
+
+    public Map<Long, Place> getCandidatesById() {
+        if (candidatesById == null) {
+            Map<Long, Place> index = new LinkedHashMap<>();
+            for (Place place : candidatePlaces) {
+                index.putIfAbsent(place.getId(), place);
+            }
+            candidatesById = index;
+        }
+        return candidatesById;
+    }
 }
@@ -0,0 +1,36 @@
+package com.ddalkkak.date.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO (전체 개수 없이 다음 페이지 여부만 제공)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponse<T> {
+
+    /**
+     * 현재 페이지 항목
+     */
+    @Schema(description = "현재 페이지 항목")
+    private List<T> content;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "ZGVmYXVsdHw4fDQuNXwxMjM")
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
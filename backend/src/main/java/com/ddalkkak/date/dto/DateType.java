@@ -20,6 +20,14 @@ public enum DateType {
     private final String name;
     private final String description;
 
+    /**
+     * places.date_type_mask 컬럼에서 사용하는 비트 (1 << ordinal)
+     * 저장된 비트마스크와의 호환을 위해 새 유형은 항상 마지막에 추가해야 함
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
     /**
      * ID로 DateType 찾기
      */
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -129,6 +130,42 @@ public class LlmCourseGenerationDto {
         private List<PlaceInCourse> places;
     }
 
+    /**
+     * 축약 코스 생성 결과 (compact 출력 모드에서 LLM이 반환하는 JSON 구조)
+     * 코스 이름과 방문 순서대로 정렬된 장소 ID만 포함하며,
+     * 소요 시간/비용/추천 메뉴/이동 수단은 서버에서 장소 정보와 거리로 채움
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CompactCourseResult {
+        /**
+         * 코스 이름
+         */
+        @JsonProperty("course_name")
+        private String courseName;
+
+        /**
+         * 방문 순서대로 정렬된 장소 ID
+         */
+        @JsonProperty("place_ids")
+        private List<Long> placeIds;
+
+        /**
+         * 상세 항목이 비어 있는 코스 생성 결과로 변환 (순서는 place_ids 순서)
+         */
+        public CourseGenerationResult toCourseGenerationResult() {
+            List<PlaceInCourse> places = null;
+            if (placeIds != null) {
+                places = new ArrayList<>(placeIds.size());
+                for (int i = 0; i < placeIds.size(); i++) {
+                    places.add(new PlaceInCourse(placeIds.get(i), i + 1, null, null, null, null, null));
+                }
+            }
+            return new CourseGenerationResult(courseName, null, null, null, places);
+        }
+    }
+
     /**
      * 코스 내 장소 정보
      */
@@ -0,0 +1,58 @@
+package com.ddalkkak.date.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 장소 자동완성 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@Schema(description = "장소 자동완성 응답")
+public class PlaceAutocompleteResponse {
+
+    /**
+     * 장소 ID
+     */
+    @Schema(description = "장소 ID", example = "1")
+    private Long id;
+
+    /**
+     * 장소 이름
+     */
+    @Schema(description = "장소 이름", example = "연남동 파스타 맛집")
+    private String name;
+
+    /**
+     * 카테고리
+     */
+    @Schema(description = "카테고리", example = "이탈리안 레스토랑")
+    private String category;
+
+    /**
+     * 주소
+     */
+    @Schema(description = "주소", example = "서울 마포구 연남동 123-45")
+    private String address;
+
+    /**
+     * 지역 ID
+     */
+    @Schema(description = "지역 ID", example = "mapo")
+    private String regionId;
+
+    /**
+     * 데이트 적합도 점수 (1-10)
+     */
+    @Schema(description = "데이트 적합도 점수 (1-10)", example = "8")
+    private Integer dateScore;
+
+    /**
+     * 리뷰 수
+     */
+    @Schema(description = "리뷰 수", example = "128")
+    private Integer reviewCount;
+}
@@ -20,7 +20,9 @@ import java.util.List;
         @Index(name = "idx_course_id", columnList = "course_id"),
         @Index(name = "idx_region_id", columnList = "region_id"),
         @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_created_at", columnList = "created_at"),
+        @Index(name = "idx_course_user_created_at", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_course_user_status_created_at", columnList = "user_id, status, created_at DESC, id DESC")
 })
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,33 @@
+package com.ddalkkak.date.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 무드 태그 사전 엔티티
+ * 장소의 무드 태그는 이 테이블의 ID 배열(places.mood_tag_ids)로 저장
+ */
+@Entity
+@Table(name = "mood_tags")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoodTag {
+
+    /**
+     * 태그 ID (Primary Key, 비트셋의 비트 번호로 사용)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * 태그 이름 (예: "로맨틱")
+     */
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+}
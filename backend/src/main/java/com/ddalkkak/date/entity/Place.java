@@ -6,7 +6,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -101,6 +103,14 @@ public class Place {
     @Column(name = "mood_tags", columnDefinition = "TEXT")
     private String moodTags;
 
+    /**
+     * 무드 태그 ID 배열 (mood_tags 사전 ID, moodTags와 같은 순서)
+     * 응답/필터는 이 값을 사용하며, 아직 백필되지 않은 장소는 null
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "mood_tag_ids", columnDefinition = "INTEGER[]")
+    private int[] moodTagIds;
+
     /**
      * 1인당 예상 가격대
      * 예: "10,000-20,000원", "30,000원 이상"
@@ -108,6 +118,39 @@ public class Place {
     @Column(name = "price_range", length = 50)
     private String priceRange;
 
+    /**
+     * 1인당 최소 가격 (원)
+     * priceRange를 저장 시점에 파싱한 값 (가격 정보가 없거나 파싱 실패 시 null)
+     */
+    @Column(name = "price_min")
+    private Integer priceMin;
+
+    /**
+     * 1인당 최대 가격 (원)
+     * 상한이 없는 가격대(예: "30,000원 이상")는 null
+     */
+    @Column(name = "price_max")
+    private Integer priceMax;
+
+    /**
+     * priceRange가 있지만 파싱할 수 없는 경우 true (가격 범위 백필 대상에서 제외)
+     */
+    @Column(name = "price_parse_failed")
+    private Boolean priceParseFailed;
+
+    /**
+     * 매칭되는 데이트 유형 비트마스크 (DateType.getBit() 조합)
+     * 수집 시점에 카테고리 키워드로 분류 (미분류 시 null)
+     */
+    @Column(name = "date_type_mask")
+    private Integer dateTypeMask;
+
+    /**
+     * 카테고리 기반 이미지 검색 쿼리 키 (매칭 규칙 없으면 null)
+     */
+    @Column(name = "image_query_key", length = 30)
+    private String imageQueryKey;
+
     /**
      * 추천 시간대
      * 예: "저녁", "오후", "점심"
@@ -161,6 +204,30 @@ public class Place {
         this.recommendation = recommendation;
     }
 
+    /**
+     * 무드 태그 사전 ID 업데이트
+     */
+    public void updateMoodTagIds(int[] moodTagIds) {
+        this.moodTagIds = moodTagIds;
+    }
+
+    /**
+     * 파싱된 가격 범위 업데이트 (priceRange가 있는데 최소 가격이 null이면 파싱 실패로 표시)
+     */
+    public void updatePriceBounds(Integer priceMin, Integer priceMax) {
+        this.priceMin = priceMin;
+        this.priceMax = priceMax;
+        this.priceParseFailed = priceMin == null && priceRange != null;
+    }
+
+    /**
+     * 카테고리 분류 결과 업데이트
+     */
+    public void updateCategoryClassification(Integer dateTypeMask, String imageQueryKey) {
+        this.dateTypeMask = dateTypeMask;
+        this.imageQueryKey = imageQueryKey;
+    }
+
     /**
      * Kakao API 정보 업데이트 (평점, 리뷰 수)
      */
@@ -2,6 +2,7 @@ package com.ddalkkak.date.exception;
 
 import com.ddalkkak.date.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -73,6 +74,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * 작업 실행기 포화 처리 (비동기 코스 생성 큐 초과)
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("작업 거부: {}", e.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code("SERVICE_UNAVAILABLE")
+                .message("요청이 많아 잠시 후 다시 시도해주세요")
+                .detail(e.getMessage())
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * 일반 예외 처리
      */
@@ -3,8 +3,11 @@ package com.ddalkkak.date.repository;
 import com.ddalkkak.date.entity.Course;
 import com.ddalkkak.date.entity.CourseStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,4 +51,45 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * shareId로 코스 조회 (공유 페이지용)
      */
     Optional<Course> findByShareId(String shareId);
+
+    /**
+     * 사용자 코스 커서 페이지 조회 (최신순, 마지막 항목의 생성 시각/ID 다음부터 limit개)
+     * idx_course_user_created_at 인덱스 범위 스캔으로 처리되어 몇 번째 페이지든 비용이 같음
+     */
+    @Query(value = "SELECT * FROM courses c WHERE " +
+            "c.user_id = :userId AND " +
+            "(c.created_at, c.id) < (:createdAt, :lastId) " +
+            "ORDER BY c.created_at DESC, c.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Course> findSavedPage(@Param("userId") String userId,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("lastId") Long lastId,
+                               @Param("limit") Integer limit);
+
+    /**
+     * 사용자 코스 중 특정 상태의 커서 페이지 조회 (최신순)
+     * idx_course_user_status_created_at 인덱스 사용
+     */
+    @Query(value = "SELECT * FROM courses c WHERE " +
+            "c.user_id = :userId AND " +
+            "c.status = :status AND " +
+            "(c.created_at, c.id) < (:createdAt, :lastId) " +
+            "ORDER BY c.created_at DESC, c.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Course> findSavedPageByStatus(@Param("userId") String userId,
+                                       @Param("status") String status,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("lastId") Long lastId,
+                                       @Param("limit") Integer limit);
+
+    /**
+     * 지역별 코스 수 조회 (지역 카탈로그 초기 로드용, 지정한 상태의 코스는 제외)
+     *
+     * @param status 제외할 상태 (자동 생성된 DRAFT)
+     * @return [지역 ID, 코스 수] 목록
+     */
+    @Query("SELECT c.regionId, COUNT(c.id) FROM Course c WHERE c.status <> :status GROUP BY c.regionId")
+    List<Object[]> countByRegionAndStatusNot(@Param("status") CourseStatus status);
 }
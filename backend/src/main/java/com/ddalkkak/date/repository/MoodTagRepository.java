@@ -0,0 +1,30 @@
+package com.ddalkkak.date.repository;
+
+import com.ddalkkak.date.entity.MoodTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 무드 태그 사전 Repository
+ */
+@Repository
+public interface MoodTagRepository extends JpaRepository<MoodTag, Integer> {
+
+    /**
+     * 태그 이름으로 조회
+     */
+    Optional<MoodTag> findByName(String name);
+
+    /**
+     * 태그 등록 (다른 인스턴스가 먼저 등록한 경우 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mood_tags (name) VALUES (:name) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
@@ -37,6 +37,48 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      */
     List<Place> findByRegionIdAndDateScoreGreaterThanEqual(String regionId, Integer minDateScore);
 
+    /**
+     * 코스 후보 장소 조회 (평점/리뷰 수/데이트 유형/예산 조건을 DB에서 필터링, dateScore 내림차순)
+     * 데이트 유형은 date_type_mask 비트 연산으로 확인하며, 미분류 장소(date_type_mask IS NULL)는 포함하여 반환
+     * 가격 정보가 없는 장소(price_min IS NULL)는 예산 조건을 항상 통과하며,
+     * price_max가 NULL이면 상한이 없는 가격대로 취급
+     *
+     * @param dateTypeBit       데이트 유형 비트 (DateType.getBit())
+     * @param adjustedMinBudget 허용 오차가 반영된 최소 예산
+     * @param adjustedMaxBudget 허용 오차가 반영된 최대 예산
+     * @param offset            건너뛸 행 수 (JVM 보정 후 부족분을 이어서 조회할 때 사용)
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "p.region_id = :regionId AND " +
+            "p.rating >= :minRating AND " +
+            "p.review_count >= :minReviewCount AND " +
+            "(p.date_type_mask IS NULL OR (p.date_type_mask & :dateTypeBit) <> 0) AND " +
+            "(p.price_min IS NULL OR " +
+            "(p.price_min <= :adjustedMaxBudget AND (p.price_max IS NULL OR p.price_max >= :adjustedMinBudget))) " +
+            "ORDER BY p.date_score DESC NULLS LAST, p.id ASC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Place> findCandidatePlaces(@Param("regionId") String regionId,
+                                    @Param("minRating") Double minRating,
+                                    @Param("minReviewCount") Integer minReviewCount,
+                                    @Param("dateTypeBit") Integer dateTypeBit,
+                                    @Param("adjustedMinBudget") Integer adjustedMinBudget,
+                                    @Param("adjustedMaxBudget") Integer adjustedMaxBudget,
+                                    @Param("limit") Integer limit,
+                                    @Param("offset") Integer offset);
+
+    /**
+     * 가격 범위 컬럼이 아직 채워지지 않은 장소 조회 (백필 대상, 이미 파싱에 실패한 장소는 제외)
+     */
+    @Query("SELECT p FROM Place p WHERE p.priceRange IS NOT NULL AND p.priceMin IS NULL " +
+            "AND (p.priceParseFailed IS NULL OR p.priceParseFailed = false)")
+    List<Place> findPriceBoundsBackfillTargets();
+
+    /**
+     * 무드 태그 ID 백필 대상 조회 (mood_tags JSON은 있지만 mood_tag_ids가 없는 장소)
+     */
+    List<Place> findByMoodTagsIsNotNullAndMoodTagIdsIsNull();
+
     /**
      * 카카오 장소 ID 존재 여부 확인
      */
@@ -63,6 +105,32 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                                         @Param("regionId") String regionId,
                                         Pageable pageable);
 
+    /**
+     * 무드 태그를 모두 가진 장소 검색 (검색 색인 비활성화 시 사용, 검색어/지역 조건 선택)
+     * 태그는 mood_tag_ids 배열 포함 연산으로 확인하며, 정렬은 컬럼명 기준 Sort를 사용
+     *
+     * @param tagIds   필요한 태그 ID 배열 리터럴 (예: "{1,3}")
+     * @param regionId 지역 ID (빈 문자열이면 전체)
+     * @param query    검색어 (빈 문자열이면 조건 없음)
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "p.mood_tag_ids @> CAST(:tagIds AS INTEGER[]) AND " +
+            "(:regionId = '' OR p.region_id = :regionId) AND " +
+            "(:query = '' OR LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+            "LOWER(p.category) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+            "LOWER(p.address) LIKE LOWER(CONCAT('%', :query, '%')))",
+            countQuery = "SELECT COUNT(*) FROM places p WHERE " +
+                    "p.mood_tag_ids @> CAST(:tagIds AS INTEGER[]) AND " +
+                    "(:regionId = '' OR p.region_id = :regionId) AND " +
+                    "(:query = '' OR LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+                    "LOWER(p.category) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+                    "LOWER(p.address) LIKE LOWER(CONCAT('%', :query, '%')))",
+            nativeQuery = true)
+    Page<Place> searchByMoodTags(@Param("tagIds") String tagIds,
+                                 @Param("regionId") String regionId,
+                                 @Param("query") String query,
+                                 Pageable pageable);
+
     /**
      * 유사 장소 검색 (같은 카테고리, 같은 지역, 자기 자신 제외)
      */
@@ -74,4 +142,96 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                                    @Param("regionId") String regionId,
                                    @Param("excludePlaceId") Long excludePlaceId,
                                    Pageable pageable);
+
+    /*
+     * 커서(keyset) 페이지 조회
+     * - 정렬 키 (NULL은 -1로 취급) + ID 내림차순으로 마지막 항목 다음부터 limit개 조회 (OFFSET, COUNT 없음)
+     * - 각 쿼리는 schema.sql의 idx_places_cursor_* 복합 인덱스와 같은 식/순서를 사용하므로
+     *   몇 번째 페이지든 인덱스 범위 스캔으로 처리됨
+     * - 첫 페이지는 모든 키에 최댓값을 전달
+     */
+
+    /**
+     * 데이트 적합도 → 평점 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "(COALESCE(p.date_score, -1), COALESCE(p.rating, -1), p.id) < (:dateScore, :rating, :lastId) " +
+            "ORDER BY COALESCE(p.date_score, -1) DESC, COALESCE(p.rating, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByDateScore(@Param("dateScore") Integer dateScore,
+                                    @Param("rating") Double rating,
+                                    @Param("lastId") Long lastId,
+                                    @Param("limit") Integer limit);
+
+    /**
+     * 지역 내 데이트 적합도 → 평점 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "p.region_id = :regionId AND " +
+            "(COALESCE(p.date_score, -1), COALESCE(p.rating, -1), p.id) < (:dateScore, :rating, :lastId) " +
+            "ORDER BY COALESCE(p.date_score, -1) DESC, COALESCE(p.rating, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByRegionAndDateScore(@Param("regionId") String regionId,
+                                             @Param("dateScore") Integer dateScore,
+                                             @Param("rating") Double rating,
+                                             @Param("lastId") Long lastId,
+                                             @Param("limit") Integer limit);
+
+    /**
+     * 평점 → 리뷰 수 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "(COALESCE(p.rating, -1), COALESCE(p.review_count, -1), p.id) < (:rating, :reviewCount, :lastId) " +
+            "ORDER BY COALESCE(p.rating, -1) DESC, COALESCE(p.review_count, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByRating(@Param("rating") Double rating,
+                                 @Param("reviewCount") Integer reviewCount,
+                                 @Param("lastId") Long lastId,
+                                 @Param("limit") Integer limit);
+
+    /**
+     * 지역 내 평점 → 리뷰 수 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "p.region_id = :regionId AND " +
+            "(COALESCE(p.rating, -1), COALESCE(p.review_count, -1), p.id) < (:rating, :reviewCount, :lastId) " +
+            "ORDER BY COALESCE(p.rating, -1) DESC, COALESCE(p.review_count, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByRegionAndRating(@Param("regionId") String regionId,
+                                          @Param("rating") Double rating,
+                                          @Param("reviewCount") Integer reviewCount,
+                                          @Param("lastId") Long lastId,
+                                          @Param("limit") Integer limit);
+
+    /**
+     * 리뷰 수 → 평점 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "(COALESCE(p.review_count, -1), COALESCE(p.rating, -1), p.id) < (:reviewCount, :rating, :lastId) " +
+            "ORDER BY COALESCE(p.review_count, -1) DESC, COALESCE(p.rating, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByReviewCount(@Param("reviewCount") Integer reviewCount,
+                                      @Param("rating") Double rating,
+                                      @Param("lastId") Long lastId,
+                                      @Param("limit") Integer limit);
+
+    /**
+     * 지역 내 리뷰 수 → 평점 순 커서 페이지 조회
+     */
+    @Query(value = "SELECT * FROM places p WHERE " +
+            "p.region_id = :regionId AND " +
+            "(COALESCE(p.review_count, -1), COALESCE(p.rating, -1), p.id) < (:reviewCount, :rating, :lastId) " +
+            "ORDER BY COALESCE(p.review_count, -1) DESC, COALESCE(p.rating, -1) DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Place> findPageByRegionAndReviewCount(@Param("regionId") String regionId,
+                                               @Param("reviewCount") Integer reviewCount,
+                                               @Param("rating") Double rating,
+                                               @Param("lastId") Long lastId,
+                                               @Param("limit") Integer limit);
 }
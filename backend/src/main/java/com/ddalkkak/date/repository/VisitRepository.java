@@ -16,13 +16,16 @@ import java.util.List;
 public interface VisitRepository extends JpaRepository<Visit, Long> {
 
     /**
-     * 최근 7일 방문 수가 많은 상위 3개 지역 ID 조회
+     * 기준 시각 이후 지역별, 시간대별 방문 수 조회 (지역 카탈로그 초기 로드용)
+     * 시간대는 created_at을 시간 단위로 자른 epoch 시(hour) 번호 (타임존 변환 없이 LocalDateTime 값 기준)
+     *
+     * @return [지역 ID, epoch 시 번호, 방문 수] 목록
      */
-    @Query("SELECT v.regionId FROM Visit v " +
-           "WHERE v.createdAt >= :since " +
-           "GROUP BY v.regionId " +
-           "ORDER BY COUNT(v.id) DESC " +
-           "LIMIT 3")
-    List<String> findTop3HotRegionIds(@Param("since") LocalDateTime since);
+    @Query(value = "SELECT v.region_id, CAST(FLOOR(EXTRACT(EPOCH FROM v.created_at) / 3600) AS BIGINT) AS visit_hour, " +
+            "COUNT(*) FROM visits v " +
+            "WHERE v.created_at >= :since " +
+            "GROUP BY v.region_id, visit_hour",
+            nativeQuery = true)
+    List<Object[]> countHourlyByRegionSince(@Param("since") LocalDateTime since);
 
 }
@@ -0,0 +1,278 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.PlaceCategoryProperties;
+import com.ddalkkak.date.dto.DateType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.BindResult;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 장소 카테고리 키워드 매처
+ * 설정된 키워드 테이블로 Aho-Corasick 오토마톤을 구성하여
+ * 카테고리 문자열을 한 번만 훑으면서 데이트 유형 비트마스크와 이미지 쿼리 키를 동시에 계산
+ * 키워드 테이블은 재분류 API 호출 시 {@link #reload()}로 다시 읽어 재기동 없이 반영
+ */
+@Slf4j
+@Component
+public class CategoryKeywordMatcher {
+
+    /**
+     * 이미지 규칙 매칭 없음
+     */
+    private static final int NO_IMAGE_RULE = Integer.MAX_VALUE;
+
+    private final PlaceCategoryProperties properties;
+
+    /**
+     * 현재 오토마톤 (불변, 키워드 테이블 재로드 시 교체)
+     */
+    private volatile Automaton automaton;
+
+    public CategoryKeywordMatcher(PlaceCategoryProperties properties) {
+        this.properties = properties;
+        Automaton initial;
+        try {
+            initial = new Automaton(loadTable());
+        } catch (IllegalArgumentException e) {
+            // 외부 키워드 파일이 잘못되어도 application.yml 테이블로 기동
+            log.error("외부 키워드 파일 로드 실패, application.yml 테이블 사용: {}", e.getMessage(), e);
+            initial = new Automaton(properties);
+        }
+        this.automaton = initial;
+        log.info("카테고리 키워드 매처 초기화 - 키워드: {}개, 상태: {}개", initial.keywordCount, initial.transitions.size());
+    }
+
+    /**
+     * 키워드 테이블을 다시 읽어 오토마톤 교체
+     * place.category.keywords-file이 설정되어 있으면 파일을 다시 읽으며, 없으면 기동 시 바인딩된 테이블을 그대로 사용
+     *
+     * @throws IllegalArgumentException 외부 키워드 파일을 읽을 수 없거나 테이블이 잘못된 경우 (기존 오토마톤 유지)
+     */
+    public void reload() {
+        Automaton reloaded = new Automaton(loadTable());
+        automaton = reloaded;
+        log.info("카테고리 키워드 테이블 재로드 - 키워드: {}개, 상태: {}개", reloaded.keywordCount, reloaded.transitions.size());
+    }
+
+    /**
+     * 카테고리 분류
+     *
+     * @param category 카카오 카테고리 문자열 (예: "음식점 > 양식 > 이탈리안")
+     * @return 데이트 유형 비트마스크와 이미지 쿼리 키 (매칭되는 이미지 규칙이 없으면 키는 null)
+     *         카테고리가 null이면 어떤 데이트 유형에도 매칭되지 않음 (항상 허용 유형 포함)
+     */
+    public CategoryClassification classify(String category) {
+        return automaton.classify(category);
+    }
+
+    /**
+     * 이미지 쿼리 키로 이미지 검색 쿼리 조회 (키가 없거나 설정에서 제거된 경우 기본 쿼리)
+     */
+    public String imageQueryFor(String imageQueryKey) {
+        return automaton.imageQueryFor(imageQueryKey);
+    }
+
+    /**
+     * 사용할 키워드 테이블 (외부 키워드 파일의 place.category, 파일 미설정 시 application.yml 바인딩 값)
+     */
+    private PlaceCategoryProperties loadTable() {
+        String keywordsFile = properties.getKeywordsFile();
+        if (keywordsFile == null || keywordsFile.isBlank()) {
+            return properties;
+        }
+
+        Resource resource = new FileSystemResource(keywordsFile);
+        BindResult<PlaceCategoryProperties> table;
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(keywordsFile, resource);
+            table = new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("place.category", PlaceCategoryProperties.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("키워드 파일을 읽을 수 없습니다: " + keywordsFile, e);
+        } catch (RuntimeException e) {
+            // YAML 문법 오류, 바인딩 실패
+            throw new IllegalArgumentException("키워드 파일 형식이 잘못되었습니다: " + keywordsFile, e);
+        }
+        return table.orElseThrow(() -> new IllegalArgumentException("키워드 파일에 place.category 설정이 없습니다: " + keywordsFile));
+    }
+
+    /**
+     * 키워드 테이블로 구성한 Aho-Corasick 오토마톤 (구성 후 변경하지 않음)
+     */
+    private static final class Automaton {
+
+        /**
+         * 상태별 전이 (문자 → 다음 상태)
+         */
+        private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+        /**
+         * 상태별 실패 링크
+         */
+        private final List<Integer> failureLinks = new ArrayList<>();
+
+        /**
+         * 상태별 출력: 매칭된 데이트 유형 비트마스크 (실패 링크 출력 포함)
+         */
+        private final List<Integer> outputMasks = new ArrayList<>();
+
+        /**
+         * 상태별 출력: 매칭된 이미지 규칙 중 가장 높은 우선순위 (실패 링크 출력 포함)
+         */
+        private final List<Integer> outputImageRules = new ArrayList<>();
+
+        private final int matchAllMask;
+        private final List<String> imageRuleKeys = new ArrayList<>();
+        private final Map<String, String> imageQueriesByKey = new HashMap<>();
+        private final String defaultImageQuery;
+        private final int keywordCount;
+
+        Automaton(PlaceCategoryProperties properties) {
+            addState();
+
+            int keywordCount = 0;
+            for (Map.Entry<String, List<String>> entry : properties.getDateTypeKeywords().entrySet()) {
+                int bit = DateType.fromId(entry.getKey()).getBit();
+                for (String keyword : entry.getValue()) {
+                    int state = insert(keyword);
+                    outputMasks.set(state, outputMasks.get(state) | bit);
+                    keywordCount++;
+                }
+            }
+
+            List<PlaceCategoryProperties.ImageQueryRule> imageRules = properties.getImageQueries();
+            for (int priority = 0; priority < imageRules.size(); priority++) {
+                PlaceCategoryProperties.ImageQueryRule rule = imageRules.get(priority);
+                imageRuleKeys.add(rule.getKey());
+                imageQueriesByKey.put(rule.getKey(), rule.getQuery());
+                for (String keyword : rule.getKeywords()) {
+                    int state = insert(keyword);
+                    outputImageRules.set(state, Math.min(outputImageRules.get(state), priority));
+                    keywordCount++;
+                }
+            }
+
+            int mask = 0;
+            for (String dateTypeId : properties.getMatchAllDateTypes()) {
+                mask |= DateType.fromId(dateTypeId).getBit();
+            }
+            this.matchAllMask = mask;
+            this.defaultImageQuery = properties.getDefaultImageQuery();
+
+            buildFailureLinks();
+
+            this.keywordCount = keywordCount;
+        }
+
+        CategoryClassification classify(String category) {
+            if (category == null) {
+                return new CategoryClassification(0, null);
+            }
+
+            int mask = matchAllMask;
+            int imageRule = NO_IMAGE_RULE;
+            int state = 0;
+
+            String text = category.toLowerCase(Locale.ROOT);
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (state != 0 && !transitions.get(state).containsKey(c)) {
+                    state = failureLinks.get(state);
+                }
+                state = transitions.get(state).getOrDefault(c, 0);
+
+                mask |= outputMasks.get(state);
+                imageRule = Math.min(imageRule, outputImageRules.get(state));
+            }
+
+            return new CategoryClassification(mask, imageRule == NO_IMAGE_RULE ? null : imageRuleKeys.get(imageRule));
+        }
+
+        String imageQueryFor(String imageQueryKey) {
+            if (imageQueryKey == null) {
+                return defaultImageQuery;
+            }
+            return imageQueriesByKey.getOrDefault(imageQueryKey, defaultImageQuery);
+        }
+
+        private int addState() {
+            transitions.add(new HashMap<>());
+            failureLinks.add(0);
+            outputMasks.add(0);
+            outputImageRules.add(NO_IMAGE_RULE);
+            return transitions.size() - 1;
+        }
+
+        /**
+         * 키워드를 트라이에 삽입하고 종료 상태 반환
+         */
+        private int insert(String keyword) {
+            int state = 0;
+            for (char c : keyword.toLowerCase(Locale.ROOT).toCharArray()) {
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = addState();
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            return state;
+        }
+
+        /**
+         * BFS로 실패 링크를 구성하고 실패 링크의 출력을 병합
+         */
+        private void buildFailureLinks() {
+            Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+
+                    int fallback = failureLinks.get(state);
+                    while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                        fallback = failureLinks.get(fallback);
+                    }
+                    Integer link = transitions.get(fallback).get(c);
+                    int failure = link != null && link != child ? link : 0;
+
+                    failureLinks.set(child, failure);
+                    outputMasks.set(child, outputMasks.get(child) | outputMasks.get(failure));
+                    outputImageRules.set(child, Math.min(outputImageRules.get(child), outputImageRules.get(failure)));
+
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * 카테고리 분류 결과
+     *
+     * @param dateTypeMask  매칭된 데이트 유형 비트마스크 ({@link DateType#getBit()} 조합)
+     * @param imageQueryKey 이미지 쿼리 키 (매칭 규칙 없으면 null)
+     */
+    public record CategoryClassification(int dateTypeMask, String imageQueryKey) {
+
+        public boolean matches(DateType dateType) {
+            return (dateTypeMask & dateType.getBit()) != 0;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코스 상세 정보 보완
+ * compact 출력 형식처럼 LLM이 장소 ID와 순서만 반환한 경우,
+ * 비어 있는 소요 시간/예상 비용/추천 메뉴/이동 수단과 코스 합계를 장소 큐레이션 정보와 거리로 채움
+ * LLM이 이미 채운 값은 그대로 유지
+ */
+@Component
+public class CourseDetailEnricher {
+
+    /**
+     * 예상 비용 계산 인원 (커플 2인 기준)
+     */
+    private static final int PARTY_SIZE = 2;
+
+    /**
+     * 가격 정보가 없을 때 1인 기준 예상 비용
+     */
+    private static final int DEFAULT_COST_PER_PERSON = 15000;
+
+    /**
+     * 카테고리 정보가 매칭되지 않을 때 기본 소요 시간 (분)
+     */
+    private static final int DEFAULT_DURATION_MINUTES = 90;
+
+    /**
+     * 도보 이동 기준: 1.2km 이하, 분당 80m
+     */
+    private static final double WALKING_MAX_KM = 1.2;
+    private static final int WALKING_METERS_PER_MINUTE = 80;
+
+    /**
+     * 대중교통 평균 속도 (km/h) 및 대기/환승 시간 (분)
+     */
+    private static final double TRANSIT_KM_PER_HOUR = 20.0;
+    private static final int TRANSIT_WAIT_MINUTES = 5;
+
+    /**
+     * 카테고리 키워드 → 기본 소요 시간 (분), 먼저 매칭되는 키워드 우선
+     */
+    private static final Map<String, Integer> DURATION_BY_KEYWORD = new LinkedHashMap<>();
+
+    static {
+        DURATION_BY_KEYWORD.put("카페", 60);
+        DURATION_BY_KEYWORD.put("디저트", 60);
+        DURATION_BY_KEYWORD.put("영화", 150);
+        DURATION_BY_KEYWORD.put("공연", 150);
+        DURATION_BY_KEYWORD.put("전시", 90);
+        DURATION_BY_KEYWORD.put("미술관", 90);
+        DURATION_BY_KEYWORD.put("박물관", 90);
+        DURATION_BY_KEYWORD.put("공방", 120);
+        DURATION_BY_KEYWORD.put("방탈출", 90);
+        DURATION_BY_KEYWORD.put("술집", 90);
+        DURATION_BY_KEYWORD.put("음식점", 90);
+    }
+
+    /**
+     * 코스 생성 결과의 비어 있는 항목을 채운 새 결과 반환
+     *
+     * @param result  LLM 코스 생성 결과 (장소는 후보 목록 안에 있어야 함)
+     * @param context 프롬프트 컨텍스트
+     * @return 상세 항목과 합계가 채워진 결과
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult complete(
+            LlmCourseGenerationDto.CourseGenerationResult result,
+            CoursePromptContext context
+    ) {
+        Map<Long, Place> candidatesById = context.getCandidatesById();
+        List<LlmCourseGenerationDto.PlaceInCourse> places = result.getPlaces();
+        List<LlmCourseGenerationDto.PlaceInCourse> completed = new ArrayList<>(places.size());
+
+        int totalDuration = 0;
+        int totalCost = 0;
+        for (int i = 0; i < places.size(); i++) {
+            LlmCourseGenerationDto.PlaceInCourse llmPlace = places.get(i);
+            Place place = candidatesById.get(llmPlace.getPlaceId());
+            Place next = i + 1 < places.size() ? candidatesById.get(places.get(i + 1).getPlaceId()) : null;
+
+            LlmCourseGenerationDto.PlaceInCourse filled = completePlace(llmPlace, place, next, i + 1);
+            completed.add(filled);
+            totalDuration += filled.getDurationMinutes() + transportMinutes(place, next);
+            totalCost += filled.getEstimatedCost();
+        }
+
+        return new LlmCourseGenerationDto.CourseGenerationResult(
+                result.getCourseName() != null
+                        ? result.getCourseName()
+                        : context.getRegion().getName() + " " + context.getDateType().getName() + " 코스",
+                result.getDescription() != null
+                        ? result.getDescription()
+                        : context.getDateType().getDescription() + " 코스입니다.",
+                result.getTotalDurationMinutes() != null ? result.getTotalDurationMinutes() : totalDuration,
+                result.getTotalBudget() != null ? result.getTotalBudget() : totalCost,
+                completed
+        );
+    }
+
+    /**
+     * 코스 총 예상 비용 (LLM이 제시한 값이 있으면 그대로 사용)
+     */
+    public int estimateTotalCost(LlmCourseGenerationDto.CourseGenerationResult result, CoursePromptContext context) {
+        if (result.getTotalBudget() != null) {
+            return result.getTotalBudget();
+        }
+        Map<Long, Place> candidatesById = context.getCandidatesById();
+        int total = 0;
+        for (LlmCourseGenerationDto.PlaceInCourse llmPlace : result.getPlaces()) {
+            total += llmPlace.getEstimatedCost() != null
+                    ? llmPlace.getEstimatedCost()
+                    : estimateCost(candidatesById.get(llmPlace.getPlaceId()));
+        }
+        return total;
+    }
+
+    /**
+     * 장소 하나의 비어 있는 항목 채우기
+     *
+     * @param llmPlace LLM이 선택한 장소
+     * @param place    장소 엔티티 (null이면 기본값 사용)
+     * @param next     다음 장소 (마지막 장소이거나 알 수 없으면 null → 이동 수단 생략)
+     * @param sequence 순서가 비어 있을 때 사용할 방문 순서
+     */
+    public LlmCourseGenerationDto.PlaceInCourse completePlace(
+            LlmCourseGenerationDto.PlaceInCourse llmPlace,
+            Place place,
+            Place next,
+            int sequence
+    ) {
+        return new LlmCourseGenerationDto.PlaceInCourse(
+                llmPlace.getPlaceId(),
+                llmPlace.getSequence() != null ? llmPlace.getSequence() : sequence,
+                llmPlace.getDurationMinutes() != null ? llmPlace.getDurationMinutes() : estimateDuration(place),
+                llmPlace.getEstimatedCost() != null ? llmPlace.getEstimatedCost() : estimateCost(place),
+                llmPlace.getRecommendedMenu() != null ? llmPlace.getRecommendedMenu() : recommendedMenuOf(place),
+                llmPlace.getRecommendationReason() != null
+                        ? llmPlace.getRecommendationReason()
+                        : (place != null ? place.getRecommendation() : null),
+                llmPlace.getTransportToNext() != null ? llmPlace.getTransportToNext() : transportText(place, next)
+        );
+    }
+
+    /**
+     * 카테고리 기반 예상 소요 시간 (분)
+     */
+    private int estimateDuration(Place place) {
+        if (place == null || place.getCategory() == null) {
+            return DEFAULT_DURATION_MINUTES;
+        }
+        for (Map.Entry<String, Integer> entry : DURATION_BY_KEYWORD.entrySet()) {
+            if (place.getCategory().contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return DEFAULT_DURATION_MINUTES;
+    }
+
+    /**
+     * 가격 범위 기반 예상 비용 (1인 가격 범위의 중간값 × 2인, 1,000원 단위 반올림)
+     */
+    public int estimateCost(Place place) {
+        PriceRangeParser.PriceBounds prices = place != null ? PlaceCandidateIndex.priceBoundsOf(place) : null;
+        int perPerson = DEFAULT_COST_PER_PERSON;
+        if (prices != null) {
+            Integer max = prices.maxOrNull();
+            perPerson = max != null ? (prices.min() + max) / 2 : prices.min();
+        }
+        return Math.round(perPerson * PARTY_SIZE / 1000f) * 1000;
+    }
+
+    /**
+     * 추천 메뉴/활동 (큐레이션 추천 문구 우선, 없으면 카테고리 마지막 단계)
+     */
+    private String recommendedMenuOf(Place place) {
+        if (place == null) {
+            return null;
+        }
+        if (place.getRecommendation() != null && !place.getRecommendation().isBlank()) {
+            return place.getRecommendation();
+        }
+        if (place.getCategory() == null) {
+            return null;
+        }
+        String[] parts = place.getCategory().split(">");
+        return parts[parts.length - 1].trim() + " 즐기기";
+    }
+
+    /**
+     * 다음 장소까지 이동 안내 (1.2km 이하 도보, 그 외 대중교통)
+     */
+    private String transportText(Place from, Place to) {
+        if (from == null || to == null) {
+            return null;
+        }
+        double distanceKm = distanceKm(from, to);
+        int minutes = transportMinutes(from, to);
+        return distanceKm <= WALKING_MAX_KM ? "도보 " + minutes + "분" : "대중교통 " + minutes + "분";
+    }
+
+    private int transportMinutes(Place from, Place to) {
+        if (from == null || to == null) {
+            return 0;
+        }
+        double distanceKm = distanceKm(from, to);
+        if (distanceKm <= WALKING_MAX_KM) {
+            return Math.max(1, (int) Math.ceil(distanceKm * 1000 / WALKING_METERS_PER_MINUTE));
+        }
+        return (int) Math.ceil(distanceKm / TRANSIT_KM_PER_HOUR * 60) + TRANSIT_WAIT_MINUTES;
+    }
+
+    private double distanceKm(Place from, Place to) {
+        return distanceKm(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    /**
+     * Haversine 공식으로 두 지점 간 직선거리 계산 (km)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        final double R = 6371; // 지구 반지름 (km)
+
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return R * c;
+    }
+}
@@ -0,0 +1,192 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.BudgetPreset;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LLM 코스 생성 결과 캐시
+ * 키: 지역 + 데이트 유형 + 예산 구간 + 후보 장소 지문(ID와 수정 시각 해시)
+ * 값: 검증을 통과한 생성 결과 변형(variant) 풀
+ * - 풀이 가득 차기 전까지는 미스로 처리하여 LLM으로 새 변형을 생성
+ * - 풀이 가득 차면 LLM 호출 없이 변형 중 하나를 무작위로 반환
+ * 후보 장소가 추가/수정되면 지문이 바뀌어 자연스럽게 새 키로 생성됨 (기존 항목은 TTL/LRU로 제거)
+ */
+@Slf4j
+@Component
+public class CourseGenerationCache {
+
+    /**
+     * 직접 입력 예산 구간 크기 (원)
+     */
+    private static final int CUSTOM_BUDGET_BUCKET = 10000;
+
+    private final Cache<CacheKey, VariantPool> cache;
+    private final int variantsPerKey;
+    private final boolean enabled;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CourseGenerationCache(
+            MeterRegistry meterRegistry,
+            @Value("${course.generation-cache.enabled:true}") boolean enabled,
+            @Value("${course.generation-cache.max-keys:2000}") long maxKeys,
+            @Value("${course.generation-cache.ttl-minutes:360}") long ttlMinutes,
+            @Value("${course.generation-cache.variants-per-key:3}") int variantsPerKey
+    ) {
+        this.enabled = enabled;
+        this.variantsPerKey = variantsPerKey;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "course.generation");
+
+        this.hits = meterRegistry.counter("course.generation.cache.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("course.generation.cache.lookups", "result", "miss");
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public CacheKey keyOf(CourseGenerationRequest request, CoursePromptContext context) {
+        return new CacheKey(
+                context.getRegion().getId(),
+                context.getDateType(),
+                budgetBucketOf(request),
+                fingerprintOf(context.getCandidatePlaces())
+        );
+    }
+
+    /**
+     * 캐시 조회 (변형 풀이 가득 찬 경우에만 히트)
+     *
+     * @return 무작위로 선택된 생성 결과 (미스이면 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult get(CacheKey key) {
+        if (!enabled) {
+            return null;
+        }
+
+        VariantPool pool = cache.getIfPresent(key);
+        LlmCourseGenerationDto.CourseGenerationResult result =
+                pool != null ? pool.pick(variantsPerKey) : null;
+
+        if (result != null) {
+            hits.increment();
+            log.info("코스 생성 캐시 히트 - 지역: {}, 데이트 유형: {}, 예산 구간: {}",
+                    key.regionId(), key.dateType().getId(), key.budgetBucket());
+        } else {
+            misses.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 검증을 통과한 생성 결과를 변형 풀에 추가 (풀이 가득 찼으면 무시)
+     */
+    public void put(CacheKey key, LlmCourseGenerationDto.CourseGenerationResult result) {
+        if (!enabled || result == null) {
+            return;
+        }
+        cache.asMap()
+                .computeIfAbsent(key, k -> new VariantPool())
+                .add(result, variantsPerKey);
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 예산 구간 (프리셋은 프리셋 ID, 직접 입력은 1만원 단위 반올림)
+     */
+    private String budgetBucketOf(CourseGenerationRequest request) {
+        BudgetPreset preset = BudgetPreset.fromId(request.getBudgetPresetId());
+        if (preset == BudgetPreset.CUSTOM && request.getCustomAmount() != null) {
+            long bucket = Math.round((double) request.getCustomAmount() / CUSTOM_BUDGET_BUCKET);
+            return "custom-" + bucket * CUSTOM_BUDGET_BUCKET;
+        }
+        return preset.getId();
+    }
+
+    /**
+     * 후보 장소 지문 (ID 오름차순으로 ID와 수정 시각을 FNV-1a 64비트 해시)
+     */
+    private long fingerprintOf(List<Place> candidatePlaces) {
+        List<Place> sorted = new ArrayList<>(candidatePlaces);
+        sorted.sort(Comparator.comparing(Place::getId));
+
+        long hash = 0xcbf29ce484222325L;
+        for (Place place : sorted) {
+            hash = mix(hash, place.getId());
+            hash = mix(hash, place.getUpdatedAt() != null
+                    ? place.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                    : 0L);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param regionId     지역 ID
+     * @param dateType     데이트 유형
+     * @param budgetBucket 예산 구간
+     * @param fingerprint  후보 장소 지문
+     */
+    public record CacheKey(String regionId, DateType dateType, String budgetBucket, long fingerprint) {
+    }
+
+    /**
+     * 생성 결과 변형 풀
+     */
+    private static final class VariantPool {
+
+        private final List<LlmCourseGenerationDto.CourseGenerationResult> variants = new ArrayList<>();
+
+        synchronized void add(LlmCourseGenerationDto.CourseGenerationResult result, int capacity) {
+            if (variants.size() < capacity) {
+                variants.add(result);
+            }
+        }
+
+        synchronized LlmCourseGenerationDto.CourseGenerationResult pick(int capacity) {
+            if (variants.size() < capacity) {
+                return null;
+            }
+            return variants.get(ThreadLocalRandom.current().nextInt(variants.size()));
+        }
+    }
+}
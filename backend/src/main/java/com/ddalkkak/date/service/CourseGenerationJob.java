@@ -0,0 +1,108 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CourseGenerationJobResponse;
+import com.ddalkkak.date.dto.CourseResponse;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 코스 생성 작업
+ * 상태 전이: PENDING → RUNNING → COMPLETED | FAILED
+ * 완료 시 등록된 리스너(SSE 구독자)에게 최종 상태를 한 번 전달
+ */
+public class CourseGenerationJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String jobId;
+
+    private final long createdAt;
+
+    private volatile Status status = Status.PENDING;
+    private volatile CourseResponse course;
+    private volatile String error;
+    private volatile Long completedAt;
+
+    /**
+     * 완료 대기 리스너 (완료 후에는 더 이상 쌓이지 않음)
+     */
+    private final List<Consumer<CourseGenerationJob>> completionListeners = new ArrayList<>();
+
+    CourseGenerationJob(String jobId) {
+        this.jobId = jobId;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    void markRunning() {
+        this.status = Status.RUNNING;
+    }
+
+    void complete(CourseResponse course) {
+        this.course = course;
+        finish(Status.COMPLETED);
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    /**
+     * 완료 리스너 등록 (이미 완료된 작업이면 즉시 호출)
+     */
+    void onCompletion(Consumer<CourseGenerationJob> listener) {
+        synchronized (completionListeners) {
+            if (!isDone()) {
+                completionListeners.add(listener);
+                return;
+            }
+        }
+        listener.accept(this);
+    }
+
+    void removeCompletionListener(Consumer<CourseGenerationJob> listener) {
+        synchronized (completionListeners) {
+            completionListeners.remove(listener);
+        }
+    }
+
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * 완료 후 보관 시간이 지났는지 확인
+     */
+    boolean isExpired(long now, long ttlMillis) {
+        Long finishedAt = completedAt;
+        return finishedAt != null && now - finishedAt > ttlMillis;
+    }
+
+    public CourseGenerationJobResponse toResponse() {
+        return CourseGenerationJobResponse.builder()
+                .jobId(jobId)
+                .status(status.name())
+                .course(course)
+                .error(error)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    private void finish(Status finalStatus) {
+        List<Consumer<CourseGenerationJob>> listeners;
+        synchronized (completionListeners) {
+            this.completedAt = System.currentTimeMillis();
+            this.status = finalStatus;
+            listeners = new ArrayList<>(completionListeners);
+            completionListeners.clear();
+        }
+        listeners.forEach(listener -> listener.accept(this));
+    }
+}
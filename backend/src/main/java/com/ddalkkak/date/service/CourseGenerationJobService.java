@@ -0,0 +1,213 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CourseGenerationJobResponse;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CourseResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 비동기 코스 생성 작업 서비스
+ * 요청 스레드는 작업 ID만 받고 즉시 반환되며, 생성은 전용 실행기에서 수행
+ * 결과는 폴링(GET /courses/jobs/{jobId}) 또는 SSE(GET /courses/jobs/{jobId}/events)로 전달
+ * 스트리밍 생성(POST /courses/generate/stream)도 같은 실행기에서 수행
+ */
+@Slf4j
+@Service
+public class CourseGenerationJobService {
+
+    private static final String COMPLETED_EVENT = "completed";
+    private static final String FAILED_EVENT = "failed";
+    private static final String PLACE_EVENT = "place";
+
+    private final CourseService courseService;
+    private final TaskExecutor courseGenerationExecutor;
+
+    /**
+     * 현재 시각 (밀리초, 만료 작업 정리용)
+     */
+    private final LongSupplier clock;
+
+    /**
+     * 작업 ID → 작업 (완료 후 TTL 동안 보관)
+     */
+    private final Map<String, CourseGenerationJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${course.async.job-ttl-seconds:600}")
+    private long jobTtlSeconds;
+
+    @Value("${course.async.sse-timeout-seconds:60}")
+    private long sseTimeoutSeconds;
+
+    @Autowired
+    public CourseGenerationJobService(
+            CourseService courseService,
+            @Qualifier("courseGenerationExecutor") TaskExecutor courseGenerationExecutor
+    ) {
+        this(courseService, courseGenerationExecutor, System::currentTimeMillis);
+    }
+
+    CourseGenerationJobService(CourseService courseService, TaskExecutor courseGenerationExecutor, LongSupplier clock) {
+        this.courseService = courseService;
+        this.courseGenerationExecutor = courseGenerationExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * 코스 생성 작업 등록
+     *
+     * @param request 코스 생성 요청
+     * @return 등록된 작업 (PENDING)
+     * @throws TaskRejectedException 실행기 큐가 가득 찬 경우
+     */
+    public CourseGenerationJobResponse submit(CourseGenerationRequest request) {
+        String jobId = "job-" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        CourseGenerationJob job = new CourseGenerationJob(jobId);
+        jobs.put(jobId, job);
+
+        try {
+            courseGenerationExecutor.execute(() -> run(job, request));
+        } catch (TaskRejectedException e) {
+            jobs.remove(jobId);
+            log.warn("코스 생성 작업 거부 (실행기 포화) - 지역: {}, 데이트 유형: {}",
+                    request.getRegionId(), request.getDateTypeId());
+            throw e;
+        }
+
+        log.info("코스 생성 작업 등록 - 작업 ID: {}", jobId);
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public CourseGenerationJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    /**
+     * 작업 완료 이벤트 구독 (SSE)
+     * 완료 시 completed/failed 이벤트 한 번을 전송하고 스트림 종료
+     */
+    public SseEmitter subscribe(String jobId) {
+        CourseGenerationJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutSeconds * 1000);
+
+        Consumer<CourseGenerationJob> listener = completedJob -> send(emitter, completedJob);
+        emitter.onTimeout(() -> {
+            job.removeCompletionListener(listener);
+            emitter.complete();
+        });
+        emitter.onError(e -> job.removeCompletionListener(listener));
+
+        job.onCompletion(listener);
+        return emitter;
+    }
+
+    /**
+     * 스트리밍 코스 생성
+     * 장소가 확정될 때마다 place 이벤트를 보내고, 저장된 최종 코스를 completed 이벤트로 보낸 뒤 종료
+     * 사전 생성 코스 풀이나 생성 결과 캐시에서 찾은 코스는 place 이벤트 없이 completed 이벤트 하나로 전송
+     * 생성 실패 시 failed 이벤트 전송
+     *
+     * @throws TaskRejectedException 실행기 큐가 가득 찬 경우
+     */
+    public SseEmitter streamGeneration(CourseGenerationRequest request) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutSeconds * 1000);
+
+        courseGenerationExecutor.execute(() -> {
+            try {
+                CourseResponse response = courseService.generateCourseStreaming(
+                        request,
+                        place -> sendQuietly(emitter, PLACE_EVENT, place)
+                );
+                sendQuietly(emitter, COMPLETED_EVENT, response);
+            } catch (Exception e) {
+                log.error("스트리밍 코스 생성 실패 - 지역: {}, 에러: {}", request.getRegionId(), e.getMessage(), e);
+                sendQuietly(emitter, FAILED_EVENT, Map.of("error", String.valueOf(e.getMessage())));
+            }
+            emitter.complete();
+        });
+
+        return emitter;
+    }
+
+    /**
+     * 만료된 작업 정리 (완료 후 TTL 경과)
+     */
+    @Scheduled(fixedDelayString = "${course.async.cleanup-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        long now = clock.getAsLong();
+        long ttlMillis = jobTtlSeconds * 1000;
+
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.isExpired(now, ttlMillis));
+        int evicted = before - jobs.size();
+
+        if (evicted > 0) {
+            log.debug("만료된 코스 생성 작업 정리: {}개", evicted);
+        }
+    }
+
+    private void run(CourseGenerationJob job, CourseGenerationRequest request) {
+        job.markRunning();
+        try {
+            CourseResponse response = courseService.generateCourse(request);
+            job.complete(response);
+            log.info("코스 생성 작업 완료 - 작업 ID: {}, 코스 ID: {}", job.getJobId(), response.getCourseId());
+        } catch (Exception e) {
+            log.error("코스 생성 작업 실패 - 작업 ID: {}, 에러: {}", job.getJobId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void send(SseEmitter emitter, CourseGenerationJob job) {
+        CourseGenerationJobResponse response = job.toResponse();
+        String eventName = CourseGenerationJob.Status.COMPLETED.name().equals(response.getStatus())
+                ? COMPLETED_EVENT : FAILED_EVENT;
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(job.getJobId())
+                    .name(eventName)
+                    .data(response));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 (폴링으로 결과 조회 가능)
+            log.debug("SSE 전송 실패 - 작업 ID: {}, 에러: {}", job.getJobId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * SSE 이벤트 전송 (클라이언트 연결이 끊겨도 생성과 저장은 계속 진행)
+     */
+    private void sendQuietly(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - 이벤트: {}, 에러: {}", eventName, e.getMessage());
+        }
+    }
+
+    private CourseGenerationJob findJob(String jobId) {
+        CourseGenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("코스 생성 작업을 찾을 수 없음: " + jobId);
+        }
+        return job;
+    }
+}
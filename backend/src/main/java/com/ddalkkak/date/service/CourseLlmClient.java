@@ -0,0 +1,36 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * 코스 생성 LLM 클라이언트
+ * LlmStrategyManager가 공급자(Gemini, Claude 등)를 동일한 방식으로 호출하기 위한 공통 인터페이스
+ */
+public interface CourseLlmClient {
+
+    /**
+     * 공급자 이름 (메트릭 태그 및 로그에 사용)
+     */
+    String getProviderName();
+
+    /**
+     * 코스 생성 (논블로킹)
+     * 구독 시점에 HTTP 요청을 보내며, 구독 취소 시 진행 중인 요청도 취소됨
+     *
+     * @param context 프롬프트 컨텍스트
+     * @return 코스 생성 결과 (실패, 빈 응답 또는 파싱 실패 시 빈 Mono, 에러를 전파하지 않음)
+     */
+    Mono<LlmCourseGenerationDto.CourseGenerationResult> generateCourseAsync(CoursePromptContext context);
+
+    /**
+     * 코스 생성 (블로킹, 작업 스레드 전용)
+     *
+     * @param context 프롬프트 컨텍스트
+     * @return 코스 생성 결과 (실패 시 null)
+     */
+    default LlmCourseGenerationDto.CourseGenerationResult generateCourse(CoursePromptContext context) {
+        return generateCourseAsync(context).block();
+    }
+}
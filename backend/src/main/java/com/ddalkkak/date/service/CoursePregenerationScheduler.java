@@ -0,0 +1,170 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.BudgetPreset;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Region;
+import com.ddalkkak.date.repository.RegionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코스 사전 생성 스케줄러
+ * - 정기 보충: 새벽 시간대에 전체 지역 × 데이트 유형 × 예산 프리셋 조합의 부족분을 채움
+ * - 소비 후 보충: 풀에서 코스를 꺼내면 해당 조합만 비동기로 채움
+ * LLM 호출은 분당 허용 수로 제한하며, 허용량을 넘으면 다음 기회로 미룸
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "course.pregeneration.enabled", havingValue = "true", matchIfMissing = true)
+public class CoursePregenerationScheduler {
+
+    private final CourseService courseService;
+    private final PregeneratedCoursePool pregeneratedCoursePool;
+    private final RegionRepository regionRepository;
+    private final TaskExecutor pregenerationExecutor;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    /**
+     * 보충 작업이 진행 중인 조합 (중복 제출 방지)
+     */
+    private final Set<PregeneratedCoursePool.PoolKey> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${course.pregeneration.max-per-run:60}")
+    private int maxPerRun;
+
+    public CoursePregenerationScheduler(
+            CourseService courseService,
+            PregeneratedCoursePool pregeneratedCoursePool,
+            RegionRepository regionRepository,
+            @Qualifier("pregenerationExecutor") TaskExecutor pregenerationExecutor,
+            @Value("${course.pregeneration.permits-per-minute:20}") int permitsPerMinute
+    ) {
+        this.courseService = courseService;
+        this.pregeneratedCoursePool = pregeneratedCoursePool;
+        this.regionRepository = regionRepository;
+        this.pregenerationExecutor = pregenerationExecutor;
+        this.rateLimiter = new TokenBucketRateLimiter(permitsPerMinute, permitsPerMinute);
+    }
+
+    /**
+     * 정기 보충 (기본: 새벽 1~6시 10분 간격)
+     * 부족한 조합별 보충 작업을 사전 생성 실행기에 제출만 하고 바로 반환 (스케줄러 스레드에서 LLM을 호출하지 않음)
+     * 1회 제출량은 max-per-run 이하로 제한하며, 실제 LLM 호출은 분당 허용 수 안에서 실행
+     */
+    @Scheduled(cron = "${course.pregeneration.cron:0 */10 1-6 * * *}", zone = "${course.pregeneration.zone:Asia/Seoul}")
+    public void refillAll() {
+        int reserved = 0;
+        int submitted = 0;
+
+        outer:
+        for (Region region : regionRepository.findAllByOrderByDisplayOrderAsc()) {
+            for (DateType dateType : DateType.values()) {
+                for (BudgetPreset preset : BudgetPreset.values()) {
+                    if (preset == BudgetPreset.CUSTOM) {
+                        continue;
+                    }
+                    if (reserved >= maxPerRun) {
+                        break outer;
+                    }
+
+                    PregeneratedCoursePool.PoolKey key =
+                            new PregeneratedCoursePool.PoolKey(region.getId(), dateType, preset);
+                    int quota = Math.min(pregeneratedCoursePool.deficit(key), maxPerRun - reserved);
+                    if (quota == 0 || inFlight.contains(key)) {
+                        continue;
+                    }
+                    if (!submitRefill(key, quota)) {
+                        // 실행기 큐가 가득 찼으면 이번 회차는 중단 (다음 정기 보충에서 이어서 채움)
+                        break outer;
+                    }
+                    reserved += quota;
+                    submitted++;
+                }
+            }
+        }
+
+        log.info("코스 사전 생성 정기 보충 제출 - 조합: {}, 최대 생성: {}", submitted, reserved);
+    }
+
+    /**
+     * 풀 소비 이벤트 처리: 해당 조합의 부족분을 비동기로 보충
+     */
+    @EventListener
+    public void onCourseConsumed(PregeneratedCourseConsumedEvent event) {
+        PregeneratedCoursePool.PoolKey key = event.key();
+        int deficit = pregeneratedCoursePool.deficit(key);
+        if (deficit > 0) {
+            submitRefill(key, deficit);
+        }
+    }
+
+    /**
+     * 조합 하나의 보충 작업을 사전 생성 실행기에 제출 (같은 조합이 진행 중이면 건너뜀)
+     *
+     * @param quota 이 작업에서 생성할 최대 코스 수
+     * @return 실행기가 작업을 거부했으면 false
+     */
+    private boolean submitRefill(PregeneratedCoursePool.PoolKey key, int quota) {
+        if (!inFlight.add(key)) {
+            return true;
+        }
+
+        try {
+            pregenerationExecutor.execute(() -> {
+                try {
+                    int generated = 0;
+                    while (generated < quota && pregeneratedCoursePool.deficit(key) > 0 && rateLimiter.tryAcquire()) {
+                        if (!generateInto(key)) {
+                            break;
+                        }
+                        generated++;
+                    }
+                    log.debug("코스 사전 생성 보충 완료 - {}, 생성: {}", key, generated);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            inFlight.remove(key);
+            log.warn("코스 사전 생성 보충 작업 제출 실패 - {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 조합 하나에 대해 코스를 생성하여 풀에 추가
+     *
+     * @return 생성 및 추가 성공 여부
+     */
+    private boolean generateInto(PregeneratedCoursePool.PoolKey key) {
+        try {
+            CoursePromptContext context = courseService.loadGenerationContext(key.toRequest());
+            if (context.getCandidatePlaces().isEmpty()) {
+                return false;
+            }
+
+            LlmCourseGenerationDto.CourseGenerationResult result = courseService.generateValidatedLlmResult(context);
+            if (result == null) {
+                log.debug("코스 사전 생성 실패 (LLM 실패 또는 검증 실패) - {}", key);
+                return false;
+            }
+            return pregeneratedCoursePool.offer(key, result);
+
+        } catch (Exception e) {
+            log.warn("코스 사전 생성 중 에러 - {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
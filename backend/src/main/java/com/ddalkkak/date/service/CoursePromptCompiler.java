@@ -0,0 +1,403 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 코스 생성 프롬프트 컴파일러 (Gemini/Claude/OpenAI 공용)
+ * - 시스템 프롬프트(역할/원칙/요구사항/응답 스키마)는 고정 문자열로 한 번만 생성
+ * - 후보 장소는 한 줄짜리 축약 형식으로 인코딩하고, 장소별 인코딩은 수정일시(큐레이션 버전)가 바뀔 때까지 재사용
+ * - 추정 토큰 수가 예산을 넘으면 카테고리 다양성을 유지하며 하위 후보를 제외
+ * - 출력 형식(rich/compact)에 따라 응답 스키마와 최대 출력 토큰 수를 결정
+ * 요청마다 기존 JSON 형식 대비 절감한 토큰 수를 기록
+ */
+@Slf4j
+@Component
+public class CoursePromptCompiler {
+
+    /**
+     * 고정 시스템 프롬프트 - rich 출력 형식 (후보 장소 형식, 요구사항, 응답 스키마 포함)
+     */
+    static final String RICH_SYSTEM_PROMPT = """
+            당신은 서울 지역 Z세대 커플을 위한 데이트 코스 추천 전문가입니다.
+            사용자가 선택한 지역, 데이트 유형, 예산에 맞춰 2-3개 장소로 구성된 최적의 코스를 추천합니다.
+
+            핵심 원칙:
+            1. 반드시 제공된 후보 장소 목록에서만 선택
+            2. 동선 최적화: 이동 거리/시간 최소화
+            3. 예산 준수: 총 예산 범위 내 (±10% 허용)
+            4. 데이트 유형에 맞는 분위기 및 순서
+            5. 총 소요 시간: 2-4시간 권장
+
+            후보 장소는 한 줄에 하나씩 "id|이름|카테고리|평점|리뷰수|가격|위도,경도" 형식으로 제공됩니다.
+
+            요구사항:
+            - 후보 장소 중 2-3개 선택 (place_id는 후보의 id를 정확히 사용)
+            - 각 장소의 예상 소요 시간과 비용 제시
+            - 추천 메뉴/활동을 구체적으로 작성
+            - 이동 수단과 시간 안내 (도보, 택시, 대중교통 등)
+            - 동선을 고려한 순서 배치 (위도/경도 정보 활용)
+
+            JSON 응답 스키마 (다른 텍스트 없이 JSON만 반환):
+            {"course_name": "코스 이름", "description": "코스 설명 (2-3 문장)", "total_duration_minutes": 180, "total_budget": 75000,
+             "places": [{"place_id": 1, "sequence": 1, "duration_minutes": 90, "estimated_cost": 40000,
+              "recommended_menu": "추천 메뉴 또는 활동", "recommendation_reason": "선택 이유 (1-2 문장)", "transport_to_next": "예: 도보 5분"}]}
+            """;
+
+    /**
+     * 고정 시스템 프롬프트 - compact 출력 형식 (코스 이름과 장소 ID 순서만 응답)
+     */
+    static final String COMPACT_SYSTEM_PROMPT = """
+            당신은 서울 지역 Z세대 커플을 위한 데이트 코스 추천 전문가입니다.
+            사용자가 선택한 지역, 데이트 유형, 예산에 맞춰 2-3개 장소로 구성된 최적의 코스를 추천합니다.
+
+            핵심 원칙:
+            1. 반드시 제공된 후보 장소 목록에서만 선택
+            2. 동선 최적화: 이동 거리/시간 최소화 (위도/경도 정보 활용)
+            3. 예산 준수: 총 예산 범위 내 (±10% 허용)
+            4. 데이트 유형에 맞는 분위기 및 순서
+
+            후보 장소는 한 줄에 하나씩 "id|이름|카테고리|평점|리뷰수|가격|위도,경도" 형식으로 제공됩니다.
+
+            다른 텍스트 없이 아래 JSON만 반환 (place_ids는 방문 순서대로 후보의 id 2-3개, course_name은 20자 이내):
+            {"course_name": "코스 이름", "place_ids": [1, 2, 3]}
+            """;
+
+    /**
+     * 기존 프롬프트(장소별 JSON 객체 + 요구사항/스키마 반복)의 장소 외 고정 부분 추정 토큰 수
+     */
+    private static final int LEGACY_OVERHEAD_TOKENS = estimateTokens(RICH_SYSTEM_PROMPT) + 150;
+
+    /**
+     * 출력 형식별 최대 출력 토큰 수
+     */
+    private static final int RICH_MAX_OUTPUT_TOKENS = 2000;
+    private static final int COMPACT_MAX_OUTPUT_TOKENS = 256;
+
+    /**
+     * 장소 ID → 인코딩 결과 (수정일시가 같으면 재사용)
+     */
+    private final Cache<Long, EncodedPlace> encodings = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .build();
+
+    private final int tokenBudget;
+    private final int minCandidates;
+    private final LlmOutputMode outputMode;
+    private final String systemPrompt;
+    private final int systemPromptTokens;
+    private final DistributionSummary promptTokens;
+    private final DistributionSummary savedTokens;
+
+    public CoursePromptCompiler(
+            @Value("${llm.prompt.token-budget:1500}") int tokenBudget,
+            @Value("${llm.prompt.min-candidates:8}") int minCandidates,
+            @Value("${llm.output.mode:rich}") String outputMode,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenBudget = tokenBudget;
+        this.minCandidates = minCandidates;
+        this.outputMode = LlmOutputMode.fromId(outputMode);
+        this.systemPrompt = this.outputMode == LlmOutputMode.COMPACT ? COMPACT_SYSTEM_PROMPT : RICH_SYSTEM_PROMPT;
+        this.systemPromptTokens = estimateTokens(systemPrompt);
+        this.promptTokens = DistributionSummary.builder("llm.prompt.tokens")
+                .description("코스 생성 프롬프트 추정 토큰 수")
+                .register(meterRegistry);
+        this.savedTokens = DistributionSummary.builder("llm.prompt.tokens.saved")
+                .description("기존 JSON 프롬프트 대비 절감한 추정 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시스템 프롬프트 (출력 형식별 고정 문자열)
+     */
+    public String systemPrompt() {
+        return systemPrompt;
+    }
+
+    /**
+     * LLM 출력 형식
+     */
+    public LlmOutputMode outputMode() {
+        return outputMode;
+    }
+
+    /**
+     * 출력 형식에 맞는 최대 출력 토큰 수
+     */
+    public int maxOutputTokens() {
+        return outputMode == LlmOutputMode.COMPACT ? COMPACT_MAX_OUTPUT_TOKENS : RICH_MAX_OUTPUT_TOKENS;
+    }
+
+    /**
+     * 출력 형식에 맞게 LLM 응답 JSON 파싱
+     * compact 형식은 상세 항목이 비어 있는 결과로 변환되며, CourseDetailEnricher가 채움
+     *
+     * @param parser 코스 JSON 최상위 객체 시작 위치의 파서
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult readResult(ObjectMapper objectMapper, JsonParser parser)
+            throws IOException {
+        if (outputMode == LlmOutputMode.COMPACT) {
+            return objectMapper.readValue(parser, LlmCourseGenerationDto.CompactCourseResult.class)
+                    .toCourseGenerationResult();
+        }
+        return objectMapper.readValue(parser, LlmCourseGenerationDto.CourseGenerationResult.class);
+    }
+
+    /**
+     * 프롬프트 컴파일
+     *
+     * @param context 프롬프트 컨텍스트 (후보 장소는 우선순위 순)
+     * @return 시스템/사용자 프롬프트와 토큰 추정치
+     */
+    public CompiledPrompt compile(CoursePromptContext context) {
+        List<Place> candidates = context.getCandidatePlaces();
+
+        String header = String.format("지역: %s\n데이트 유형: %s (%s)\n예산 범위: %,d원 - %,d원\n",
+                context.getRegion().getName(),
+                context.getDateType().getName(),
+                context.getDateType().getDescription(),
+                context.getMinBudget(),
+                context.getMaxBudget());
+        int fixedTokens = systemPromptTokens + estimateTokens(header) + 10;
+
+        List<EncodedPlace> encoded = new ArrayList<>(candidates.size());
+        int legacyTokens = LEGACY_OVERHEAD_TOKENS + estimateTokens(header);
+        for (Place place : candidates) {
+            EncodedPlace encodedPlace = encode(place);
+            encoded.add(encodedPlace);
+            legacyTokens += encodedPlace.legacyTokens();
+        }
+
+        List<EncodedPlace> selected = selectWithinBudget(encoded, tokenBudget - fixedTokens);
+
+        StringBuilder userPrompt = new StringBuilder(header)
+                .append("\n후보 장소 (").append(selected.size()).append("곳):\n");
+        int totalTokens = fixedTokens;
+        for (EncodedPlace encodedPlace : selected) {
+            userPrompt.append(encodedPlace.line()).append('\n');
+            totalTokens += encodedPlace.tokens();
+        }
+
+        int saved = Math.max(0, legacyTokens - totalTokens);
+        promptTokens.record(totalTokens);
+        savedTokens.record(saved);
+        log.info("프롬프트 컴파일 - 후보: {}/{}곳, 추정 토큰: {} (기존 대비 {} 절감)",
+                selected.size(), candidates.size(), totalTokens, saved);
+
+        return new CompiledPrompt(systemPrompt, userPrompt.toString(), totalTokens, saved, selected.size());
+    }
+
+    /**
+     * 토큰 예산 안에서 후보 선택
+     * 1) 각 카테고리의 최상위 후보를 먼저 선택하여 다양성 확보
+     * 2) 남은 예산으로 우선순위 순서대로 채움
+     * 최소 후보 수는 예산과 무관하게 보장하며, 결과는 원래 우선순위 순서를 유지
+     */
+    private List<EncodedPlace> selectWithinBudget(List<EncodedPlace> encoded, int placeBudget) {
+        int total = encoded.stream().mapToInt(EncodedPlace::tokens).sum();
+        if (total <= placeBudget) {
+            return encoded;
+        }
+
+        boolean[] chosen = new boolean[encoded.size()];
+        int used = 0;
+        int count = 0;
+
+        Set<String> seenCategories = new HashSet<>();
+        for (int i = 0; i < encoded.size(); i++) {
+            EncodedPlace place = encoded.get(i);
+            if (seenCategories.add(place.categoryKey())
+                    && (used + place.tokens() <= placeBudget || count < minCandidates)) {
+                chosen[i] = true;
+                used += place.tokens();
+                count++;
+            }
+        }
+        for (int i = 0; i < encoded.size(); i++) {
+            EncodedPlace place = encoded.get(i);
+            if (!chosen[i] && (used + place.tokens() <= placeBudget || count < minCandidates)) {
+                chosen[i] = true;
+                used += place.tokens();
+                count++;
+            }
+        }
+
+        List<EncodedPlace> selected = new ArrayList<>(count);
+        for (int i = 0; i < encoded.size(); i++) {
+            if (chosen[i]) {
+                selected.add(encoded.get(i));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 장소 인코딩 (수정일시가 바뀌지 않았으면 캐시 재사용)
+     */
+    private EncodedPlace encode(Place place) {
+        Long placeId = place.getId();
+        EncodedPlace cached = placeId != null ? encodings.getIfPresent(placeId) : null;
+        if (cached != null && cached.isVersion(place.getUpdatedAt())) {
+            return cached;
+        }
+
+        String line = String.join("|",
+                String.valueOf(placeId),
+                sanitize(place.getName()),
+                sanitize(shortCategory(place.getCategory())),
+                String.format(Locale.ROOT, "%.1f", place.getRating() != null ? place.getRating() : 0.0),
+                String.valueOf(place.getReviewCount() != null ? place.getReviewCount() : 0),
+                priceOf(place),
+                String.format(Locale.ROOT, "%.4f,%.4f",
+                        place.getLatitude() != null ? place.getLatitude() : 0.0,
+                        place.getLongitude() != null ? place.getLongitude() : 0.0));
+
+        EncodedPlace encoded = new EncodedPlace(
+                place.getUpdatedAt(),
+                line,
+                estimateTokens(line) + 1,
+                estimateLegacyTokens(place),
+                categoryKeyOf(place.getCategory())
+        );
+        if (placeId != null) {
+            encodings.put(placeId, encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * 가격 표기 (백필된 컬럼 우선, 없으면 원문, 정보 없으면 "-")
+     */
+    private String priceOf(Place place) {
+        if (place.getPriceMin() != null) {
+            return place.getPriceMax() != null
+                    ? place.getPriceMin() + "-" + place.getPriceMax()
+                    : place.getPriceMin() + "-";
+        }
+        return place.getPriceRange() != null ? sanitize(place.getPriceRange()) : "-";
+    }
+
+    /**
+     * 카카오 카테고리 경로에서 마지막 두 단계만 사용 (예: "음식점 > 한식 > 육류,고기" → "한식>육류,고기")
+     */
+    private String shortCategory(String category) {
+        if (category == null) {
+            return "";
+        }
+        String[] parts = category.split(">");
+        int from = Math.max(0, parts.length - 2);
+        List<String> tail = new ArrayList<>(2);
+        for (int i = from; i < parts.length; i++) {
+            tail.add(parts[i].trim());
+        }
+        return String.join(">", tail);
+    }
+
+    /**
+     * 다양성 판단용 카테고리 키 (카테고리 경로의 두 번째 단계, 없으면 첫 단계)
+     */
+    private String categoryKeyOf(String category) {
+        if (category == null) {
+            return "";
+        }
+        String[] parts = category.split(">");
+        return (parts.length > 1 ? parts[1] : parts[0]).trim();
+    }
+
+    private String sanitize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace('|', '/').replace('\n', ' ').replace('\r', ' ').trim();
+    }
+
+    /**
+     * 기존 장소별 JSON 객체 형식의 추정 토큰 수 (절감량 보고용)
+     */
+    private int estimateLegacyTokens(Place place) {
+        // 키 이름/따옴표/구분자 등 고정 부분 약 45토큰 + 값
+        return 45 + estimateTokens(place.getName()) + estimateTokens(place.getCategory())
+                + estimateTokens(place.getPriceRange() != null ? place.getPriceRange() : "정보 없음")
+                + estimateTokens(place.getAddress()) + 12;
+    }
+
+    /**
+     * 토큰 수 추정
+     * 한글/한자 등 비 ASCII 문자는 글자당 1토큰, ASCII 문자는 4글자당 1토큰으로 계산
+     */
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int nonAscii = 0;
+        int ascii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                nonAscii++;
+            }
+        }
+        return nonAscii + (ascii + 3) / 4;
+    }
+
+    /**
+     * 컴파일된 프롬프트
+     *
+     * @param systemPrompt       시스템 프롬프트
+     * @param userPrompt         사용자 프롬프트 (지역/유형/예산 + 후보 장소)
+     * @param estimatedTokens    추정 입력 토큰 수
+     * @param savedTokens        기존 형식 대비 절감한 추정 토큰 수
+     * @param includedCandidates 프롬프트에 포함된 후보 수
+     */
+    public record CompiledPrompt(
+            String systemPrompt,
+            String userPrompt,
+            int estimatedTokens,
+            int savedTokens,
+            int includedCandidates
+    ) {
+
+        /**
+         * 시스템/사용자 프롬프트를 하나로 합친 프롬프트 (Gemini용)
+         */
+        public String combined() {
+            return systemPrompt + "\n\n" + userPrompt;
+        }
+    }
+
+    /**
+     * 장소 인코딩 결과
+     *
+     * @param version      인코딩 시점 장소 수정일시 (큐레이션 버전)
+     * @param line         축약 인코딩 한 줄
+     * @param tokens       추정 토큰 수 (줄바꿈 포함)
+     * @param legacyTokens 기존 JSON 형식의 추정 토큰 수
+     * @param categoryKey  다양성 판단용 카테고리 키
+     */
+    private record EncodedPlace(LocalDateTime version, String line, int tokens, int legacyTokens, String categoryKey) {
+
+        boolean isVersion(LocalDateTime updatedAt) {
+            return version == null ? updatedAt == null : version.equals(updatedAt);
+        }
+    }
+}
@@ -10,13 +10,25 @@ import com.ddalkkak.date.repository.PlaceRepository;
 import com.ddalkkak.date.repository.RegionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.schedulers.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -33,20 +45,107 @@ public class CourseService {
     private final LlmStrategyManager llmStrategyManager;
     private final FallbackTemplateService fallbackTemplateService;
     private final PushNotificationService pushNotificationService;
+    private final PlatformTransactionManager transactionManager;
+    private final PlaceCandidateIndex placeCandidateIndex;
+    private final PlaceImageUrlProvider placeImageUrlProvider;
+    private final CourseGenerationCache courseGenerationCache;
+    private final PregeneratedCoursePool pregeneratedCoursePool;
+    private final CourseDetailEnricher courseDetailEnricher;
+    private final LocalCoursePlanner localCoursePlanner;
+    private final MoodTagDictionary moodTagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * LLM에 전달할 최대 후보 장소 수
+     */
+    private static final int CANDIDATE_LIMIT = 20;
+
+    /**
+     * DB 조회 경로에서 미분류/미백필 장소 보정 전 여유 조회 배수
+     */
+    private static final int CANDIDATE_OVERFETCH_FACTOR = 2;
+
+    /**
+     * 저장된 코스 커서 조회의 최대 페이지 크기
+     */
+    private static final int MAX_SAVED_COURSE_PAGE_SIZE = 100;
+
+    /**
+     * 저장된 코스 커서 이름과 첫 페이지 시작 시각 (모든 코스의 생성 시각보다 늦은 값)
+     */
+    private static final String SAVED_COURSE_CURSOR = "saved";
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Value("${course.candidate-index.enabled:true}")
+    private boolean candidateIndexEnabled;
 
     /**
      * 코스 생성
+     * 트랜잭션을 단계별로 분리하여 LLM 응답을 기다리는 동안 DB 커넥션을 점유하지 않음
+     * 1) 읽기 트랜잭션: 지역/후보 장소 조회
+     * 2) LLM 단계: 커넥션 미점유
+     * 3) 쓰기 트랜잭션: 코스 저장
      */
-    @Transactional
     public CourseResponse generateCourse(CourseGenerationRequest request) {
         long startTime = System.currentTimeMillis();
 
         try {
-            // 1. 지역 정보 조회
+            // 1. 지역 및 후보 장소 조회 (짧은 읽기 트랜잭션)
+            CoursePromptContext context = loadGenerationContext(request);
+
+            // 2. LLM을 통한 코스 생성 (트랜잭션 밖에서 실행)
+            CourseResponse courseResponse = generateCourseWithLlm(context, request);
+
+            // 3. 코스를 DB에 저장 (짧은 쓰기 트랜잭션)
+            courseResponse = persistGeneratedCourse(courseResponse);
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("코스 생성 및 저장 완료 - 코스 ID: {}, 소요 시간: {}ms", courseResponse.getCourseId(), duration);
+
+            return courseResponse;
+
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.error("코스 생성 실패 - 소요 시간: {}ms, 에러: {}", duration, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 코스 생성 (논블로킹)
+     * 동기 generateCourse와 같은 3단계로 진행하되, DB 조회/저장만 boundedElastic 스레드에서 수행하고
+     * LLM 응답을 기다리는 동안에는 어떤 스레드도 점유하지 않음
+     */
+    public Mono<CourseResponse> generateCourseReactive(CourseGenerationRequest request) {
+        return Mono.defer(() -> {
+            long startTime = System.currentTimeMillis();
+
+            // 1. 지역 및 후보 장소 조회 (짧은 읽기 트랜잭션)
+            return Mono.fromCallable(() -> loadGenerationContext(request))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    // 2. LLM을 통한 코스 생성 (트랜잭션 밖에서 실행)
+                    .flatMap(context -> generateCourseWithLlmAsync(context, request))
+                    // 3. 코스를 DB에 저장 (짧은 쓰기 트랜잭션)
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(this::persistGeneratedCourse)
+                    .doOnNext(courseResponse -> log.info("코스 생성 및 저장 완료 - 코스 ID: {}, 소요 시간: {}ms",
+                            courseResponse.getCourseId(), System.currentTimeMillis() - startTime))
+                    .doOnError(e -> log.error("코스 생성 실패 - 소요 시간: {}ms, 에러: {}",
+                            System.currentTimeMillis() - startTime, e.getMessage(), e));
+        });
+    }
+
+    /**
+     * 코스 생성 1단계: 지역 정보와 후보 장소를 읽기 전용 트랜잭션에서 조회
+     * 반환되는 엔티티는 트랜잭션 종료 후 detached 상태이므로 지연 로딩 필드에 접근하지 않아야 함
+     */
+    public CoursePromptContext loadGenerationContext(CourseGenerationRequest request) {
+        return inReadOnlyTransaction(() -> {
+            // 지역 정보 조회
             Region region = regionRepository.findById(request.getRegionId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역 ID: " + request.getRegionId()));
 
-            // 2. 데이트 유형 및 예산 정보 파싱
+            // 데이트 유형 및 예산 정보 파싱
             DateType dateType = DateType.fromId(request.getDateTypeId());
             int minBudget = request.getMinBudget();
             int maxBudget = request.getMaxBudget();
@@ -54,263 +153,381 @@ public class CourseService {
             log.info("코스 생성 시작 - 지역: {}, 데이트 유형: {}, 예산 범위: {}-{}원",
                     region.getName(), dateType.getName(), minBudget, maxBudget);
 
-            // 3. 룰 기반 필터링으로 후보 장소 조회
+            // 룰 기반 필터링으로 후보 장소 조회
             List<Place> candidatePlaces = filterPlacesByRules(
                     request.getRegionId(),
                     dateType,
                     minBudget,
-                    maxBudget
+                    maxBudget,
+                    moodTagDictionary.filter(request.getMoodTags())
             );
 
             log.info("필터링된 후보 장소 수: {}", candidatePlaces.size());
 
-            // 4. LLM을 통한 코스 생성
-            CourseResponse courseResponse = generateCourseWithLlm(region, dateType, candidatePlaces, minBudget, maxBudget, request);
-
-            // 5. 코스를 DB에 저장
-            Course savedCourse = saveCourse(courseResponse);
-
-            // 6. 저장된 코스 정보로 응답 업데이트
-            courseResponse = CourseResponse.builder()
-                    .courseId(savedCourse.getCourseId())
-                    .courseName(courseResponse.getCourseName())
-                    .regionId(courseResponse.getRegionId())
-                    .regionName(courseResponse.getRegionName())
-                    .dateTypeId(courseResponse.getDateTypeId())
-                    .dateTypeName(courseResponse.getDateTypeName())
-                    .totalDurationMinutes(courseResponse.getTotalDurationMinutes())
-                    .totalBudget(courseResponse.getTotalBudget())
-                    .description(courseResponse.getDescription())
-                    .places(courseResponse.getPlaces())
-                    .createdAt(savedCourse.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli())
+            return CoursePromptContext.builder()
+                    .region(region)
+                    .dateType(dateType)
+                    .candidatePlaces(candidatePlaces)
+                    .minBudget(minBudget)
+                    .maxBudget(maxBudget)
                     .build();
+        });
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("코스 생성 및 저장 완료 - 코스 ID: {}, 소요 시간: {}ms", savedCourse.getCourseId(), duration);
-
-            return courseResponse;
+    /**
+     * 코스 생성 3단계: 생성된 코스를 쓰기 트랜잭션에서 저장하고 저장 결과로 응답 갱신
+     */
+    public CourseResponse persistGeneratedCourse(CourseResponse courseResponse) {
+        Course savedCourse = inTransaction(() -> saveCourse(courseResponse));
 
-        } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("코스 생성 실패 - 소요 시간: {}ms, 에러: {}", duration, e.getMessage(), e);
-            throw e;
-        }
+        return CourseResponse.builder()
+                .courseId(savedCourse.getCourseId())
+                .courseName(courseResponse.getCourseName())
+                .regionId(courseResponse.getRegionId())
+                .regionName(courseResponse.getRegionName())
+                .dateTypeId(courseResponse.getDateTypeId())
+                .dateTypeName(courseResponse.getDateTypeName())
+                .totalDurationMinutes(courseResponse.getTotalDurationMinutes())
+                .totalBudget(courseResponse.getTotalBudget())
+                .description(courseResponse.getDescription())
+                .places(courseResponse.getPlaces())
+                .createdAt(savedCourse.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
     }
 
     /**
-     * 룰 기반 필터링: 지역, 데이트 유형, 예산 범위에 맞는 장소 조회
+     * 읽기 전용 트랜잭션 안에서 작업 실행
      */
-    private List<Place> filterPlacesByRules(String regionId, DateType dateType, int minBudget, int maxBudget) {
-        // 지역별 모든 장소 조회
-        List<Place> places = placeRepository.findByRegionId(regionId);
-
-        log.debug("지역 {} 전체 장소 수: {}", regionId, places.size());
-
-        // 필터링 및 정렬
-        List<Place> filtered = places.stream()
-                // 1. 평점 필터링: 4.0 이상
-                .filter(place -> place.getRating() != null && place.getRating() >= 4.0)
-                // 2. 리뷰 수 필터링: 50개 이상
-                .filter(place -> place.getReviewCount() != null && place.getReviewCount() >= 50)
-                // 3. 데이트 유형별 카테고리 필터링
-                .filter(place -> matchesDateTypeCategory(place, dateType))
-                // 4. 예산 범위 필터링 (±20% 허용)
-                .filter(place -> matchesBudgetRange(place, minBudget, maxBudget))
-                // 5. dateScore 기준 내림차순 정렬
-                .sorted((p1, p2) -> {
-                    Integer score1 = p1.getDateScore() != null ? p1.getDateScore() : 0;
-                    Integer score2 = p2.getDateScore() != null ? p2.getDateScore() : 0;
-                    return score2.compareTo(score1); // 내림차순
-                })
-                // 6. 상위 20개만 선택
-                .limit(20)
-                .collect(Collectors.toList());
+    private <T> T inReadOnlyTransaction(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
 
-        log.info("필터링 결과 - 전체: {}, 평점/리뷰: {}, 카테고리: {}, 예산: {}, 최종: {}",
-                places.size(),
-                places.stream().filter(p -> p.getRating() != null && p.getRating() >= 4.0
-                        && p.getReviewCount() != null && p.getReviewCount() >= 50).count(),
-                places.stream().filter(p -> matchesDateTypeCategory(p, dateType)).count(),
-                places.stream().filter(p -> matchesBudgetRange(p, minBudget, maxBudget)).count(),
-                filtered.size());
+    /**
+     * 쓰기 트랜잭션 안에서 작업 실행
+     * (같은 클래스 내부 호출은 @Transactional 프록시를 거치지 않으므로 명시적으로 트랜잭션을 연다)
+     */
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
 
-        return filtered;
+    /**
+     * 사용자 코스(저장/확정) 추가 알림 (커밋 이후 지역 카탈로그의 가용 코스 수에 반영)
+     * 자동 생성된 DRAFT 코스는 가용 코스 수에 포함하지 않으므로, DRAFT에서 벗어날 때 알림
+     */
+    private void publishCourseCreated(Course course) {
+        eventPublisher.publishEvent(new RegionCourseCountChangedEvent(course.getRegionId(), 1));
     }
 
     /**
-     * 데이트 유형에 맞는 카테고리인지 확인
+     * 룰 기반 필터링: 지역, 데이트 유형, 예산 범위, 무드 태그에 맞는 장소 조회
+     * 인메모리 후보 인덱스를 사용하며, 비활성화 시 DB에서 평점/리뷰 수/예산 조건으로 필터링
+     *
+     * @param tagFilter 무드 태그 조건 (null이면 조건 없음)
      */
-    private boolean matchesDateTypeCategory(Place place, DateType dateType) {
-        if (place.getCategory() == null) {
-            return false;
+    private List<Place> filterPlacesByRules(String regionId, DateType dateType, int minBudget, int maxBudget,
+                                            Predicate<Place> tagFilter) {
+        if (candidateIndexEnabled) {
+            return placeCandidateIndex.findTopCandidates(regionId, dateType, minBudget, maxBudget, tagFilter, CANDIDATE_LIMIT);
         }
 
-        String category = place.getCategory().toLowerCase();
-
-        switch (dateType) {
-            case DINNER:
-                return category.contains("음식점") || category.contains("레스토랑")
-                        || category.contains("한식") || category.contains("양식")
-                        || category.contains("일식") || category.contains("중식")
-                        || category.contains("이탈리안") || category.contains("프렌치");
-
-            case CAFE:
-                return category.contains("카페") || category.contains("디저트")
-                        || category.contains("베이커리") || category.contains("커피");
-
-            case CULTURE:
-                return category.contains("문화") || category.contains("예술")
-                        || category.contains("갤러리") || category.contains("박물관")
-                        || category.contains("전시") || category.contains("공연")
-                        || category.contains("극장") || category.contains("영화");
-
-            case ACTIVITY:
-                return category.contains("레저") || category.contains("체험")
-                        || category.contains("액티비티") || category.contains("스포츠")
-                        || category.contains("방탈출") || category.contains("놀이");
-
-            case NIGHT:
-                return category.contains("바") || category.contains("펍")
-                        || category.contains("루프탑") || category.contains("전망")
-                        || category.contains("야경") || category.contains("공원");
-
-            case SPECIAL:
-                // 특별한 날은 모든 카테고리 허용
-                return true;
-
-            default:
-                return true;
-        }
+        // 1. 평점/리뷰 수/데이트 유형/예산 범위(±20% 허용) 필터링 및 dateScore 내림차순 정렬은 DB에서 수행
+        // 아직 분류되지 않은 장소와 무드 태그 조건은 JVM에서 보정하므로 여유 있게 조회하고,
+        // 보정 후 20개가 안 되면 DB 결과가 끝날 때까지 다음 구간을 이어서 조회
+        int fetchSize = CANDIDATE_LIMIT * CANDIDATE_OVERFETCH_FACTOR;
+        List<Place> filtered = new ArrayList<>(CANDIDATE_LIMIT);
+        int fetched = 0;
+        List<Place> places;
+        do {
+            places = placeRepository.findCandidatePlaces(
+                    regionId,
+                    PlaceCandidateIndex.MIN_RATING,
+                    PlaceCandidateIndex.MIN_REVIEW_COUNT,
+                    dateType.getBit(),
+                    PriceRangeParser.adjustedMinBudget(minBudget),
+                    PriceRangeParser.adjustedMaxBudget(maxBudget),
+                    fetchSize,
+                    fetched
+            );
+            fetched += places.size();
+
+            for (Place place : places) {
+                if (filtered.size() >= CANDIDATE_LIMIT) {
+                    break;
+                }
+                // 2. 미분류 장소는 카테고리를 즉시 분류하여 확인
+                if (place.getDateTypeMask() == null && !placeCandidateIndex.matchesDateTypeCategory(place, dateType)) {
+                    continue;
+                }
+                // 3. 가격 컬럼이 아직 백필되지 않은 장소는 문자열 파싱으로 예산 확인
+                if (place.getPriceMin() == null && !matchesBudgetRange(place, minBudget, maxBudget)) {
+                    continue;
+                }
+                // 4. 무드 태그 조건 (태그 ID 비트셋 확인)
+                if (tagFilter != null && !tagFilter.test(place)) {
+                    continue;
+                }
+                filtered.add(place);
+            }
+        } while (filtered.size() < CANDIDATE_LIMIT && places.size() == fetchSize);
+
+        log.info("필터링 결과 - 조회: {}, 최종: {}", fetched, filtered.size());
+
+        return filtered;
     }
 
     /**
-     * 예산 범위에 맞는지 확인 (±20% 허용)
+     * 예산 범위에 맞는지 확인 (±20% 허용, 가격 정보가 없거나 파싱 실패 시 허용)
      */
     private boolean matchesBudgetRange(Place place, int minBudget, int maxBudget) {
-        if (place.getPriceRange() == null || place.getPriceRange().isEmpty()) {
-            // 가격 정보가 없으면 허용
-            return true;
+        PriceRangeParser.PriceBounds prices = PriceRangeParser.parse(place.getPriceRange());
+        return prices == null || prices.overlapsBudget(minBudget, maxBudget);
+    }
+
+    /**
+     * 코스 생성 2단계: LLM을 통한 코스 생성 (Gemini → Claude → Template)
+     * DB 커넥션을 점유하지 않은 상태에서 호출되어야 함
+     */
+    public CourseResponse generateCourseWithLlm(CoursePromptContext context, CourseGenerationRequest request) {
+        // 0. 로컬 플래너가 기본 엔진이면 LLM 없이 바로 생성
+        CourseResponse planned = planLocallyIfPrimary(context);
+        if (planned != null) {
+            return planned;
+        }
+
+        // 1~2. 사전 생성 코스 풀 / 생성 결과 캐시 조회
+        CourseResponse ready = findReadyCourse(context, request);
+        if (ready != null) {
+            return ready;
         }
 
+        // 3. LLM 호출 (Gemini → Claude → Template 전략)
         try {
-            PriceRange priceRange = parsePriceRange(place.getPriceRange());
+            LlmCourseGenerationDto.CourseGenerationResult result = generateValidatedLlmResult(context);
 
-            // ±20% 허용 범위 계산
-            int adjustedMinBudget = (int) (minBudget * 0.8);
-            int adjustedMaxBudget = (int) (maxBudget * 1.2);
+            // 4. 응답 검증 성공 시 캐시에 저장하고 매핑
+            if (result != null) {
+                return onLlmResult(result, context, request);
+            }
 
-            // 가격대가 예산 범위와 겹치는지 확인
-            boolean overlaps = !(priceRange.max < adjustedMinBudget || priceRange.min > adjustedMaxBudget);
+            log.warn("모든 LLM 실패 또는 검증 실패, Fallback 사용");
+        } catch (Exception e) {
+            log.warn("LLM 코스 생성 중 에러 발생, Fallback 사용: {}", e.getMessage());
+        }
 
-            if (!overlaps) {
-                log.debug("예산 범위 불일치 - 장소: {}, 가격대: {}-{}, 예산: {}-{} (±20%: {}-{})",
-                        place.getName(), priceRange.min, priceRange.max,
-                        minBudget, maxBudget, adjustedMinBudget, adjustedMaxBudget);
+        // 5. Fallback: 로컬 플래너 → 템플릿 기반 코스
+        return buildFallbackCourse(context, request);
+    }
+
+    /**
+     * 코스 생성 2단계 (논블로킹)
+     * 풀/캐시 조회와 Fallback 순서는 generateCourseWithLlm과 같으며,
+     * LLM 응답 이후의 매핑/Fallback 처리는 boundedElastic 스레드에서 수행 (HTTP 클라이언트 이벤트 루프 보호)
+     */
+    public Mono<CourseResponse> generateCourseWithLlmAsync(CoursePromptContext context, CourseGenerationRequest request) {
+        return Mono.defer(() -> {
+            // 0. 로컬 플래너가 기본 엔진이면 LLM 없이 바로 생성
+            CourseResponse planned = planLocallyIfPrimary(context);
+            if (planned != null) {
+                return Mono.just(planned);
             }
 
-            return overlaps;
+            // 1~2. 사전 생성 코스 풀 / 생성 결과 캐시 조회
+            CourseResponse ready = findReadyCourse(context, request);
+            if (ready != null) {
+                return Mono.just(ready);
+            }
 
-        } catch (Exception e) {
-            log.warn("가격대 파싱 실패 - 장소: {}, priceRange: {}, 에러: {}",
-                    place.getName(), place.getPriceRange(), e.getMessage());
-            // 파싱 실패 시 허용
-            return true;
-        }
+            // 3. LLM 호출 (Gemini → Claude → Template 전략)
+            return llmStrategyManager.generateCourseWithValidationAsync(context, r -> validateLlmResult(r, context))
+                    .publishOn(Schedulers.boundedElastic())
+                    // 4. 응답 검증 성공 시 상세 항목을 채우고 캐시에 저장하여 매핑
+                    .map(result -> onLlmResult(courseDetailEnricher.complete(result, context), context, request))
+                    .onErrorResume(e -> {
+                        log.warn("LLM 코스 생성 중 에러 발생, Fallback 사용: {}", e.getMessage());
+                        return Mono.empty();
+                    })
+                    // 5. Fallback: 로컬 플래너 → 템플릿 기반 코스
+                    .switchIfEmpty(Mono.fromSupplier(() -> buildFallbackCourse(context, request)));
+        });
     }
 
     /**
-     * priceRange 문자열을 파싱하여 최소/최대 금액 추출
+     * 사전 생성 코스 풀 → 생성 결과 캐시 순으로 바로 사용할 수 있는 코스 조회
+     *
+     * @return 검증을 통과한 코스 (없으면 null → LLM 호출 필요)
      */
-    private PriceRange parsePriceRange(String priceRangeStr) {
-        // "10,000-20,000원" 형식
-        if (priceRangeStr.contains("-")) {
-            String[] parts = priceRangeStr.replace("원", "").replace(",", "").split("-");
-            if (parts.length == 2) {
-                int min = Integer.parseInt(parts[0].trim());
-                int max = Integer.parseInt(parts[1].trim());
-                return new PriceRange(min, max);
+    private CourseResponse findReadyCourse(CoursePromptContext context, CourseGenerationRequest request) {
+        // 1. 사전 생성 코스 풀 조회 (프리셋 예산만 대상, 꺼낸 뒤 비동기 보충)
+        PregeneratedCoursePool.PoolKey poolKey = pregeneratedCoursePool.keyOf(request);
+        if (poolKey != null) {
+            LlmCourseGenerationDto.CourseGenerationResult pooled = pregeneratedCoursePool.take(
+                    poolKey, r -> validateLlmResult(r, context));
+            if (pooled != null) {
+                return mapLlmResultToCourseResponse(pooled, context);
             }
         }
 
-        // "30,000원 이상" 형식
-        if (priceRangeStr.contains("이상")) {
-            String numStr = priceRangeStr.replace("원", "").replace("이상", "").replace(",", "").trim();
-            int min = Integer.parseInt(numStr);
-            return new PriceRange(min, Integer.MAX_VALUE);
+        // 2. 생성 결과 캐시 조회 (히트 시 LLM 호출 생략)
+        CourseGenerationCache.CacheKey cacheKey = courseGenerationCache.keyOf(request, context);
+        LlmCourseGenerationDto.CourseGenerationResult cached = courseGenerationCache.get(cacheKey);
+        if (cached != null && validateLlmResult(cached, context)) {
+            return mapLlmResultToCourseResponse(cached, context);
         }
+        return null;
+    }
 
-        // "30,000원 이하" 형식
-        if (priceRangeStr.contains("이하")) {
-            String numStr = priceRangeStr.replace("원", "").replace("이하", "").replace(",", "").trim();
-            int max = Integer.parseInt(numStr);
-            return new PriceRange(0, max);
-        }
+    /**
+     * 검증된 LLM 결과를 캐시에 저장하고 코스 응답으로 매핑
+     */
+    private CourseResponse onLlmResult(
+            LlmCourseGenerationDto.CourseGenerationResult result,
+            CoursePromptContext context,
+            CourseGenerationRequest request
+    ) {
+        log.info("LLM 코스 생성 및 검증 성공");
+        courseGenerationCache.put(courseGenerationCache.keyOf(request, context), result);
+        return mapLlmResultToCourseResponse(result, context);
+    }
 
-        // "30,000원" 단일 금액 형식
-        String numStr = priceRangeStr.replace("원", "").replace(",", "").trim();
-        int price = Integer.parseInt(numStr);
-        // 단일 금액은 ±30% 범위로 간주
-        return new PriceRange((int)(price * 0.7), (int)(price * 1.3));
+    /**
+     * LLM으로 코스를 생성하고 후보 장소/예산 기준으로 검증
+     * 캐시/풀을 거치지 않으며, 사전 생성 스케줄러에서도 사용
+     * compact 출력 형식이면 비어 있는 상세 항목을 장소 정보와 거리로 채워 반환
+     *
+     * @return 검증된 생성 결과 (모든 LLM 실패 또는 검증 실패 시 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult generateValidatedLlmResult(CoursePromptContext context) {
+        LlmCourseGenerationDto.CourseGenerationResult result =
+                llmStrategyManager.generateCourseWithValidation(context, r -> validateLlmResult(r, context));
+        return result != null ? courseDetailEnricher.complete(result, context) : null;
     }
 
     /**
-     * 가격 범위 내부 클래스
+     * 스트리밍 코스 생성
+     * Gemini 스트리밍 응답에서 장소가 완성될 때마다 후보 목록과 대조하여 즉시 전달하고,
+     * 전체 응답 검증 후 코스를 저장하여 반환
+     * 스트리밍 결과가 검증에 실패하면 Claude → 템플릿 순으로 대체하며,
+     * 이 경우 이미 전달된 장소와 최종 코스가 다를 수 있으므로 클라이언트는 최종 코스로 교체해야 함
+     * 로컬 플래너(기본 엔진인 경우), 사전 생성 코스 풀, 생성 결과 캐시에서 코스를 찾으면
+     * LLM을 호출하지 않고 장소를 따로 전달하지 않으며, 최종 코스 한 번으로 응답
+     *
+     * @param request 코스 생성 요청
+     * @param onPlace 검증된 장소 전달 콜백 (LLM 스트리밍 중에만 호출)
+     * @return 저장된 최종 코스
      */
-    private static class PriceRange {
-        final int min;
-        final int max;
+    public CourseResponse generateCourseStreaming(CourseGenerationRequest request, Consumer<PlaceInCourseDto> onPlace) {
+        long startTime = System.currentTimeMillis();
+
+        // 1. 지역 및 후보 장소 조회 (짧은 읽기 트랜잭션)
+        CoursePromptContext context = loadGenerationContext(request);
+        Map<Long, Place> candidatesById = context.getCandidatesById();
+
+        // 2. 로컬 플래너(기본 엔진인 경우) → 사전 생성 코스 풀 → 생성 결과 캐시 순으로 조회
+        // (찾으면 LLM 호출을 생략하고 장소 이벤트 없이 최종 코스로만 응답)
+        Set<Long> emittedPlaceIds = new HashSet<>();
+        CourseResponse courseResponse = planLocallyIfPrimary(context);
+        if (courseResponse == null) {
+            courseResponse = findReadyCourse(context, request);
+        }
+
+        // 3. 스트리밍 LLM 호출 (트랜잭션 밖에서 실행)
+        if (courseResponse == null) {
+            try {
+                LlmCourseGenerationDto.CourseGenerationResult result =
+                        llmStrategyManager.generateCourseStreamingWithValidation(
+                                context,
+                                llmPlace -> {
+                                    Place place = candidatesById.get(llmPlace.getPlaceId());
+                                    if (place == null) {
+                                        log.warn("스트리밍 응답에 후보 목록에 없는 장소 ID 포함: {}", llmPlace.getPlaceId());
+                                        return;
+                                    }
+                                    if (emittedPlaceIds.size() >= 3 || !emittedPlaceIds.add(place.getId())) {
+                                        return;
+                                    }
+                                    // 다음 장소를 아직 모르므로 이동 수단은 최종 코스에서 채움
+                                    onPlace.accept(toPlaceInCourseDto(
+                                            courseDetailEnricher.completePlace(llmPlace, place, null, emittedPlaceIds.size()),
+                                            place));
+                                },
+                                r -> validateLlmResult(r, context)
+                        );
+
+                if (result != null) {
+                    courseResponse = onLlmResult(courseDetailEnricher.complete(result, context), context, request);
+                }
+            } catch (Exception e) {
+                log.warn("스트리밍 코스 생성 중 에러 발생, Fallback 사용: {}", e.getMessage());
+            }
+        }
 
-        PriceRange(int min, int max) {
-            this.min = min;
-            this.max = max;
+        if (courseResponse == null) {
+            courseResponse = buildFallbackCourse(context, request);
         }
+
+        // 4. 코스를 DB에 저장 (짧은 쓰기 트랜잭션)
+        courseResponse = persistGeneratedCourse(courseResponse);
+
+        log.info("스트리밍 코스 생성 완료 - 코스 ID: {}, 전달된 장소 수: {}, 소요 시간: {}ms",
+                courseResponse.getCourseId(), emittedPlaceIds.size(), System.currentTimeMillis() - startTime);
+
+        return courseResponse;
     }
 
     /**
-     * LLM을 통한 코스 생성 (OpenAI 우선, 실패 시 Mock 코스 반환)
+     * 로컬 플래너가 기본 엔진일 때 LLM 없이 코스 생성
+     *
+     * @return 검증된 코스 (기본 엔진이 아니거나 제약을 만족하는 코스가 없으면 null → LLM 경로 진행)
      */
-    private CourseResponse generateCourseWithLlm(
-            Region region,
-            DateType dateType,
-            List<Place> candidatePlaces,
-            int minBudget,
-            int maxBudget,
-            CourseGenerationRequest request
-    ) {
-        // 1. 프롬프트 컨텍스트 생성
-        CoursePromptContext context = CoursePromptContext.builder()
-                .region(region)
-                .dateType(dateType)
-                .candidatePlaces(candidatePlaces)
-                .minBudget(minBudget)
-                .maxBudget(maxBudget)
-                .build();
+    private CourseResponse planLocallyIfPrimary(CoursePromptContext context) {
+        return localCoursePlanner.isPrimary() ? planLocally(context) : null;
+    }
 
-        // 2. LLM 호출 (OpenAI → Claude → Template 전략)
+    /**
+     * 로컬 플래너로 코스 생성 (LLM 응답과 같은 기준으로 검증)
+     *
+     * @return 검증된 코스 (실패 시 null)
+     */
+    private CourseResponse planLocally(CoursePromptContext context) {
         try {
-            LlmCourseGenerationDto.CourseGenerationResult result =
-                    llmStrategyManager.generateCourseWithValidation(
-                            context,
-                            r -> validateLlmResult(r, candidatePlaces, minBudget, maxBudget)
-                    );
-
-            // 3. 응답 검증 성공 시 매핑
-            if (result != null) {
-                log.info("LLM 코스 생성 및 검증 성공");
-                return mapLlmResultToCourseResponse(result, region, dateType);
+            LlmCourseGenerationDto.CourseGenerationResult result = localCoursePlanner.plan(context);
+            if (result != null && validateLlmResult(result, context)) {
+                return mapLlmResultToCourseResponse(result, context);
             }
-
-            log.warn("모든 LLM 실패 또는 검증 실패, 템플릿 사용");
         } catch (Exception e) {
-            log.warn("LLM 코스 생성 중 에러 발생, 템플릿 사용: {}", e.getMessage());
+            log.warn("로컬 코스 플래너 에러 발생: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Fallback 코스 생성 (모든 LLM 실패 시)
+     * 로컬 플래너를 먼저 사용하고, 비활성화되었거나 코스를 만들지 못하면 템플릿 사용
+     */
+    private CourseResponse buildFallbackCourse(CoursePromptContext context, CourseGenerationRequest request) {
+        if (localCoursePlanner.isEnabled() && !localCoursePlanner.isPrimary()) {
+            CourseResponse planned = planLocally(context);
+            if (planned != null) {
+                log.info("Fallback 로컬 코스 플래너 사용");
+                return planned;
+            }
         }
+        return buildTemplateCourse(context, request);
+    }
+
+    /**
+     * 템플릿 기반 코스 생성 (로컬 플래너도 실패한 경우)
+     */
+    private CourseResponse buildTemplateCourse(CoursePromptContext context, CourseGenerationRequest request) {
+        Region region = context.getRegion();
 
-        // 4. Fallback: 템플릿 기반 코스
         log.info("Fallback 템플릿 사용");
         CourseResponse templateResponse = fallbackTemplateService.getPrebuiltCourse(
                 request.getRegionId(),
                 request.getDateTypeId(),
-                candidatePlaces
+                context.getCandidatePlaces()
         );
 
         // Region 이름 추가 (템플릿에는 없음)
@@ -332,14 +549,9 @@ public class CourseService {
     }
 
     /**
-     * LLM 응답 검증
+     * LLM 응답 검증 (장소 개수, 후보 목록 포함 여부, 예산)
      */
-    private boolean validateLlmResult(
-            LlmCourseGenerationDto.CourseGenerationResult result,
-            List<Place> candidatePlaces,
-            int minBudget,
-            int maxBudget
-    ) {
+    private boolean validateLlmResult(LlmCourseGenerationDto.CourseGenerationResult result, CoursePromptContext context) {
         // 필수 필드 검증
         if (result.getPlaces() == null || result.getPlaces().isEmpty()) {
             log.warn("LLM 응답에 장소 정보 없음");
@@ -353,24 +565,20 @@ public class CourseService {
         }
 
         // 장소 ID가 후보 목록에 있는지 확인
-        List<Long> candidatePlaceIds = candidatePlaces.stream()
-                .map(Place::getId)
-                .toList();
-
+        Map<Long, Place> candidatesById = context.getCandidatesById();
         for (LlmCourseGenerationDto.PlaceInCourse place : result.getPlaces()) {
-            if (!candidatePlaceIds.contains(place.getPlaceId())) {
+            if (!candidatesById.containsKey(place.getPlaceId())) {
                 log.warn("LLM 응답에 후보 목록에 없는 장소 ID 포함: {}", place.getPlaceId());
                 return false;
             }
         }
 
-        // 예산 범위 검증 (±20% 허용)
-        if (result.getTotalBudget() != null) {
-            int adjustedMaxBudget = (int) (maxBudget * 1.2);
-            if (result.getTotalBudget() > adjustedMaxBudget) {
-                log.warn("LLM 응답 예산 초과: {}원 (최대 {}원)", result.getTotalBudget(), adjustedMaxBudget);
-                return false;
-            }
+        // 예산 범위 검증 (±20% 허용, 총 예산이 없는 compact 응답은 장소 가격 정보로 추정)
+        int totalBudget = courseDetailEnricher.estimateTotalCost(result, context);
+        int adjustedMaxBudget = (int) (context.getMaxBudget() * 1.2);
+        if (totalBudget > adjustedMaxBudget) {
+            log.warn("LLM 응답 예산 초과: {}원 (최대 {}원)", totalBudget, adjustedMaxBudget);
+            return false;
         }
 
         return true;
@@ -378,40 +586,27 @@ public class CourseService {
 
     /**
      * LLM 응답을 CourseResponse로 매핑
+     * 장소 정보는 1단계에서 조회한 후보 장소를 그대로 사용 (DB 재조회 없음)
      */
     private CourseResponse mapLlmResultToCourseResponse(
             LlmCourseGenerationDto.CourseGenerationResult result,
-            Region region,
-            DateType dateType
+            CoursePromptContext context
     ) {
+        Region region = context.getRegion();
+        DateType dateType = context.getDateType();
+        Map<Long, Place> candidatesById = context.getCandidatesById();
         String courseId = "course-" + UUID.randomUUID().toString().substring(0, 8);
 
         // Place 엔티티 정보를 포함한 PlaceInCourseDto 생성
         List<PlaceInCourseDto> places = result.getPlaces().stream()
                 .map(llmPlace -> {
-                    // Place 엔티티 조회
-                    Place place = placeRepository.findById(llmPlace.getPlaceId())
-                            .orElseThrow(() -> new IllegalArgumentException(
-                                    "장소를 찾을 수 없음: " + llmPlace.getPlaceId()));
-
-                    return PlaceInCourseDto.builder()
-                            .placeId(place.getId())
-                            .name(place.getName())
-                            .category(place.getCategory())
-                            .address(place.getAddress())
-                            .latitude(place.getLatitude())
-                            .longitude(place.getLongitude())
-                            .durationMinutes(llmPlace.getDurationMinutes())
-                            .estimatedCost(llmPlace.getEstimatedCost())
-                            .recommendedMenu(llmPlace.getRecommendedMenu())
-                            .sequence(llmPlace.getSequence())
-                            .transportToNext(llmPlace.getTransportToNext())
-                            .imageUrls(generatePlaceImageUrls(place.getCategory()))
-                            .openingHours(null) // TODO: 추후 카카오 API 또는 수동 입력으로 확장
-                            .needsReservation(null) // TODO: 추후 확장
-                            .rating(place.getRating())
-                            .reviewCount(place.getReviewCount())
-                            .build();
+                    // 후보 장소에서 조회 (검증을 통과했으므로 항상 존재)
+                    Place place = candidatesById.get(llmPlace.getPlaceId());
+                    if (place == null) {
+                        throw new IllegalArgumentException("장소를 찾을 수 없음: " + llmPlace.getPlaceId());
+                    }
+
+                    return toPlaceInCourseDto(llmPlace, place);
                 })
                 .collect(Collectors.toList());
 
@@ -430,6 +625,30 @@ public class CourseService {
                 .build();
     }
 
+    /**
+     * LLM이 선택한 장소를 Place 엔티티 정보와 합쳐 PlaceInCourseDto로 변환
+     */
+    private PlaceInCourseDto toPlaceInCourseDto(LlmCourseGenerationDto.PlaceInCourse llmPlace, Place place) {
+        return PlaceInCourseDto.builder()
+                .placeId(place.getId())
+                .name(place.getName())
+                .category(place.getCategory())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .durationMinutes(llmPlace.getDurationMinutes())
+                .estimatedCost(llmPlace.getEstimatedCost())
+                .recommendedMenu(llmPlace.getRecommendedMenu())
+                .sequence(llmPlace.getSequence())
+                .transportToNext(llmPlace.getTransportToNext())
+                .imageUrls(placeImageUrlProvider.imageUrlsFor(place))
+                .openingHours(null) // TODO: 추후 카카오 API 또는 수동 입력으로 확장
+                .needsReservation(null) // TODO: 추후 확장
+                .rating(place.getRating())
+                .reviewCount(place.getReviewCount())
+                .build();
+    }
+
     /**
      * 임시 코스 생성 (Fallback용)
      */
@@ -465,7 +684,7 @@ public class CourseService {
                     .recommendedMenu("추천 메뉴") // TODO: LLM으로 생성
                     .sequence(i + 1)
                     .transportToNext(i < numPlaces - 1 ? "도보 " + (5 + i * 5) + "분" : null)
-                    .imageUrls(generatePlaceImageUrls(place.getCategory()))
+                    .imageUrls(placeImageUrlProvider.imageUrlsFor(place))
                     .openingHours(null) // TODO: 추후 확장
                     .needsReservation(null) // TODO: 추후 확장
                     .rating(place.getRating())
@@ -490,6 +709,7 @@ public class CourseService {
 
     /**
      * 코스를 DB에 저장
+     * 장소는 이미 조회된 후보에서 온 ID이므로 SELECT 없이 참조(프록시)로 연결
      */
     @Transactional
     public Course saveCourse(CourseResponse courseResponse) {
@@ -508,8 +728,7 @@ public class CourseService {
 
         // CoursePlace 엔티티 생성 및 추가
         for (PlaceInCourseDto placeDto : courseResponse.getPlaces()) {
-            Place place = placeRepository.findById(placeDto.getPlaceId())
-                    .orElseThrow(() -> new IllegalArgumentException("장소를 찾을 수 없음: " + placeDto.getPlaceId()));
+            Place place = placeRepository.getReferenceById(placeDto.getPlaceId());
 
             CoursePlace coursePlace = CoursePlace.builder()
                     .place(place)
@@ -560,7 +779,7 @@ public class CourseService {
                         .recommendedMenu(cp.getRecommendedMenu())
                         .sequence(cp.getSequence())
                         .transportToNext(cp.getTransportToNext())
-                        .imageUrls(generatePlaceImageUrls(cp.getPlace().getCategory()))
+                        .imageUrls(placeImageUrlProvider.imageUrlsFor(cp.getPlace()))
                         .openingHours(null) // TODO: 추후 확장
                         .needsReservation(null) // TODO: 추후 확장
                         .rating(cp.getPlace().getRating())
@@ -629,15 +848,20 @@ public class CourseService {
             }
 
             courseRepository.save(newCourse);
+            publishCourseCreated(newCourse);
             log.info("코스 복사 및 저장 완료 - 원본: {}, 복사본: {}, 사용자: {}",
                     courseId, newCourse.getCourseId(), userId);
             return;
         }
 
         // 같은 사용자이거나 비로그인 코스면 userId 업데이트
+        boolean wasDraft = course.getStatus() == com.ddalkkak.date.entity.CourseStatus.DRAFT;
         course.setUserId(userId);
         course.setStatus(com.ddalkkak.date.entity.CourseStatus.SAVED); // 저장 상태로 변경
         courseRepository.save(course);
+        if (wasDraft) {
+            publishCourseCreated(course);
+        }
         log.info("코스 저장 완료 - 코스 ID: {}, 사용자: {}", courseId, userId);
     }
 
@@ -653,6 +877,9 @@ public class CourseService {
 
         // 1. userId가 없으면 저장 (DRAFT → SAVED)
         if (course.getUserId() == null) {
+            if (course.getStatus() == com.ddalkkak.date.entity.CourseStatus.DRAFT) {
+                publishCourseCreated(course);
+            }
             course.setUserId(userId);
             course.setStatus(com.ddalkkak.date.entity.CourseStatus.SAVED);
         }
@@ -685,6 +912,7 @@ public class CourseService {
             }
 
             courseRepository.save(newCourse);
+            publishCourseCreated(newCourse);
             log.info("코스 복사 및 확정 완료 - 원본: {}, 복사본: {}, 사용자: {}",
                     courseId, newCourse.getCourseId(), userId);
 
@@ -710,54 +938,7 @@ public class CourseService {
     public List<CourseResponse> getSavedCourses(String userId) {
         List<Course> courses = courseRepository.findByUserIdOrderByCreatedAtDesc(userId);
 
-        return courses.stream()
-                .map(course -> {
-                    // Region 조회
-                    Region region = regionRepository.findById(course.getRegionId())
-                            .orElseThrow(() -> new IllegalArgumentException("지역을 찾을 수 없음: " + course.getRegionId()));
-
-                    // DateType 파싱
-                    DateType dateType = DateType.fromId(course.getDateTypeId());
-
-                    // CoursePlace -> PlaceInCourseDto 변환
-                    List<PlaceInCourseDto> places = course.getCoursePlaces().stream()
-                            .map(cp -> PlaceInCourseDto.builder()
-                                    .placeId(cp.getPlace().getId())
-                                    .name(cp.getPlace().getName())
-                                    .category(cp.getPlace().getCategory())
-                                    .address(cp.getPlace().getAddress())
-                                    .latitude(cp.getPlace().getLatitude())
-                                    .longitude(cp.getPlace().getLongitude())
-                                    .durationMinutes(cp.getDurationMinutes())
-                                    .estimatedCost(cp.getEstimatedCost())
-                                    .recommendedMenu(cp.getRecommendedMenu())
-                                    .sequence(cp.getSequence())
-                                    .transportToNext(cp.getTransportToNext())
-                                    .imageUrls(generatePlaceImageUrls(cp.getPlace().getCategory()))
-                                    .openingHours(null)
-                                    .needsReservation(null)
-                                    .rating(cp.getPlace().getRating())
-                                    .reviewCount(cp.getPlace().getReviewCount())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    // CourseResponse 생성
-                    return CourseResponse.builder()
-                            .courseId(course.getCourseId())
-                            .courseName(course.getCourseName())
-                            .regionId(course.getRegionId())
-                            .regionName(region.getName())
-                            .dateTypeId(course.getDateTypeId())
-                            .dateTypeName(dateType.getName())
-                            .totalDurationMinutes(course.getTotalDurationMinutes())
-                            .totalBudget(course.getTotalBudget())
-                            .description(course.getDescription())
-                            .places(places)
-                            .createdAt(course.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli())
-                            .rating(course.getRating())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toSavedCourseResponses(courses);
     }
 
     /**
@@ -773,106 +954,126 @@ public class CourseService {
             courses = courseRepository.findByUserIdOrderByCreatedAtDesc(userId);
         }
 
-        return courses.stream()
-                .map(course -> {
-                    // Region 조회
-                    Region region = regionRepository.findById(course.getRegionId())
-                            .orElseThrow(() -> new IllegalArgumentException("지역을 찾을 수 없음: " + course.getRegionId()));
-
-                    // DateType 파싱
-                    DateType dateType = DateType.fromId(course.getDateTypeId());
-
-                    // CoursePlace -> PlaceInCourseDto 변환
-                    List<PlaceInCourseDto> places = course.getCoursePlaces().stream()
-                            .map(cp -> PlaceInCourseDto.builder()
-                                    .placeId(cp.getPlace().getId())
-                                    .name(cp.getPlace().getName())
-                                    .category(cp.getPlace().getCategory())
-                                    .address(cp.getPlace().getAddress())
-                                    .latitude(cp.getPlace().getLatitude())
-                                    .longitude(cp.getPlace().getLongitude())
-                                    .durationMinutes(cp.getDurationMinutes())
-                                    .estimatedCost(cp.getEstimatedCost())
-                                    .recommendedMenu(cp.getRecommendedMenu())
-                                    .sequence(cp.getSequence())
-                                    .transportToNext(cp.getTransportToNext())
-                                    .imageUrls(generatePlaceImageUrls(cp.getPlace().getCategory()))
-                                    .openingHours(null)
-                                    .needsReservation(null)
-                                    .rating(cp.getPlace().getRating())
-                                    .reviewCount(cp.getPlace().getReviewCount())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    // CourseResponse 생성
-                    return CourseResponse.builder()
-                            .courseId(course.getCourseId())
-                            .courseName(course.getCourseName())
-                            .regionId(course.getRegionId())
-                            .regionName(region.getName())
-                            .dateTypeId(course.getDateTypeId())
-                            .dateTypeName(dateType.getName())
-                            .totalDurationMinutes(course.getTotalDurationMinutes())
-                            .totalBudget(course.getTotalBudget())
-                            .description(course.getDescription())
-                            .places(places)
-                            .createdAt(course.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli())
-                            .rating(course.getRating())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toSavedCourseResponses(courses);
     }
 
     /**
-     * 장소 카테고리에 따른 기본 이미지 URL 생성 (최대 3장)
-     * TODO: 추후 실제 카카오 Place API 또는 다른 이미지 소스로 교체
+     * 사용자가 저장한 코스 목록 커서 기반 조회 (최신순, 상태 필터링)
+     * 이전 페이지 마지막 코스의 (생성 시각, ID) 다음부터 (size + 1)개만 조회하여 다음 페이지 여부 확인
+     *
+     * @param userId 사용자 ID
+     * @param status 상태 필터 (null이면 전체)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1~100)
      */
-    private List<String> generatePlaceImageUrls(String category) {
-        List<String> imageUrls = new ArrayList<>();
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CourseResponse> getSavedCoursesByCursor(String userId,
+                                                                      com.ddalkkak.date.entity.CourseStatus status,
+                                                                      String cursor, int size) {
+        if (size < 1 || size > MAX_SAVED_COURSE_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_SAVED_COURSE_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+
+        // 첫 페이지는 모든 코스보다 늦은 시각에서 시작
+        LocalDateTime lastCreatedAt = FIRST_PAGE_CREATED_AT;
+        Long lastId = Long.MAX_VALUE;
+        if (cursor != null) {
+            String[] keys = PageCursor.decode(cursor, SAVED_COURSE_CURSOR, 2);
+            try {
+                lastCreatedAt = LocalDateTime.parse(keys[0]);
+            } catch (java.time.format.DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            lastId = PageCursor.required(PageCursor.parseLong(keys[1]));
+        }
+
+        int limit = size + 1;
+        List<Course> courses = status != null
+                ? courseRepository.findSavedPageByStatus(userId, status.name(), lastCreatedAt, lastId, limit)
+                : courseRepository.findSavedPage(userId, lastCreatedAt, lastId, limit);
 
-        // 카테고리에 따른 Unsplash 이미지 (임시)
-        String query = extractImageQuery(category);
+        boolean hasNext = courses.size() > size;
+        List<Course> page = hasNext ? courses.subList(0, size) : courses;
 
-        // 최대 3장의 이미지 URL 생성
-        for (int i = 1; i <= 3; i++) {
-            imageUrls.add(String.format("https://source.unsplash.com/800x600/?%s&sig=%d", query, i));
+        String nextCursor = null;
+        if (hasNext) {
+            Course last = page.get(page.size() - 1);
+            nextCursor = PageCursor.encode(SAVED_COURSE_CURSOR, last.getCreatedAt(), last.getId());
         }
 
-        return imageUrls;
+        return CursorPageResponse.<CourseResponse>builder()
+                .content(toSavedCourseResponses(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 카테고리에서 이미지 검색 쿼리 추출
+     * 저장된 코스 목록 응답 변환 (코스마다 지역을 조회하지 않도록 목록의 지역을 한 번에 조회)
      */
-    private String extractImageQuery(String category) {
-        if (category == null) {
-            return "restaurant,cafe,seoul";
-        }
+    private List<CourseResponse> toSavedCourseResponses(List<Course> courses) {
+        Set<String> regionIds = courses.stream()
+                .map(Course::getRegionId)
+                .collect(Collectors.toSet());
+        Map<String, Region> regionsById = regionRepository.findAllById(regionIds).stream()
+                .collect(Collectors.toMap(Region::getId, region -> region));
 
-        String lowerCategory = category.toLowerCase();
-
-        // 카테고리별 이미지 쿼리 매핑
-        if (lowerCategory.contains("카페") || lowerCategory.contains("커피")) {
-            return "cafe,coffee,dessert";
-        } else if (lowerCategory.contains("음식점") || lowerCategory.contains("레스토랑")) {
-            return "restaurant,food,dining";
-        } else if (lowerCategory.contains("한식")) {
-            return "korean,food,restaurant";
-        } else if (lowerCategory.contains("양식") || lowerCategory.contains("이탈리안")) {
-            return "italian,pasta,restaurant";
-        } else if (lowerCategory.contains("일식")) {
-            return "japanese,sushi,restaurant";
-        } else if (lowerCategory.contains("중식")) {
-            return "chinese,food,restaurant";
-        } else if (lowerCategory.contains("바") || lowerCategory.contains("펍")) {
-            return "bar,pub,drinks";
-        } else if (lowerCategory.contains("갤러리") || lowerCategory.contains("박물관")) {
-            return "gallery,museum,art";
-        } else if (lowerCategory.contains("공원") || lowerCategory.contains("야경")) {
-            return "park,night,view,seoul";
-        } else {
-            return "restaurant,cafe,seoul";
-        }
+        return courses.stream()
+                .map(course -> {
+                    Region region = regionsById.get(course.getRegionId());
+                    if (region == null) {
+                        throw new IllegalArgumentException("지역을 찾을 수 없음: " + course.getRegionId());
+                    }
+                    return toSavedCourseResponse(course, region);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 코스 응답 변환 (지역명, 데이트 유형명, 장소 목록 포함)
+     */
+    private CourseResponse toSavedCourseResponse(Course course, Region region) {
+
+        // DateType 파싱
+        DateType dateType = DateType.fromId(course.getDateTypeId());
+
+        // CoursePlace -> PlaceInCourseDto 변환
+        List<PlaceInCourseDto> places = course.getCoursePlaces().stream()
+                .map(cp -> PlaceInCourseDto.builder()
+                        .placeId(cp.getPlace().getId())
+                        .name(cp.getPlace().getName())
+                        .category(cp.getPlace().getCategory())
+                        .address(cp.getPlace().getAddress())
+                        .latitude(cp.getPlace().getLatitude())
+                        .longitude(cp.getPlace().getLongitude())
+                        .durationMinutes(cp.getDurationMinutes())
+                        .estimatedCost(cp.getEstimatedCost())
+                        .recommendedMenu(cp.getRecommendedMenu())
+                        .sequence(cp.getSequence())
+                        .transportToNext(cp.getTransportToNext())
+                        .imageUrls(placeImageUrlProvider.imageUrlsFor(cp.getPlace()))
+                        .openingHours(null)
+                        .needsReservation(null)
+                        .rating(cp.getPlace().getRating())
+                        .reviewCount(cp.getPlace().getReviewCount())
+                        .build())
+                .collect(Collectors.toList());
+
+        // CourseResponse 생성
+        return CourseResponse.builder()
+                .courseId(course.getCourseId())
+                .courseName(course.getCourseName())
+                .regionId(course.getRegionId())
+                .regionName(region.getName())
+                .dateTypeId(course.getDateTypeId())
+                .dateTypeName(dateType.getName())
+                .totalDurationMinutes(course.getTotalDurationMinutes())
+                .totalBudget(course.getTotalBudget())
+                .description(course.getDescription())
+                .places(places)
+                .createdAt(course.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .rating(course.getRating())
+                .build();
     }
 
     /**
@@ -895,10 +1096,16 @@ public class CourseService {
         // 3. 기존 CoursePlaces 삭제
         course.getCoursePlaces().clear();
 
-        // 4. 새로운 CoursePlaces 추가
+        // 4. 새로운 CoursePlaces 추가 (장소는 한 번의 IN 쿼리로 조회)
+        Map<Long, Place> placesById = findPlacesByIds(request.getPlaces().stream()
+                .map(CourseUpdateRequest.PlaceUpdateDto::getPlaceId)
+                .collect(Collectors.toSet()));
+
         for (CourseUpdateRequest.PlaceUpdateDto placeDto : request.getPlaces()) {
-            Place place = placeRepository.findById(placeDto.getPlaceId())
-                    .orElseThrow(() -> new IllegalArgumentException("장소를 찾을 수 없음: " + placeDto.getPlaceId()));
+            Place place = placesById.get(placeDto.getPlaceId());
+            if (place == null) {
+                throw new IllegalArgumentException("장소를 찾을 수 없음: " + placeDto.getPlaceId());
+            }
 
             CoursePlace coursePlace = CoursePlace.builder()
                     .place(place)
@@ -953,6 +1160,14 @@ public class CourseService {
         return getCourseById(courseId);
     }
 
+    /**
+     * 장소 ID 목록을 한 번에 조회하여 ID → 장소 맵으로 반환
+     */
+    private Map<Long, Place> findPlacesByIds(Set<Long> placeIds) {
+        return placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getId, place -> place));
+    }
+
     /**
      * 동선 검증 (인접한 장소 간 이동 시간 30분 이내)
      * Haversine 공식으로 거리 계산 후 이동 시간 추정
@@ -962,7 +1177,7 @@ public class CourseService {
             CoursePlace current = coursePlaces.get(i);
             CoursePlace next = coursePlaces.get(i + 1);
 
-            double distance = calculateDistance(
+            double distance = CourseDetailEnricher.distanceKm(
                     current.getPlace().getLatitude(),
                     current.getPlace().getLongitude(),
                     next.getPlace().getLatitude(),
@@ -982,24 +1197,6 @@ public class CourseService {
         log.info("동선 검증 성공 - 모든 장소 간 이동 시간 30분 이내");
     }
 
-    /**
-     * Haversine 공식으로 두 지점 간 직선거리 계산 (km)
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371; // 지구 반지름 (km)
-
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c;
-    }
-
     /**
      * 코스 삭제
      * 사용자가 저장한 코스만 삭제 가능
@@ -1020,6 +1217,9 @@ public class CourseService {
 
         // 코스 삭제
         courseRepository.deleteByCourseIdAndUserId(courseId, userId);
+        if (course.getStatus() != com.ddalkkak.date.entity.CourseStatus.DRAFT) {
+            eventPublisher.publishEvent(new RegionCourseCountChangedEvent(course.getRegionId(), -1));
+        }
         log.info("코스 삭제 완료 - 코스 ID: {}, 사용자: {}", courseId, userId);
     }
 
@@ -1067,6 +1267,7 @@ public class CourseService {
 
         // 저장
         Course savedCourse = courseRepository.save(newCourse);
+        publishCourseCreated(savedCourse);
         log.info("코스 복사 완료 - 원본: {}, 복사본: {}, 사용자: {}",
                 courseId, newCourse.getCourseId(), userId);
 
@@ -1092,7 +1293,7 @@ public class CourseService {
                         .recommendedMenu(cp.getRecommendedMenu())
                         .sequence(cp.getSequence())
                         .transportToNext(cp.getTransportToNext())
-                        .imageUrls(generatePlaceImageUrls(cp.getPlace().getCategory()))
+                        .imageUrls(placeImageUrlProvider.imageUrlsFor(cp.getPlace()))
                         .openingHours(null)
                         .needsReservation(null)
                         .rating(cp.getPlace().getRating())
@@ -1203,7 +1404,7 @@ public class CourseService {
                         .recommendedMenu(cp.getRecommendedMenu())
                         .sequence(cp.getSequence())
                         .transportToNext(cp.getTransportToNext())
-                        .imageUrls(generatePlaceImageUrls(cp.getPlace().getCategory()))
+                        .imageUrls(placeImageUrlProvider.imageUrlsFor(cp.getPlace()))
                         .openingHours(null)
                         .needsReservation(null)
                         .rating(cp.getPlace().getRating())
@@ -1,263 +1,211 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.config.OutboundHttpClientFactory;
 import com.ddalkkak.date.dto.CoursePromptContext;
 import com.ddalkkak.date.dto.GeminiDto;
 import com.ddalkkak.date.dto.LlmCourseGenerationDto;
-import com.ddalkkak.date.entity.Place;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Google Gemini 기반 코스 생성 서비스
  */
 @Slf4j
 @Service
-public class GeminiCourseService {
+public class GeminiCourseService implements CourseLlmClient {
 
     private final WebClient webClient;
     private final String model;
     private final String apiKey;
     private final int timeoutSeconds;
-    private final ObjectMapper objectMapper;
+    private final CoursePromptCompiler promptCompiler;
+    private final LlmResponseDecoder responseDecoder;
 
     public GeminiCourseService(
             @Value("${external.gemini.api-key}") String apiKey,
             @Value("${external.gemini.api-url}") String baseUrl,
             @Value("${external.gemini.model:gemini-1.5-flash}") String model,
-            @Value("${external.gemini.timeout-seconds:10}") int timeoutSeconds
+            @Value("${external.gemini.timeout-seconds:10}") int timeoutSeconds,
+            CoursePromptCompiler promptCompiler,
+            LlmResponseDecoder responseDecoder,
+            OutboundHttpClientFactory httpClientFactory
     ) {
+        this.promptCompiler = promptCompiler;
+        this.responseDecoder = responseDecoder;
         this.apiKey = apiKey;
         this.model = model;
         this.timeoutSeconds = timeoutSeconds;
-        this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
+        this.webClient = httpClientFactory.builder("gemini", baseUrl)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
 
         log.info("GeminiCourseService initialized - model: {}", model);
     }
 
+    @Override
+    public String getProviderName() {
+        return "gemini";
+    }
+
     /**
-     * Google Gemini를 통한 코스 생성
+     * Google Gemini를 통한 코스 생성 (논블로킹)
      *
      * @param context 프롬프트 컨텍스트
-     * @return 코스 생성 결과
+     * @return 코스 생성 결과 (실패 시 빈 Mono)
      */
-    public LlmCourseGenerationDto.CourseGenerationResult generateCourse(CoursePromptContext context) {
-        log.info("Gemini 코스 생성 시작 - 지역: {}, 데이트 유형: {}, 후보 장소 수: {}",
+    @Override
+    public Mono<LlmCourseGenerationDto.CourseGenerationResult> generateCourseAsync(CoursePromptContext context) {
+        return Mono.defer(() -> {
+            log.info("Gemini 코스 생성 시작 - 지역: {}, 데이트 유형: {}, 후보 장소 수: {}",
+                    context.getRegion().getName(),
+                    context.getDateType().getName(),
+                    context.getCandidatePlaces().size());
+
+            long startTime = System.currentTimeMillis();
+
+            // API 키를 URI에 포함
+            String uri = String.format("/v1beta/models/%s:generateContent?key=%s", model, apiKey);
+
+            // 응답 본문을 DTO/문자열로 만들지 않고 코스 결과로 바로 디코딩
+            return responseDecoder.decode(LlmResponseDecoder.GEMINI, webClient.post()
+                            .uri(uri)
+                            .bodyValue(buildRequest(context))
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class))
+                    .timeout(Duration.ofSeconds(timeoutSeconds))
+                    .doOnNext(result -> log.info("Gemini 코스 생성 성공 - 소요 시간: {}ms",
+                            System.currentTimeMillis() - startTime))
+                    .onErrorResume(error -> {
+                        log.error("Gemini 코스 생성 실패 - 소요 시간: {}ms, 에러: {}",
+                                System.currentTimeMillis() - startTime, error.getMessage());
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    /**
+     * Google Gemini 스트리밍 API를 통한 코스 생성
+     * streamGenerateContent(SSE)로 받은 텍스트 조각을 증분 파싱하여
+     * places 배열의 장소가 완성될 때마다 콜백으로 전달
+     *
+     * @param context 프롬프트 컨텍스트
+     * @param onPlace 장소 완성 콜백 (스트리밍 스레드에서 호출)
+     * @return 전체 코스 생성 결과 (스트림 실패, 잘림 또는 파싱 실패 시 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult generateCourseStreaming(
+            CoursePromptContext context,
+            Consumer<LlmCourseGenerationDto.PlaceInCourse> onPlace
+    ) {
+        log.info("Gemini 스트리밍 코스 생성 시작 - 지역: {}, 데이트 유형: {}, 후보 장소 수: {}",
                 context.getRegion().getName(),
                 context.getDateType().getName(),
                 context.getCandidatePlaces().size());
 
         long startTime = System.currentTimeMillis();
+        StreamingCourseJsonParser jsonParser = responseDecoder.newStreamingParser();
+        AtomicReference<String> finishReason = new AtomicReference<>();
+        AtomicLong firstPlaceAt = new AtomicLong();
 
         try {
-            // 시스템 + 사용자 프롬프트 통합 (Gemini는 하나의 프롬프트로 전달)
-            String combinedPrompt = buildSystemPrompt() + "\n\n" + buildCoursePrompt(context);
+            String uri = String.format("/v1beta/models/%s:streamGenerateContent?alt=sse&key=%s", model, apiKey);
 
-            // Gemini API 요청 생성
-            GeminiDto.Request request = new GeminiDto.Request(
-                    List.of(new GeminiDto.Content(
-                            "user",
-                            List.of(new GeminiDto.Part(combinedPrompt))
-                    )),
-                    new GeminiDto.GenerationConfig(0.7, 2000, "application/json")
-            );
-
-            // API 키를 URI에 포함
-            String uri = String.format("/v1beta/models/%s:generateContent?key=%s", model, apiKey);
-
-            // Gemini API 호출
-            GeminiDto.Response response = webClient.post()
+            webClient.post()
                     .uri(uri)
-                    .bodyValue(request)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(buildRequest(context))
                     .retrieve()
-                    .bodyToMono(GeminiDto.Response.class)
+                    .bodyToFlux(GeminiDto.Response.class)
+                    // 조각 사이 대기 시간 제한 (전체 생성 시간이 아님)
                     .timeout(Duration.ofSeconds(timeoutSeconds))
-                    .doOnError(error -> log.error("Gemini API 호출 실패: {}", error.getMessage()))
-                    .onErrorResume(error -> Mono.empty())
-                    .block();
-
-            if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
-                GeminiDto.Candidate candidate = response.getCandidates().get(0);
-
-                // MAX_TOKENS 에러 체크
-                if ("MAX_TOKENS".equals(candidate.getFinishReason())) {
-                    log.error("응답이 토큰 제한으로 잘렸음");
-                    return null;
-                }
-
-                String jsonResponse = candidate.getContent().getParts().get(0).getText();
-                log.debug("Gemini API 응답: {}", jsonResponse);
-
-                // 토큰 사용량 로그
-                if (response.getUsageMetadata() != null) {
-                    log.info("토큰 사용량 - Prompt: {}, Candidates: {}, Total: {}",
-                            response.getUsageMetadata().getPromptTokenCount(),
-                            response.getUsageMetadata().getCandidatesTokenCount(),
-                            response.getUsageMetadata().getTotalTokenCount());
-                }
-
-                // JSON 추출 (Gemini가 JSON 외 텍스트를 포함할 수 있음)
-                String cleanedJson = extractJsonFromResponse(jsonResponse);
+                    .doOnNext(chunk -> {
+                        if (chunk.getCandidates() == null || chunk.getCandidates().isEmpty()) {
+                            return;
+                        }
+                        GeminiDto.Candidate candidate = chunk.getCandidates().get(0);
+                        if (candidate.getFinishReason() != null) {
+                            finishReason.set(candidate.getFinishReason());
+                        }
+                        if (candidate.getContent() == null || candidate.getContent().getParts() == null) {
+                            return;
+                        }
+                        for (GeminiDto.Part part : candidate.getContent().getParts()) {
+                            List<LlmCourseGenerationDto.PlaceInCourse> places = feed(jsonParser, part.getText());
+                            for (LlmCourseGenerationDto.PlaceInCourse place : places) {
+                                firstPlaceAt.compareAndSet(0, System.currentTimeMillis());
+                                onPlace.accept(place);
+                            }
+                        }
+                    })
+                    .blockLast();
+
+            if ("MAX_TOKENS".equals(finishReason.get())) {
+                log.error("스트리밍 응답이 토큰 제한으로 잘렸음");
+                return null;
+            }
 
-                // JSON 파싱
-                LlmCourseGenerationDto.CourseGenerationResult result = parseJsonResponse(cleanedJson);
+            if (!jsonParser.isComplete()) {
+                log.warn("Gemini 스트리밍 응답이 완결되지 않음");
+                return null;
+            }
 
-                long duration = System.currentTimeMillis() - startTime;
-                log.info("Gemini 코스 생성 성공 - 소요 시간: {}ms", duration);
+            LlmCourseGenerationDto.CourseGenerationResult result =
+                    responseDecoder.decodeCourseJson(jsonParser.getRawJson());
 
-                return result;
+            // compact 출력 형식은 places 배열이 없으므로 완료 후 한 번에 전달 (응답이 짧아 지연이 거의 없음)
+            if (result != null && firstPlaceAt.get() == 0 && result.getPlaces() != null) {
+                firstPlaceAt.set(System.currentTimeMillis());
+                result.getPlaces().forEach(onPlace);
             }
 
-            log.warn("Gemini API 응답이 비어있음");
-            return null;
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Gemini 스트리밍 코스 생성 성공 - 첫 장소: {}ms, 전체 소요 시간: {}ms",
+                    firstPlaceAt.get() > 0 ? firstPlaceAt.get() - startTime : -1, duration);
+
+            return result;
 
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
-            log.error("Gemini 코스 생성 실패 - 소요 시간: {}ms, 에러: {}", duration, e.getMessage(), e);
+            log.error("Gemini 스트리밍 코스 생성 실패 - 소요 시간: {}ms, 에러: {}", duration, e.getMessage());
             return null;
         }
     }
 
     /**
-     * 응답에서 JSON 추출 (안전장치)
+     * 증분 파서에 조각 공급 (형식 오류는 스트림 중단으로 전파)
      */
-    private String extractJsonFromResponse(String response) {
-        int start = response.indexOf('{');
-        int end = response.lastIndexOf('}');
-        if (start >= 0 && end >= 0 && end > start) {
-            return response.substring(start, end + 1);
+    private List<LlmCourseGenerationDto.PlaceInCourse> feed(StreamingCourseJsonParser jsonParser, String text) {
+        try {
+            return jsonParser.feed(text);
+        } catch (IOException e) {
+            throw new IllegalStateException("스트리밍 JSON 파싱 실패: " + e.getMessage(), e);
         }
-        return response;
     }
 
     /**
-     * 시스템 프롬프트 생성
+     * Gemini API 요청 생성
+     * 시스템 + 사용자 프롬프트 통합 (Gemini는 하나의 프롬프트로 전달)
      */
-    private String buildSystemPrompt() {
-        return """
-                당신은 서울 지역 Z세대 커플을 위한 데이트 코스 추천 전문가입니다.
-                사용자가 선택한 지역, 데이트 유형, 예산에 맞춰 2-3개 장소로 구성된 최적의 코스를 추천합니다.
-
-                핵심 원칙:
-                1. 반드시 제공된 후보 장소 목록에서만 선택
-                2. 동선 최적화: 이동 거리/시간 최소화
-                3. 예산 준수: 총 예산 범위 내 (±10% 허용)
-                4. 데이트 유형에 맞는 분위기 및 순서
-                5. 총 소요 시간: 2-4시간 권장
-
-                응답 형식: 반드시 JSON 형식만 사용
-                """;
-    }
-
-    /**
-     * 사용자 프롬프트 생성
-     */
-    private String buildCoursePrompt(CoursePromptContext context) {
-        // 후보 장소 정보를 JSON 배열 형태로 변환
-        String candidatePlacesJson = context.getCandidatePlaces().stream()
-                .map(this::placeToJsonString)
-                .collect(Collectors.joining(",\n  "));
-
-        return String.format("""
-                지역: %s
-                데이트 유형: %s (%s)
-                예산 범위: %,d원 - %,d원
-
-                후보 장소 목록 (%d곳):
-                [
-                  %s
-                ]
-
-                요구사항:
-                - 위 후보 장소 중 2-3개 선택 (place_id를 정확히 사용)
-                - 각 장소의 예상 소요 시간과 비용 제시
-                - 추천 메뉴/활동을 구체적으로 작성
-                - 이동 수단과 시간 안내 (도보, 택시, 대중교통 등)
-                - 동선을 고려한 순서 배치 (위도/경도 정보 활용)
-
-                JSON 응답 스키마:
-                {
-                  "course_name": "코스 이름 (예: 홍대 감성 카페 데이트)",
-                  "description": "코스 설명 (2-3 문장, 전체적인 분위기와 특징)",
-                  "total_duration_minutes": 180,
-                  "total_budget": 75000,
-                  "places": [
-                    {
-                      "place_id": "장소 ID (반드시 후보 목록의 id 사용)",
-                      "sequence": 1,
-                      "duration_minutes": 90,
-                      "estimated_cost": 40000,
-                      "recommended_menu": "추천 메뉴 또는 활동",
-                      "recommendation_reason": "이 장소를 선택한 이유 (1-2 문장)",
-                      "transport_to_next": "다음 장소로 이동 방법 (예: 도보 5분)"
-                    }
-                  ]
-                }
-                """,
-                context.getRegion().getName(),
-                context.getDateType().getName(),
-                context.getDateType().getDescription(),
-                context.getMinBudget(),
-                context.getMaxBudget(),
-                context.getCandidatePlaces().size(),
-                candidatePlacesJson
+    private GeminiDto.Request buildRequest(CoursePromptContext context) {
+        String combinedPrompt = promptCompiler.compile(context).combined();
+
+        return new GeminiDto.Request(
+                List.of(new GeminiDto.Content(
+                        "user",
+                        List.of(new GeminiDto.Part(combinedPrompt))
+                )),
+                new GeminiDto.GenerationConfig(0.7, promptCompiler.maxOutputTokens(), "application/json")
         );
     }
-
-    /**
-     * Place 엔티티를 JSON 문자열로 변환
-     */
-    private String placeToJsonString(Place place) {
-        return String.format(
-                "{ \"id\": %d, \"name\": \"%s\", \"category\": \"%s\", \"rating\": %.1f, \"review_count\": %d, \"price_range\": \"%s\", \"address\": \"%s\", \"latitude\": %.6f, \"longitude\": %.6f }",
-                place.getId(),
-                escapeJson(place.getName()),
-                escapeJson(place.getCategory()),
-                place.getRating() != null ? place.getRating() : 0.0,
-                place.getReviewCount() != null ? place.getReviewCount() : 0,
-                escapeJson(place.getPriceRange() != null ? place.getPriceRange() : "정보 없음"),
-                escapeJson(place.getAddress()),
-                place.getLatitude() != null ? place.getLatitude() : 0.0,
-                place.getLongitude() != null ? place.getLongitude() : 0.0
-        );
-    }
-
-    /**
-     * JSON 문자열 이스케이프
-     */
-    private String escapeJson(String str) {
-        if (str == null) {
-            return "";
-        }
-        return str.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
-
-    /**
-     * Gemini 응답 JSON 파싱
-     */
-    private LlmCourseGenerationDto.CourseGenerationResult parseJsonResponse(String jsonResponse) {
-        try {
-            return objectMapper.readValue(jsonResponse, LlmCourseGenerationDto.CourseGenerationResult.class);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 파싱 실패: {}", e.getMessage());
-            log.debug("원본 JSON: {}", jsonResponse);
-            return null;
-        }
-    }
 }
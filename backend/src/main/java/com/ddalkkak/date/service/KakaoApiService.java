@@ -1,5 +1,6 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.config.OutboundHttpClientFactory;
 import com.ddalkkak.date.dto.KakaoOAuth2UserInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,9 +20,8 @@ public class KakaoApiService {
     private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
     private final WebClient webClient;
 
-    public KakaoApiService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://kapi.kakao.com")
+    public KakaoApiService(OutboundHttpClientFactory httpClientFactory) {
+        this.webClient = httpClientFactory.builder("kakao-api", "https://kapi.kakao.com")
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.config.OutboundHttpClientFactory;
 import com.ddalkkak.date.dto.KakaoPlaceDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,11 +20,11 @@ public class KakaoLocalApiService {
 
     public KakaoLocalApiService(
             @Value("${external.kakao.api-key}") String apiKey,
-            @Value("${external.kakao.local-api-url}") String baseUrl
+            @Value("${external.kakao.local-api-url}") String baseUrl,
+            OutboundHttpClientFactory httpClientFactory
     ) {
         this.apiKey = apiKey;
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
+        this.webClient = httpClientFactory.builder("kakao-local", baseUrl)
                 .defaultHeader("Authorization", "KakaoAK " + apiKey)
                 .build();
     }
@@ -46,6 +47,22 @@ public class KakaoLocalApiService {
             Integer radius,
             Integer page,
             Integer size
+    ) {
+        return searchPlacesByCategoryAsync(categoryGroupCode, x, y, radius, page, size).block();
+    }
+
+    /**
+     * 카테고리로 장소 검색 (논블로킹)
+     *
+     * @return 장소 검색 결과 (호출 실패 시 빈 Mono)
+     */
+    public Mono<KakaoPlaceDto.Response> searchPlacesByCategoryAsync(
+            String categoryGroupCode,
+            String x,
+            String y,
+            Integer radius,
+            Integer page,
+            Integer size
     ) {
         log.debug("Kakao Local API - 카테고리 검색: category={}, x={}, y={}, radius={}, page={}, size={}",
                 categoryGroupCode, x, y, radius, page, size);
@@ -63,8 +80,7 @@ public class KakaoLocalApiService {
                 .retrieve()
                 .bodyToMono(KakaoPlaceDto.Response.class)
                 .doOnError(error -> log.error("Kakao Local API 호출 실패: {}", error.getMessage()))
-                .onErrorResume(error -> Mono.empty())
-                .block();
+                .onErrorResume(error -> Mono.empty());
     }
 
     /**
@@ -85,6 +101,22 @@ public class KakaoLocalApiService {
             Integer radius,
             Integer page,
             Integer size
+    ) {
+        return searchPlacesByKeywordAsync(query, x, y, radius, page, size).block();
+    }
+
+    /**
+     * 키워드로 장소 검색 (논블로킹)
+     *
+     * @return 장소 검색 결과 (호출 실패 시 빈 Mono)
+     */
+    public Mono<KakaoPlaceDto.Response> searchPlacesByKeywordAsync(
+            String query,
+            String x,
+            String y,
+            Integer radius,
+            Integer page,
+            Integer size
     ) {
         log.debug("Kakao Local API - 키워드 검색: query={}, x={}, y={}, radius={}, page={}, size={}",
                 query, x, y, radius, page, size);
@@ -102,7 +134,6 @@ public class KakaoLocalApiService {
                 .retrieve()
                 .bodyToMono(KakaoPlaceDto.Response.class)
                 .doOnError(error -> log.error("Kakao Local API 호출 실패: {}", error.getMessage()))
-                .onErrorResume(error -> Mono.empty())
-                .block();
+                .onErrorResume(error -> Mono.empty());
     }
 }
@@ -0,0 +1,263 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.LlmCircuitBreakerProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * LLM 공급자별 서킷 브레이커
+ * - CLOSED: 최근 N개 호출의 실패율 또는 지연 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN: 대기 시간 동안 호출을 즉시 건너뜀
+ * - HALF_OPEN: 대기 시간이 지나면 제한된 수의 시험 호출만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class LlmCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 상태 전이 리스너 (로그, 메트릭)
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(String provider, State from, State to);
+    }
+
+    private final String provider;
+    private final LlmCircuitBreakerProperties properties;
+    private final TransitionListener transitionListener;
+
+    /**
+     * 현재 시각 (밀리초, OPEN 대기 시간 계산용)
+     */
+    private final LongSupplier clock;
+
+    /**
+     * 최근 호출 결과 링 버퍼 (실패 여부 / 지연 여부)
+     */
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int bufferedCalls;
+    private int failureCount;
+    private int slowCallCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long notPermittedCalls;
+
+    LlmCircuitBreaker(String provider, LlmCircuitBreakerProperties properties, TransitionListener transitionListener) {
+        this(provider, properties, transitionListener, System::currentTimeMillis);
+    }
+
+    LlmCircuitBreaker(String provider, LlmCircuitBreakerProperties properties, TransitionListener transitionListener,
+                      LongSupplier clock) {
+        this.provider = provider;
+        this.properties = properties;
+        this.transitionListener = transitionListener;
+        this.clock = clock;
+        this.failures = new boolean[properties.getWindowSize()];
+        this.slowCalls = new boolean[properties.getWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (허용된 경우 반드시 onSuccess/onFailure/onCancelled 중 하나로 결과를 알려야 함)
+     */
+    public boolean tryAcquirePermission() {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAt < properties.getOpenDurationMs()) {
+                    notPermittedCalls++;
+                    return false;
+                }
+                moveTo(State.HALF_OPEN);
+                halfOpenPermits = properties.getHalfOpenPermittedCalls();
+                halfOpenSuccesses = 0;
+            }
+            if (halfOpenPermits <= 0) {
+                notPermittedCalls++;
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        notify(from, State.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * 호출 성공 (응답 수신)
+     *
+     * @param latencyMs 응답 시간
+     */
+    public void onSuccess(long latencyMs) {
+        record(false, latencyMs);
+    }
+
+    /**
+     * 호출 실패 (에러, 타임아웃, 빈 응답)
+     *
+     * @param latencyMs 실패까지 걸린 시간
+     */
+    public void onFailure(long latencyMs) {
+        record(true, latencyMs);
+    }
+
+    /**
+     * 호출 취소 (헤징 패배 등) - 결과에 반영하지 않고 시험 호출 허용 수만 반환
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * 강제 CLOSED (관리자 리셋)
+     */
+    public void reset() {
+        State from;
+        synchronized (this) {
+            from = state;
+            clearWindow();
+            moveTo(State.CLOSED);
+        }
+        notify(from, State.CLOSED);
+    }
+
+    /**
+     * 강제 OPEN (관리자 차단, 대기 시간 후 HALF_OPEN으로 시험 호출)
+     */
+    public void forceOpen() {
+        State from;
+        synchronized (this) {
+            from = state;
+            open();
+        }
+        notify(from, State.OPEN);
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+                provider,
+                state,
+                bufferedCalls,
+                bufferedCalls == 0 ? 0.0 : (double) failureCount / bufferedCalls,
+                bufferedCalls == 0 ? 0.0 : (double) slowCallCount / bufferedCalls,
+                notPermittedCalls,
+                state == State.CLOSED ? null : openedAt
+        );
+    }
+
+    private void record(boolean failure, long latencyMs) {
+        boolean slow = latencyMs >= properties.getSlowCallThresholdMs();
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (failure || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= properties.getHalfOpenPermittedCalls()) {
+                    clearWindow();
+                    moveTo(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                append(failure, slow);
+                if (bufferedCalls >= properties.getMinimumCalls() && exceedsThreshold()) {
+                    open();
+                }
+            }
+            // OPEN 상태에서 늦게 도착한 결과는 무시
+            to = state;
+        }
+        notify(from, to);
+    }
+
+    private boolean exceedsThreshold() {
+        return (double) failureCount / bufferedCalls >= properties.getFailureRateThreshold()
+                || (double) slowCallCount / bufferedCalls >= properties.getSlowCallRateThreshold();
+    }
+
+    private void append(boolean failure, boolean slow) {
+        if (bufferedCalls == failures.length) {
+            if (failures[next]) {
+                failureCount--;
+            }
+            if (slowCalls[next]) {
+                slowCallCount--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        failures[next] = failure;
+        slowCalls[next] = slow;
+        if (failure) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCallCount++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private void clearWindow() {
+        next = 0;
+        bufferedCalls = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        halfOpenPermits = 0;
+        moveTo(State.OPEN);
+    }
+
+    private void moveTo(State to) {
+        state = to;
+    }
+
+    private void notify(State from, State to) {
+        if (from != to && transitionListener != null) {
+            transitionListener.onTransition(provider, from, to);
+        }
+    }
+
+    /**
+     * 서킷 브레이커 상태 스냅샷
+     *
+     * @param provider          공급자 이름
+     * @param state             현재 상태
+     * @param bufferedCalls     윈도우에 기록된 호출 수
+     * @param failureRate       실패율 (0.0 ~ 1.0)
+     * @param slowCallRate      지연 호출 비율 (0.0 ~ 1.0)
+     * @param notPermittedCalls 건너뛴 호출 누적 수
+     * @param openedAt          마지막 OPEN 시각 (CLOSED이면 null)
+     */
+    public record Snapshot(
+            String provider,
+            State state,
+            int bufferedCalls,
+            double failureRate,
+            double slowCallRate,
+            long notPermittedCalls,
+            Long openedAt
+    ) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.LlmCircuitBreakerProperties;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * LLM 공급자별 서킷 브레이커 레지스트리
+ * CourseLlmClient 빈마다 서킷 브레이커를 하나씩 만들고, 호출을 감싸 결과를 기록
+ * OPEN 상태의 공급자는 네트워크 호출 없이 즉시 null을 반환하여 다음 Fallback으로 넘어감
+ * 공급자별 동시 호출 수도 제한 (벌크헤드): 가상 스레드 모드처럼 스레드 수가 상한 역할을 못 할 때
+ * 한 공급자에 요청이 몰려도 한도를 넘는 호출은 대기 없이 다음 Fallback으로 넘어감
+ */
+@Slf4j
+@Component
+public class LlmCircuitBreakerRegistry {
+
+    private final LlmCircuitBreakerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LlmCircuitBreaker> breakers = new LinkedHashMap<>();
+
+    /**
+     * 공급자별 동시 호출 허용 수 (한도 0 이하면 제한 없음 → 비어 있음)
+     */
+    private final Map<String, Semaphore> bulkheads = new HashMap<>();
+
+    public LlmCircuitBreakerRegistry(
+            List<CourseLlmClient> clients,
+            LlmCircuitBreakerProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${llm.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls
+    ) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (CourseLlmClient client : clients) {
+            String provider = client.getProviderName();
+            LlmCircuitBreaker breaker = new LlmCircuitBreaker(provider, properties, this::onTransition);
+            breakers.put(provider, breaker);
+
+            Gauge.builder("llm.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .tag("provider", provider)
+                    .register(meterRegistry);
+
+            if (maxConcurrentCalls > 0) {
+                Semaphore bulkhead = new Semaphore(maxConcurrentCalls);
+                bulkheads.put(provider, bulkhead);
+                Gauge.builder("llm.bulkhead.active", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+                        .description("진행 중인 공급자 호출 수")
+                        .tag("provider", provider)
+                        .register(meterRegistry);
+            }
+        }
+
+        log.info("LLM 서킷 브레이커 초기화 - 공급자: {}, 공급자별 동시 호출 한도: {}",
+                breakers.keySet(), maxConcurrentCalls > 0 ? maxConcurrentCalls : "없음");
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 코스 생성
+     *
+     * @return 코스 생성 결과 (서킷 OPEN, 실패 또는 빈 응답 시 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult call(CourseLlmClient client, CoursePromptContext context) {
+        return callAsync(client, context).block();
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 코스 생성 (논블로킹)
+     * 값 방출은 성공, 빈 완료와 에러는 실패, 구독 취소(헤징 패배)는 취소로 기록
+     *
+     * @return 코스 생성 결과 (서킷 OPEN, 실패 또는 빈 응답 시 빈 Mono)
+     */
+    public Mono<LlmCourseGenerationDto.CourseGenerationResult> callAsync(
+            CourseLlmClient client,
+            CoursePromptContext context
+    ) {
+        String provider = client.getProviderName();
+        LlmCircuitBreaker breaker = get(provider);
+        Semaphore bulkhead = bulkheads.get(provider);
+
+        return Mono.defer(() -> {
+            if (!tryEnterBulkhead(provider, bulkhead)) {
+                return Mono.empty();
+            }
+            Mono<LlmCourseGenerationDto.CourseGenerationResult> call = properties.isEnabled()
+                    ? guardAsync(provider, breaker, client.generateCourseAsync(context))
+                    : client.generateCourseAsync(context);
+            return bulkhead != null ? call.doFinally(signal -> bulkhead.release()) : call;
+        });
+    }
+
+    /**
+     * 서킷 브레이커 허용 여부 확인 후 호출 결과 기록
+     */
+    private Mono<LlmCourseGenerationDto.CourseGenerationResult> guardAsync(
+            String provider,
+            LlmCircuitBreaker breaker,
+            Mono<LlmCourseGenerationDto.CourseGenerationResult> call
+    ) {
+        if (!breaker.tryAcquirePermission()) {
+            log.info("{} 서킷 OPEN, 호출 건너뜀", provider);
+            meterRegistry.counter("llm.circuit.not_permitted", "provider", provider).increment();
+            return Mono.empty();
+        }
+
+        long startTime = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean();
+        return call
+                .doOnNext(result -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        breaker.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                    }
+                })
+                .doFinally(signal -> {
+                    if (!recorded.compareAndSet(false, true)) {
+                        return;
+                    }
+                    if (signal == SignalType.CANCEL) {
+                        breaker.onCancelled();
+                    } else {
+                        breaker.onFailure(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                    }
+                });
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 임의의 공급자 호출 수행 (스트리밍 등)
+     * null 반환과 예외는 실패로, 인터럽트(작업 취소)는 취소로 기록
+     *
+     * @return 호출 결과 (서킷 OPEN 시 호출하지 않고 null)
+     */
+    public <T> T call(String provider, Supplier<T> supplier) {
+        LlmCircuitBreaker breaker = get(provider);
+        Semaphore bulkhead = bulkheads.get(provider);
+
+        if (!tryEnterBulkhead(provider, bulkhead)) {
+            return null;
+        }
+        try {
+            return properties.isEnabled() ? guard(provider, breaker, supplier) : supplier.get();
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private <T> T guard(String provider, LlmCircuitBreaker breaker, Supplier<T> supplier) {
+        if (!breaker.tryAcquirePermission()) {
+            log.info("{} 서킷 OPEN, 호출 건너뜀", provider);
+            meterRegistry.counter("llm.circuit.not_permitted", "provider", provider).increment();
+            return null;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            T result = supplier.get();
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            if (Thread.currentThread().isInterrupted()) {
+                breaker.onCancelled();
+            } else if (result == null) {
+                breaker.onFailure(latencyMs);
+            } else {
+                breaker.onSuccess(latencyMs);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            breaker.onFailure(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            throw e;
+        }
+    }
+
+    /**
+     * 벌크헤드 진입 (한도 초과 시 대기하지 않고 거부, 서킷 브레이커 통계에는 반영하지 않음)
+     */
+    private boolean tryEnterBulkhead(String provider, Semaphore bulkhead) {
+        if (bulkhead == null || bulkhead.tryAcquire()) {
+            return true;
+        }
+        log.warn("{} 동시 호출 한도 초과, 호출 건너뜀", provider);
+        meterRegistry.counter("llm.bulkhead.rejected", "provider", provider).increment();
+        return false;
+    }
+
+    /**
+     * 공급자 이름으로 서킷 브레이커 조회
+     */
+    public LlmCircuitBreaker get(String provider) {
+        LlmCircuitBreaker breaker = breakers.get(provider);
+        if (breaker == null) {
+            throw new IllegalArgumentException("존재하지 않는 LLM 공급자: " + provider);
+        }
+        return breaker;
+    }
+
+    /**
+     * 전체 서킷 브레이커 상태
+     */
+    public List<LlmCircuitBreaker.Snapshot> snapshots() {
+        return breakers.values().stream()
+                .map(LlmCircuitBreaker::snapshot)
+                .toList();
+    }
+
+    private void onTransition(String provider, LlmCircuitBreaker.State from, LlmCircuitBreaker.State to) {
+        if (to == LlmCircuitBreaker.State.OPEN) {
+            log.warn("{} 서킷 상태 전이: {} → {}", provider, from, to);
+        } else {
+            log.info("{} 서킷 상태 전이: {} → {}", provider, from, to);
+        }
+        meterRegistry.counter("llm.circuit.transitions",
+                "provider", provider,
+                "from", from.name(),
+                "to", to.name()).increment();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ddalkkak.date.service;
+
+/**
+ * LLM 코스 생성 출력 형식
+ */
+public enum LlmOutputMode {
+
+    /**
+     * 코스 이름/설명과 장소별 소요 시간, 비용, 추천 메뉴, 이동 수단까지 LLM이 생성
+     */
+    RICH,
+
+    /**
+     * LLM은 코스 이름과 장소 ID 순서만 반환하고 나머지는 서버에서 채움 (출력 토큰 절감)
+     */
+    COMPACT;
+
+    public static LlmOutputMode fromId(String id) {
+        for (LlmOutputMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(id)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 LLM 출력 형식: " + id);
+    }
+}
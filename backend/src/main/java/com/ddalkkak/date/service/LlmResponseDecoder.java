@@ -0,0 +1,179 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LLM 응답 디코더 (모든 공급자 공용)
+ * 공급자 응답 본문(envelope)을 Jackson 스트리밍 파서로 한 번 훑으면서
+ * 코스 JSON이 담긴 문자열 값을 파서 내부 문자 버퍼에서 바로 코스 생성 결과로 파싱
+ * - 본문 전체나 텍스트 값을 String으로 만들지 않음
+ * - 코스 JSON 앞의 설명 문구는 첫 '{' 위치만 찾아 건너뛰고, 최상위 객체 뒤의 문구는 읽지 않음
+ * - 구조 오류는 발견 즉시 예외로 전파되어 Fallback이 바로 시작됨
+ */
+@Slf4j
+@Component
+public class LlmResponseDecoder {
+
+    /**
+     * 공급자별 응답 형식
+     *
+     * @param provider     공급자 이름 (로그용)
+     * @param text         코스 JSON이 담긴 문자열 값 위치
+     * @param finishReason 생성 종료 사유 위치 (없으면 null)
+     * @param usage        토큰 사용량 객체 위치
+     */
+    public record Envelope(String provider, JsonPointer text, JsonPointer finishReason, JsonPointer usage) {
+    }
+
+    public static final Envelope GEMINI = new Envelope("gemini",
+            JsonPointer.compile("/candidates/0/content/parts/0/text"),
+            JsonPointer.compile("/candidates/0/finishReason"),
+            JsonPointer.compile("/usageMetadata"));
+
+    public static final Envelope CLAUDE = new Envelope("claude",
+            JsonPointer.compile("/content/0/text"),
+            JsonPointer.compile("/stop_reason"),
+            JsonPointer.compile("/usage"));
+
+    public static final Envelope OPENAI = new Envelope("openai",
+            JsonPointer.compile("/choices/0/message/content"),
+            JsonPointer.compile("/choices/0/finish_reason"),
+            JsonPointer.compile("/usage"));
+
+    /**
+     * 출력 토큰 제한으로 응답이 잘렸음을 나타내는 종료 사유
+     */
+    private static final Set<String> TRUNCATED_REASONS = Set.of("MAX_TOKENS", "max_tokens", "length");
+
+    private final ObjectMapper objectMapper;
+    private final CoursePromptCompiler promptCompiler;
+
+    public LlmResponseDecoder(CoursePromptCompiler promptCompiler) {
+        this.promptCompiler = promptCompiler;
+        // LLM이 스키마에 없는 필드를 덧붙여도 구조가 맞으면 사용
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 응답 본문 디코딩 (논블로킹)
+     * 본문 조각을 하나의 버퍼로 모은 뒤 복사 없이 스트림으로 파싱
+     *
+     * @return 코스 생성 결과 (코스 JSON이 없거나 응답이 잘린 경우 빈 Mono, 구조 오류는 에러)
+     */
+    public Mono<LlmCourseGenerationDto.CourseGenerationResult> decode(Envelope envelope, Flux<DataBuffer> body) {
+        return DataBufferUtils.join(body)
+                .mapNotNull(buffer -> {
+                    try (InputStream in = buffer.asInputStream(true)) {
+                        return decode(envelope, in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(envelope.provider() + " 응답 파싱 실패: " + e.getMessage(), e);
+                    }
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * 응답 본문 디코딩
+     *
+     * @return 코스 생성 결과 (코스 JSON이 없거나 응답이 잘린 경우 null)
+     * @throws IOException 응답 또는 코스 JSON 구조 오류
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult decode(Envelope envelope, InputStream body) throws IOException {
+        LlmCourseGenerationDto.CourseGenerationResult result = null;
+        String finishReason = null;
+        Map<String, Object> usage = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (!token.isScalarValue()) {
+                    continue;
+                }
+                JsonPointer path = parser.getParsingContext().pathAsPointer();
+                if (token == JsonToken.VALUE_STRING && path.equals(envelope.text())) {
+                    // 문자열 값을 String으로 만들지 않고 파서 버퍼(char[])에서 바로 파싱
+                    result = decodeCourseJson(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else if (path.equals(envelope.finishReason())) {
+                    finishReason = parser.getText();
+                } else if (token.isNumeric() && envelope.usage().equals(path.head())) {
+                    if (usage == null) {
+                        usage = new LinkedHashMap<>();
+                    }
+                    usage.put(parser.currentName(), parser.getNumberValue());
+                }
+            }
+        }
+
+        if (usage != null) {
+            log.info("{} 토큰 사용량 - {}", envelope.provider(), usage);
+        }
+        if (finishReason != null && TRUNCATED_REASONS.contains(finishReason)) {
+            log.error("{} 응답이 토큰 제한으로 잘렸음", envelope.provider());
+            return null;
+        }
+        if (result == null) {
+            log.warn("{} 응답에 코스 JSON이 없음", envelope.provider());
+        }
+        return result;
+    }
+
+    /**
+     * 코스 JSON 텍스트 디코딩 (스트리밍 응답을 모두 받은 뒤의 전체 파싱 등)
+     *
+     * @return 코스 생성 결과 (JSON 객체가 없으면 null)
+     * @throws IOException 코스 JSON 구조 오류
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult decodeCourseJson(CharSequence text) throws IOException {
+        char[] chars = text.toString().toCharArray();
+        return decodeCourseJson(chars, 0, chars.length);
+    }
+
+    /**
+     * 스트리밍 응답용 증분 파서 생성 (같은 ObjectMapper 설정 공유)
+     */
+    public StreamingCourseJsonParser newStreamingParser() {
+        return new StreamingCourseJsonParser(objectMapper);
+    }
+
+    /**
+     * 문자 범위에서 첫 '{'부터 최상위 객체 하나만 파싱 (앞뒤 설명 문구와 코드 펜스 무시)
+     */
+    private LlmCourseGenerationDto.CourseGenerationResult decodeCourseJson(char[] chars, int offset, int length)
+            throws IOException {
+        int end = offset + length;
+        int start = offset;
+        while (start < end && chars[start] != '{') {
+            start++;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        try (JsonParser courseParser = objectMapper.getFactory().createParser(chars, start, end - start)) {
+            if (courseParser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(courseParser, "코스 JSON 객체가 아님");
+            }
+            return promptCompiler.readResult(objectMapper, courseParser);
+        }
+    }
+}
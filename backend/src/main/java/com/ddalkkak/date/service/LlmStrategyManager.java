@@ -2,70 +2,90 @@ package com.ddalkkak.date.service;
 
 import com.ddalkkak.date.dto.CoursePromptContext;
 import com.ddalkkak.date.dto.LlmCourseGenerationDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * LLM 전략 관리자
  * Primary (Gemini) → Fallback 1 (Claude) → Fallback 2 (Template)
+ * 헤징 모드(기본 비활성화, 유료 호출이 늘어남)에서는 Primary가 지연 시간(최근 p90) 안에 응답하지 않으면 Fallback을 병렬로 호출하고
+ * 검증을 먼저 통과한 결과를 사용 (나머지 호출은 구독 취소로 HTTP 요청, 벌크헤드 허용 수, 서킷 브레이커 시험 호출까지 반환)
+ * Fallback 체인은 Mono로 조합되어 대기 중에 스레드를 점유하지 않음
+ * 모든 호출은 공급자별 서킷 브레이커를 거치며, OPEN 상태의 공급자는 즉시 건너뜀
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LlmStrategyManager {
 
     private final GeminiCourseService geminiCourseService;
     private final ClaudeLlmService claudeLlmService;
+    private final LlmCircuitBreakerRegistry circuitBreakers;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * LLM을 통한 코스 생성 (Fallback 전략 적용)
-     *
-     * @param context 프롬프트 컨텍스트
-     * @return 코스 생성 결과 (null이면 모든 LLM 실패)
+     * Primary 응답 시간 윈도우 (헤징 지연 시간 산정용)
      */
-    public LlmCourseGenerationDto.CourseGenerationResult generateCourseWithFallback(
-            CoursePromptContext context
-    ) {
-        // 1. Primary: Google Gemini
-        log.info("Primary LLM 시도: Google Gemini");
-        try {
-            LlmCourseGenerationDto.CourseGenerationResult result =
-                    geminiCourseService.generateCourse(context);
+    private final RollingLatencyWindow primaryLatencies;
 
-            if (result != null) {
-                log.info("Gemini 코스 생성 성공");
-                return result;
-            }
+    private final Counter hedgedRequests;
+    private final Counter hedgeSkippedRequests;
 
-            log.warn("Gemini 응답이 null, Fallback으로 전환");
-        } catch (Exception e) {
-            log.warn("Gemini 코스 생성 실패, Fallback으로 전환: {}", e.getMessage());
-        }
+    @Value("${llm.hedging.enabled:false}")
+    private boolean hedgingEnabled;
 
-        // 2. Fallback 1: Claude
-        log.info("Fallback 1 시도: Claude");
-        try {
-            LlmCourseGenerationDto.CourseGenerationResult result =
-                    claudeLlmService.generateCourse(context);
+    @Value("${llm.hedging.percentile:0.9}")
+    private double hedgingPercentile;
 
-            if (result != null) {
-                log.info("Claude 코스 생성 성공");
-                return result;
-            }
+    @Value("${llm.hedging.min-samples:20}")
+    private int hedgingMinSamples;
 
-            log.warn("Claude 응답이 null, 템플릿으로 전환");
-        } catch (Exception e) {
-            log.warn("Claude 코스 생성 실패, 템플릿으로 전환: {}", e.getMessage());
-        }
+    @Value("${llm.hedging.initial-delay-ms:3000}")
+    private long hedgingInitialDelayMs;
 
-        // 3. Fallback 2: Template (CourseService에서 처리)
-        log.warn("모든 LLM 실패, 템플릿 사용 필요");
-        return null;
+    @Value("${llm.hedging.min-delay-ms:500}")
+    private long hedgingMinDelayMs;
+
+    @Value("${llm.hedging.max-delay-ms:8000}")
+    private long hedgingMaxDelayMs;
+
+    public LlmStrategyManager(
+            GeminiCourseService geminiCourseService,
+            ClaudeLlmService claudeLlmService,
+            LlmCircuitBreakerRegistry circuitBreakers,
+            MeterRegistry meterRegistry,
+            @Value("${llm.hedging.window-size:100}") int hedgingWindowSize
+    ) {
+        this.geminiCourseService = geminiCourseService;
+        this.claudeLlmService = claudeLlmService;
+        this.circuitBreakers = circuitBreakers;
+        this.meterRegistry = meterRegistry;
+        this.primaryLatencies = new RollingLatencyWindow(hedgingWindowSize);
+        this.hedgedRequests = Counter.builder("llm.hedge.requests")
+                .description("Primary 지연으로 Fallback을 병렬 호출한 요청 수")
+                .tag("outcome", "hedged")
+                .register(meterRegistry);
+        this.hedgeSkippedRequests = Counter.builder("llm.hedge.requests")
+                .description("Primary가 지연 시간 안에 응답하여 헤징하지 않은 요청 수")
+                .tag("outcome", "not_hedged")
+                .register(meterRegistry);
     }
 
     /**
      * 검증을 포함한 코스 생성 (검증 실패 시 다음 LLM으로 Fallback)
+     * 작업 스레드 전용 블로킹 버전
      *
      * @param context 프롬프트 컨텍스트
      * @param validator 검증 함수 (결과를 받아 검증, 통과하면 true)
@@ -73,29 +93,90 @@ public class LlmStrategyManager {
      */
     public LlmCourseGenerationDto.CourseGenerationResult generateCourseWithValidation(
             CoursePromptContext context,
-            java.util.function.Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
     ) {
-        // 1. Primary: Google Gemini
-        log.info("Primary LLM 시도: Google Gemini");
+        return generateCourseWithValidationAsync(context, validator).block();
+    }
+
+    /**
+     * 검증을 포함한 코스 생성 (논블로킹)
+     *
+     * @param context 프롬프트 컨텍스트
+     * @param validator 검증 함수 (결과를 받아 검증, 통과하면 true)
+     * @return 검증을 통과한 코스 생성 결과 (빈 Mono면 모든 LLM 실패 또는 검증 실패)
+     */
+    public Mono<LlmCourseGenerationDto.CourseGenerationResult> generateCourseWithValidationAsync(
+            CoursePromptContext context,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        Mono<LlmCourseGenerationDto.CourseGenerationResult> result = hedgingEnabled
+                ? generateCourseHedged(context, validator)
+                : generateCourseSequential(context, validator);
+
+        return result.switchIfEmpty(Mono.fromRunnable(
+                () -> log.warn("모든 LLM 실패 또는 검증 실패, 템플릿 사용 필요")));
+    }
+
+    /**
+     * 순차 코스 생성
+     * 1. Primary: Google Gemini → 2. Fallback 1: Claude → 3. Fallback 2: Template (CourseService에서 처리)
+     */
+    private Mono<LlmCourseGenerationDto.CourseGenerationResult> generateCourseSequential(
+            CoursePromptContext context,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        return Mono.defer(() -> {
+                    log.info("Primary LLM 시도: Google Gemini");
+                    return attempt(geminiCourseService, context, validator);
+                })
+                .filter(Attempt::valid)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Gemini 응답 검증 실패, Fallback으로 전환");
+                    log.info("Fallback 1 시도: Claude");
+                    return attempt(claudeLlmService, context, validator).filter(Attempt::valid);
+                }))
+                .map(attempt -> {
+                    log.info("{} 코스 생성 성공 및 검증 통과", attempt.provider());
+                    return attempt.result();
+                });
+    }
+
+    /**
+     * 스트리밍 코스 생성 (Gemini 스트리밍 실패 또는 검증 실패 시 Claude로 Fallback)
+     * Gemini가 이미 실패한 상황이므로 Fallback에서 Gemini를 다시 호출하지 않음
+     *
+     * @param context   프롬프트 컨텍스트
+     * @param onPlace   Gemini 스트림에서 장소가 완성될 때마다 호출되는 콜백
+     * @param validator 검증 함수 (결과를 받아 검증, 통과하면 true)
+     * @return 검증을 통과한 코스 생성 결과 (null이면 모든 LLM 실패 또는 검증 실패)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult generateCourseStreamingWithValidation(
+            CoursePromptContext context,
+            Consumer<LlmCourseGenerationDto.PlaceInCourse> onPlace,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        // 1. Primary: Google Gemini (스트리밍)
+        log.info("Primary LLM 스트리밍 시도: Google Gemini");
         try {
             LlmCourseGenerationDto.CourseGenerationResult result =
-                    geminiCourseService.generateCourse(context);
+                    circuitBreakers.call(geminiCourseService.getProviderName(),
+                            () -> geminiCourseService.generateCourseStreaming(context, onPlace));
 
             if (result != null && validator.test(result)) {
-                log.info("Gemini 코스 생성 성공 및 검증 통과");
+                log.info("Gemini 스트리밍 코스 생성 성공 및 검증 통과");
                 return result;
             }
 
-            log.warn("Gemini 응답 검증 실패, Fallback으로 전환");
+            log.warn("Gemini 스트리밍 응답 검증 실패, Fallback으로 전환");
         } catch (Exception e) {
-            log.warn("Gemini 코스 생성 실패, Fallback으로 전환: {}", e.getMessage());
+            log.warn("Gemini 스트리밍 코스 생성 실패, Fallback으로 전환: {}", e.getMessage());
         }
 
-        // 2. Fallback 1: Claude
+        // 2. Fallback 1: Claude (일괄 응답)
         log.info("Fallback 1 시도: Claude");
         try {
             LlmCourseGenerationDto.CourseGenerationResult result =
-                    claudeLlmService.generateCourse(context);
+                    circuitBreakers.call(claudeLlmService, context);
 
             if (result != null && validator.test(result)) {
                 log.info("Claude 코스 생성 성공 및 검증 통과");
@@ -111,4 +192,146 @@ public class LlmStrategyManager {
         log.warn("모든 LLM 실패 또는 검증 실패, 템플릿 사용 필요");
         return null;
     }
+
+    /**
+     * 헤징 방식 코스 생성
+     * 1) Primary 호출 후 헤징 지연 시간만큼 대기
+     * 2) 그 안에 응답이 없으면 Fallback을 병렬 호출 (Primary가 먼저 실패하면 즉시 Fallback 호출)
+     * 3) 검증을 먼저 통과한 결과를 사용하고 나머지 호출은 구독 취소
+     *
+     * @return 검증을 통과한 코스 생성 결과 (빈 Mono면 모든 LLM 실패 또는 검증 실패)
+     */
+    private Mono<LlmCourseGenerationDto.CourseGenerationResult> generateCourseHedged(
+            CoursePromptContext context,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        return Mono.defer(() -> {
+            long hedgeDelayMs = currentHedgeDelayMs();
+            AtomicBoolean hedged = new AtomicBoolean();
+
+            // Primary 결과는 승자 판정과 Fallback 트리거 양쪽에서 구독하므로 한 번만 호출하여 Sink로 공유
+            // (cache()는 원본 구독을 취소하지 않으므로, 호출 구독을 직접 보관하고 종료 시 dispose하여 패배한 호출을 취소)
+            Sinks.One<Attempt> primaryResult = Sinks.one();
+            Disposable primaryCall = attempt(geminiCourseService, context, validator)
+                    .subscribe(primaryResult::tryEmitValue);
+            Mono<Attempt> primary = primaryResult.asMono();
+
+            // Fallback 트리거: 헤징 지연 시간 경과 또는 Primary 실패 중 먼저 발생한 쪽
+            Mono<Object> hedgeDelay = Mono.delay(Duration.ofMillis(hedgeDelayMs))
+                    .doOnNext(tick -> {
+                        log.info("Primary 응답 지연 ({}ms 초과), Fallback 병렬 호출", hedgeDelayMs);
+                        hedged.set(true);
+                        hedgedRequests.increment();
+                    })
+                    .cast(Object.class);
+            Mono<Object> primaryFailed = primary
+                    .flatMap(attempt -> attempt.valid() ? Mono.<Attempt>never() : Mono.just(attempt))
+                    .doOnNext(attempt -> log.warn("Gemini 응답 검증 실패, Fallback으로 전환"))
+                    .cast(Object.class);
+            Mono<Attempt> secondary = Mono.firstWithValue(hedgeDelay, primaryFailed)
+                    .flatMap(trigger -> attempt(claudeLlmService, context, validator));
+
+            return Mono.firstWithValue(primary.filter(Attempt::valid), secondary.filter(Attempt::valid))
+                    // 승자가 나오면 결과를 넘기기 전에 진행 중인 Primary 호출 취소 (Primary가 이겼으면 이미 끝나 무시됨)
+                    .doOnNext(attempt -> primaryCall.dispose())
+                    .map(attempt -> win(attempt, hedged.get()))
+                    .onErrorResume(e -> Mono.empty())
+                    .doFinally(signal -> {
+                        // 요청 취소 등 승자 없이 끝난 경우에도 Primary 호출 정리
+                        primaryCall.dispose();
+                        if (!hedged.get()) {
+                            hedgeSkippedRequests.increment();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 공급자 한 곳에 대한 호출 및 검증 (에러와 빈 응답은 실패 결과로 변환)
+     */
+    private Mono<Attempt> attempt(
+            CourseLlmClient client,
+            CoursePromptContext context,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            AtomicBoolean completed = new AtomicBoolean();
+            return circuitBreakers.callAsync(client, context)
+                    .map(result -> {
+                        completed.set(true);
+                        recordLatency(client, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+                        boolean valid = validator.test(result);
+                        if (!valid) {
+                            log.warn("{} 응답 검증 실패", client.getProviderName());
+                        }
+                        return new Attempt(client.getProviderName(), result, valid);
+                    })
+                    .onErrorResume(e -> {
+                        log.warn("{} 코스 생성 실패: {}", client.getProviderName(), e.getMessage());
+                        return Mono.empty();
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        log.warn("{} 응답이 null", client.getProviderName());
+                        return new Attempt(client.getProviderName(), null, false);
+                    }))
+                    // 헤징에서 진 호출은 응답 전에 취소되므로, 취소 시점까지의 경과 시간을 하한 샘플로 기록
+                    // (기록하지 않으면 느린 응답만 빠져 백분위가 낮아지고 헤징 비율이 계속 올라감)
+                    .doOnCancel(() -> {
+                        if (!completed.get()) {
+                            recordCancelledLatency(client, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                        }
+                    });
+        });
+    }
+
+    private LlmCourseGenerationDto.CourseGenerationResult win(Attempt attempt, boolean hedged) {
+        log.info("{} 코스 생성 성공 및 검증 통과 (헤징: {})", attempt.provider(), hedged);
+        meterRegistry.counter("llm.hedge.wins",
+                "provider", attempt.provider(),
+                "hedged", String.valueOf(hedged)).increment();
+        return attempt.result();
+    }
+
+    private void recordLatency(CourseLlmClient client, long latencyMs) {
+        if (client == geminiCourseService) {
+            primaryLatencies.record(latencyMs);
+        }
+        Timer.builder("llm.latency")
+                .tag("provider", client.getProviderName())
+                .register(meterRegistry)
+                .record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 취소된 호출의 경과 시간 기록 (실제 응답 시간의 하한이므로 헤징 지연 산정용 윈도우에만 반영)
+     */
+    private void recordCancelledLatency(CourseLlmClient client, long elapsedMs) {
+        if (client == geminiCourseService) {
+            primaryLatencies.record(elapsedMs);
+        }
+    }
+
+    /**
+     * 헤징 지연 시간 (Primary 최근 응답 시간 백분위, 최소/최대 범위로 제한)
+     * 샘플이 충분하지 않으면 초기 지연 시간 사용
+     */
+    long currentHedgeDelayMs() {
+        if (primaryLatencies.size() < hedgingMinSamples) {
+            return hedgingInitialDelayMs;
+        }
+        long percentileMs = primaryLatencies.percentile(hedgingPercentile);
+        return Math.max(hedgingMinDelayMs, Math.min(hedgingMaxDelayMs, percentileMs));
+    }
+
+    /**
+     * 공급자 호출 결과
+     *
+     * @param provider 공급자 이름
+     * @param result   코스 생성 결과 (실패 시 null)
+     * @param valid    검증 통과 여부
+     */
+    private record Attempt(String provider, LlmCourseGenerationDto.CourseGenerationResult result, boolean valid) {
+    }
 }
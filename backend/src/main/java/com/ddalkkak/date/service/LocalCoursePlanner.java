@@ -0,0 +1,310 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 코스 플래너 (LLM 없이 결정적으로 코스 생성)
+ * 필터링된 후보 장소에서 빔 서치로 2~3곳의 방문 순서를 탐색
+ * - 장소 점수: dateScore, 평점, 데이트 유형별 방문 단계(식사 → 카페 → 야경 등) 적합도
+ * - 감점: 같은 세부 카테고리 연속 방문, 장소 간 직선거리
+ * - 제약: 구간 최대 거리, 총 예상 비용 (LLM 응답 검증과 같은 최대 예산 +20%)
+ * - 완성된 코스는 예산 범위 적합도를 더해 최고점 코스 선택 (동점이면 장소 ID 순)
+ * 후보 20곳 기준 수 ms 안에 끝나므로 LLM 대신 기본 엔진으로 쓰거나 LLM 실패 시 즉시 Fallback으로 사용
+ */
+@Slf4j
+@Component
+public class LocalCoursePlanner {
+
+    private static final int MIN_STOPS = 2;
+    private static final int MAX_STOPS = 3;
+
+    /**
+     * 장소 점수 가중치 (dateScore 10점 만점, 평점 5점 만점을 각각 0~1로 정규화)
+     */
+    private static final double DATE_SCORE_WEIGHT = 0.6;
+    private static final double RATING_WEIGHT = 0.4;
+
+    /**
+     * 방문 단계에 맞는 데이트 유형이면 가산
+     */
+    private static final double STAGE_BONUS = 0.3;
+
+    /**
+     * 직전 장소와 세부 카테고리가 같으면 감점 (한식 → 한식 등)
+     */
+    private static final double REPEATED_CATEGORY_PENALTY = 0.4;
+
+    /**
+     * 구간 거리 1km당 감점
+     */
+    private static final double DISTANCE_PENALTY_PER_KM = 0.15;
+
+    /**
+     * 총 예상 비용이 예산 범위 안이면 가산, 벗어난 비율만큼 감점
+     */
+    private static final double BUDGET_FIT_BONUS = 0.3;
+    private static final double OVER_BUDGET_PENALTY = 1.0;
+    private static final double UNDER_BUDGET_PENALTY = 0.3;
+
+    /**
+     * 코스 예산 허용 배수 (CourseService 응답 검증과 동일)
+     */
+    private static final double BUDGET_TOLERANCE = 1.2;
+
+    /**
+     * 데이트 유형별 방문 단계 (1번째, 2번째, 3번째 장소에 어울리는 유형)
+     */
+    private static final Map<DateType, List<DateType>> STAGES = new EnumMap<>(DateType.class);
+
+    static {
+        STAGES.put(DateType.DINNER, List.of(DateType.DINNER, DateType.CAFE, DateType.NIGHT));
+        STAGES.put(DateType.CAFE, List.of(DateType.CAFE, DateType.CULTURE, DateType.NIGHT));
+        STAGES.put(DateType.CULTURE, List.of(DateType.CULTURE, DateType.CAFE, DateType.DINNER));
+        STAGES.put(DateType.ACTIVITY, List.of(DateType.ACTIVITY, DateType.DINNER, DateType.CAFE));
+        STAGES.put(DateType.NIGHT, List.of(DateType.DINNER, DateType.CAFE, DateType.NIGHT));
+        STAGES.put(DateType.SPECIAL, List.of(DateType.CULTURE, DateType.DINNER, DateType.NIGHT));
+    }
+
+    private final boolean enabled;
+    private final boolean primary;
+    private final int beamWidth;
+    private final double maxLegKm;
+    private final PlaceCandidateIndex placeCandidateIndex;
+    private final CourseDetailEnricher courseDetailEnricher;
+
+    public LocalCoursePlanner(
+            @Value("${course.local-planner.enabled:true}") boolean enabled,
+            @Value("${course.local-planner.primary:false}") boolean primary,
+            @Value("${course.local-planner.beam-width:8}") int beamWidth,
+            @Value("${course.local-planner.max-leg-km:10}") double maxLegKm,
+            PlaceCandidateIndex placeCandidateIndex,
+            CourseDetailEnricher courseDetailEnricher
+    ) {
+        this.enabled = enabled;
+        this.primary = enabled && primary;
+        this.beamWidth = Math.max(1, beamWidth);
+        this.maxLegKm = maxLegKm;
+        this.placeCandidateIndex = placeCandidateIndex;
+        this.courseDetailEnricher = courseDetailEnricher;
+    }
+
+    /**
+     * Fallback으로 사용 여부 (false면 LLM 실패 시 바로 템플릿 사용)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기본 생성 엔진으로 사용 여부 (true면 LLM을 호출하지 않음)
+     */
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    /**
+     * 후보 장소로 코스 생성
+     *
+     * @param context 프롬프트 컨텍스트 (필터링된 후보 장소 포함)
+     * @return 상세 항목과 합계가 채워진 코스 (제약을 만족하는 코스가 없으면 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult plan(CoursePromptContext context) {
+        long startTime = System.nanoTime();
+
+        List<Place> candidates = context.getCandidatePlaces().stream()
+                .filter(place -> place.getId() != null)
+                .sorted(Comparator.comparing(Place::getId))
+                .collect(Collectors.toList());
+        if (candidates.size() < MIN_STOPS) {
+            log.warn("로컬 코스 플래너 후보 부족 - 후보 수: {}", candidates.size());
+            return null;
+        }
+
+        Plan best = search(candidates, context);
+        if (best == null) {
+            log.warn("로컬 코스 플래너가 제약을 만족하는 코스를 찾지 못함 - 후보 수: {}", candidates.size());
+            return null;
+        }
+
+        List<LlmCourseGenerationDto.PlaceInCourse> places = new ArrayList<>(best.stops().length);
+        List<String> names = new ArrayList<>(best.stops().length);
+        for (int i = 0; i < best.stops().length; i++) {
+            Place place = candidates.get(best.stops()[i]);
+            places.add(new LlmCourseGenerationDto.PlaceInCourse(place.getId(), i + 1, null, null, null, null, null));
+            names.add(place.getName());
+        }
+
+        LlmCourseGenerationDto.CourseGenerationResult result = courseDetailEnricher.complete(
+                new LlmCourseGenerationDto.CourseGenerationResult(
+                        null,
+                        String.join(" → ", names) + " 동선의 " + context.getDateType().getDescription() + " 코스입니다.",
+                        null,
+                        null,
+                        places
+                ),
+                context
+        );
+
+        log.info("로컬 코스 플래너 완료 - 장소 수: {}, 점수: {}, 소요 시간: {}μs",
+                places.size(), String.format("%.3f", best.score()), (System.nanoTime() - startTime) / 1000);
+
+        return result;
+    }
+
+    /**
+     * 빔 서치: 단계마다 모든 확장 중 부분 점수 상위 beamWidth개만 유지하고,
+     * 2곳 이상인 부분 코스는 예산 적합도를 더해 완성 코스 후보로 비교
+     */
+    private Plan search(List<Place> candidates, CoursePromptContext context) {
+        int n = candidates.size();
+        List<DateType> stages = STAGES.getOrDefault(context.getDateType(), List.of());
+        int costCap = (int) (context.getMaxBudget() * BUDGET_TOLERANCE);
+
+        // 장소별 점수/비용/세부 카테고리와 구간 거리는 한 번만 계산
+        double[] quality = new double[n];
+        int[] cost = new int[n];
+        String[] leafCategory = new String[n];
+        double[][] stageBonus = new double[MAX_STOPS][n];
+        for (int i = 0; i < n; i++) {
+            Place place = candidates.get(i);
+            quality[i] = qualityOf(place);
+            cost[i] = courseDetailEnricher.estimateCost(place);
+            leafCategory[i] = leafCategoryOf(place);
+            for (int stage = 0; stage < Math.min(MAX_STOPS, stages.size()); stage++) {
+                if (placeCandidateIndex.matchesDateTypeCategory(place, stages.get(stage))) {
+                    stageBonus[stage][i] = STAGE_BONUS;
+                }
+            }
+        }
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                distance[i][j] = distance[j][i] = distanceKm(candidates.get(i), candidates.get(j));
+            }
+        }
+
+        Comparator<Plan> order = Comparator.comparingDouble(Plan::score).reversed()
+                .thenComparing(Plan::stops, Arrays::compare);
+
+        List<Plan> beam = List.of(new Plan(new int[0], 0, 0));
+        Plan best = null;
+        for (int depth = 0; depth < MAX_STOPS && !beam.isEmpty(); depth++) {
+            List<Plan> expanded = new ArrayList<>();
+            for (Plan plan : beam) {
+                int last = plan.stops().length > 0 ? plan.stops()[plan.stops().length - 1] : -1;
+                for (int next = 0; next < n; next++) {
+                    if (plan.contains(next) || plan.cost() + cost[next] > costCap) {
+                        continue;
+                    }
+                    double score = plan.score() + quality[next] + stageBonus[depth][next];
+                    if (last >= 0) {
+                        if (distance[last][next] > maxLegKm) {
+                            continue;
+                        }
+                        score -= distance[last][next] * DISTANCE_PENALTY_PER_KM;
+                        if (leafCategory[last] != null && leafCategory[last].equals(leafCategory[next])) {
+                            score -= REPEATED_CATEGORY_PENALTY;
+                        }
+                    }
+                    expanded.add(plan.append(next, score, cost[next]));
+                }
+            }
+
+            expanded.sort(order);
+            beam = expanded.subList(0, Math.min(beamWidth, expanded.size()));
+
+            if (depth + 1 >= MIN_STOPS) {
+                for (Plan plan : beam) {
+                    Plan complete = plan.withScore(plan.score() + budgetFit(plan.cost(), context));
+                    if (best == null || order.compare(complete, best) < 0) {
+                        best = complete;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * dateScore와 평점 기반 장소 점수 (0~1)
+     */
+    private double qualityOf(Place place) {
+        double dateScore = place.getDateScore() != null ? place.getDateScore() / 10.0 : 0;
+        double rating = place.getRating() != null ? place.getRating() / 5.0 : 0;
+        return DATE_SCORE_WEIGHT * dateScore + RATING_WEIGHT * rating;
+    }
+
+    /**
+     * 총 예상 비용의 예산 범위 적합도
+     */
+    private double budgetFit(int totalCost, CoursePromptContext context) {
+        int minBudget = context.getMinBudget();
+        int maxBudget = context.getMaxBudget();
+        if (maxBudget > 0 && totalCost > maxBudget) {
+            return -OVER_BUDGET_PENALTY * (totalCost - maxBudget) / maxBudget;
+        }
+        if (minBudget > 0 && totalCost < minBudget) {
+            return -UNDER_BUDGET_PENALTY * (minBudget - totalCost) / minBudget;
+        }
+        return BUDGET_FIT_BONUS;
+    }
+
+    /**
+     * 카테고리 마지막 단계 ("음식점 > 한식 > 고기" → "고기")
+     */
+    private String leafCategoryOf(Place place) {
+        if (place.getCategory() == null) {
+            return null;
+        }
+        String[] parts = place.getCategory().split(">");
+        return parts[parts.length - 1].trim();
+    }
+
+    private double distanceKm(Place from, Place to) {
+        if (from.getLatitude() == null || from.getLongitude() == null
+                || to.getLatitude() == null || to.getLongitude() == null) {
+            return 0;
+        }
+        return CourseDetailEnricher.distanceKm(from.getLatitude(), from.getLongitude(),
+                to.getLatitude(), to.getLongitude());
+    }
+
+    /**
+     * 부분 코스 (후보 인덱스 순서, 누적 점수, 누적 예상 비용)
+     */
+    private record Plan(int[] stops, double score, int cost) {
+
+        boolean contains(int index) {
+            for (int stop : stops) {
+                if (stop == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Plan append(int index, double newScore, int addedCost) {
+            int[] next = Arrays.copyOf(stops, stops.length + 1);
+            next[stops.length] = index;
+            return new Plan(next, newScore, cost + addedCost);
+        }
+
+        Plan withScore(double newScore) {
+            return new Plan(stops, newScore, cost);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.MoodTag;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.MoodTagRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 무드 태그 사전 (태그 이름 ↔ ID)
+ * - 장소의 무드 태그는 사전 ID 배열(places.mood_tag_ids)로 저장하고, 응답 시 ID → 이름 배열 조회로 변환 (JSON 파싱 없음)
+ * - 태그 필터는 필요한 태그 ID를 비트셋(long 배열)으로 만들어, 장소의 태그 ID마다 비트 확인으로 판정
+ * - 최초 사용 시 사전 전체를 1회 로드하며, 새 태그는 별도 트랜잭션으로 등록 후 즉시 반영
+ * 아직 ID가 백필되지 않은 장소는 mood_tags JSON을 파싱하여 사전에 있는 태그만 사용
+ */
+@Slf4j
+@Component
+public class MoodTagDictionary {
+
+    private final MoodTagRepository moodTagRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate registerTransaction;
+
+    /**
+     * 태그 이름 → ID / ID → 태그 이름 (불변, 새 태그 등록 시 교체), 로드 전에는 null
+     */
+    private volatile Map<String, Integer> idsByName;
+    private volatile String[] namesById;
+
+    public MoodTagDictionary(MoodTagRepository moodTagRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.moodTagRepository = moodTagRepository;
+        this.objectMapper = objectMapper;
+        // 호출 측 트랜잭션이 롤백되어도 사전(메모리)과 DB가 어긋나지 않도록 등록은 별도 트랜잭션에서 커밋
+        this.registerTransaction = new TransactionTemplate(transactionManager);
+        this.registerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 태그 이름 목록을 사전 ID 배열로 변환 (처음 보는 태그는 등록)
+     *
+     * @param names 태그 이름 (앞뒤 공백 제거, 빈 값과 중복은 제외)
+     * @return 입력 순서의 태그 ID 배열 (null이면 빈 배열)
+     */
+    public int[] register(List<String> names) {
+        Set<String> normalized = normalize(names);
+        int[] ids = new int[normalized.size()];
+        int size = 0;
+        for (String name : normalized) {
+            Integer id = idsByName().get(name);
+            ids[size++] = id != null ? id : registerTag(name);
+        }
+        return ids;
+    }
+
+    /**
+     * 태그 이름 목록의 사전 ID (DB 조건용, 처음 보는 태그는 등록하지 않음)
+     *
+     * @param names 태그 이름 (앞뒤 공백 제거, 빈 값과 중복은 제외)
+     * @return 태그 ID 배열, 사전에 없는 태그가 있으면 null
+     */
+    public int[] idsOfNames(List<String> names) {
+        Map<String, Integer> dictionary = idsByName();
+        Set<String> normalized = normalize(names);
+        int[] ids = new int[normalized.size()];
+        int size = 0;
+        for (String name : normalized) {
+            Integer id = dictionary.get(name);
+            if (id == null) {
+                return null;
+            }
+            ids[size++] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * 장소의 태그 이름 목록 (ID 배열이 있으면 사전 조회, 없으면 JSON 파싱)
+     * 사전에 없는 ID(다른 인스턴스가 등록했거나 삭제된 태그)는 응답에서 제외하고 경고 로그를 남김
+     */
+    public List<String> namesOf(Place place) {
+        int[] ids = place.getMoodTagIds();
+        if (ids == null) {
+            return parseMoodTags(place.getMoodTags());
+        }
+        String[] names = namesById();
+        List<String> result = new ArrayList<>(ids.length);
+        List<Integer> unknown = null;
+        for (int id : ids) {
+            if (id >= 0 && id < names.length && names[id] != null) {
+                result.add(names[id]);
+            } else {
+                if (unknown == null) {
+                    unknown = new ArrayList<>();
+                }
+                unknown.add(id);
+            }
+        }
+        if (unknown != null) {
+            log.warn("사전에 없는 무드 태그 ID 제외 - 장소 ID: {}, 태그 ID: {}", place.getId(), unknown);
+        }
+        return result;
+    }
+
+    /**
+     * 장소의 태그 ID 배열 (ID 배열이 없으면 JSON을 파싱하여 사전에 있는 태그만 변환, 등록하지 않음)
+     */
+    public int[] idsOf(Place place) {
+        if (place.getMoodTagIds() != null) {
+            return place.getMoodTagIds();
+        }
+        Map<String, Integer> dictionary = idsByName();
+        return normalize(parseMoodTags(place.getMoodTags())).stream()
+                .map(dictionary::get)
+                .filter(id -> id != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 태그 필터 (지정한 태그를 모두 가진 장소만 통과)
+     *
+     * @param names 필터 태그 이름 (null이거나 비어 있으면 필터 없음)
+     * @return 장소 조건 (필터 없음이면 null), 사전에 없는 태그가 있으면 항상 false
+     */
+    public Predicate<Place> filter(List<String> names) {
+        Set<String> normalized = normalize(names);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Integer> dictionary = idsByName();
+        long[] required = new long[0];
+        for (String name : normalized) {
+            Integer id = dictionary.get(name);
+            if (id == null) {
+                return place -> false;
+            }
+            if ((id >>> 6) >= required.length) {
+                required = Arrays.copyOf(required, (id >>> 6) + 1);
+            }
+            required[id >>> 6] |= 1L << id;
+        }
+
+        long[] mask = required;
+        int requiredCount = normalized.size();
+        return place -> containsAll(idsOf(place), mask, requiredCount);
+    }
+
+    /**
+     * 장소 태그 중 필터 비트셋에 속한 태그 수가 필요한 태그 수와 같은지 확인
+     */
+    private static boolean containsAll(int[] placeTagIds, long[] required, int requiredCount) {
+        if (placeTagIds.length < requiredCount) {
+            return false;
+        }
+        int matched = 0;
+        for (int id : placeTagIds) {
+            int word = id >>> 6;
+            if (word < required.length && (required[word] & (1L << id)) != 0) {
+                matched++;
+            }
+        }
+        return matched == requiredCount;
+    }
+
+    /**
+     * 새 태그 등록 (별도 트랜잭션으로 커밋 후 사전 교체)
+     */
+    private synchronized int registerTag(String name) {
+        Integer existing = idsByName().get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        MoodTag tag = registerTransaction.execute(status -> {
+            moodTagRepository.insertIfAbsent(name);
+            return moodTagRepository.findByName(name)
+                    .orElseThrow(() -> new IllegalStateException("무드 태그 등록 실패: " + name));
+        });
+
+        Map<String, Integer> ids = new HashMap<>(idsByName());
+        ids.put(tag.getName(), tag.getId());
+        String[] names = namesById();
+        if (tag.getId() >= names.length) {
+            names = Arrays.copyOf(names, Math.max(tag.getId() + 1, names.length * 2));
+        } else {
+            names = names.clone();
+        }
+        names[tag.getId()] = tag.getName();
+
+        namesById = names;
+        idsByName = Collections.unmodifiableMap(ids);
+        log.info("무드 태그 등록 - ID: {}, 이름: {}", tag.getId(), tag.getName());
+        return tag.getId();
+    }
+
+    private Map<String, Integer> idsByName() {
+        ensureLoaded();
+        return idsByName;
+    }
+
+    private String[] namesById() {
+        ensureLoaded();
+        return namesById;
+    }
+
+    private void ensureLoaded() {
+        if (idsByName != null) {
+            return;
+        }
+        synchronized (this) {
+            if (idsByName != null) {
+                return;
+            }
+            List<MoodTag> tags = moodTagRepository.findAll();
+            Map<String, Integer> ids = new HashMap<>();
+            int maxId = 0;
+            for (MoodTag tag : tags) {
+                ids.put(tag.getName(), tag.getId());
+                maxId = Math.max(maxId, tag.getId());
+            }
+            String[] names = new String[maxId + 1];
+            for (MoodTag tag : tags) {
+                names[tag.getId()] = tag.getName();
+            }
+
+            namesById = names;
+            idsByName = Collections.unmodifiableMap(ids);
+            log.info("무드 태그 사전 로드 - 태그: {}", tags.size());
+        }
+    }
+
+    private static Set<String> normalize(List<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (names == null) {
+            return normalized;
+        }
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                normalized.add(name.trim());
+            }
+        }
+        return normalized;
+    }
+
+    private List<String> parseMoodTags(String moodTagsJson) {
+        if (moodTagsJson == null || moodTagsJson.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(moodTagsJson, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            log.warn("무드 태그 파싱 실패: {}", moodTagsJson, e);
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ddalkkak.date.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 불투명(opaque) 커서
+ * - 마지막 항목의 정렬 키 값을 "정렬 이름|키1|키2|..." 형태로 이어 Base64(URL-safe)로 인코딩
+ * - 정렬 이름을 함께 담아 다른 정렬 기준으로 만든 커서는 거부
+ * - null 키는 빈 문자열로 저장
+ */
+final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    /**
+     * 정렬 키 값으로 커서 생성
+     */
+    static String encode(String sort, Object... keys) {
+        StringBuilder builder = new StringBuilder(sort);
+        for (Object key : keys) {
+            builder.append(SEPARATOR).append(key == null ? "" : key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키 값으로 해석
+     *
+     * @param cursor   커서 문자열
+     * @param sort     현재 요청의 정렬 이름
+     * @param keyCount 정렬 키 개수
+     * @return 정렬 키 값 (null 키는 빈 문자열)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 다른 정렬 기준의 커서인 경우
+     */
+    static String[] decode(String cursor, String sort, int keyCount) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+
+        String[] parts = decoded.split("\\|", -1);
+        if (parts.length != keyCount + 1) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+        if (!parts[0].equals(sort)) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다: " + parts[0]);
+        }
+
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return keys;
+    }
+
+    /**
+     * 필수 키 확인 (비어 있으면 잘못된 커서)
+     */
+    static <T> T required(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+        return value;
+    }
+
+    static Integer parseInteger(String value) {
+        try {
+            return value.isEmpty() ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    static Long parseLong(String value) {
+        try {
+            return value.isEmpty() ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    static Double parseDouble(String value) {
+        try {
+            return value.isEmpty() ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
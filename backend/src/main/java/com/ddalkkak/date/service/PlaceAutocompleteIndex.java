@@ -0,0 +1,388 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 자동완성 인메모리 접두사 트라이
+ * - 키: 장소 이름 전체(공백 제거), 이름의 각 단어, 주소의 각 단어 (소문자)
+ * - 같은 키를 초성으로 바꾼 초성 트라이도 함께 유지 ("ㅇㄴㄷ" → "연남동")
+ * - 각 노드는 하위 장소 중 dateScore → reviewCount 순 상위 N개를 미리 보관하므로
+ *   조회는 검색어 길이만큼 노드를 따라가는 것으로 끝남
+ * 최초 조회 시 전체 장소를 1회 로드하고, 이후에는 장소 변경 이벤트로 해당 키의 경로만 갱신
+ */
+@Slf4j
+@Component
+public class PlaceAutocompleteIndex {
+
+    private static final char HANGUL_SYLLABLE_FIRST = '가';
+    private static final char HANGUL_SYLLABLE_LAST = '힣';
+
+    /**
+     * 초성 하나당 음절 수 (중성 21 × 종성 28)
+     */
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+    /**
+     * 초성 순서의 호환 자모
+     */
+    private static final char[] INITIAL_CONSONANTS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * dateScore 내림차순 → reviewCount 내림차순 → ID 오름차순
+     */
+    private static final Comparator<Place> RANKING = Comparator
+            .comparing(Place::getDateScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Place::getReviewCount, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Place::getId);
+
+    private final PlaceRepository placeRepository;
+    private final int maxResults;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node();
+    private final Node initialsRoot = new Node();
+
+    /**
+     * 장소 ID → 색인된 장소와 키 (갱신 시 이전 키 제거용)
+     */
+    private final Map<Long, Indexed> indexed = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    public PlaceAutocompleteIndex(
+            PlaceRepository placeRepository,
+            @Value("${place.autocomplete.max-results:10}") int maxResults
+    ) {
+        this.placeRepository = placeRepository;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * 접두사로 장소 조회
+     * 검색어에 초성(ㄱ~ㅎ)이 포함되면 검색어 전체를 초성으로 바꾸어 초성 트라이에서 조회
+     *
+     * @param query 검색어 (공백 무시)
+     * @param limit 최대 반환 개수 (max-results 이하)
+     * @return dateScore → reviewCount 순 장소 목록
+     */
+    public List<Place> complete(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        Node start = root;
+        if (containsInitialConsonant(key)) {
+            key = toInitials(key);
+            start = initialsRoot;
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = start;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Place[] top = node.top;
+            return Arrays.asList(Arrays.copyOf(top, Math.min(limit, top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 변경 이벤트 처리 (커밋 이후 이전 키와 새 키의 경로만 갱신, 묶음 전체를 한 번의 쓰기 잠금으로 반영)
+     * 로드와 같은 모니터에서 수행하므로, 로드 중에 커밋된 변경은 로드가 끝난 뒤 반영됨
+     * 아직 로드를 시작하지 않았다면 최초 조회 시 최신 데이터로 로드되므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPlaceChanged(PlaceChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Place place : event.places()) {
+                if (place.getId() == null) {
+                    continue;
+                }
+                Indexed previous = indexed.remove(place.getId());
+                if (previous != null) {
+                    for (String key : previous.keys()) {
+                        remove(root, key, place.getId());
+                        remove(initialsRoot, toInitials(key), place.getId());
+                    }
+                }
+
+                Indexed current = new Indexed(place, keysOf(place));
+                indexed.put(place.getId(), current);
+                for (String key : current.keys()) {
+                    insert(root, key, place, true);
+                    insert(initialsRoot, toInitials(key), place, true);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("자동완성 인덱스 갱신 - 장소: {}개", event.places().size());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            long startTime = System.currentTimeMillis();
+            List<Place> places = placeRepository.findAll();
+
+            lock.writeLock().lock();
+            try {
+                for (Place place : places) {
+                    if (place.getId() == null) {
+                        continue;
+                    }
+                    Indexed entry = new Indexed(place, keysOf(place));
+                    indexed.put(place.getId(), entry);
+                    for (String key : entry.keys()) {
+                        insert(root, key, place, false);
+                        insert(initialsRoot, toInitials(key), place, false);
+                    }
+                }
+                // 상위 N개는 모든 키를 넣은 뒤 한 번에 아래에서부터 계산
+                refreshAll(root);
+                refreshAll(initialsRoot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded = true;
+
+            log.info("자동완성 인덱스 로드 - 장소: {}, 소요 시간: {}ms",
+                    places.size(), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * 키 경로에 장소 추가 (refresh가 true면 경로 노드의 상위 N개에 장소를 순위대로 끼워 넣음)
+     */
+    private void insert(Node start, String key, Place place, boolean refresh) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = start;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+        if (node.terminals == null) {
+            node.terminals = new HashMap<>(2);
+        }
+        node.terminals.put(place.getId(), place);
+        if (refresh) {
+            // 루트는 조회되지 않으므로 상위 N개를 유지하지 않음
+            for (int i = 1; i < path.size(); i++) {
+                offer(path.get(i), place);
+            }
+        }
+    }
+
+    /**
+     * 키 경로에서 장소 제거 (비게 된 노드는 정리하고, 상위 N개에 장소가 있던 노드만 다시 계산)
+     */
+    private void remove(Node start, String key, Long placeId) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = start;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+        }
+        if (node.terminals != null) {
+            node.terminals.remove(placeId);
+            if (node.terminals.isEmpty()) {
+                node.terminals = null;
+            }
+        }
+
+        for (int i = key.length(); i > 0; i--) {
+            Node current = path.get(i);
+            if (current.terminals == null && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            if (indexOf(current.top, placeId) >= 0) {
+                refresh(current);
+            }
+        }
+    }
+
+    /**
+     * 하위 노드의 상위 N개를 아래에서부터 계산 (루트 제외)
+     */
+    private void refreshAll(Node node) {
+        for (Node child : node.children.values()) {
+            refreshAll(child);
+            refresh(child);
+        }
+    }
+
+    /**
+     * 노드의 상위 N개에 장소를 순위대로 끼워 넣음 (같은 장소의 이전 항목은 교체)
+     */
+    private void offer(Node node, Place place) {
+        List<Place> top = new ArrayList<>(node.top.length + 1);
+        for (Place existing : node.top) {
+            if (!existing.getId().equals(place.getId())) {
+                top.add(existing);
+            }
+        }
+        int position = 0;
+        while (position < top.size() && RANKING.compare(top.get(position), place) < 0) {
+            position++;
+        }
+        if (position >= maxResults) {
+            return;
+        }
+        top.add(position, place);
+        node.top = top.subList(0, Math.min(top.size(), maxResults)).toArray(Place[]::new);
+    }
+
+    private static int indexOf(Place[] top, Long placeId) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].getId().equals(placeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 노드의 상위 N개 = 이 노드에서 끝나는 장소 + 자식 노드 상위 N개의 병합 (같은 장소는 한 번만)
+     */
+    private void refresh(Node node) {
+        Map<Long, Place> merged = new HashMap<>();
+        if (node.terminals != null) {
+            merged.putAll(node.terminals);
+        }
+        for (Node child : node.children.values()) {
+            for (Place place : child.top) {
+                merged.putIfAbsent(place.getId(), place);
+            }
+        }
+        node.top = merged.values().stream()
+                .sorted(RANKING)
+                .limit(maxResults)
+                .toArray(Place[]::new);
+    }
+
+    /**
+     * 장소의 자동완성 키 (이름 전체, 이름 단어, 주소 단어)
+     */
+    private static Set<String> keysOf(Place place) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (place.getName() != null) {
+            keys.add(normalize(place.getName()));
+            addWords(place.getName(), keys);
+        }
+        if (place.getAddress() != null) {
+            addWords(place.getAddress(), keys);
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static void addWords(String text, Set<String> keys) {
+        for (String word : text.split("\\s+")) {
+            keys.add(normalize(word));
+        }
+    }
+
+    /**
+     * 소문자 변환 및 공백 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (이미 초성인 글자와 한글이 아닌 글자는 그대로)
+     */
+    static String toInitials(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_SYLLABLE_FIRST && c <= HANGUL_SYLLABLE_LAST) {
+                builder.append(INITIAL_CONSONANTS[(c - HANGUL_SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean containsInitialConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Arrays.binarySearch(INITIAL_CONSONANTS, text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 트라이 노드
+     */
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+
+        /**
+         * 이 노드에서 키가 끝나는 장소 (없으면 null)
+         */
+        private Map<Long, Place> terminals;
+
+        /**
+         * 하위 전체 장소 중 상위 N개 (순위 순)
+         */
+        private Place[] top = new Place[0];
+    }
+
+    /**
+     * 색인된 장소와 키
+     */
+    private record Indexed(Place place, Set<String> keys) {
+    }
+}
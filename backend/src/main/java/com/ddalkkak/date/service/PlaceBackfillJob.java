@@ -0,0 +1,56 @@
+package com.ddalkkak.date.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 장소 파생 컬럼 백필
+ * 시드 데이터(data.sql) 및 기존 데이터는 price_min/price_max가 비어 있으므로 기동 직후 한 번 채움
+ * 카테고리 키워드 테이블이 바뀌었을 수 있으므로 date_type_mask/image_query_key도 재계산
+ * mood_tags JSON만 있는 장소는 무드 태그 사전 ID 배열(mood_tag_ids)을 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceBackfillJob {
+
+    private final PlaceCollectionService placeCollectionService;
+
+    @Value("${place.backfill.on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        try {
+            int count = placeCollectionService.backfillPriceBounds();
+            log.info("기동 시 가격 범위 백필 완료: {}개", count);
+        } catch (Exception e) {
+            // 백필 실패 시에도 문자열 파싱 경로로 동작하므로 기동은 계속 진행
+            log.error("기동 시 가격 범위 백필 실패: {}", e.getMessage(), e);
+        }
+
+        try {
+            int count = placeCollectionService.reclassifyPlaces();
+            log.info("기동 시 카테고리 재분류 완료: {}개", count);
+        } catch (Exception e) {
+            // 재분류 실패 시에도 미분류 장소는 즉시 분류되므로 기동은 계속 진행
+            log.error("기동 시 카테고리 재분류 실패: {}", e.getMessage(), e);
+        }
+
+        try {
+            int count = placeCollectionService.backfillMoodTagIds();
+            log.info("기동 시 무드 태그 ID 백필 완료: {}개", count);
+        } catch (Exception e) {
+            // 백필 전 장소는 mood_tags JSON을 파싱하는 경로로 동작하므로 기동은 계속 진행
+            log.error("기동 시 무드 태그 ID 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+}
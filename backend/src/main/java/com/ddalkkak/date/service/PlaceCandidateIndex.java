@@ -0,0 +1,356 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 지역별 코스 후보 장소 인메모리 인덱스
+ * - 평점/리뷰 수 기준을 통과한 장소를 데이트 유형 비트마스크로 버킷에 미리 분류
+ * - 각 버킷은 dateScore 내림차순으로 정렬된 상태를 유지
+ * - 가격대는 저장된 price_min/price_max 컬럼을 사용 (미백필 장소만 색인 시점에 파싱)
+ * 코스 생성 시 DB 조회 없이 상위 N개 후보를 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCandidateIndex {
+
+    /**
+     * 후보 장소 최소 평점
+     */
+    static final double MIN_RATING = 4.0;
+
+    /**
+     * 후보 장소 최소 리뷰 수
+     */
+    static final int MIN_REVIEW_COUNT = 50;
+
+    /**
+     * dateScore 내림차순, 동점이면 ID 오름차순
+     */
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+            .comparingInt(Candidate::score).reversed()
+            .thenComparing(candidate -> candidate.place().getId());
+
+    private final PlaceRepository placeRepository;
+    private final CategoryKeywordMatcher categoryKeywordMatcher;
+
+    /**
+     * 지역 ID → 지역 후보 스냅샷 (불변, 변경 시 교체)
+     */
+    private final Map<String, RegionCandidates> regions = new ConcurrentHashMap<>();
+
+    /**
+     * 지역 ID → 변경 이벤트 수 (로드 중 도착한 변경 감지용, regions 항목의 compute 안에서만 증가)
+     */
+    private final Map<String, Long> changeCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조건에 맞는 상위 후보 장소 조회
+     * 해당 지역이 아직 색인되지 않았다면 최초 1회 DB에서 로드
+     *
+     * @param regionId  지역 ID
+     * @param dateType  데이트 유형
+     * @param minBudget 최소 예산
+     * @param maxBudget 최대 예산
+     * @param limit     최대 반환 개수
+     * @return dateScore 내림차순 후보 장소 목록
+     */
+    public List<Place> findTopCandidates(String regionId, DateType dateType, int minBudget, int maxBudget, int limit) {
+        return findTopCandidates(regionId, dateType, minBudget, maxBudget, null, limit);
+    }
+
+    /**
+     * 조건에 맞는 상위 후보 장소 조회 (추가 조건 적용)
+     *
+     * @param filter 추가 장소 조건 (예: 무드 태그, null이면 조건 없음)
+     * @see #findTopCandidates(String, DateType, int, int, int)
+     */
+    public List<Place> findTopCandidates(String regionId, DateType dateType, int minBudget, int maxBudget,
+                                         Predicate<Place> filter, int limit) {
+        RegionCandidates snapshot = snapshotOf(regionId);
+
+        Candidate[] bucket = snapshot.buckets().get(dateType);
+        List<Place> result = new ArrayList<>(Math.min(limit, bucket.length));
+
+        // 버킷이 이미 정렬되어 있으므로 예산 조건을 만족하는 앞쪽 N개만 선택
+        for (Candidate candidate : bucket) {
+            if (candidate.matchesBudget(minBudget, maxBudget) && (filter == null || filter.test(candidate.place()))) {
+                result.add(candidate.place());
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+
+        log.debug("후보 인덱스 조회 - 지역: {}, 데이트 유형: {}, 버킷 크기: {}, 결과: {}",
+                regionId, dateType.getName(), bucket.length, result.size());
+
+        return result;
+    }
+
+    /**
+     * 장소 변경 이벤트 처리 (커밋 이후 해당 지역 스냅샷만 증분 갱신, 지역별로 묶음 전체를 1회 교체)
+     * 아직 로드되지 않은 지역은 변경 수만 기록 (로드 중이었다면 로드 결과를 버리고 다시 로드)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        Map<String, Map<Long, Candidate>> updatesByRegion = new HashMap<>();
+        for (Place place : event.places()) {
+            // 후보 기준 미달이면 null (제거)
+            updatesByRegion.computeIfAbsent(place.getRegionId(), regionId -> new HashMap<>())
+                    .put(place.getId(), isEligible(place) ? toCandidate(place) : null);
+        }
+
+        updatesByRegion.forEach((regionId, updates) -> {
+            regions.compute(regionId, (id, snapshot) -> {
+                changeCounts.merge(id, 1L, Long::sum);
+                return snapshot != null ? snapshot.with(updates) : null;
+            });
+            log.debug("후보 인덱스 갱신 - 지역: {}, 장소: {}개", regionId, updates.size());
+        });
+    }
+
+    /**
+     * 지역 후보 스냅샷 조회 (없으면 최초 1회 로드)
+     * DB 조회는 맵 밖에서 수행하고, 맵에는 다른 스레드가 먼저 넣지 않은 경우에만 넣음
+     * 로드 중 같은 지역의 변경 이벤트가 도착했다면 로드 결과가 변경 전 데이터일 수 있으므로 다시 로드
+     */
+    private RegionCandidates snapshotOf(String regionId) {
+        RegionCandidates snapshot = regions.get(regionId);
+        while (snapshot == null) {
+            long changes = changeCounts.getOrDefault(regionId, 0L);
+            RegionCandidates loaded = loadRegion(regionId);
+            snapshot = regions.compute(regionId, (id, current) -> {
+                if (current != null) {
+                    return current;
+                }
+                return changeCounts.getOrDefault(id, 0L) == changes ? loaded : null;
+            });
+        }
+        return snapshot;
+    }
+
+    /**
+     * 지역 전체 장소를 로드하여 스냅샷 생성
+     */
+    private RegionCandidates loadRegion(String regionId) {
+        long startTime = System.currentTimeMillis();
+
+        List<Place> places = placeRepository.findByRegionId(regionId);
+
+        Map<Long, Candidate> candidates = new HashMap<>();
+        for (Place place : places) {
+            if (isEligible(place)) {
+                candidates.put(place.getId(), toCandidate(place));
+            }
+        }
+
+        Map<DateType, Candidate[]> buckets = new EnumMap<>(DateType.class);
+        for (DateType dateType : DateType.values()) {
+            buckets.put(dateType, candidates.values().stream()
+                    .filter(candidate -> candidate.matches(dateType))
+                    .sorted(CANDIDATE_ORDER)
+                    .toArray(Candidate[]::new));
+        }
+
+        log.info("후보 인덱스 로드 - 지역: {}, 전체: {}, 후보: {}, 소요 시간: {}ms",
+                regionId, places.size(), candidates.size(), System.currentTimeMillis() - startTime);
+
+        return new RegionCandidates(candidates, buckets);
+    }
+
+    /**
+     * 평점/리뷰 수 기준 충족 여부
+     */
+    static boolean isEligible(Place place) {
+        return place.getRating() != null && place.getRating() >= MIN_RATING
+                && place.getReviewCount() != null && place.getReviewCount() >= MIN_REVIEW_COUNT;
+    }
+
+    /**
+     * 데이트 유형에 맞는 카테고리인지 확인
+     * 수집 시점에 저장된 비트마스크를 사용하며, 미분류 장소만 카테고리를 즉시 분류
+     */
+    public boolean matchesDateTypeCategory(Place place, DateType dateType) {
+        return (dateTypeMaskOf(place) & dateType.getBit()) != 0;
+    }
+
+    private int dateTypeMaskOf(Place place) {
+        if (place.getDateTypeMask() != null) {
+            return place.getDateTypeMask();
+        }
+        return categoryKeywordMatcher.classify(place.getCategory()).dateTypeMask();
+    }
+
+    private Candidate toCandidate(Place place) {
+        return new Candidate(
+                place,
+                place.getDateScore() != null ? place.getDateScore() : 0,
+                dateTypeMaskOf(place),
+                priceBoundsOf(place)
+        );
+    }
+
+    /**
+     * 장소의 가격 범위 (저장된 컬럼 우선, 미백필 장소는 문자열 파싱)
+     */
+    static PriceRangeParser.PriceBounds priceBoundsOf(Place place) {
+        if (place.getPriceMin() != null) {
+            return PriceRangeParser.fromColumns(place.getPriceMin(), place.getPriceMax());
+        }
+        return PriceRangeParser.parse(place.getPriceRange());
+    }
+
+    /**
+     * 색인된 후보 장소
+     *
+     * @param place        장소
+     * @param score        dateScore (없으면 0)
+     * @param dateTypeMask 데이트 유형 비트마스크
+     * @param prices       가격 범위 (정보 없음 또는 파싱 실패 시 null → 예산 조건 항상 통과)
+     */
+    private record Candidate(Place place, int score, int dateTypeMask, PriceRangeParser.PriceBounds prices) {
+
+        boolean matches(DateType dateType) {
+            return (dateTypeMask & dateType.getBit()) != 0;
+        }
+
+        boolean matchesBudget(int minBudget, int maxBudget) {
+            return prices == null || prices.overlapsBudget(minBudget, maxBudget);
+        }
+    }
+
+    /**
+     * 지역 후보 스냅샷
+     *
+     * @param candidates 장소 ID → 후보
+     * @param buckets    데이트 유형 → dateScore 내림차순 후보 배열
+     */
+    private record RegionCandidates(Map<Long, Candidate> candidates, Map<DateType, Candidate[]> buckets) {
+
+        /**
+         * 장소 하나를 반영한 새 스냅샷 생성
+         * 기존 항목이 속했던 버킷과 새 항목이 속할 버킷만 다시 만들고 나머지 버킷은 그대로 공유
+         *
+         * @param placeId 장소 ID
+         * @param updated 갱신된 후보 (후보 기준 미달 시 null → 제거)
+         */
+        RegionCandidates with(Long placeId, Candidate updated) {
+            Candidate previous = candidates.get(placeId);
+
+            Map<Long, Candidate> nextCandidates = new HashMap<>(candidates);
+            if (updated != null) {
+                nextCandidates.put(placeId, updated);
+            } else {
+                nextCandidates.remove(placeId);
+            }
+
+            Map<DateType, Candidate[]> nextBuckets = new EnumMap<>(buckets);
+            for (DateType dateType : DateType.values()) {
+                boolean wasIn = previous != null && previous.matches(dateType);
+                boolean isIn = updated != null && updated.matches(dateType);
+                if (!wasIn && !isIn) {
+                    continue;
+                }
+
+                Candidate[] bucket = buckets.get(dateType);
+                if (wasIn) {
+                    bucket = remove(bucket, placeId);
+                }
+                if (isIn) {
+                    bucket = insertSorted(bucket, updated);
+                }
+                nextBuckets.put(dateType, bucket);
+            }
+
+            return new RegionCandidates(nextCandidates, nextBuckets);
+        }
+
+        /**
+         * 여러 장소를 반영한 새 스냅샷 생성 (장소가 하나면 증분 반영)
+         * 변경 전후 항목이 속한 버킷만 한 번씩 다시 정렬하고 나머지 버킷은 그대로 공유
+         *
+         * @param updates 장소 ID → 갱신된 후보 (null이면 제거)
+         */
+        RegionCandidates with(Map<Long, Candidate> updates) {
+            if (updates.size() == 1) {
+                Map.Entry<Long, Candidate> update = updates.entrySet().iterator().next();
+                return with(update.getKey(), update.getValue());
+            }
+
+            Map<Long, Candidate> nextCandidates = new HashMap<>(candidates);
+            Set<DateType> affected = EnumSet.noneOf(DateType.class);
+            for (Map.Entry<Long, Candidate> update : updates.entrySet()) {
+                Candidate previous = update.getValue() != null
+                        ? nextCandidates.put(update.getKey(), update.getValue())
+                        : nextCandidates.remove(update.getKey());
+                for (DateType dateType : DateType.values()) {
+                    if ((previous != null && previous.matches(dateType))
+                            || (update.getValue() != null && update.getValue().matches(dateType))) {
+                        affected.add(dateType);
+                    }
+                }
+            }
+
+            Map<DateType, Candidate[]> nextBuckets = new EnumMap<>(buckets);
+            for (DateType dateType : affected) {
+                List<Candidate> bucket = new ArrayList<>();
+                for (Candidate candidate : buckets.get(dateType)) {
+                    if (!updates.containsKey(candidate.place().getId())) {
+                        bucket.add(candidate);
+                    }
+                }
+                for (Candidate updated : updates.values()) {
+                    if (updated != null && updated.matches(dateType)) {
+                        bucket.add(updated);
+                    }
+                }
+                bucket.sort(CANDIDATE_ORDER);
+                nextBuckets.put(dateType, bucket.toArray(Candidate[]::new));
+            }
+
+            return new RegionCandidates(nextCandidates, nextBuckets);
+        }
+
+        private static Candidate[] remove(Candidate[] bucket, Long placeId) {
+            for (int i = 0; i < bucket.length; i++) {
+                if (bucket[i].place().getId().equals(placeId)) {
+                    Candidate[] next = new Candidate[bucket.length - 1];
+                    System.arraycopy(bucket, 0, next, 0, i);
+                    System.arraycopy(bucket, i + 1, next, i, bucket.length - i - 1);
+                    return next;
+                }
+            }
+            return bucket;
+        }
+
+        private static Candidate[] insertSorted(Candidate[] bucket, Candidate candidate) {
+            int index = Arrays.binarySearch(bucket, candidate, CANDIDATE_ORDER);
+            int insertAt = index >= 0 ? index : -(index + 1);
+
+            Candidate[] next = new Candidate[bucket.length + 1];
+            System.arraycopy(bucket, 0, next, 0, insertAt);
+            next[insertAt] = candidate;
+            System.arraycopy(bucket, insertAt, next, insertAt + 1, bucket.length - insertAt);
+            return next;
+        }
+    }
+}
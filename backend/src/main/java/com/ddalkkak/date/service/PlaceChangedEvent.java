@@ -0,0 +1,27 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+
+import java.util.List;
+
+/**
+ * 장소 추가/큐레이션 변경 이벤트
+ * 트랜잭션 커밋 이후 인메모리 인덱스들을 증분 갱신하는 데 사용
+ * 백필/재분류처럼 한 트랜잭션에서 여러 장소를 바꾸는 경우 변경된 장소를 모아 1회 발행하며,
+ * 각 인덱스는 묶음 전체를 한 번의 교체(재구성)로 반영
+ *
+ * @param places 변경된 장소 (커밋 이후 detached 상태)
+ */
+public record PlaceChangedEvent(List<Place> places) {
+
+    public PlaceChangedEvent {
+        places = List.copyOf(places);
+    }
+
+    /**
+     * 장소 하나의 변경
+     */
+    public PlaceChangedEvent(Place place) {
+        this(List.of(place));
+    }
+}
@@ -8,11 +8,13 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 장소 데이터 수집 서비스
@@ -27,6 +29,9 @@ public class PlaceCollectionService {
     private final PlaceCurationService placeCurationService;
     private final PlaceRepository placeRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryKeywordMatcher categoryKeywordMatcher;
+    private final MoodTagDictionary moodTagDictionary;
 
     /**
      * 특정 지역의 장소 데이터 수집
@@ -50,10 +55,11 @@ public class PlaceCollectionService {
                 regionId, latitude, longitude, radius);
 
         int totalCollected = 0;
+        List<Place> savedPlaces = new ArrayList<>();
 
         // 각 카테고리별로 장소 수집
         for (String category : categories) {
-            int collected = collectPlacesByCategory(regionId, category, latitude, longitude, radius);
+            int collected = collectPlacesByCategory(regionId, category, latitude, longitude, radius, savedPlaces);
             totalCollected += collected;
             log.info("카테고리 {} 수집 완료: {}개", category, collected);
 
@@ -66,6 +72,7 @@ public class PlaceCollectionService {
             }
         }
 
+        publishPlacesChanged(savedPlaces);
         log.info("지역 {} 데이터 수집 완료: 총 {}개", regionId, totalCollected);
         return totalCollected;
     }
@@ -78,7 +85,8 @@ public class PlaceCollectionService {
             String categoryCode,
             Double latitude,
             Double longitude,
-            Integer radius
+            Integer radius,
+            List<Place> savedPlaces
     ) {
         int collectedCount = 0;
         int page = 1;
@@ -101,7 +109,7 @@ public class PlaceCollectionService {
             // 장소 저장
             for (KakaoPlaceDto.Document document : response.getDocuments()) {
                 try {
-                    if (savePlaceWithCuration(regionId, document)) {
+                    if (savePlaceWithCuration(regionId, document, savedPlaces)) {
                         collectedCount++;
                     }
 
@@ -126,11 +134,12 @@ public class PlaceCollectionService {
     /**
      * 장소 저장 (AI 큐레이션 포함)
      *
-     * @param regionId 지역 ID
-     * @param document Kakao 장소 문서
+     * @param regionId    지역 ID
+     * @param document    Kakao 장소 문서
+     * @param savedPlaces 저장된 장소를 모으는 목록 (수집 완료 후 변경 이벤트 1회 발행)
      * @return 저장 성공 여부
      */
-    private boolean savePlaceWithCuration(String regionId, KakaoPlaceDto.Document document) {
+    private boolean savePlaceWithCuration(String regionId, KakaoPlaceDto.Document document, List<Place> savedPlaces) {
         // 중복 체크
         if (placeRepository.existsByKakaoPlaceId(document.getId())) {
             log.debug("이미 존재하는 장소: kakaoPlaceId={}", document.getId());
@@ -160,6 +169,9 @@ public class PlaceCollectionService {
                     .regionId(regionId)
                     .build();
 
+            // 카테고리 분류 (데이트 유형 비트마스크, 이미지 쿼리 키)
+            applyCategoryClassification(place);
+
             // 큐레이션 정보 추가
             if (curation != null) {
                 String moodTagsJson = objectMapper.writeValueAsString(curation.getMoodTags());
@@ -170,9 +182,12 @@ public class PlaceCollectionService {
                         curation.getBestTime(),
                         curation.getRecommendation()
                 );
+                place.updateMoodTagIds(moodTagDictionary.register(curation.getMoodTags()));
+                applyPriceBounds(place);
             }
 
             placeRepository.save(place);
+            savedPlaces.add(place);
             log.debug("장소 저장 완료: {}", place.getName());
             return true;
 
@@ -218,7 +233,7 @@ public class PlaceCollectionService {
                 .filter(place -> place.getDateScore() == null)
                 .toList();
 
-        int updatedCount = 0;
+        List<Place> updatedPlaces = new ArrayList<>();
         for (Place place : placesWithoutCuration) {
             try {
                 // Kakao 문서 형식으로 변환
@@ -246,8 +261,10 @@ public class PlaceCollectionService {
                             curation.getBestTime(),
                             curation.getRecommendation()
                     );
+                    place.updateMoodTagIds(moodTagDictionary.register(curation.getMoodTags()));
+                    applyPriceBounds(place);
                     placeRepository.save(place);
-                    updatedCount++;
+                    updatedPlaces.add(place);
                 }
 
                 // API 호출 제한 고려 딜레이
@@ -257,7 +274,123 @@ public class PlaceCollectionService {
             }
         }
 
-        log.info("기존 장소 큐레이션 업데이트 완료: {}개", updatedCount);
-        return updatedCount;
+        publishPlacesChanged(updatedPlaces);
+        log.info("기존 장소 큐레이션 업데이트 완료: {}개", updatedPlaces.size());
+        return updatedPlaces.size();
+    }
+
+    /**
+     * 가격 범위 컬럼 백필
+     * priceRange 문자열은 있지만 price_min/price_max가 비어 있는 장소를 파싱하여 채움
+     * 파싱에 실패한 장소는 실패로 표시하여 다음 기동부터 다시 조회하지 않음 (큐레이션이 갱신되면 다시 파싱)
+     *
+     * @return 백필된 장소 개수
+     */
+    @Transactional
+    public int backfillPriceBounds() {
+        List<Place> targets = placeRepository.findPriceBoundsBackfillTargets();
+
+        List<Place> backfilled = new ArrayList<>();
+        for (Place place : targets) {
+            if (applyPriceBounds(place)) {
+                backfilled.add(place);
+            }
+        }
+
+        publishPlacesChanged(backfilled);
+        log.info("가격 범위 백필 완료: 대상 {}개, 백필 {}개", targets.size(), backfilled.size());
+        return backfilled.size();
+    }
+
+    /**
+     * 무드 태그 ID 컬럼 백필
+     * mood_tags JSON은 있지만 mood_tag_ids가 비어 있는 장소의 태그를 사전에 등록하고 ID 배열을 채움
+     *
+     * @return 백필된 장소 개수
+     */
+    @Transactional
+    public int backfillMoodTagIds() {
+        List<Place> targets = placeRepository.findByMoodTagsIsNotNullAndMoodTagIdsIsNull();
+
+        for (Place place : targets) {
+            place.updateMoodTagIds(moodTagDictionary.register(moodTagDictionary.namesOf(place)));
+        }
+
+        publishPlacesChanged(targets);
+        log.info("무드 태그 ID 백필 완료: {}개", targets.size());
+        return targets.size();
+    }
+
+    /**
+     * priceRange 문자열을 파싱하여 price_min/price_max 컬럼에 반영
+     *
+     * @return 파싱 성공 여부
+     */
+    private boolean applyPriceBounds(Place place) {
+        PriceRangeParser.PriceBounds bounds = PriceRangeParser.parse(place.getPriceRange());
+        if (bounds == null) {
+            place.updatePriceBounds(null, null);
+            return false;
+        }
+        place.updatePriceBounds(bounds.min(), bounds.maxOrNull());
+        return true;
+    }
+
+    /**
+     * 카테고리 키워드 테이블 재로드 (외부 키워드 파일을 다시 읽어 매처 교체)
+     *
+     * @throws IllegalArgumentException 키워드 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public void reloadCategoryKeywords() {
+        categoryKeywordMatcher.reload();
+    }
+
+    /**
+     * 전체 장소 카테고리 재분류
+     * 키워드 테이블 변경 후 저장된 date_type_mask/image_query_key를 다시 계산하며, 결과가 달라진 장소만 갱신
+     *
+     * @return 재분류된 장소 개수
+     */
+    @Transactional
+    public int reclassifyPlaces() {
+        List<Place> places = placeRepository.findAll();
+
+        List<Place> reclassified = new ArrayList<>();
+        for (Place place : places) {
+            if (applyCategoryClassification(place)) {
+                reclassified.add(place);
+            }
+        }
+
+        publishPlacesChanged(reclassified);
+        log.info("카테고리 재분류 완료: 전체 {}개, 변경 {}개", places.size(), reclassified.size());
+        return reclassified.size();
+    }
+
+    /**
+     * 변경된 장소를 묶어 변경 이벤트 1회 발행 (인덱스가 장소마다 스냅샷을 다시 만들지 않도록)
+     */
+    private void publishPlacesChanged(List<Place> changedPlaces) {
+        if (!changedPlaces.isEmpty()) {
+            eventPublisher.publishEvent(new PlaceChangedEvent(changedPlaces));
+        }
+    }
+
+    /**
+     * 카테고리를 분류하여 date_type_mask/image_query_key 컬럼에 반영
+     *
+     * @return 기존 값과 달라졌는지 여부
+     */
+    private boolean applyCategoryClassification(Place place) {
+        CategoryKeywordMatcher.CategoryClassification classification =
+                categoryKeywordMatcher.classify(place.getCategory());
+
+        if (Objects.equals(place.getDateTypeMask(), classification.dateTypeMask())
+                && Objects.equals(place.getImageQueryKey(), classification.imageQueryKey())) {
+            return false;
+        }
+
+        place.updateCategoryClassification(classification.dateTypeMask(), classification.imageQueryKey());
+        return true;
     }
 }
@@ -1,5 +1,6 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.config.OutboundHttpClientFactory;
 import com.ddalkkak.date.dto.KakaoPlaceDto;
 import com.ddalkkak.date.dto.PlaceCurationDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,12 +26,12 @@ public class PlaceCurationService {
 
     public PlaceCurationService(
             @Value("${external.openai.api-key}") String apiKey,
-            @Value("${external.openai.api-url}") String baseUrl
+            @Value("${external.openai.api-url}") String baseUrl,
+            OutboundHttpClientFactory httpClientFactory
     ) {
         this.apiKey = apiKey;
         this.objectMapper = new ObjectMapper();
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
+        this.webClient = httpClientFactory.builder("openai", baseUrl)
                 .defaultHeader("Authorization", "Bearer " + apiKey)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
@@ -43,40 +44,50 @@ public class PlaceCurationService {
      * @return 큐레이션 결과
      */
     public PlaceCurationDto.CurationResult curatePlaceInfo(KakaoPlaceDto.Document placeDocument) {
-        log.debug("AI 큐레이션 시작: placeName={}, category={}",
-                placeDocument.getPlaceName(), placeDocument.getCategoryName());
+        return curatePlaceInfoAsync(placeDocument).block();
+    }
+
+    /**
+     * 장소 정보를 기반으로 AI 큐레이션 수행 (논블로킹)
+     *
+     * @param placeDocument Kakao API에서 받은 장소 정보
+     * @return 큐레이션 결과 (호출 실패 또는 파싱 실패 시 빈 Mono)
+     */
+    public Mono<PlaceCurationDto.CurationResult> curatePlaceInfoAsync(KakaoPlaceDto.Document placeDocument) {
+        return Mono.defer(() -> {
+            log.debug("AI 큐레이션 시작: placeName={}, category={}",
+                    placeDocument.getPlaceName(), placeDocument.getCategoryName());
 
-        String prompt = buildCurationPrompt(placeDocument);
+            String prompt = buildCurationPrompt(placeDocument);
 
-        PlaceCurationDto.Request request = new PlaceCurationDto.Request(
-                "gpt-4o-mini",
-                List.of(new PlaceCurationDto.Message("user", prompt)),
-                0.7,
-                new PlaceCurationDto.ResponseFormat("json_object")
-        );
+            PlaceCurationDto.Request request = new PlaceCurationDto.Request(
+                    "gpt-4o-mini",
+                    List.of(new PlaceCurationDto.Message("user", prompt)),
+                    0.7,
+                    new PlaceCurationDto.ResponseFormat("json_object")
+            );
 
-        try {
-            PlaceCurationDto.Response response = webClient.post()
+            return webClient.post()
                     .uri("/chat/completions")
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(PlaceCurationDto.Response.class)
                     .doOnError(error -> log.error("OpenAI API 호출 실패: {}", error.getMessage()))
-                    .onErrorResume(error -> Mono.empty())
-                    .block();
-
-            if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
-                String jsonResponse = response.getChoices().get(0).getMessage().getContent();
-                log.debug("OpenAI API 응답: {}", jsonResponse);
-
-                // JSON 파싱
-                return parseJsonResponse(jsonResponse);
-            }
-        } catch (Exception e) {
-            log.error("AI 큐레이션 실패: {}", e.getMessage(), e);
-        }
-
-        return null;
+                    .mapNotNull(response -> {
+                        if (response.getChoices() == null || response.getChoices().isEmpty()) {
+                            return null;
+                        }
+                        String jsonResponse = response.getChoices().get(0).getMessage().getContent();
+                        log.debug("OpenAI API 응답: {}", jsonResponse);
+
+                        // JSON 파싱
+                        return parseJsonResponse(jsonResponse);
+                    })
+                    .onErrorResume(error -> {
+                        log.error("AI 큐레이션 실패: {}", error.getMessage());
+                        return Mono.empty();
+                    });
+        });
     }
 
     /**
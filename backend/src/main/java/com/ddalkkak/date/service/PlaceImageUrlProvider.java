@@ -0,0 +1,40 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 기본 이미지 URL 생성
+ * 수집 시점에 분류된 image_query_key를 사용하며, 미분류 장소만 카테고리를 즉시 분류
+ * TODO: 추후 실제 카카오 Place API 또는 다른 이미지 소스로 교체
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceImageUrlProvider {
+
+    private static final int IMAGE_COUNT = 3;
+
+    private final CategoryKeywordMatcher categoryKeywordMatcher;
+
+    /**
+     * 장소 카테고리에 따른 기본 이미지 URL 생성 (최대 3장)
+     */
+    public List<String> imageUrlsFor(Place place) {
+        String imageQueryKey = place.getDateTypeMask() != null
+                ? place.getImageQueryKey()
+                : categoryKeywordMatcher.classify(place.getCategory()).imageQueryKey();
+        String query = categoryKeywordMatcher.imageQueryFor(imageQueryKey);
+
+        // 카테고리에 따른 Unsplash 이미지 (임시)
+        List<String> imageUrls = new ArrayList<>(IMAGE_COUNT);
+        for (int i = 1; i <= IMAGE_COUNT; i++) {
+            imageUrls.add(String.format("https://source.unsplash.com/800x600/?%s&sig=%d", query, i));
+        }
+
+        return imageUrls;
+    }
+}
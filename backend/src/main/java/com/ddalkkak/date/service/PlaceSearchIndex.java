@@ -0,0 +1,354 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장소 검색용 인메모리 역색인 (문자 n-gram)
+ * - 이름/카테고리/주소를 소문자로 정규화한 뒤 글자 1-gram, 2-gram을 장소 번호 목록(오름차순 int 배열)에 색인
+ * - 검색어의 n-gram 목록을 짧은 것부터 교집합한 뒤, 후보만 실제 부분 일치를 확인하여
+ *   LIKE '%검색어%'와 같은 결과를 풀 스캔 없이 반환 (한글은 음절 단위 n-gram이라 형태소 분석 없이 동작)
+ * - 장소 변경은 작은 변경분(delta)에 모아 두고 검색 시 함께 확인하며, 일정 개수를 넘으면 본 색인을 메모리에서 재구성
+ * 최초 검색 시 전체 장소를 1회 로드
+ */
+@Slf4j
+@Component
+public class PlaceSearchIndex {
+
+    /**
+     * 필드별 관련도 가중치 (이름 > 카테고리 > 주소), 필드 앞부분 일치 시 가산
+     */
+    private static final int NAME_WEIGHT = 6;
+    private static final int CATEGORY_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 1;
+    private static final int PREFIX_BONUS = 2;
+
+    private static final int[] EMPTY_POSTINGS = new int[0];
+
+    private final PlaceRepository placeRepository;
+    private final int mergeThreshold;
+
+    /**
+     * 현재 색인 상태 (불변, 변경 시 교체), 로드 전에는 null
+     */
+    private volatile State state;
+
+    public PlaceSearchIndex(
+            PlaceRepository placeRepository,
+            @Value("${place.search-index.merge-threshold:500}") int mergeThreshold
+    ) {
+        this.placeRepository = placeRepository;
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    /**
+     * 검색 결과 (장소와 관련도 점수)
+     */
+    public record Match(Place place, int relevance) {
+    }
+
+    /**
+     * 검색어를 이름/카테고리/주소에 부분 일치로 포함한 장소 조회
+     *
+     * @param query    검색어 (공백만 있으면 빈 결과)
+     * @param regionId 지역 ID 필터 (null이면 전체)
+     * @return 일치한 장소 (순서 없음, 정렬은 호출 측에서 수행)
+     */
+    public List<Match> search(String query, String regionId) {
+        String normalized = normalize(query);
+        if (normalized.isBlank()) {
+            return List.of();
+        }
+
+        State current = state();
+        List<Match> matches = new ArrayList<>();
+
+        // 1. 본 색인: n-gram 목록 교집합 → 변경분에서 덮어쓴 장소 제외 → 실제 부분 일치 확인
+        for (int doc : current.base().candidates(normalized)) {
+            Document document = current.base().documents()[doc];
+            if (current.delta().containsKey(document.place().getId())) {
+                continue;
+            }
+            collect(document, normalized, regionId, matches);
+        }
+
+        // 2. 변경분: 개수가 작으므로 직접 확인
+        for (Document document : current.delta().values()) {
+            collect(document, normalized, regionId, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * 색인된 전체 장소 조회 (검색어 없이 다른 조건으로만 거를 때 사용)
+     *
+     * @param regionId 지역 ID 필터 (null이면 전체)
+     * @return 장소 (관련도 0, 순서 없음)
+     */
+    public List<Match> all(String regionId) {
+        State current = state();
+        List<Match> matches = new ArrayList<>();
+        for (Document document : current.base().documents()) {
+            if (!current.delta().containsKey(document.place().getId())) {
+                collectAll(document, regionId, matches);
+            }
+        }
+        for (Document document : current.delta().values()) {
+            collectAll(document, regionId, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * 장소 변경 이벤트 처리 (커밋 이후 묶음 전체를 변경분에 1회 반영, 임계치를 넘으면 본 색인 재구성)
+     * 아직 로드되지 않았다면 최초 검색 시 최신 데이터로 로드되므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        synchronized (this) {
+            if (state == null) {
+                return;
+            }
+            Map<Long, Document> delta = new HashMap<>(state.delta());
+            for (Place place : event.places()) {
+                if (place.getId() != null) {
+                    delta.put(place.getId(), Document.of(place));
+                }
+            }
+
+            if (delta.size() > mergeThreshold) {
+                state = new State(merge(state.base(), delta), Map.of());
+            } else {
+                state = new State(state.base(), delta);
+            }
+        }
+        log.debug("검색 인덱스 갱신 - 장소: {}개", event.places().size());
+    }
+
+    private void collect(Document document, String normalized, String regionId, List<Match> matches) {
+        if (regionId != null && !regionId.isBlank() && !regionId.equals(document.place().getRegionId())) {
+            return;
+        }
+        int relevance = document.relevance(normalized);
+        if (relevance > 0) {
+            matches.add(new Match(document.place(), relevance));
+        }
+    }
+
+    private void collectAll(Document document, String regionId, List<Match> matches) {
+        if (regionId == null || regionId.isBlank() || regionId.equals(document.place().getRegionId())) {
+            matches.add(new Match(document.place(), 0));
+        }
+    }
+
+    private State state() {
+        State current = state;
+        if (current == null) {
+            synchronized (this) {
+                current = state;
+                if (current == null) {
+                    long startTime = System.currentTimeMillis();
+                    List<Place> places = placeRepository.findAll();
+                    Segment base = Segment.build(places.stream().map(Document::of).toList());
+                    current = new State(base, Map.of());
+                    state = current;
+                    log.info("검색 인덱스 로드 - 장소: {}, n-gram: {}, 소요 시간: {}ms",
+                            places.size(), base.postings().size(), System.currentTimeMillis() - startTime);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 변경분을 본 색인에 합쳐 새 본 색인 생성 (DB 조회 없이 메모리에서 재구성)
+     */
+    private Segment merge(Segment base, Map<Long, Document> delta) {
+        long startTime = System.currentTimeMillis();
+
+        List<Document> documents = new ArrayList<>(base.documents().length + delta.size());
+        for (Document document : base.documents()) {
+            if (!delta.containsKey(document.place().getId())) {
+                documents.add(document);
+            }
+        }
+        documents.addAll(delta.values());
+        Segment merged = Segment.build(documents);
+
+        log.info("검색 인덱스 재구성 - 장소: {}, 반영된 변경: {}, 소요 시간: {}ms",
+                documents.size(), delta.size(), System.currentTimeMillis() - startTime);
+        return merged;
+    }
+
+    /**
+     * 검색어/필드 정규화 (소문자, 앞뒤 공백 제거)
+     */
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 단위 n-gram (1글자면 1-gram, 그 외에는 연속한 2글자 전부)
+     */
+    static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인할 n-gram (필드 안의 모든 1-gram, 2-gram)
+     */
+    private static void addDocumentGrams(String field, Set<String> grams) {
+        for (int i = 0; i < field.length(); i++) {
+            grams.add(field.substring(i, i + 1));
+            if (i + 2 <= field.length()) {
+                grams.add(field.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 색인된 장소 (정규화된 검색 필드 포함)
+     */
+    private record Document(Place place, String name, String category, String address) {
+
+        static Document of(Place place) {
+            return new Document(place, normalize(place.getName()), normalize(place.getCategory()),
+                    normalize(place.getAddress()));
+        }
+
+        /**
+         * 필드별 부분 일치 가중치 합 (일치하는 필드가 없으면 0)
+         */
+        int relevance(String normalized) {
+            return fieldScore(name, normalized, NAME_WEIGHT)
+                    + fieldScore(category, normalized, CATEGORY_WEIGHT)
+                    + fieldScore(address, normalized, ADDRESS_WEIGHT);
+        }
+
+        private static int fieldScore(String field, String normalized, int weight) {
+            int index = field.indexOf(normalized);
+            if (index < 0) {
+                return 0;
+            }
+            return index == 0 ? weight + PREFIX_BONUS : weight;
+        }
+    }
+
+    /**
+     * 본 색인 (불변)
+     *
+     * @param documents 장소 번호 → 장소
+     * @param postings  n-gram → 해당 n-gram을 포함한 장소 번호 (오름차순)
+     */
+    private record Segment(Document[] documents, Map<String, int[]> postings) {
+
+        static Segment build(List<Document> documents) {
+            Map<String, IntList> lists = new HashMap<>();
+            Set<String> grams = new LinkedHashSet<>();
+            for (int doc = 0; doc < documents.size(); doc++) {
+                Document document = documents.get(doc);
+                grams.clear();
+                addDocumentGrams(document.name(), grams);
+                addDocumentGrams(document.category(), grams);
+                addDocumentGrams(document.address(), grams);
+                for (String gram : grams) {
+                    lists.computeIfAbsent(gram, key -> new IntList()).add(doc);
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new Segment(documents.toArray(Document[]::new), postings);
+        }
+
+        /**
+         * 검색어의 모든 n-gram을 포함한 장소 번호 (목록이 짧은 n-gram부터 교집합)
+         */
+        int[] candidates(String normalized) {
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : queryGrams(normalized)) {
+                int[] list = postings.getOrDefault(gram, EMPTY_POSTINGS);
+                if (list.length == 0) {
+                    return EMPTY_POSTINGS;
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.length));
+
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    out[size++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, size);
+        }
+    }
+
+    /**
+     * 색인 구성 시 사용하는 가변 int 목록
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * 색인 상태
+     *
+     * @param base  본 색인
+     * @param delta 본 색인 이후 변경된 장소 ID → 최신 장소
+     */
+    private record State(Segment base, Map<Long, Document> delta) {
+    }
+}
@@ -1,21 +1,29 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.dto.CursorPageResponse;
+import com.ddalkkak.date.dto.PlaceAutocompleteResponse;
 import com.ddalkkak.date.dto.PlaceSearchResponse;
 import com.ddalkkak.date.entity.Place;
 import com.ddalkkak.date.repository.PlaceRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -27,8 +35,23 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlaceService {
 
+    /**
+     * 커서 기반 검색의 최대 페이지 크기
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PlaceRepository placeRepository;
-    private final ObjectMapper objectMapper;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceSearchIndex placeSearchIndex;
+    private final PlaceAutocompleteIndex placeAutocompleteIndex;
+    private final PlaceSimilarityIndex placeSimilarityIndex;
+    private final MoodTagDictionary moodTagDictionary;
+
+    @Value("${place.search-index.enabled:true}")
+    private boolean searchIndexEnabled;
+
+    @Value("${place.similarity.enabled:true}")
+    private boolean similarityIndexEnabled;
 
     /**
      * 장소 검색
@@ -36,14 +59,35 @@ public class PlaceService {
      * @param query    검색어 (장소명, 카테고리, 주소)
      * @param regionId 지역 ID 필터
      * @param sortBy   정렬 기준 (distance, popularity, rating)
+     * @param lat      기준 위도 (distance 정렬 시 사용)
+     * @param lng      기준 경도 (distance 정렬 시 사용)
+     * @param moodTags 무드 태그 필터 (모두 가진 장소만, 선택)
      * @param page     페이지 번호 (0부터 시작)
      * @param size     페이지 크기
      * @return 검색 결과
      */
-    public Page<PlaceSearchResponse> searchPlaces(String query, String regionId,
-                                                   String sortBy, int page, int size) {
-        log.info("장소 검색 시작 - 검색어: {}, 지역: {}, 정렬: {}, 페이지: {}, 크기: {}",
-                query, regionId, sortBy, page, size);
+    public Page<PlaceSearchResponse> searchPlaces(String query, String regionId, String sortBy,
+                                                   Double lat, Double lng, List<String> moodTags,
+                                                   int page, int size) {
+        log.info("장소 검색 시작 - 검색어: {}, 지역: {}, 정렬: {}, 좌표: {},{}, 무드 태그: {}, 페이지: {}, 크기: {}",
+                query, regionId, sortBy, lat, lng, moodTags, page, size);
+
+        Predicate<Place> tagFilter = moodTagDictionary.filter(moodTags);
+
+        // 거리 정렬: 공간 인덱스에서 가까운 순으로 조회 (DB 조회 없음)
+        if ("distance".equalsIgnoreCase(sortBy) && hasCoordinates(lat, lng)) {
+            return searchPlacesByDistance(query, regionId, tagFilter, lat, lng, page, size);
+        }
+
+        // 검색어 또는 무드 태그 있음: 인메모리 n-gram 색인 + 태그 비트셋으로 검색 (DB LIKE/JSON 풀 스캔 없음)
+        if (searchIndexEnabled && (tagFilter != null || (query != null && !query.isBlank()))) {
+            return searchPlacesByIndex(query, regionId, tagFilter, sortBy, page, size);
+        }
+
+        // 무드 태그 있음 (색인 비활성화 시): DB에서 태그 ID 배열 포함 여부로 검색
+        if (tagFilter != null) {
+            return searchPlacesByMoodTagsInDb(query, regionId, moodTags, sortBy, page, size);
+        }
 
         // 정렬 조건 설정
         Sort sort = createSort(sortBy);
@@ -62,7 +106,7 @@ public class PlaceService {
                 placePage = placeRepository.findAll(pageable);
             }
         } else {
-            // 검색어 있음: 이름/카테고리/주소로 검색
+            // 검색어 있음 (색인 비활성화 시): 이름/카테고리/주소로 검색
             if (regionId != null && !regionId.isBlank()) {
                 placePage = placeRepository.searchByQueryAndRegion(query, regionId, pageable);
             } else {
@@ -77,18 +121,353 @@ public class PlaceService {
     }
 
     /**
-     * 유사 장소 추천 (같은 카테고리, 같은 지역, 비슷한 가격대)
+     * 검색 색인 기반 장소 검색
+     * 일치한 장소를 정렬 기준으로 정렬한 뒤 해당 페이지를 잘라 반환 (기본 정렬은 관련도 → 데이트 적합도 → 평점)
+     */
+    private Page<PlaceSearchResponse> searchPlacesByIndex(String query, String regionId, Predicate<Place> tagFilter,
+                                                           String sortBy, int page, int size) {
+        List<PlaceSearchIndex.Match> matches = indexMatches(query, regionId, tagFilter);
+        matches.sort(searchOrder(sortBy));
+
+        List<PlaceSearchResponse> content = matches.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(match -> toSearchResponse(match.place()))
+                .collect(Collectors.toList());
+
+        log.info("색인 장소 검색 완료 - 결과 수: {}, 전체: {}", content.size(), matches.size());
+
+        return new PageImpl<>(content, PageRequest.of(page, size), matches.size());
+    }
+
+    /**
+     * DB 무드 태그 검색 (검색 색인 비활성화 시)
+     * 사전에 없는 태그가 있으면 어떤 장소도 모든 태그를 가질 수 없으므로 DB 조회 없이 빈 페이지 반환
+     */
+    private Page<PlaceSearchResponse> searchPlacesByMoodTagsInDb(String query, String regionId, List<String> moodTags,
+                                                                  String sortBy, int page, int size) {
+        int[] tagIds = moodTagDictionary.idsOfNames(moodTags);
+        if (tagIds == null) {
+            log.info("DB 무드 태그 장소 검색 완료 - 사전에 없는 태그 포함: {}", moodTags);
+            return Page.empty(PageRequest.of(page, size));
+        }
+
+        Page<Place> placePage = placeRepository.searchByMoodTags(
+                Arrays.stream(tagIds).mapToObj(String::valueOf).collect(Collectors.joining(",", "{", "}")),
+                regionId != null ? regionId : "",
+                query != null ? query.trim() : "",
+                PageRequest.of(page, size, toColumnSort(createSort(sortBy))));
+
+        log.info("DB 무드 태그 장소 검색 완료 - 결과 수: {}, 전체 페이지: {}",
+                placePage.getNumberOfElements(), placePage.getTotalPages());
+        return placePage.map(this::toSearchResponse);
+    }
+
+    /**
+     * 엔티티 속성명 정렬을 네이티브 쿼리용 컬럼명 정렬로 변환 (dateScore → date_score)
+     */
+    private static Sort toColumnSort(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> new Sort.Order(order.getDirection(),
+                        order.getProperty().replaceAll("([A-Z])", "_$1").toLowerCase()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 색인에서 검색어/지역/무드 태그 조건을 만족하는 장소 조회 (검색어가 없으면 지역 전체에서 태그로만 거름)
+     */
+    private List<PlaceSearchIndex.Match> indexMatches(String query, String regionId, Predicate<Place> tagFilter) {
+        List<PlaceSearchIndex.Match> matches = new ArrayList<>(query != null && !query.isBlank()
+                ? placeSearchIndex.search(query, regionId)
+                : placeSearchIndex.all(regionId));
+        if (tagFilter != null) {
+            matches.removeIf(match -> !tagFilter.test(match.place()));
+        }
+        return matches;
+    }
+
+    /**
+     * 색인 검색 결과 정렬 기준 (createSort와 같은 기준, 기본 정렬 앞에 관련도 추가, 동률은 ID 순)
+     */
+    private Comparator<PlaceSearchIndex.Match> searchOrder(String sortBy) {
+        Comparator<PlaceSearchIndex.Match> byDateScore = Comparator.comparing(
+                match -> match.place().getDateScore(), Comparator.nullsLast(Comparator.reverseOrder()));
+        Comparator<PlaceSearchIndex.Match> byRating = Comparator.comparing(
+                match -> match.place().getRating(), Comparator.nullsLast(Comparator.reverseOrder()));
+        Comparator<PlaceSearchIndex.Match> byReviewCount = Comparator.comparing(
+                match -> match.place().getReviewCount(), Comparator.nullsLast(Comparator.reverseOrder()));
+
+        Comparator<PlaceSearchIndex.Match> order = switch (sortBy == null ? "" : sortBy.toLowerCase()) {
+            case "popularity" -> byReviewCount.thenComparing(byRating);
+            case "rating" -> byRating.thenComparing(byReviewCount);
+            default -> Comparator.comparingInt(PlaceSearchIndex.Match::relevance).reversed()
+                    .thenComparing(byDateScore)
+                    .thenComparing(byRating);
+        };
+        return order.thenComparing(match -> match.place().getId());
+    }
+
+    /**
+     * 거리순 장소 검색
+     * 검색어/지역 조건을 만족하는 장소 중 가까운 (page + 1) × size개만 찾아 해당 페이지를 잘라 반환
+     * 좌표가 없는 장소는 결과에서 제외
+     */
+    private Page<PlaceSearchResponse> searchPlacesByDistance(String query, String regionId, Predicate<Place> tagFilter,
+                                                              double lat, double lng, int page, int size) {
+        Predicate<Place> filter = inRegion(regionId).and(matchesQuery(query)).and(orAll(tagFilter));
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) (page + 1) * size);
+
+        List<PlaceSpatialIndex.Neighbor> nearest = placeSpatialIndex.nearest(lat, lng, limit, filter);
+        long total = nearest.size() < limit ? nearest.size() : placeSpatialIndex.count(filter);
+
+        List<PlaceSearchResponse> content = nearest.stream()
+                .skip((long) page * size)
+                .map(neighbor -> toSearchResponse(neighbor.place(), neighbor.distanceKm()))
+                .collect(Collectors.toList());
+
+        log.info("거리순 장소 검색 완료 - 결과 수: {}, 전체: {}", content.size(), total);
+
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    /**
+     * 장소 검색 (커서 기반 페이지네이션)
+     * OFFSET/COUNT 없이 이전 페이지 마지막 항목의 정렬 키 다음부터 조회하므로 몇 번째 페이지든 비용이 같음
+     * - 거리 정렬 (좌표 지정): 공간 인덱스에서 커서보다 먼 장소만 가까운 순으로 조회
+     * - 검색어 또는 무드 태그 있음: 검색 색인 일치 결과 중 커서 다음 항목만 정렬 (DB LIKE 검색은 keyset을 지원하지 않으므로 항상 색인 사용)
+     * - 그 외: 정렬 기준별 복합 인덱스를 타는 keyset 쿼리 (정렬 키 + ID 내림차순)
+     *
+     * @param query    검색어 (장소명, 카테고리, 주소)
+     * @param regionId 지역 ID 필터
+     * @param sortBy   정렬 기준 (distance, popularity, rating, 기본값: 데이트 적합도)
+     * @param lat      기준 위도 (distance 정렬 시 사용)
+     * @param lng      기준 경도 (distance 정렬 시 사용)
+     * @param moodTags 무드 태그 필터 (모두 가진 장소만, 선택)
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size     페이지 크기 (1~100)
+     * @return 현재 페이지와 다음 페이지 커서
+     */
+    public CursorPageResponse<PlaceSearchResponse> searchPlacesByCursor(String query, String regionId, String sortBy,
+                                                                        Double lat, Double lng, List<String> moodTags,
+                                                                        String cursor, int size) {
+        log.info("장소 커서 검색 시작 - 검색어: {}, 지역: {}, 정렬: {}, 좌표: {},{}, 무드 태그: {}, 크기: {}",
+                query, regionId, sortBy, lat, lng, moodTags, size);
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        String sort = sortBy == null ? "" : sortBy.toLowerCase();
+        Predicate<Place> tagFilter = moodTagDictionary.filter(moodTags);
+
+        if ("distance".equals(sort) && hasCoordinates(lat, lng)) {
+            return searchPlacesByDistanceCursor(query, regionId, tagFilter, lat, lng, cursor, size);
+        }
+        if (tagFilter != null || (query != null && !query.isBlank())) {
+            return searchPlacesByIndexCursor(query, regionId, tagFilter, sort, cursor, size);
+        }
+        return findPlacesByCursor(regionId, sort, cursor, size);
+    }
+
+    /**
+     * 거리순 커서 검색 (커서: 마지막 장소의 거리, ID)
+     * 커서 이하의 장소는 필터에서 제외되므로 공간 인덱스는 커서 다음 (size + 1)개만 찾음
+     */
+    private CursorPageResponse<PlaceSearchResponse> searchPlacesByDistanceCursor(String query, String regionId,
+                                                                                 Predicate<Place> tagFilter,
+                                                                                 double lat, double lng,
+                                                                                 String cursor, int size) {
+        Predicate<Place> filter = inRegion(regionId).and(matchesQuery(query)).and(orAll(tagFilter));
+        if (cursor != null) {
+            String[] keys = PageCursor.decode(cursor, "distance", 2);
+            double lastDistance = PageCursor.required(PageCursor.parseDouble(keys[0]));
+            long lastId = PageCursor.required(PageCursor.parseLong(keys[1]));
+            filter = filter.and(place -> {
+                double distanceKm = CourseDetailEnricher.distanceKm(lat, lng, place.getLatitude(), place.getLongitude());
+                return distanceKm > lastDistance || (distanceKm == lastDistance && place.getId() > lastId);
+            });
+        }
+
+        List<PlaceSpatialIndex.Neighbor> nearest = placeSpatialIndex.nearest(lat, lng, size + 1, filter);
+        boolean hasNext = nearest.size() > size;
+        List<PlaceSpatialIndex.Neighbor> page = hasNext ? nearest.subList(0, size) : nearest;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PlaceSpatialIndex.Neighbor last = page.get(page.size() - 1);
+            nextCursor = PageCursor.encode("distance", last.distanceKm(), last.place().getId());
+        }
+
+        log.info("거리순 장소 커서 검색 완료 - 결과 수: {}, 다음 페이지: {}", page.size(), hasNext);
+
+        return CursorPageResponse.<PlaceSearchResponse>builder()
+                .content(page.stream()
+                        .map(neighbor -> toSearchResponse(neighbor.place(), neighbor.distanceKm()))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 검색 색인 기반 커서 검색 (커서: 마지막 항목의 관련도, 데이트 적합도, 평점, 리뷰 수, ID)
+     * 커서 다음 항목만 남긴 뒤 정렬하므로 앞 페이지 항목을 건너뛰는 비용이 없음
+     */
+    private CursorPageResponse<PlaceSearchResponse> searchPlacesByIndexCursor(String query, String regionId,
+                                                                              Predicate<Place> tagFilter,
+                                                                              String sort, String cursor, int size) {
+        String cursorSort = "search-" + sort;
+        Comparator<PlaceSearchIndex.Match> order = searchOrder(sort);
+
+        List<PlaceSearchIndex.Match> matches = indexMatches(query, regionId, tagFilter);
+        if (cursor != null) {
+            String[] keys = PageCursor.decode(cursor, cursorSort, 5);
+            PlaceSearchIndex.Match last = new PlaceSearchIndex.Match(Place.builder()
+                    .id(PageCursor.required(PageCursor.parseLong(keys[4])))
+                    .dateScore(PageCursor.parseInteger(keys[1]))
+                    .rating(PageCursor.parseDouble(keys[2]))
+                    .reviewCount(PageCursor.parseInteger(keys[3]))
+                    .build(), PageCursor.required(PageCursor.parseInteger(keys[0])));
+            matches.removeIf(match -> order.compare(match, last) <= 0);
+        }
+        matches.sort(order);
+
+        boolean hasNext = matches.size() > size;
+        List<PlaceSearchIndex.Match> page = hasNext ? matches.subList(0, size) : matches;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PlaceSearchIndex.Match last = page.get(page.size() - 1);
+            nextCursor = PageCursor.encode(cursorSort, last.relevance(), last.place().getDateScore(),
+                    last.place().getRating(), last.place().getReviewCount(), last.place().getId());
+        }
+
+        log.info("색인 장소 커서 검색 완료 - 결과 수: {}, 다음 페이지: {}", page.size(), hasNext);
+
+        return CursorPageResponse.<PlaceSearchResponse>builder()
+                .content(page.stream().map(match -> toSearchResponse(match.place())).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * DB keyset 커서 조회 (커서: 마지막 장소의 정렬 키 2개, ID / NULL 키는 -1로 취급)
+     * 정렬 기준별 복합 인덱스(idx_places_cursor_*)를 사용하며 (size + 1)개만 읽어 다음 페이지 여부 확인
+     */
+    private CursorPageResponse<PlaceSearchResponse> findPlacesByCursor(String regionId, String sort,
+                                                                       String cursor, int size) {
+        String cursorSort = switch (sort) {
+            case "popularity", "rating" -> sort;
+            default -> "default";
+        };
+        boolean byRegion = regionId != null && !regionId.isBlank();
+
+        // 첫 페이지는 모든 키보다 큰 값에서 시작
+        String[] keys = cursor != null ? PageCursor.decode(cursor, cursorSort, 3) : null;
+        Long lastId = keys != null ? PageCursor.required(PageCursor.parseLong(keys[2])) : Long.MAX_VALUE;
+        int limit = size + 1;
+
+        List<Place> places = switch (cursorSort) {
+            case "popularity" -> {
+                Integer reviewCount = keys != null ? PageCursor.required(PageCursor.parseInteger(keys[0])) : Integer.MAX_VALUE;
+                Double rating = keys != null ? PageCursor.required(PageCursor.parseDouble(keys[1])) : Double.MAX_VALUE;
+                yield byRegion
+                        ? placeRepository.findPageByRegionAndReviewCount(regionId, reviewCount, rating, lastId, limit)
+                        : placeRepository.findPageByReviewCount(reviewCount, rating, lastId, limit);
+            }
+            case "rating" -> {
+                Double rating = keys != null ? PageCursor.required(PageCursor.parseDouble(keys[0])) : Double.MAX_VALUE;
+                Integer reviewCount = keys != null ? PageCursor.required(PageCursor.parseInteger(keys[1])) : Integer.MAX_VALUE;
+                yield byRegion
+                        ? placeRepository.findPageByRegionAndRating(regionId, rating, reviewCount, lastId, limit)
+                        : placeRepository.findPageByRating(rating, reviewCount, lastId, limit);
+            }
+            default -> {
+                Integer dateScore = keys != null ? PageCursor.required(PageCursor.parseInteger(keys[0])) : Integer.MAX_VALUE;
+                Double rating = keys != null ? PageCursor.required(PageCursor.parseDouble(keys[1])) : Double.MAX_VALUE;
+                yield byRegion
+                        ? placeRepository.findPageByRegionAndDateScore(regionId, dateScore, rating, lastId, limit)
+                        : placeRepository.findPageByDateScore(dateScore, rating, lastId, limit);
+            }
+        };
+
+        boolean hasNext = places.size() > size;
+        List<Place> page = hasNext ? places.subList(0, size) : places;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Place last = page.get(page.size() - 1);
+            nextCursor = switch (cursorSort) {
+                case "popularity" -> PageCursor.encode(cursorSort,
+                        orMinusOne(last.getReviewCount()), orMinusOne(last.getRating()), last.getId());
+                case "rating" -> PageCursor.encode(cursorSort,
+                        orMinusOne(last.getRating()), orMinusOne(last.getReviewCount()), last.getId());
+                default -> PageCursor.encode(cursorSort,
+                        orMinusOne(last.getDateScore()), orMinusOne(last.getRating()), last.getId());
+            };
+        }
+
+        log.info("장소 커서 조회 완료 - 결과 수: {}, 다음 페이지: {}", page.size(), hasNext);
+
+        return CursorPageResponse.<PlaceSearchResponse>builder()
+                .content(page.stream().map(this::toSearchResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * keyset 쿼리의 COALESCE(컬럼, -1)과 같은 값
+     */
+    private static int orMinusOne(Integer value) {
+        return value != null ? value : -1;
+    }
+
+    private static double orMinusOne(Double value) {
+        return value != null ? value : -1.0;
+    }
+
+    /**
+     * 유사 장소 추천
+     * - 좌표 지정: 같은 카테고리, 같은 지역 장소 중 해당 위치에서 가까운 순
+     * - 좌표 미지정: 미리 계산된 유사 장소 테이블에서 조회 (무드 태그, 카테고리, 가격대, 거리 등 유사도 순)
+     *   테이블을 사용하지 않거나 첫 계산 전이거나 테이블에 없는 장소면 같은 카테고리, 같은 지역 장소를 데이트 적합도 + 평점 순으로 조회
      *
      * @param placeId 기준 장소 ID
      * @param limit   결과 개수
+     * @param lat     기준 위도 (선택)
+     * @param lng     기준 경도 (선택)
      * @return 유사 장소 목록
      */
-    public List<PlaceSearchResponse> findSimilarPlaces(Long placeId, int limit) {
-        log.info("유사 장소 검색 시작 - 기준 장소 ID: {}, 제한: {}", placeId, limit);
+    public List<PlaceSearchResponse> findSimilarPlaces(Long placeId, int limit, Double lat, Double lng) {
+        log.info("유사 장소 검색 시작 - 기준 장소 ID: {}, 제한: {}, 좌표: {},{}", placeId, limit, lat, lng);
+
+        if (similarityIndexEnabled && !hasCoordinates(lat, lng)) {
+            List<PlaceSimilarityIndex.Neighbor> similar = placeSimilarityIndex.similar(placeId, limit);
+            if (similar != null) {
+                log.info("유사 장소 테이블 조회 완료 - 결과 수: {}", similar.size());
+                return similar.stream()
+                        .map(neighbor -> toSearchResponse(neighbor.place()))
+                        .collect(Collectors.toList());
+            }
+        }
 
         Place basePlace = placeRepository.findById(placeId)
                 .orElseThrow(() -> new IllegalArgumentException("장소를 찾을 수 없습니다: " + placeId));
 
+        if (hasCoordinates(lat, lng)) {
+            Predicate<Place> filter = place -> !place.getId().equals(placeId)
+                    && Objects.equals(place.getCategory(), basePlace.getCategory())
+                    && Objects.equals(place.getRegionId(), basePlace.getRegionId());
+
+            List<PlaceSearchResponse> nearest = placeSpatialIndex.nearest(lat, lng, limit, filter).stream()
+                    .map(neighbor -> toSearchResponse(neighbor.place(), neighbor.distanceKm()))
+                    .collect(Collectors.toList());
+
+            log.info("거리순 유사 장소 검색 완료 - 결과 수: {}", nearest.size());
+            return nearest;
+        }
+
         // 같은 카테고리, 같은 지역, 자기 자신 제외
         List<Place> similarPlaces = placeRepository.findSimilarPlaces(
                 basePlace.getCategory(),
@@ -104,10 +483,91 @@ public class PlaceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 장소 자동완성 (입력 중 검색)
+     * 인메모리 트라이만 조회하므로 트랜잭션(DB 커넥션) 없이 실행
+     *
+     * @param query 입력 중인 검색어 (초성 포함 가능, 예: "ㅇㄴㄷ")
+     * @param limit 결과 개수
+     * @return 데이트 적합도 → 리뷰 수 순 장소 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PlaceAutocompleteResponse> autocomplete(String query, int limit) {
+        return placeAutocompleteIndex.complete(query, limit).stream()
+                .map(place -> PlaceAutocompleteResponse.builder()
+                        .id(place.getId())
+                        .name(place.getName())
+                        .category(place.getCategory())
+                        .address(place.getAddress())
+                        .regionId(place.getRegionId())
+                        .dateScore(place.getDateScore())
+                        .reviewCount(place.getReviewCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 위도/경도 지정 여부 (한쪽만 지정하면 잘못된 요청)
+     */
+    private boolean hasCoordinates(Double lat, Double lng) {
+        if (lat == null && lng == null) {
+            return false;
+        }
+        if (lat == null || lng == null) {
+            throw new IllegalArgumentException("lat과 lng는 함께 지정해야 합니다");
+        }
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다: " + lat + "," + lng);
+        }
+        return true;
+    }
+
+    private Predicate<Place> inRegion(String regionId) {
+        if (regionId == null || regionId.isBlank()) {
+            return place -> true;
+        }
+        return place -> regionId.equals(place.getRegionId());
+    }
+
+    private static Predicate<Place> orAll(Predicate<Place> filter) {
+        return filter != null ? filter : place -> true;
+    }
+
+    /**
+     * 검색어 조건 (searchByQuery와 같이 이름/카테고리/주소 대소문자 무시 부분 일치)
+     * 검색 색인이 활성화되어 있으면 색인에서 일치한 장소 ID 집합으로 확인
+     */
+    private Predicate<Place> matchesQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return place -> true;
+        }
+        if (searchIndexEnabled) {
+            Set<Long> matchedIds = placeSearchIndex.search(query, null).stream()
+                    .map(match -> match.place().getId())
+                    .collect(Collectors.toSet());
+            return place -> matchedIds.contains(place.getId());
+        }
+        String lowerQuery = query.toLowerCase();
+        return place -> containsIgnoreCase(place.getName(), lowerQuery)
+                || containsIgnoreCase(place.getCategory(), lowerQuery)
+                || containsIgnoreCase(place.getAddress(), lowerQuery);
+    }
+
+    private boolean containsIgnoreCase(String value, String lowerQuery) {
+        return value != null && value.toLowerCase().contains(lowerQuery);
+    }
+
     /**
      * Place 엔티티를 PlaceSearchResponse로 변환
      */
     private PlaceSearchResponse toSearchResponse(Place place) {
+        return toSearchResponse(place, null);
+    }
+
+    /**
+     * Place 엔티티를 PlaceSearchResponse로 변환 (거리는 미터 단위로 반올림, 좌표 기준 검색이 아니면 null)
+     */
+    private PlaceSearchResponse toSearchResponse(Place place, Double distanceKm) {
         return PlaceSearchResponse.builder()
                 .id(place.getId())
                 .name(place.getName())
@@ -117,31 +577,16 @@ public class PlaceService {
                 .longitude(place.getLongitude())
                 .regionId(place.getRegionId())
                 .dateScore(place.getDateScore())
-                .moodTags(parseMoodTags(place.getMoodTags()))
+                .moodTags(moodTagDictionary.namesOf(place))
                 .priceRange(place.getPriceRange())
                 .bestTime(place.getBestTime())
                 .rating(place.getRating())
                 .reviewCount(place.getReviewCount())
                 .recommendation(place.getRecommendation())
+                .distance(distanceKm != null ? (double) Math.round(distanceKm * 1000) : null)
                 .build();
     }
 
-    /**
-     * JSON 문자열을 List<String>으로 파싱
-     */
-    private List<String> parseMoodTags(String moodTagsJson) {
-        if (moodTagsJson == null || moodTagsJson.isBlank()) {
-            return Collections.emptyList();
-        }
-
-        try {
-            return objectMapper.readValue(moodTagsJson, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            log.warn("무드 태그 파싱 실패: {}", moodTagsJson, e);
-            return Collections.emptyList();
-        }
-    }
-
     /**
      * 정렬 조건 생성
      */
@@ -157,7 +602,8 @@ public class PlaceService {
         return switch (sortBy.toLowerCase()) {
             case "popularity" -> Sort.by(Sort.Direction.DESC, "reviewCount", "rating");
             case "rating" -> Sort.by(Sort.Direction.DESC, "rating", "reviewCount");
-            case "distance" -> Sort.by(Sort.Direction.ASC, "id"); // 거리 정렬은 추후 구현 (위치 기반 쿼리 필요)
+            // 좌표가 있는 거리 정렬은 공간 인덱스에서 처리하므로, 여기까지 오면 좌표가 없는 경우 (기본 정렬)
+            case "distance" -> Sort.by(Sort.Direction.DESC, "dateScore", "rating");
             default -> Sort.by(Sort.Direction.DESC, "dateScore", "rating");
         };
     }
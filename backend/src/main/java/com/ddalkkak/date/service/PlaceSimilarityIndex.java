@@ -0,0 +1,573 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유사 장소 이웃 테이블 (장소별 상위 K개 유사 장소를 미리 계산)
+ * - 장소 특징: 무드 태그(사전 ID 배열), 카테고리 경로, 데이트 유형 비트마스크, 가격대, 좌표, 추천 시간대
+ * - 후보: 같은 지역 장소 + 반경 안의 다른 지역 장소 (공간 인덱스 사용)
+ * - 기동 직후와 매일 새벽 전체 장소로 일괄 계산하며,
+ *   그 사이에는 장소 변경 이벤트로 해당 장소와 영향받는 이웃 목록만 갱신
+ * 일괄 계산은 잠금 밖에서 새 테이블을 만든 뒤 쓰기 잠금 안에서 교체만 하므로 조회를 막지 않음
+ * 조회는 장소 ID로 미리 계산된 목록을 꺼내는 것으로 끝나며, 첫 계산이 끝나기 전에는 DB 조회로 대체됨
+ */
+@Slf4j
+@Component
+public class PlaceSimilarityIndex {
+
+    /**
+     * 특징별 가중치 (합계 1.0, 한쪽이라도 값이 없는 특징은 0점)
+     */
+    private static final double MOOD_WEIGHT = 0.35;
+    private static final double CATEGORY_WEIGHT = 0.25;
+    private static final double DISTANCE_WEIGHT = 0.15;
+    private static final double DATE_TYPE_WEIGHT = 0.10;
+    private static final double PRICE_WEIGHT = 0.10;
+    private static final double BEST_TIME_WEIGHT = 0.05;
+
+    /**
+     * 거리 유사도 감쇠 거리 (km, 이 거리에서 유사도 약 0.37)
+     */
+    private static final double DISTANCE_DECAY_KM = 2.0;
+
+    /**
+     * 변경 묶음이 전체 장소의 이 비율 이상이면 장소별 보정 대신 일괄 계산
+     */
+    private static final double BULK_REBUILD_RATIO = 0.1;
+
+    private static final Scored[] NO_NEIGHBORS = new Scored[0];
+
+    /**
+     * 유사도 내림차순 → 장소 ID 오름차순
+     */
+    private static final Comparator<Scored> MOST_SIMILAR = Comparator
+            .comparingDouble(Scored::score).reversed()
+            .thenComparingLong(Scored::placeId);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final MoodTagDictionary moodTagDictionary;
+    private final int topK;
+    private final double radiusKm;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${place.similarity.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 현재 이웃 테이블 (첫 계산 전에는 null, 교체와 변경 이벤트 반영은 쓰기 잠금 안에서 수행)
+     */
+    private volatile State state;
+
+    /**
+     * 일괄 계산 중 도착한 변경 (계산 결과에 다시 반영), 일괄 계산 중이 아니면 null
+     */
+    private List<Place> pendingDuringRebuild;
+
+    public PlaceSimilarityIndex(
+            PlaceRepository placeRepository,
+            PlaceSpatialIndex placeSpatialIndex,
+            MoodTagDictionary moodTagDictionary,
+            @Value("${place.similarity.top-k:20}") int topK,
+            @Value("${place.similarity.radius-km:3.0}") double radiusKm
+    ) {
+        this.placeRepository = placeRepository;
+        this.placeSpatialIndex = placeSpatialIndex;
+        this.moodTagDictionary = moodTagDictionary;
+        this.topK = topK;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * 유사 장소 (장소와 유사도 0.0 ~ 1.0)
+     */
+    public record Neighbor(Place place, double score) {
+    }
+
+    /**
+     * 미리 계산된 유사 장소 조회
+     *
+     * @param placeId 기준 장소 ID
+     * @param limit   최대 반환 개수 (top-k 이하)
+     * @return 유사도 순 장소 목록, 첫 계산 전이거나 색인에 없는 장소면 null
+     */
+    public List<Neighbor> similar(Long placeId, int limit) {
+        lock.readLock().lock();
+        try {
+            State current = state;
+            if (current == null || !current.features.containsKey(placeId)) {
+                return null;
+            }
+            Scored[] list = current.neighbors.getOrDefault(placeId, NO_NEIGHBORS);
+            List<Neighbor> result = new ArrayList<>(Math.min(limit, list.length));
+            for (int i = 0; i < list.length && result.size() < limit; i++) {
+                Features neighbor = current.features.get(list[i].placeId());
+                result.add(new Neighbor(neighbor.place(), list[i].score()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 직후 첫 계산 (요청 스레드가 계산을 떠안지 않도록 미리 수행)
+     * 실패해도 조회는 DB 경로로 동작하고 다음 정기 재계산에서 다시 시도하므로 기동은 계속 진행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("기동 시 유사 장소 테이블 계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 재계산 (기본: 매일 새벽 4시 30분)
+     * 증분 갱신으로 누적된 근사(후보 반경 밖으로 밀려난 이웃 등)를 DB 기준으로 바로잡음
+     * 이미 일괄 계산 중이면 건너뜀
+     */
+    @Scheduled(cron = "${place.similarity.rebuild-cron:0 30 4 * * *}", zone = "${place.similarity.zone:Asia/Seoul}")
+    public void rebuild() {
+        if (!startRebuild()) {
+            return;
+        }
+        rebuildAndSwap(placeRepository.findAll());
+    }
+
+    /**
+     * 장소 변경 이벤트 처리 (커밋 이후 해당 장소의 이웃을 다시 계산하고, 영향받는 장소의 이웃 목록만 보정)
+     * - 백필/재분류처럼 묶음이 전체 장소의 일정 비율 이상이면 장소별 보정 대신
+     *   메모리의 장소에 덮어쓴 목록으로 잠금 밖에서 일괄 계산 후 교체 (계산 중에는 기존 테이블로 조회)
+     * - 일괄 계산 중이면 계산 결과에 다시 반영하도록 보관
+     * - 첫 계산을 시작하기 전이라면 첫 계산이 최신 데이터를 읽으므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        List<Place> places = event.places().stream()
+                .filter(place -> place.getId() != null)
+                .toList();
+        if (places.isEmpty()) {
+            return;
+        }
+
+        List<Place> bulkSource = null;
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(places);
+            }
+            if (state == null || (pendingDuringRebuild != null && isBulk(places, state))) {
+                return;
+            }
+            if (isBulk(places, state)) {
+                pendingDuringRebuild = new ArrayList<>();
+                bulkSource = merge(state, places);
+            } else {
+                for (Place place : places) {
+                    update(state, place);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (bulkSource != null) {
+            rebuildAndSwap(bulkSource);
+        }
+        log.debug("유사 장소 테이블 갱신 - 장소: {}개", places.size());
+    }
+
+    /**
+     * 일괄 계산 시작 표시 (이미 계산 중이면 false)
+     */
+    private boolean startRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                return false;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 잠금 밖에서 새 테이블을 계산하고, 계산 중 도착한 변경을 반영해 교체
+     * 계산 중 도착한 변경이 일괄 계산 규모면 잠금 안에서 반영하지 않고 그 변경을 덮어쓴 목록으로 다시 계산
+     */
+    private void rebuildAndSwap(List<Place> places) {
+        try {
+            while (true) {
+                State rebuilt = build(places);
+
+                lock.writeLock().lock();
+                try {
+                    List<Place> pending = pendingDuringRebuild;
+                    if (isBulk(pending, rebuilt)) {
+                        pendingDuringRebuild = new ArrayList<>();
+                        places = merge(rebuilt, pending);
+                        continue;
+                    }
+                    for (Place place : pending) {
+                        update(rebuilt, place);
+                    }
+                    pendingDuringRebuild = null;
+                    state = rebuilt;
+                    return;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 장소별 보정 대신 일괄 계산할 규모의 변경 묶음인지
+     */
+    private static boolean isBulk(List<Place> places, State current) {
+        return places.size() > 1 && places.size() >= current.features.size() * BULK_REBUILD_RATIO;
+    }
+
+    /**
+     * 색인된 장소에 변경된 장소를 덮어쓴 전체 장소 목록
+     */
+    private static List<Place> merge(State current, List<Place> changed) {
+        Map<Long, Place> places = new HashMap<>();
+        for (Features features : current.features.values()) {
+            places.put(features.place().getId(), features.place());
+        }
+        for (Place place : changed) {
+            places.put(place.getId(), place);
+        }
+        return new ArrayList<>(places.values());
+    }
+
+    /**
+     * 전체 장소로 이웃 테이블 일괄 계산
+     */
+    private State build(List<Place> places) {
+        long startTime = System.currentTimeMillis();
+
+        State built = new State();
+        for (Place place : places) {
+            if (place.getId() != null) {
+                built.put(featuresOf(place));
+            }
+        }
+        for (Features features : built.features.values()) {
+            built.setNeighbors(features.place().getId(), nearest(built, features));
+        }
+
+        log.info("유사 장소 테이블 계산 - 장소: {}, 소요 시간: {}ms",
+                built.features.size(), System.currentTimeMillis() - startTime);
+        return built;
+    }
+
+    /**
+     * 장소 하나의 변경 반영
+     * - 변경된 장소: 이웃 전체 재계산
+     * - 후보 관계인 장소와 기존에 이 장소를 이웃으로 가진 장소: 목록에서 이 장소의 순위만 보정하고,
+     *   상위 K개가 꽉 찬 목록에서 빠지게 되어 빈자리를 채워야 할 때만 재계산
+     */
+    private void update(State target, Place place) {
+        Long placeId = place.getId();
+        Features features = featuresOf(place);
+        target.put(features);
+
+        Set<Long> candidates = candidates(target, features);
+        target.setNeighbors(placeId, nearest(target, features, candidates));
+
+        Set<Long> affected = new HashSet<>(candidates);
+        affected.addAll(target.listedBy.getOrDefault(placeId, Set.of()));
+
+        for (Long otherId : affected) {
+            Features other = target.features.get(otherId);
+            if (other == null) {
+                continue;
+            }
+            Scored[] list = target.neighbors.getOrDefault(otherId, NO_NEIGHBORS);
+            int position = indexOf(list, placeId);
+            boolean full = list.length >= topK;
+
+            if (!candidates.contains(otherId)) {
+                if (position >= 0) {
+                    if (full) {
+                        target.setNeighbors(otherId, nearest(target, other));
+                    } else {
+                        target.setNeighbors(otherId, without(list, position));
+                    }
+                }
+                continue;
+            }
+
+            Scored entry = new Scored(placeId, score(other, features));
+            if (position >= 0 && full && MOST_SIMILAR.compare(entry, list[list.length - 1]) > 0) {
+                // 순위가 마지막 밖으로 밀려남 → 빈자리를 채울 후보를 알 수 없으므로 재계산
+                target.setNeighbors(otherId, nearest(target, other));
+            } else if (position >= 0 || !full || MOST_SIMILAR.compare(entry, list[list.length - 1]) < 0) {
+                target.setNeighbors(otherId, withEntry(position >= 0 ? without(list, position) : list, entry));
+            }
+        }
+    }
+
+    private Scored[] nearest(State target, Features features) {
+        return nearest(target, features, candidates(target, features));
+    }
+
+    /**
+     * 후보 중 유사도 상위 K개 (크기 K 최소 힙)
+     */
+    private Scored[] nearest(State target, Features features, Set<Long> candidates) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topK + 1, MOST_SIMILAR.reversed());
+        for (Long candidateId : candidates) {
+            Features candidate = target.features.get(candidateId);
+            if (candidate == null) {
+                continue;
+            }
+            heap.offer(new Scored(candidateId, score(features, candidate)));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        Scored[] result = heap.toArray(NO_NEIGHBORS);
+        Arrays.sort(result, MOST_SIMILAR);
+        return result;
+    }
+
+    /**
+     * 후보 장소 ID (같은 지역 + 반경 안의 장소, 자기 자신 제외)
+     */
+    private Set<Long> candidates(State target, Features features) {
+        Long placeId = features.place().getId();
+        Set<Long> candidates = new HashSet<>(target.byRegion.getOrDefault(features.regionId(), Set.of()));
+
+        if (features.latitude() != null && features.longitude() != null) {
+            for (PlaceSpatialIndex.Neighbor neighbor : placeSpatialIndex.withinRadius(
+                    features.latitude(), features.longitude(), radiusKm, place -> true)) {
+                if (target.features.containsKey(neighbor.place().getId())) {
+                    candidates.add(neighbor.place().getId());
+                }
+            }
+        }
+        candidates.remove(placeId);
+        return candidates;
+    }
+
+    private Scored[] withEntry(Scored[] list, Scored entry) {
+        int position = 0;
+        while (position < list.length && MOST_SIMILAR.compare(list[position], entry) < 0) {
+            position++;
+        }
+        int size = Math.min(list.length + 1, topK);
+        Scored[] result = new Scored[size];
+        System.arraycopy(list, 0, result, 0, Math.min(position, size));
+        if (position < size) {
+            result[position] = entry;
+            System.arraycopy(list, position, result, position + 1, size - position - 1);
+        }
+        return result;
+    }
+
+    private static Scored[] without(Scored[] list, int position) {
+        Scored[] result = new Scored[list.length - 1];
+        System.arraycopy(list, 0, result, 0, position);
+        System.arraycopy(list, position + 1, result, position, list.length - position - 1);
+        return result;
+    }
+
+    private static int indexOf(Scored[] list, Long placeId) {
+        for (int i = 0; i < list.length; i++) {
+            if (list[i].placeId() == placeId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 두 장소의 유사도 (0.0 ~ 1.0, 특징별 유사도의 가중 합)
+     */
+    private static double score(Features a, Features b) {
+        double score = 0;
+
+        if (a.moods().length > 0 && b.moods().length > 0) {
+            int shared = countShared(a.moods(), b.moods());
+            score += MOOD_WEIGHT * shared / (a.moods().length + b.moods().length - shared);
+        }
+
+        if (a.categoryPath().length > 0 && b.categoryPath().length > 0) {
+            int common = 0;
+            while (common < a.categoryPath().length && common < b.categoryPath().length
+                    && a.categoryPath()[common].equals(b.categoryPath()[common])) {
+                common++;
+            }
+            score += CATEGORY_WEIGHT * common / Math.max(a.categoryPath().length, b.categoryPath().length);
+        }
+
+        if (a.latitude() != null && a.longitude() != null && b.latitude() != null && b.longitude() != null) {
+            double distanceKm = CourseDetailEnricher.distanceKm(a.latitude(), a.longitude(), b.latitude(), b.longitude());
+            score += DISTANCE_WEIGHT * Math.exp(-distanceKm / DISTANCE_DECAY_KM);
+        }
+
+        if (a.dateTypeMask() != 0 && b.dateTypeMask() != 0) {
+            score += DATE_TYPE_WEIGHT * Integer.bitCount(a.dateTypeMask() & b.dateTypeMask())
+                    / Integer.bitCount(a.dateTypeMask() | b.dateTypeMask());
+        }
+
+        if (a.priceMid() > 0 && b.priceMid() > 0) {
+            score += PRICE_WEIGHT * Math.min(a.priceMid(), b.priceMid()) / Math.max(a.priceMid(), b.priceMid());
+        }
+
+        if (a.bestTime() != null && a.bestTime().equals(b.bestTime())) {
+            score += BEST_TIME_WEIGHT;
+        }
+        return score;
+    }
+
+    /**
+     * 정렬된 두 배열의 공통 원소 수
+     */
+    private static int countShared(int[] a, int[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * 장소 특징 추출 (무드 태그는 사전 ID를 정렬된 배열로 저장)
+     */
+    private Features featuresOf(Place place) {
+        int[] moods = moodTagDictionary.idsOf(place).clone();
+        Arrays.sort(moods);
+
+        String[] categoryPath = place.getCategory() == null || place.getCategory().isBlank()
+                ? new String[0]
+                : place.getCategory().trim().split("\\s*>\\s*");
+
+        // 가격대 중간값 (상한이 없으면 하한 기준)
+        double priceMid = 0;
+        if (place.getPriceMin() != null) {
+            int priceMax = place.getPriceMax() != null ? place.getPriceMax() : place.getPriceMin();
+            priceMid = (place.getPriceMin() + priceMax) / 2.0;
+        }
+
+        String bestTime = place.getBestTime() == null || place.getBestTime().isBlank()
+                ? null : place.getBestTime().trim();
+
+        return new Features(place, place.getRegionId(),
+                moods,
+                categoryPath,
+                place.getDateTypeMask() != null ? place.getDateTypeMask() : 0,
+                priceMid,
+                place.getLatitude(), place.getLongitude(),
+                bestTime);
+    }
+
+    /**
+     * 장소 특징
+     *
+     * @param moods        무드 태그 사전 ID (오름차순)
+     * @param categoryPath 카테고리 경로 ("음식점 > 양식" → [음식점, 양식])
+     * @param priceMid     가격대 중간값 (가격 정보가 없으면 0)
+     */
+    private record Features(Place place, String regionId, int[] moods, String[] categoryPath, int dateTypeMask,
+                    double priceMid, Double latitude, Double longitude, String bestTime) {
+    }
+
+    /**
+     * 이웃 항목 (장소 ID와 유사도, 조회 시 최신 장소로 변환)
+     */
+    private record Scored(long placeId, double score) {
+    }
+
+    /**
+     * 이웃 테이블 상태
+     */
+    private static final class State {
+
+        private final Map<Long, Features> features = new HashMap<>();
+        private final Map<String, Set<Long>> byRegion = new HashMap<>();
+        private final Map<Long, Scored[]> neighbors = new HashMap<>();
+
+        /**
+         * 장소 ID → 이 장소를 이웃 목록에 가진 장소 ID (변경 시 영향받는 목록 확인용)
+         */
+        private final Map<Long, Set<Long>> listedBy = new HashMap<>();
+
+        void put(Features updated) {
+            Long placeId = updated.place().getId();
+            Features previous = features.put(placeId, updated);
+            if (previous != null && !Objects.equals(previous.regionId(), updated.regionId())) {
+                Set<Long> members = byRegion.get(previous.regionId());
+                if (members != null) {
+                    members.remove(placeId);
+                }
+            }
+            byRegion.computeIfAbsent(updated.regionId(), key -> new LinkedHashSet<>()).add(placeId);
+        }
+
+        void setNeighbors(Long placeId, Scored[] list) {
+            Scored[] previous = neighbors.put(placeId, list);
+            if (previous != null) {
+                for (Scored entry : previous) {
+                    Set<Long> owners = listedBy.get(entry.placeId());
+                    if (owners != null) {
+                        owners.remove(placeId);
+                    }
+                }
+            }
+            for (Scored entry : list) {
+                listedBy.computeIfAbsent(entry.placeId(), key -> new HashSet<>()).add(placeId);
+            }
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * 장소 좌표 인메모리 공간 인덱스 (위경도 격자 버킷)
+ * - 좌표를 cell-degrees 간격의 격자 셀로 나누어 셀 → 장소 배열로 보관
+ * - k-최근접 조회: 기준 셀부터 바깥 고리로 넓혀 가며, 다음 고리의 최소 거리가 k번째 거리보다 멀면 중단
+ * - 반경 조회: 반경을 덮는 셀만 확인
+ * 최초 조회 시 전체 장소를 1회 로드하고, 이후에는 장소 변경 이벤트로 해당 셀만 증분 갱신 (스냅샷 교체)
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    /**
+     * 위도 1도당 거리 (km)
+     */
+    private static final double KM_PER_DEGREE = 111.32;
+
+    /**
+     * 거리 오름차순, 동일 거리면 장소 ID 오름차순
+     */
+    private static final Comparator<Neighbor> NEAREST_FIRST = Comparator
+            .comparingDouble(Neighbor::distanceKm)
+            .thenComparing(neighbor -> neighbor.place().getId());
+
+    private final PlaceRepository placeRepository;
+    private final double cellDegrees;
+
+    /**
+     * 현재 스냅샷 (불변, 변경 시 교체), 로드 전에는 null
+     */
+    private volatile Snapshot snapshot;
+
+    public PlaceSpatialIndex(
+            PlaceRepository placeRepository,
+            @Value("${place.spatial-index.cell-degrees:0.01}") double cellDegrees
+    ) {
+        this.placeRepository = placeRepository;
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 조회 결과 (장소와 기준 좌표로부터의 직선거리)
+     */
+    public record Neighbor(Place place, double distanceKm) {
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 조건에 맞는 장소 k개 조회
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param k         최대 반환 개수
+     * @param filter    장소 조건
+     * @return 거리 오름차순 결과
+     */
+    public List<Neighbor> nearest(double latitude, double longitude, int k, Predicate<Place> filter) {
+        Snapshot current = snapshot();
+        if (k <= 0 || current.cells().isEmpty()) {
+            return List.of();
+        }
+
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+        int maxRing = Math.max(
+                Math.max(Math.abs(centerLat - current.minLatCell()), Math.abs(current.maxLatCell() - centerLat)),
+                Math.max(Math.abs(centerLon - current.minLonCell()), Math.abs(current.maxLonCell() - centerLon)));
+
+        // 가장 먼 결과가 맨 앞에 오는 최대 힙
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1, NEAREST_FIRST.reversed());
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 데이터에서 멀리 떨어진 기준 좌표라 고리 둘레가 실제 셀 수보다 커지면 전체 항목을 한 번에 확인
+            if (8L * ring > current.cells().size()) {
+                heap.clear();
+                for (Entry entry : current.byId().values()) {
+                    if (filter.test(entry.place())) {
+                        heap.offer(new Neighbor(entry.place(), entry.distanceKm(latitude, longitude)));
+                        if (heap.size() > k) {
+                            heap.poll();
+                        }
+                    }
+                }
+                break;
+            }
+
+            for (int latCell = centerLat - ring; latCell <= centerLat + ring; latCell++) {
+                boolean edgeRow = latCell == centerLat - ring || latCell == centerLat + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int lonCell = centerLon - ring; lonCell <= centerLon + ring; lonCell += step) {
+                    Entry[] entries = current.cells().get(keyOf(latCell, lonCell));
+                    if (entries == null) {
+                        continue;
+                    }
+                    for (Entry entry : entries) {
+                        if (!filter.test(entry.place())) {
+                            continue;
+                        }
+                        heap.offer(new Neighbor(entry.place(), entry.distanceKm(latitude, longitude)));
+                        if (heap.size() > k) {
+                            heap.poll();
+                        }
+                    }
+                }
+            }
+
+            // 다음 고리의 장소는 기준 좌표에서 최소 ring개 셀 폭 이상 떨어져 있음
+            if (heap.size() == k && heap.peek().distanceKm() <= ring * minCellWidthKm(latitude, ring + 1)) {
+                break;
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    /**
+     * 기준 좌표 반경 안에서 조건에 맞는 장소 조회
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  반경 (km)
+     * @param filter    장소 조건
+     * @return 거리 오름차순 결과
+     */
+    public List<Neighbor> withinRadius(double latitude, double longitude, double radiusKm, Predicate<Place> filter) {
+        Snapshot current = snapshot();
+        List<Neighbor> result = new ArrayList<>();
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double maxAbsLat = Math.min(89.9, Math.abs(latitude) + latDelta);
+        double lonDelta = Math.min(180, radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat))));
+
+        int fromLat = cellOf(latitude - latDelta);
+        int toLat = cellOf(latitude + latDelta);
+        int fromLon = cellOf(longitude - lonDelta);
+        int toLon = cellOf(longitude + lonDelta);
+
+        // 반경이 넓어 확인할 셀이 실제 셀 수보다 많으면 존재하는 셀만 순회
+        long rangeCells = (long) (toLat - fromLat + 1) * (toLon - fromLon + 1);
+        if (rangeCells > current.cells().size()) {
+            current.cells().forEach((key, entries) -> {
+                int latCell = latCellOf(key);
+                int lonCell = lonCellOf(key);
+                if (latCell >= fromLat && latCell <= toLat && lonCell >= fromLon && lonCell <= toLon) {
+                    collectWithin(entries, latitude, longitude, radiusKm, filter, result);
+                }
+            });
+        } else {
+            for (int latCell = fromLat; latCell <= toLat; latCell++) {
+                for (int lonCell = fromLon; lonCell <= toLon; lonCell++) {
+                    Entry[] entries = current.cells().get(keyOf(latCell, lonCell));
+                    if (entries != null) {
+                        collectWithin(entries, latitude, longitude, radiusKm, filter, result);
+                    }
+                }
+            }
+        }
+
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 색인된 장소 수 (페이지 전체 개수 계산용)
+     */
+    public long count(Predicate<Place> filter) {
+        return snapshot().byId().values().stream()
+                .filter(entry -> filter.test(entry.place()))
+                .count();
+    }
+
+    /**
+     * 장소 변경 이벤트 처리 (커밋 이후 해당 셀만 증분 갱신, 여러 장소면 셀 전체를 1회 재구성)
+     * 아직 로드되지 않았다면 최초 조회 시 최신 데이터로 로드되므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        List<Place> places = event.places();
+        synchronized (this) {
+            if (snapshot == null) {
+                return;
+            }
+            if (places.size() == 1) {
+                Place place = places.get(0);
+                snapshot = snapshot.with(place.getId(), toEntry(place));
+            } else {
+                Map<Long, Entry> byId = new HashMap<>(snapshot.byId());
+                for (Place place : places) {
+                    Entry entry = toEntry(place);
+                    if (entry != null) {
+                        byId.put(place.getId(), entry);
+                    } else if (place.getId() != null) {
+                        byId.remove(place.getId());
+                    }
+                }
+                snapshot = Snapshot.of(byId);
+            }
+        }
+        log.debug("공간 인덱스 갱신 - 장소: {}개", places.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 전체 장소를 로드하여 스냅샷 생성
+     */
+    private Snapshot load() {
+        long startTime = System.currentTimeMillis();
+
+        List<Place> places = placeRepository.findAll();
+        Map<Long, Entry> byId = new HashMap<>();
+        for (Place place : places) {
+            Entry entry = toEntry(place);
+            if (entry != null) {
+                byId.put(place.getId(), entry);
+            }
+        }
+        Snapshot loaded = Snapshot.of(byId);
+
+        log.info("공간 인덱스 로드 - 전체: {}, 색인: {}, 셀: {}, 소요 시간: {}ms",
+                places.size(), byId.size(), loaded.cells().size(), System.currentTimeMillis() - startTime);
+
+        return loaded;
+    }
+
+    /**
+     * 좌표가 있는 장소만 색인 (없으면 null → 제거)
+     */
+    private Entry toEntry(Place place) {
+        if (place.getId() == null || place.getLatitude() == null || place.getLongitude() == null) {
+            return null;
+        }
+        double latitude = place.getLatitude();
+        double longitude = place.getLongitude();
+        return new Entry(place, latitude, longitude, keyOf(cellOf(latitude), cellOf(longitude)));
+    }
+
+    private static void collectWithin(Entry[] entries, double latitude, double longitude, double radiusKm,
+                                      Predicate<Place> filter, List<Neighbor> result) {
+        for (Entry entry : entries) {
+            if (!filter.test(entry.place())) {
+                continue;
+            }
+            double distanceKm = entry.distanceKm(latitude, longitude);
+            if (distanceKm <= radiusKm) {
+                result.add(new Neighbor(entry.place(), distanceKm));
+            }
+        }
+    }
+
+    private int cellOf(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    /**
+     * 기준 위도에서 ring개 셀 떨어진 범위 안의 가장 좁은 셀 폭 (km, 고위도일수록 경도 폭이 좁아짐)
+     */
+    private double minCellWidthKm(double latitude, int ring) {
+        double farthestLat = Math.min(89.9, Math.abs(latitude) + ring * cellDegrees);
+        return cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLat));
+    }
+
+    private static long keyOf(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private static int latCellOf(long cellKey) {
+        return (int) (cellKey >> 32);
+    }
+
+    private static int lonCellOf(long cellKey) {
+        return (int) cellKey;
+    }
+
+    /**
+     * 색인된 장소
+     */
+    private record Entry(Place place, double latitude, double longitude, long cellKey) {
+
+        double distanceKm(double fromLatitude, double fromLongitude) {
+            return CourseDetailEnricher.distanceKm(fromLatitude, fromLongitude, latitude, longitude);
+        }
+    }
+
+    /**
+     * 공간 인덱스 스냅샷
+     *
+     * @param byId  장소 ID → 항목
+     * @param cells 셀 키 → 셀 안의 항목 배열
+     */
+    private record Snapshot(Map<Long, Entry> byId, Map<Long, Entry[]> cells,
+                            int minLatCell, int maxLatCell, int minLonCell, int maxLonCell) {
+
+        /**
+         * 항목 전체로 셀을 구성한 스냅샷 생성
+         */
+        static Snapshot of(Map<Long, Entry> byId) {
+            Map<Long, List<Entry>> cellLists = new HashMap<>();
+            for (Entry entry : byId.values()) {
+                cellLists.computeIfAbsent(entry.cellKey(), key -> new ArrayList<>()).add(entry);
+            }
+
+            Map<Long, Entry[]> cells = new HashMap<>();
+            int minLatCell = Integer.MAX_VALUE;
+            int maxLatCell = Integer.MIN_VALUE;
+            int minLonCell = Integer.MAX_VALUE;
+            int maxLonCell = Integer.MIN_VALUE;
+            for (Map.Entry<Long, List<Entry>> cell : cellLists.entrySet()) {
+                long cellKey = cell.getKey();
+                cells.put(cellKey, cell.getValue().toArray(Entry[]::new));
+                minLatCell = Math.min(minLatCell, latCellOf(cellKey));
+                maxLatCell = Math.max(maxLatCell, latCellOf(cellKey));
+                minLonCell = Math.min(minLonCell, lonCellOf(cellKey));
+                maxLonCell = Math.max(maxLonCell, lonCellOf(cellKey));
+            }
+
+            return new Snapshot(byId, cells, minLatCell, maxLatCell, minLonCell, maxLonCell);
+        }
+
+        /**
+         * 장소 하나를 반영한 새 스냅샷 생성 (이전 셀과 새 셀만 다시 만들고 나머지 셀은 그대로 공유)
+         *
+         * @param placeId 장소 ID
+         * @param updated 갱신된 항목 (좌표가 없으면 null → 제거)
+         */
+        Snapshot with(Long placeId, Entry updated) {
+            Entry previous = byId.get(placeId);
+
+            Map<Long, Entry> nextById = new HashMap<>(byId);
+            if (updated != null) {
+                nextById.put(placeId, updated);
+            } else {
+                nextById.remove(placeId);
+            }
+
+            Snapshot next = new Snapshot(nextById, cells, minLatCell, maxLatCell, minLonCell, maxLonCell);
+            if (previous != null) {
+                next = next.withCell(previous.cellKey(), remove(next.cells().get(previous.cellKey()), placeId));
+            }
+            if (updated != null) {
+                Entry[] cell = next.cells().getOrDefault(updated.cellKey(), new Entry[0]);
+                Entry[] added = new Entry[cell.length + 1];
+                System.arraycopy(cell, 0, added, 0, cell.length);
+                added[cell.length] = updated;
+                next = next.withCell(updated.cellKey(), added);
+            }
+            return next;
+        }
+
+        /**
+         * 셀 하나를 교체한 새 스냅샷 (빈 셀은 제거, 격자 범위는 넓히기만 함)
+         */
+        Snapshot withCell(long cellKey, Entry[] entries) {
+            Map<Long, Entry[]> nextCells = new HashMap<>(cells);
+            if (entries.length == 0) {
+                nextCells.remove(cellKey);
+                return new Snapshot(byId, nextCells, minLatCell, maxLatCell, minLonCell, maxLonCell);
+            }
+            nextCells.put(cellKey, entries);
+            int latCell = latCellOf(cellKey);
+            int lonCell = lonCellOf(cellKey);
+            return new Snapshot(byId, nextCells,
+                    Math.min(minLatCell, latCell), Math.max(maxLatCell, latCell),
+                    Math.min(minLonCell, lonCell), Math.max(maxLonCell, lonCell));
+        }
+
+        private static Entry[] remove(Entry[] cell, Long placeId) {
+            if (cell == null) {
+                return new Entry[0];
+            }
+            List<Entry> remaining = new ArrayList<>(cell.length);
+            for (Entry entry : cell) {
+                if (!entry.place().getId().equals(placeId)) {
+                    remaining.add(entry);
+                }
+            }
+            return remaining.toArray(Entry[]::new);
+        }
+    }
+}
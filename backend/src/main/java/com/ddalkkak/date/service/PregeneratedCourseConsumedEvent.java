@@ -0,0 +1,11 @@
+package com.ddalkkak.date.service;
+
+/**
+ * 사전 생성 코스 풀 소비 이벤트
+ * 풀에서 코스를 꺼냈을 때(적중 시에만)와 장소 변경으로 풀의 코스가 제거되었을 때 발행하여 비동기 보충을 요청
+ * 풀이 비어 있어 꺼내지 못한 경우(미적중)에는 발행하지 않으며, 빈 풀은 정기 보충 스케줄러가 채움
+ *
+ * @param key 풀 키
+ */
+public record PregeneratedCourseConsumedEvent(PregeneratedCoursePool.PoolKey key) {
+}
@@ -0,0 +1,175 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.BudgetPreset;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Predicate;
+
+/**
+ * 사전 생성 코스 풀
+ * 지역 × 데이트 유형 × 예산 프리셋별로 검증된 LLM 생성 결과를 미리 쌓아두고 요청 시 하나씩 꺼내 사용
+ * - 꺼낸 코스는 풀에서 제거되므로 사용자마다 다른 코스를 받음
+ * - 코스를 꺼낸 경우에만 보충 이벤트를 발행하여 CoursePregenerationScheduler가 비동기로 채움
+ *   (풀에 없는 조합의 요청은 보충하지 않으므로, 다시 요청되지 않을 조합에 LLM 호출을 쓰지 않음)
+ * - 장소가 변경되면 해당 장소를 포함한 코스를 풀에서 제거
+ * 직접 입력 예산은 풀 대상이 아님
+ */
+@Slf4j
+@Component
+public class PregeneratedCoursePool {
+
+    private final Map<PoolKey, Deque<LlmCourseGenerationDto.CourseGenerationResult>> pools = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${course.pregeneration.size-per-key:2}")
+    private int sizePerKey;
+
+    public PregeneratedCoursePool(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.hits = meterRegistry.counter("course.pregeneration.pool.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("course.pregeneration.pool.lookups", "result", "miss");
+        Gauge.builder("course.pregeneration.pool.size", pools,
+                        p -> p.values().stream().mapToInt(Deque::size).sum())
+                .description("사전 생성되어 대기 중인 코스 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청에 해당하는 풀 키 (직접 입력 예산이거나 무드 태그를 지정하면 null)
+     */
+    public PoolKey keyOf(CourseGenerationRequest request) {
+        BudgetPreset preset = BudgetPreset.fromId(request.getBudgetPresetId());
+        if (preset == BudgetPreset.CUSTOM || (request.getMoodTags() != null && !request.getMoodTags().isEmpty())) {
+            return null;
+        }
+        return new PoolKey(request.getRegionId(), DateType.fromId(request.getDateTypeId()), preset);
+    }
+
+    /**
+     * 풀에서 코스 하나를 꺼냄 (검증에 실패한 항목은 버리고 다음 항목 확인)
+     * 꺼낸 경우에만 보충 이벤트 발행 (미스는 정기 보충 대상 조합이면 다음 정기 보충에서 채워짐)
+     *
+     * @param key       풀 키
+     * @param validator 현재 후보 장소/예산 기준 검증 함수
+     * @return 사전 생성된 코스 (없으면 null)
+     */
+    public LlmCourseGenerationDto.CourseGenerationResult take(
+            PoolKey key,
+            Predicate<LlmCourseGenerationDto.CourseGenerationResult> validator
+    ) {
+        Deque<LlmCourseGenerationDto.CourseGenerationResult> pool = pools.get(key);
+        LlmCourseGenerationDto.CourseGenerationResult result = null;
+
+        if (pool != null) {
+            LlmCourseGenerationDto.CourseGenerationResult candidate;
+            while ((candidate = pool.pollFirst()) != null) {
+                if (validator.test(candidate)) {
+                    result = candidate;
+                    break;
+                }
+                log.debug("사전 생성 코스 검증 실패로 폐기 - {}", key);
+            }
+        }
+
+        if (result == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        log.info("사전 생성 코스 사용 - 지역: {}, 데이트 유형: {}, 예산: {}",
+                key.regionId(), key.dateType().getId(), key.budgetPreset().getId());
+        eventPublisher.publishEvent(new PregeneratedCourseConsumedEvent(key));
+        return result;
+    }
+
+    /**
+     * 생성된 코스를 풀에 추가 (가득 찼으면 무시)
+     *
+     * @return 추가 여부
+     */
+    public boolean offer(PoolKey key, LlmCourseGenerationDto.CourseGenerationResult result) {
+        Deque<LlmCourseGenerationDto.CourseGenerationResult> pool =
+                pools.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        if (pool.size() >= sizePerKey) {
+            return false;
+        }
+        pool.offerLast(result);
+        return true;
+    }
+
+    /**
+     * 목표 개수까지 부족한 코스 수
+     */
+    public int deficit(PoolKey key) {
+        Deque<LlmCourseGenerationDto.CourseGenerationResult> pool = pools.get(key);
+        return Math.max(0, sizePerKey - (pool != null ? pool.size() : 0));
+    }
+
+    /**
+     * 장소 변경 시 해당 장소를 포함한 사전 생성 코스 제거 (묶음 전체를 풀마다 한 번씩 확인)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        Set<Long> placeIds = new HashSet<>();
+        Set<String> regionIds = new HashSet<>();
+        for (Place place : event.places()) {
+            placeIds.add(place.getId());
+            regionIds.add(place.getRegionId());
+        }
+
+        pools.forEach((key, pool) -> {
+            if (regionIds.contains(key.regionId())
+                    && pool.removeIf(result -> containsAny(result, placeIds))) {
+                log.debug("장소 변경으로 사전 생성 코스 제거 - 변경 장소: {}개, {}", placeIds.size(), key);
+                eventPublisher.publishEvent(new PregeneratedCourseConsumedEvent(key));
+            }
+        });
+    }
+
+    private boolean containsAny(LlmCourseGenerationDto.CourseGenerationResult result, Set<Long> placeIds) {
+        return result.getPlaces() != null && result.getPlaces().stream()
+                .anyMatch(place -> placeIds.contains(place.getPlaceId()));
+    }
+
+    /**
+     * 풀 키
+     *
+     * @param regionId     지역 ID
+     * @param dateType     데이트 유형
+     * @param budgetPreset 예산 프리셋 (CUSTOM 제외)
+     */
+    public record PoolKey(String regionId, DateType dateType, BudgetPreset budgetPreset) {
+
+        /**
+         * 이 키로 코스를 생성하기 위한 요청
+         */
+        public CourseGenerationRequest toRequest() {
+            return CourseGenerationRequest.builder()
+                    .regionId(regionId)
+                    .dateTypeId(dateType.getId())
+                    .budgetPresetId(budgetPreset.getId())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ddalkkak.date.service;
+
+/**
+ * 장소 가격대 문자열 파서
+ * AI 큐레이션이 생성한 priceRange 문자열(예: "10,000-20,000원", "30,000원 이상")을 최소/최대 금액으로 변환
+ */
+public final class PriceRangeParser {
+
+    private PriceRangeParser() {
+    }
+
+    /**
+     * DB에 저장된 가격 범위 컬럼으로 PriceBounds 생성
+     *
+     * @param priceMin 최소 가격 (null이면 가격 정보 없음)
+     * @param priceMax 최대 가격 (null이면 상한 없음)
+     * @return 가격 범위 (가격 정보가 없으면 null)
+     */
+    public static PriceBounds fromColumns(Integer priceMin, Integer priceMax) {
+        if (priceMin == null) {
+            return null;
+        }
+        return new PriceBounds(priceMin, priceMax != null ? priceMax : Integer.MAX_VALUE);
+    }
+
+    /**
+     * priceRange 문자열을 파싱하여 최소/최대 금액 추출
+     *
+     * @param priceRangeStr 가격대 문자열
+     * @return 가격 범위 (정보가 없거나 파싱 실패 시 null)
+     */
+    public static PriceBounds parse(String priceRangeStr) {
+        if (priceRangeStr == null || priceRangeStr.isBlank()) {
+            return null;
+        }
+
+        try {
+            // "10,000-20,000원" 형식
+            if (priceRangeStr.contains("-")) {
+                String[] parts = priceRangeStr.replace("원", "").replace(",", "").split("-");
+                if (parts.length == 2) {
+                    int min = Integer.parseInt(parts[0].trim());
+                    int max = Integer.parseInt(parts[1].trim());
+                    return new PriceBounds(min, max);
+                }
+            }
+
+            // "30,000원 이상" 형식
+            if (priceRangeStr.contains("이상")) {
+                String numStr = priceRangeStr.replace("원", "").replace("이상", "").replace(",", "").trim();
+                int min = Integer.parseInt(numStr);
+                return new PriceBounds(min, Integer.MAX_VALUE);
+            }
+
+            // "30,000원 이하" 형식
+            if (priceRangeStr.contains("이하")) {
+                String numStr = priceRangeStr.replace("원", "").replace("이하", "").replace(",", "").trim();
+                int max = Integer.parseInt(numStr);
+                return new PriceBounds(0, max);
+            }
+
+            // "30,000원" 단일 금액 형식 (±30% 범위로 간주)
+            String numStr = priceRangeStr.replace("원", "").replace(",", "").trim();
+            int price = Integer.parseInt(numStr);
+            return new PriceBounds((int) (price * 0.7), (int) (price * 1.3));
+
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 예산 하한 허용 범위 (-20%)
+     */
+    public static int adjustedMinBudget(int minBudget) {
+        return (int) (minBudget * 0.8);
+    }
+
+    /**
+     * 예산 상한 허용 범위 (+20%)
+     */
+    public static int adjustedMaxBudget(int maxBudget) {
+        return (int) (maxBudget * 1.2);
+    }
+
+    /**
+     * 가격 범위
+     */
+    public record PriceBounds(int min, int max) {
+
+        /**
+         * DB 저장용 최대 가격 (상한 없음은 null)
+         */
+        public Integer maxOrNull() {
+            return max == Integer.MAX_VALUE ? null : max;
+        }
+
+        /**
+         * 예산 범위와 겹치는지 확인 (±20% 허용)
+         */
+        public boolean overlapsBudget(int minBudget, int maxBudget) {
+            return !(max < adjustedMinBudget(minBudget) || min > adjustedMaxBudget(maxBudget));
+        }
+    }
+}
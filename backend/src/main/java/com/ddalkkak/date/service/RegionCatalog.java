@@ -0,0 +1,285 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.RegionResponse;
+import com.ddalkkak.date.entity.CourseStatus;
+import com.ddalkkak.date.entity.Region;
+import com.ddalkkak.date.repository.CourseRepository;
+import com.ddalkkak.date.repository.RegionRepository;
+import com.ddalkkak.date.repository.VisitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지역 카탈로그 (지역 목록 + HOT 지역 + 가용 코스 수를 메모리에 유지)
+ * - 지역별 최근 7일 방문 수를 시간 단위 버킷 168개의 원형 버퍼로 유지하고,
+ *   시간이 지나면 만료된 버킷만 빼서 합계를 갱신 (방문 기록 GROUP BY 집계 없음)
+ * - 가용 코스 수는 사용자가 저장/확정한 코스 수 (자동 생성된 DRAFT 제외), 저장/확정/복사/삭제 이벤트로 증감
+ * - 방문/코스 변경이나 시간 경과 시 응답 목록을 다시 만들어 두므로 조회는 만들어 둔 목록을 반환하는 것으로 끝남
+ * 최초 조회 시 지역, 최근 7일 시간대별 방문 수, 지역별 코스 수를 1회 로드
+ * 방문 수는 기존과 같이 visits 테이블 기준이며, 방문 기록을 저장하는 쪽이 RegionVisitedEvent를 발행하면 증분 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionCatalog {
+
+    /**
+     * 방문 수 집계 구간 (시간 단위 버킷 수, 현재 시간대 포함 최근 7일)
+     */
+    static final int WINDOW_HOURS = 7 * 24;
+
+    /**
+     * HOT 지역 수 (최근 7일 방문 수 상위, 방문이 없는 지역은 제외)
+     */
+    private static final int HOT_REGION_COUNT = 3;
+
+    private final RegionRepository regionRepository;
+    private final VisitRepository visitRepository;
+    private final CourseRepository courseRepository;
+
+    /**
+     * 지역별 카운터 (로드 전에는 null, 변경은 synchronized 안에서 수행)
+     */
+    private Counters counters;
+
+    /**
+     * 현재 응답 목록 (불변, 변경 시 교체)
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * 지역 목록 조회 (표시 순서, HOT 여부와 가용 코스 수 포함)
+     */
+    public List<RegionResponse> getRegions() {
+        return getRegions(LocalDateTime.now());
+    }
+
+    List<RegionResponse> getRegions(LocalDateTime now) {
+        long hour = hourOf(now);
+        Snapshot current = snapshot;
+        if (current == null || current.hour() != hour) {
+            current = refresh(hour);
+        }
+        return current.regions();
+    }
+
+    /**
+     * 방문 이벤트 처리 (커밋 이후 해당 시간대 버킷에 반영)
+     * 아직 로드되지 않았다면 최초 조회 시 DB에서 집계하므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRegionVisited(RegionVisitedEvent event) {
+        if (counters == null) {
+            return;
+        }
+        long hour = hourOf(event.visitedAt());
+        counters.advanceTo(hour);
+        if (counters.addVisits(event.regionId(), hour, 1)) {
+            publish();
+        }
+        log.debug("지역 방문 수 갱신 - 지역: {}", event.regionId());
+    }
+
+    /**
+     * 코스 수 변경 이벤트 처리 (커밋 이후 가용 코스 수에 반영)
+     * 아직 로드되지 않았다면 최초 조회 시 DB에서 집계하므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCourseCountChanged(RegionCourseCountChangedEvent event) {
+        if (counters == null) {
+            return;
+        }
+        if (counters.addCourses(event.regionId(), event.delta())) {
+            publish();
+        }
+        log.debug("지역 코스 수 갱신 - 지역: {}, 변화량: {}", event.regionId(), event.delta());
+    }
+
+    /**
+     * 최초 로드 또는 시간 경과 반영 후 응답 목록 재생성
+     */
+    private synchronized Snapshot refresh(long hour) {
+        if (counters == null) {
+            counters = load(hour);
+        } else {
+            counters.advanceTo(hour);
+        }
+        return publish();
+    }
+
+    private Counters load(long hour) {
+        long startTime = System.currentTimeMillis();
+
+        Counters loaded = new Counters(regionRepository.findAllByOrderByDisplayOrderAsc(), hour);
+
+        LocalDateTime since = startOfHour(hour - WINDOW_HOURS + 1);
+        for (Object[] row : visitRepository.countHourlyByRegionSince(since)) {
+            loaded.addVisits((String) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+        }
+        for (Object[] row : courseRepository.countByRegionAndStatusNot(CourseStatus.DRAFT)) {
+            loaded.addCourses((String) row[0], ((Number) row[1]).longValue());
+        }
+
+        log.info("지역 카탈로그 로드 - 지역: {}, 소요 시간: {}ms",
+                loaded.regions.length, System.currentTimeMillis() - startTime);
+        return loaded;
+    }
+
+    /**
+     * 현재 카운터로 응답 목록 생성 (synchronized 안에서 호출)
+     */
+    private Snapshot publish() {
+        Set<String> hotRegionIds = counters.hotRegionIds();
+
+        List<RegionResponse> responses = new ArrayList<>(counters.regions.length);
+        for (int i = 0; i < counters.regions.length; i++) {
+            Region region = counters.regions[i];
+            int availableCourses = (int) Math.max(0, counters.courseCounts[i]);
+            responses.add(RegionResponse.from(region, availableCourses, hotRegionIds.contains(region.getId())));
+        }
+
+        Snapshot published = new Snapshot(counters.currentHour, List.copyOf(responses));
+        snapshot = published;
+        return published;
+    }
+
+    /**
+     * epoch 시(hour) 번호 (타임존 변환 없이 LocalDateTime 값 기준, visits 집계 쿼리와 같은 기준)
+     */
+    static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private static LocalDateTime startOfHour(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * 3600, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 응답 목록과 기준 시간대
+     */
+    private record Snapshot(long hour, List<RegionResponse> regions) {
+    }
+
+    /**
+     * 지역별 방문 수(시간 단위 원형 버퍼)와 코스 수
+     */
+    private static final class Counters {
+
+        private final Region[] regions;
+        private final Map<String, Integer> indexById = new HashMap<>();
+
+        /**
+         * 지역 × 시간 버킷 방문 수 (버킷 위치는 epoch 시 번호 % WINDOW_HOURS)
+         */
+        private final long[][] hourlyVisits;
+        private final long[] visitTotals;
+        private final long[] courseCounts;
+
+        /**
+         * 버퍼에 반영된 가장 최근 시간대 (이보다 WINDOW_HOURS 이상 이전 버킷은 비어 있음)
+         */
+        private long currentHour;
+
+        Counters(List<Region> regions, long currentHour) {
+            this.regions = regions.toArray(new Region[0]);
+            for (int i = 0; i < this.regions.length; i++) {
+                indexById.put(this.regions[i].getId(), i);
+            }
+            this.hourlyVisits = new long[this.regions.length][WINDOW_HOURS];
+            this.visitTotals = new long[this.regions.length];
+            this.courseCounts = new long[this.regions.length];
+            this.currentHour = currentHour;
+        }
+
+        /**
+         * 시간대를 앞으로 옮기며 구간을 벗어난 버킷을 비우고 합계에서 뺌 (과거 시간대로는 이동하지 않음)
+         */
+        void advanceTo(long hour) {
+            if (hour <= currentHour) {
+                return;
+            }
+            if (hour - currentHour >= WINDOW_HOURS) {
+                for (int i = 0; i < regions.length; i++) {
+                    Arrays.fill(hourlyVisits[i], 0);
+                    visitTotals[i] = 0;
+                }
+            } else {
+                for (long expired = currentHour + 1; expired <= hour; expired++) {
+                    int bucket = bucketOf(expired);
+                    for (int i = 0; i < regions.length; i++) {
+                        visitTotals[i] -= hourlyVisits[i][bucket];
+                        hourlyVisits[i][bucket] = 0;
+                    }
+                }
+            }
+            currentHour = hour;
+        }
+
+        /**
+         * 방문 수 추가 (모르는 지역이거나 구간 밖의 시간대면 무시)
+         *
+         * @return 반영 여부
+         */
+        boolean addVisits(String regionId, long hour, long count) {
+            Integer index = indexById.get(regionId);
+            if (index == null || hour > currentHour || hour <= currentHour - WINDOW_HOURS) {
+                return false;
+            }
+            hourlyVisits[index][bucketOf(hour)] += count;
+            visitTotals[index] += count;
+            return true;
+        }
+
+        /**
+         * 코스 수 증감 (모르는 지역이면 무시)
+         *
+         * @return 반영 여부
+         */
+        boolean addCourses(String regionId, long delta) {
+            Integer index = indexById.get(regionId);
+            if (index == null) {
+                return false;
+            }
+            courseCounts[index] += delta;
+            return true;
+        }
+
+        /**
+         * 방문 수 상위 지역 ID (동률이면 표시 순서가 앞선 지역, 지역이 12개뿐이므로 매번 선택)
+         */
+        Set<String> hotRegionIds() {
+            boolean[] selected = new boolean[regions.length];
+            Set<String> hot = new HashSet<>();
+            for (int rank = 0; rank < HOT_REGION_COUNT; rank++) {
+                int best = -1;
+                for (int i = 0; i < regions.length; i++) {
+                    if (!selected[i] && visitTotals[i] > 0 && (best < 0 || visitTotals[i] > visitTotals[best])) {
+                        best = i;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                selected[best] = true;
+                hot.add(regions[best].getId());
+            }
+            return hot;
+        }
+
+        private static int bucketOf(long hour) {
+            return (int) Math.floorMod(hour, (long) WINDOW_HOURS);
+        }
+    }
+}
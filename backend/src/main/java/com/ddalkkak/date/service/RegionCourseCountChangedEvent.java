@@ -0,0 +1,11 @@
+package com.ddalkkak.date.service;
+
+/**
+ * 지역별 코스 수 변경 이벤트 (코스 생성/복사 시 +1, 삭제 시 -1)
+ * 트랜잭션 커밋 이후 지역 카탈로그의 가용 코스 수를 증분 갱신하는 데 사용
+ *
+ * @param regionId 지역 ID
+ * @param delta    코스 수 변화량
+ */
+public record RegionCourseCountChangedEvent(String regionId, int delta) {
+}
@@ -0,0 +1,13 @@
+package com.ddalkkak.date.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역 방문 이벤트
+ * visits 행을 저장하는 트랜잭션에서 발행하며, 커밋 이후 지역 카탈로그의 최근 7일 방문 수를 증분 갱신하는 데 사용
+ *
+ * @param regionId  지역 ID
+ * @param visitedAt 방문 일시 (visits.created_at과 같은 값)
+ */
+public record RegionVisitedEvent(String regionId, LocalDateTime visitedAt) {
+}
@@ -0,0 +1,49 @@
+package com.ddalkkak.date.service;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개 응답 시간 슬라이딩 윈도우
+ * 백분위 응답 시간(예: p90)을 계산하여 헤징 지연 시간 산정에 사용
+ */
+class RollingLatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    RollingLatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 백분위 응답 시간 (nearest-rank)
+     *
+     * @param percentile 0.0 ~ 1.0 (예: 0.9 = p90)
+     * @return 백분위 응답 시간 (샘플이 없으면 -1)
+     */
+    long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (size == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+}
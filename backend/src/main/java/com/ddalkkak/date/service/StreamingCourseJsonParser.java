@@ -0,0 +1,166 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코스 생성 응답 JSON 증분 파서
+ * LLM 스트리밍 응답 조각을 받는 대로 Jackson 논블로킹 파서에 공급하고,
+ * 최상위 "places" 배열의 원소가 완성될 때마다 PlaceInCourse로 변환하여 반환
+ * 전체 원문도 함께 누적하므로 스트림 종료 후 전체 결과를 다시 파싱할 수 있음
+ * (스레드 안전하지 않음, 스트림 하나당 인스턴스 하나)
+ */
+public class StreamingCourseJsonParser {
+
+    private static final String PLACES_FIELD = "places";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final StringBuilder rawJson = new StringBuilder();
+
+    /**
+     * 첫 '{' 이전의 텍스트(코드 펜스 등)는 무시
+     */
+    private boolean started;
+
+    /**
+     * 최상위 객체가 닫힌 뒤의 텍스트는 무시
+     */
+    private boolean finished;
+
+    private int depth;
+    private String currentRootField;
+    private boolean inPlacesArray;
+
+    private TokenBuffer placeBuffer;
+    private int placeDepth;
+
+    public StreamingCourseJsonParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 증분 파서 생성 실패", e);
+        }
+    }
+
+    /**
+     * 응답 조각 공급
+     *
+     * @param fragment 스트리밍 응답 텍스트 조각
+     * @return 이번 조각으로 완성된 장소 목록 (없으면 빈 목록)
+     * @throws IOException JSON 형식이 올바르지 않은 경우
+     */
+    public List<LlmCourseGenerationDto.PlaceInCourse> feed(String fragment) throws IOException {
+        if (fragment == null || fragment.isEmpty() || finished) {
+            return List.of();
+        }
+
+        if (!started) {
+            int start = fragment.indexOf('{');
+            if (start < 0) {
+                return List.of();
+            }
+            fragment = fragment.substring(start);
+            started = true;
+        }
+
+        rawJson.append(fragment);
+
+        byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+
+        List<LlmCourseGenerationDto.PlaceInCourse> completed = new ArrayList<>();
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            LlmCourseGenerationDto.PlaceInCourse place = handle(token);
+            if (place != null) {
+                completed.add(place);
+            }
+        }
+
+        return completed;
+    }
+
+    /**
+     * 지금까지 누적된 원문 (첫 '{' 이후 전체)
+     */
+    public String getRawJson() {
+        return rawJson.toString();
+    }
+
+    /**
+     * 최상위 객체가 끝까지 수신되었는지 여부
+     */
+    public boolean isComplete() {
+        return finished;
+    }
+
+    private LlmCourseGenerationDto.PlaceInCourse handle(JsonToken token) throws IOException {
+        // 장소 객체 캡처 중이면 토큰을 그대로 복사
+        if (placeBuffer != null) {
+            placeBuffer.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                placeDepth++;
+            } else if (token.isStructEnd()) {
+                placeDepth--;
+            }
+            if (placeDepth == 0) {
+                TokenBuffer buffer = placeBuffer;
+                placeBuffer = null;
+                depth--;
+                try (JsonParser placeParser = buffer.asParser(objectMapper)) {
+                    return objectMapper.readValue(placeParser, LlmCourseGenerationDto.PlaceInCourse.class);
+                }
+            }
+            return null;
+        }
+
+        switch (token) {
+            case START_OBJECT -> {
+                depth++;
+                if (inPlacesArray && depth == 3) {
+                    placeBuffer = new TokenBuffer(parser);
+                    placeBuffer.copyCurrentEvent(parser);
+                    placeDepth = 1;
+                }
+            }
+            case START_ARRAY -> {
+                depth++;
+                if (depth == 2 && PLACES_FIELD.equals(currentRootField)) {
+                    inPlacesArray = true;
+                }
+            }
+            case END_OBJECT -> {
+                depth--;
+                if (depth == 0) {
+                    finished = true;
+                }
+            }
+            case END_ARRAY -> {
+                depth--;
+                if (depth == 1) {
+                    inPlacesArray = false;
+                }
+            }
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    currentRootField = parser.currentName();
+                }
+            }
+            default -> {
+                // 최상위 스칼라 값은 스트림 종료 후 전체 파싱으로 처리
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ddalkkak.date.service;
+
+/**
+ * 토큰 버킷 방식 요청 수 제한기
+ * 분당 허용 수만큼 토큰이 균등하게 채워지며, 최대 burst개까지 누적
+ */
+class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double refillPerMillis;
+
+    private double tokens;
+    private long lastRefillAt;
+
+    TokenBucketRateLimiter(int permitsPerMinute, int burst) {
+        this.capacity = Math.max(1, burst);
+        this.refillPerMillis = permitsPerMinute / 60_000.0;
+        this.tokens = capacity;
+        this.lastRefillAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 하나 획득 시도 (대기하지 않음)
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMillis);
+        lastRefillAt = now;
+
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
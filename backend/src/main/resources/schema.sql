@@ -35,6 +35,11 @@ CREATE TABLE IF NOT EXISTS places (
     date_score INTEGER,
     mood_tags TEXT,
     price_range VARCHAR(50),
+    price_min INTEGER,
+    price_max INTEGER,
+    price_parse_failed BOOLEAN,
+    date_type_mask INTEGER,
+    image_query_key VARCHAR(30),
     best_time VARCHAR(50),
     recommendation TEXT,
     rating DOUBLE PRECISION,
@@ -49,6 +54,42 @@ CREATE INDEX IF NOT EXISTS idx_places_region_id ON places(region_id);
 CREATE INDEX IF NOT EXISTS idx_places_kakao_place_id ON places(kakao_place_id);
 CREATE INDEX IF NOT EXISTS idx_places_date_score ON places(date_score);
 
+-- 가격 범위 컬럼 추가 (기존 테이블 마이그레이션, price_range 파싱 결과 / price_max NULL은 상한 없음)
+ALTER TABLE places ADD COLUMN IF NOT EXISTS price_min INTEGER;
+ALTER TABLE places ADD COLUMN IF NOT EXISTS price_max INTEGER;
+-- 가격 범위 파싱 실패 표시 (price_range는 있지만 파싱할 수 없는 장소, 기동 시 백필 대상에서 제외)
+ALTER TABLE places ADD COLUMN IF NOT EXISTS price_parse_failed BOOLEAN;
+
+-- 카테고리 분류 컬럼 추가 (데이트 유형 비트마스크: 1 << DateType ordinal / 이미지 검색 쿼리 키)
+ALTER TABLE places ADD COLUMN IF NOT EXISTS date_type_mask INTEGER;
+ALTER TABLE places ADD COLUMN IF NOT EXISTS image_query_key VARCHAR(30);
+
+-- 무드 태그 사전 및 장소별 태그 ID 배열 (mood_tags JSON은 호환용으로 유지, 기동 시 백필)
+CREATE TABLE IF NOT EXISTS mood_tags (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+ALTER TABLE places ADD COLUMN IF NOT EXISTS mood_tag_ids INTEGER[];
+
+-- 코스 후보 조회용 부분 인덱스 (평점 4.0 이상, 리뷰 50개 이상인 장소만 dateScore 내림차순)
+-- PlaceRepository.findCandidatePlaces 의 정렬(date_score DESC NULLS LAST)과 같아야 정렬 없이 인덱스 순서로 읽음
+CREATE INDEX IF NOT EXISTS idx_places_candidate ON places(region_id, date_score DESC NULLS LAST)
+    WHERE rating >= 4.0 AND review_count >= 50;
+
+-- 장소 커서 페이지 조회용 복합 인덱스 (PlaceRepository.findPageBy* 의 정렬 식과 동일, 전체/지역별)
+CREATE INDEX IF NOT EXISTS idx_places_cursor_date_score
+    ON places(COALESCE(date_score, -1) DESC, COALESCE(rating, -1) DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_places_cursor_region_date_score
+    ON places(region_id, COALESCE(date_score, -1) DESC, COALESCE(rating, -1) DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_places_cursor_rating
+    ON places(COALESCE(rating, -1) DESC, COALESCE(review_count, -1) DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_places_cursor_region_rating
+    ON places(region_id, COALESCE(rating, -1) DESC, COALESCE(review_count, -1) DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_places_cursor_review_count
+    ON places(COALESCE(review_count, -1) DESC, COALESCE(rating, -1) DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_places_cursor_region_review_count
+    ON places(region_id, COALESCE(review_count, -1) DESC, COALESCE(rating, -1) DESC, id DESC);
+
 -- 사용자 테이블
 CREATE TABLE IF NOT EXISTS users (
     id BIGSERIAL PRIMARY KEY,
@@ -123,6 +164,9 @@ CREATE INDEX IF NOT EXISTS idx_share_id ON courses(share_id);  -- 공유 ID 인
 CREATE INDEX IF NOT EXISTS idx_region_id ON courses(region_id);
 CREATE INDEX IF NOT EXISTS idx_user_id ON courses(user_id);
 CREATE INDEX IF NOT EXISTS idx_created_at ON courses(created_at);
+-- 저장된 코스 커서 페이지 조회용 복합 인덱스 (CourseRepository.findSavedPage* 의 정렬과 동일)
+CREATE INDEX IF NOT EXISTS idx_course_user_created_at ON courses(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_course_user_status_created_at ON courses(user_id, status, created_at DESC, id DESC);
 
 -- 코스-장소 연관 테이블
 CREATE TABLE IF NOT EXISTS course_places (
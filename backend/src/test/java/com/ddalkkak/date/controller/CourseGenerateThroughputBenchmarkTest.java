@@ -0,0 +1,246 @@
+package com.ddalkkak.date.controller;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 코스 생성 작업 처리량 벤치마크 (플랫폼 스레드 vs 가상 스레드)
+ * 고정 지연으로 응답하는 로컬 LLM 대역 서버를 두고, 동시에 작업을 등록(POST /courses/generate/async)한 뒤
+ * 완료될 때까지 폴링하여 초당 완료 건수를 비교
+ * 작업 실행기는 LLM 응답까지 스레드를 블로킹하므로 스레드 모드의 차이가 드러남
+ * (/courses/generate는 Mono를 반환하여 요청 스레드를 점유하지 않으므로 비교 대상이 아님)
+ * 실행기 큐를 충분히 키워 두 모드 모두 거부(503) 없이 받도록 하며, 플랫폼 모드는 최대 스레드 수만큼만 동시에 생성
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행 (PostgreSQL 필요)
+ * 가상 스레드 측정은 Java 21 이상 JVM에서만 실행되며, 프로젝트 기본 툴체인(Java 17)에서는 건너뜀
+ * (./gradlew benchmark -PbenchmarkJavaVersion=21 로 테스트 JVM만 21로 실행 가능)
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "course.pregeneration.enabled=false",
+                "course.generation-cache.enabled=false",
+                "llm.hedging.enabled=false",
+                "llm.circuit-breaker.enabled=false",
+                "llm.bulkhead.max-concurrent-calls=0",
+                "course.async.max-pool-size=" + CourseGenerateThroughputBenchmarkTest.WORKER_THREADS,
+                "course.async.core-pool-size=" + CourseGenerateThroughputBenchmarkTest.WORKER_THREADS,
+                "course.async.queue-capacity=" + CourseGenerateThroughputBenchmarkTest.MEASURED_REQUESTS
+        }
+)
+@ActiveProfiles("test")
+class CourseGenerateThroughputBenchmarkTest {
+
+    private static final int LLM_LATENCY_MS = 300;
+    private static final int CONCURRENCY = 200;
+    private static final int WARMUP_REQUESTS = 100;
+    static final int MEASURED_REQUESTS = 1000;
+
+    /**
+     * 플랫폼 모드 작업 스레드 수 (가상 스레드 모드는 작업마다 스레드 생성)
+     */
+    static final int WORKER_THREADS = 16;
+
+    private static final long POLL_INTERVAL_MS = 20;
+    private static final Pattern JOB_ID = Pattern.compile("\"jobId\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern JOB_STATUS = Pattern.compile("\"status\"\\s*:\\s*\"([A-Z]+)\"");
+
+    /**
+     * 프롬프트의 후보 장소 줄("\n{id}|이름|...")에서 장소 ID 추출 (JSON 문자열 안이므로 개행은 \n 두 글자)
+     */
+    private static final Pattern CANDIDATE_ID = Pattern.compile("\\\\n(\\d+)\\|");
+
+    private static final HttpServer LLM_STAND_IN = startLlmStandIn();
+
+    @DynamicPropertySource
+    static void llmStandInProperties(DynamicPropertyRegistry registry) {
+        String url = "http://localhost:" + LLM_STAND_IN.getAddress().getPort();
+        registry.add("external.gemini.api-url", () -> url);
+        registry.add("external.claude.api-url", () -> url);
+    }
+
+    @AfterAll
+    static void stopLlmStandIn() {
+        LLM_STAND_IN.stop(0);
+    }
+
+    @Nested
+    @DisplayName("플랫폼 스레드")
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        @DisplayName("플랫폼 스레드 모드 처리량 측정")
+        void measureThroughput() throws Exception {
+            runBenchmark("platform", port);
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 스레드")
+    @EnabledForJreRange(min = JRE.JAVA_21,
+            disabledReason = "가상 스레드는 Java 21 이상 필요 (Java 17 빌드에서는 건너뜀, -PbenchmarkJavaVersion=21로 실행)")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        @DisplayName("가상 스레드 모드 처리량 측정")
+        void measureThroughput() throws Exception {
+            runBenchmark("virtual", port);
+        }
+    }
+
+    private static void runBenchmark(String mode, int port) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            run(client, port, callers, WARMUP_REQUESTS);
+
+            long startTime = System.nanoTime();
+            List<String> statuses = run(client, port, callers, MEASURED_REQUESTS);
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+            System.out.printf("[benchmark] mode=%s, jobs=%d, concurrency=%d, workerThreads=%s, llmLatency=%dms, elapsed=%.2fs, throughput=%.1f jobs/s%n",
+                    mode, MEASURED_REQUESTS, CONCURRENCY, "virtual".equals(mode) ? "per-task" : WORKER_THREADS,
+                    LLM_LATENCY_MS, elapsedSeconds, MEASURED_REQUESTS / elapsedSeconds);
+
+            assertThat(statuses).allMatch("COMPLETED"::equals);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업 count건을 동시 실행 수 CONCURRENCY로 등록하고 완료될 때까지 대기
+     *
+     * @return 작업별 최종 상태
+     */
+    private static List<String> run(HttpClient client, int port, ExecutorService callers, int count) throws Exception {
+        List<Future<String>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(callers.submit(() -> submitAndAwait(client, port)));
+        }
+        List<String> statuses = new ArrayList<>(count);
+        for (Future<String> future : futures) {
+            statuses.add(future.get());
+        }
+        return statuses;
+    }
+
+    /**
+     * 작업 등록 후 COMPLETED/FAILED가 될 때까지 폴링
+     */
+    private static String submitAndAwait(HttpClient client, int port) throws Exception {
+        HttpRequest submit = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/courses/generate/async"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"regionId\":\"mapo-hongdae\",\"dateTypeId\":\"dinner\",\"budgetPresetId\":\"30k-50k\"}"))
+                .build();
+        HttpResponse<String> submitted = client.send(submit, HttpResponse.BodyHandlers.ofString());
+        if (submitted.statusCode() != 202) {
+            return "HTTP_" + submitted.statusCode();
+        }
+        String jobId = extract(JOB_ID, submitted.body());
+
+        HttpRequest poll = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/courses/jobs/" + jobId))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            String status = extract(JOB_STATUS, client.send(poll, HttpResponse.BodyHandlers.ofString()).body());
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                return status;
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        return "TIMEOUT";
+    }
+
+    private static String extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * LLM 대역 서버: 고정 지연 후 프롬프트의 첫 두 후보로 compact 형식 Gemini 응답 반환
+     */
+    private static HttpServer startLlmStandIn() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+                Set<String> placeIds = new LinkedHashSet<>();
+                Matcher matcher = CANDIDATE_ID.matcher(body);
+                while (matcher.find() && placeIds.size() < 2) {
+                    placeIds.add(matcher.group(1));
+                }
+
+                try {
+                    Thread.sleep(LLM_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                String course = "{\\\"course_name\\\":\\\"벤치마크 코스\\\",\\\"place_ids\\\":["
+                        + String.join(",", placeIds) + "]}";
+                byte[] response = ("{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\""
+                        + course + "\"}]},\"finishReason\":\"STOP\"}]}").getBytes(StandardCharsets.UTF_8);
+
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("LLM 대역 서버 시작 실패", e);
+        }
+    }
+}
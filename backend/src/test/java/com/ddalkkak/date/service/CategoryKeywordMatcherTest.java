@@ -0,0 +1,152 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.PlaceCategoryProperties;
+import com.ddalkkak.date.dto.DateType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CategoryKeywordMatcher 단위 테스트
+ */
+class CategoryKeywordMatcherTest {
+
+    private CategoryKeywordMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<String>> dateTypeKeywords = new LinkedHashMap<>();
+        dateTypeKeywords.put("dinner", List.of("음식점", "레스토랑", "양식", "이탈리안"));
+        dateTypeKeywords.put("cafe", List.of("카페", "디저트"));
+        dateTypeKeywords.put("night", List.of("바", "루프탑", "공원"));
+
+        PlaceCategoryProperties properties = new PlaceCategoryProperties();
+        properties.setDateTypeKeywords(dateTypeKeywords);
+        properties.setMatchAllDateTypes(List.of("special"));
+        properties.setImageQueries(List.of(
+                imageRule("cafe", "cafe,coffee,dessert", "카페"),
+                imageRule("restaurant", "restaurant,food,dining", "음식점", "레스토랑"),
+                imageRule("italian", "italian,pasta,restaurant", "이탈리안"),
+                imageRule("bar", "bar,pub,drinks", "바")
+        ));
+        properties.setDefaultImageQuery("restaurant,cafe,seoul");
+
+        matcher = new CategoryKeywordMatcher(properties);
+    }
+
+    @Test
+    @DisplayName("카테고리 문자열의 모든 키워드가 비트마스크에 반영됨")
+    void testClassify_CollectsAllMatchingDateTypes() {
+        // When
+        CategoryKeywordMatcher.CategoryClassification result = matcher.classify("음식점 > 양식 > 이탈리안 > 루프탑바");
+
+        // Then
+        assertThat(result.matches(DateType.DINNER)).isTrue();
+        assertThat(result.matches(DateType.NIGHT)).isTrue();
+        assertThat(result.matches(DateType.SPECIAL)).isTrue();
+        assertThat(result.matches(DateType.CAFE)).isFalse();
+        assertThat(result.matches(DateType.CULTURE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미지 쿼리 키는 문자열 위치가 아니라 규칙 순서로 결정됨")
+    void testClassify_ImageQueryKeyFollowsRulePriority() {
+        // When
+        CategoryKeywordMatcher.CategoryClassification italian = matcher.classify("이탈리안 레스토랑");
+        CategoryKeywordMatcher.CategoryClassification cafe = matcher.classify("음식점 > 카페");
+
+        // Then
+        assertThat(italian.imageQueryKey()).isEqualTo("restaurant");
+        assertThat(cafe.imageQueryKey()).isEqualTo("cafe");
+        assertThat(matcher.imageQueryFor(cafe.imageQueryKey())).isEqualTo("cafe,coffee,dessert");
+    }
+
+    @Test
+    @DisplayName("매칭되는 키워드가 없으면 항상 허용 유형과 기본 이미지 쿼리만 반환")
+    void testClassify_NoMatch() {
+        // When
+        CategoryKeywordMatcher.CategoryClassification result = matcher.classify("가정,생활 > 세탁소");
+
+        // Then
+        assertThat(result.dateTypeMask()).isEqualTo(DateType.SPECIAL.getBit());
+        assertThat(result.imageQueryKey()).isNull();
+        assertThat(matcher.imageQueryFor(result.imageQueryKey())).isEqualTo("restaurant,cafe,seoul");
+    }
+
+    @Test
+    @DisplayName("카테고리가 없으면 항상 허용 유형을 포함해 어떤 데이트 유형에도 매칭되지 않음")
+    void testClassify_NullCategoryMatchesNothing() {
+        // When
+        CategoryKeywordMatcher.CategoryClassification result = matcher.classify(null);
+
+        // Then
+        assertThat(result.dateTypeMask()).isZero();
+        assertThat(result.matches(DateType.SPECIAL)).isFalse();
+        assertThat(result.imageQueryKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("외부 키워드 파일을 수정한 뒤 재로드하면 재기동 없이 새 테이블로 분류")
+    void testReload_ReadsKeywordsFileAgain(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path keywordsFile = tempDir.resolve("place-category.yml");
+        Files.writeString(keywordsFile, """
+                place:
+                  category:
+                    date-type-keywords:
+                      cafe: [카페]
+                    default-image-query: cafe
+                """);
+        PlaceCategoryProperties properties = new PlaceCategoryProperties();
+        properties.setKeywordsFile(keywordsFile.toString());
+        CategoryKeywordMatcher fileMatcher = new CategoryKeywordMatcher(properties);
+        assertThat(fileMatcher.classify("베이커리").matches(DateType.CAFE)).isFalse();
+
+        // When
+        Files.writeString(keywordsFile, """
+                place:
+                  category:
+                    date-type-keywords:
+                      cafe: [카페, 베이커리]
+                    image-queries:
+                      - key: bakery
+                        query: bakery,bread
+                        keywords: [베이커리]
+                """);
+        fileMatcher.reload();
+
+        // Then
+        CategoryKeywordMatcher.CategoryClassification result = fileMatcher.classify("음식점 > 베이커리");
+        assertThat(result.matches(DateType.CAFE)).isTrue();
+        assertThat(fileMatcher.imageQueryFor(result.imageQueryKey())).isEqualTo("bakery,bread");
+
+        // 파일이 잘못되면 예외를 던지고 기존 테이블 유지
+        Files.writeString(keywordsFile, """
+                place:
+                  category:
+                    date-type-keywords:
+                      unknown: [카페]
+                """);
+        assertThatThrownBy(fileMatcher::reload).isInstanceOf(IllegalArgumentException.class);
+        assertThat(fileMatcher.classify("베이커리").matches(DateType.CAFE)).isTrue();
+    }
+
+    private PlaceCategoryProperties.ImageQueryRule imageRule(String key, String query, String... keywords) {
+        PlaceCategoryProperties.ImageQueryRule rule = new PlaceCategoryProperties.ImageQueryRule();
+        rule.setKey(key);
+        rule.setQuery(query);
+        rule.setKeywords(List.of(keywords));
+        return rule;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.entity.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CourseGenerationCache 단위 테스트
+ */
+class CourseGenerationCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 10, 15, 0);
+
+    private final CourseGenerationRequest request = CourseGenerationRequest.builder()
+            .regionId("mapo-hongdae")
+            .dateTypeId("dinner")
+            .budgetPresetId("30k-50k")
+            .build();
+
+    @Test
+    @DisplayName("변형 풀이 가득 차기 전까지는 미스, 가득 차면 변형 중 하나를 반환하고 초과분은 버림")
+    void testGet_HitsOnlyWhenVariantPoolIsFull() {
+        // Given
+        CourseGenerationCache cache = cache(true);
+        CourseGenerationCache.CacheKey key = cache.keyOf(request, context(place(1L, UPDATED_AT), place(2L, UPDATED_AT)));
+        LlmCourseGenerationDto.CourseGenerationResult first = new LlmCourseGenerationDto.CourseGenerationResult();
+        LlmCourseGenerationDto.CourseGenerationResult second = new LlmCourseGenerationDto.CourseGenerationResult();
+        LlmCourseGenerationDto.CourseGenerationResult third = new LlmCourseGenerationDto.CourseGenerationResult();
+        LlmCourseGenerationDto.CourseGenerationResult overflow = new LlmCourseGenerationDto.CourseGenerationResult();
+
+        // When & Then: 변형 2개까지는 미스
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, first);
+        cache.put(key, second);
+        assertThat(cache.get(key)).isNull();
+
+        // When: 3번째 변형으로 풀이 가득 참, 4번째는 무시
+        cache.put(key, third);
+        cache.put(key, overflow);
+
+        // Then
+        Set<LlmCourseGenerationDto.CourseGenerationResult> picked = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            picked.add(cache.get(key));
+        }
+        assertThat(picked).containsExactlyInAnyOrder(first, second, third);
+    }
+
+    @Test
+    @DisplayName("후보 장소가 수정되면 다른 키가 되고, 후보 순서와 가까운 직접 입력 예산은 같은 키")
+    void testKeyOf_FingerprintAndBudgetBucket() {
+        // Given
+        CourseGenerationCache cache = cache(true);
+
+        // When
+        CourseGenerationCache.CacheKey key = cache.keyOf(request, context(place(1L, UPDATED_AT), place(2L, UPDATED_AT)));
+        CourseGenerationCache.CacheKey reordered = cache.keyOf(request, context(place(2L, UPDATED_AT), place(1L, UPDATED_AT)));
+        CourseGenerationCache.CacheKey modified = cache.keyOf(request,
+                context(place(1L, UPDATED_AT), place(2L, UPDATED_AT.plusMinutes(1))));
+
+        // Then
+        assertThat(reordered).isEqualTo(key);
+        assertThat(modified).isNotEqualTo(key);
+
+        // 직접 입력 예산은 1만원 단위로 묶임 (26,000원과 34,000원 → 30,000원 구간)
+        CoursePromptContext context = context(place(1L, UPDATED_AT));
+        assertThat(cache.keyOf(customRequest(26000), context).budgetBucket()).isEqualTo("custom-30000");
+        assertThat(cache.keyOf(customRequest(34000), context))
+                .isEqualTo(cache.keyOf(customRequest(26000), context));
+        assertThat(cache.keyOf(customRequest(36000), context).budgetBucket()).isEqualTo("custom-40000");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 저장하지 않고 항상 미스")
+    void testGet_DisabledAlwaysMisses() {
+        // Given
+        CourseGenerationCache cache = cache(false);
+        CourseGenerationCache.CacheKey key = cache.keyOf(request, context(place(1L, UPDATED_AT)));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            cache.put(key, new LlmCourseGenerationDto.CourseGenerationResult());
+        }
+
+        // Then
+        assertThat(cache.get(key)).isNull();
+    }
+
+    private CourseGenerationCache cache(boolean enabled) {
+        return new CourseGenerationCache(new SimpleMeterRegistry(), enabled, 100, 60, 3);
+    }
+
+    private CourseGenerationRequest customRequest(int amount) {
+        return CourseGenerationRequest.builder()
+                .regionId("mapo-hongdae")
+                .dateTypeId("dinner")
+                .budgetPresetId("custom")
+                .customAmount(amount)
+                .build();
+    }
+
+    private CoursePromptContext context(Place... candidates) {
+        return CoursePromptContext.builder()
+                .region(Region.builder().id("mapo-hongdae").name("마포·홍대").build())
+                .dateType(DateType.DINNER)
+                .candidatePlaces(List.of(candidates))
+                .build();
+    }
+
+    private Place place(Long id, LocalDateTime updatedAt) {
+        return Place.builder()
+                .id(id)
+                .name("장소 " + id)
+                .regionId("mapo-hongdae")
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CourseGenerationJobResponse;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CourseResponse;
+import com.ddalkkak.date.dto.ErrorResponse;
+import com.ddalkkak.date.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CourseGenerationJobService 단위 테스트
+ */
+class CourseGenerationJobServiceTest {
+
+    private final AtomicLong elapsed = new AtomicLong();
+    private final CourseGenerationRequest request = CourseGenerationRequest.builder()
+            .regionId("mapo-hongdae")
+            .dateTypeId("dinner")
+            .budgetPresetId("30k-50k")
+            .build();
+
+    private CourseService courseService;
+
+    @BeforeEach
+    void setUp() {
+        courseService = mock(CourseService.class);
+        given(courseService.generateCourse(request)).willReturn(CourseResponse.builder().courseId("course-1").build());
+    }
+
+    @Test
+    @DisplayName("실행기 큐가 가득 차면 작업을 남기지 않고 거부하며, 거부는 503으로 응답")
+    void testSubmit_RejectedWhenExecutorIsSaturated() {
+        // Given
+        TaskExecutor saturated = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+        CourseGenerationJobService jobService = jobService(saturated);
+
+        // When
+        TaskRejectedException thrown = catchThrowableOfType(() -> jobService.submit(request), TaskRejectedException.class);
+
+        // Then: 거부된 작업은 조회 대상에 남지 않음
+        assertThat(thrown).isNotNull();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(jobService, "jobs")).isEmpty();
+        verify(courseService, never()).generateCourse(request);
+
+        ResponseEntity<ErrorResponse> response =
+                new GlobalExceptionHandler().handleTaskRejectedException(thrown);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getCode()).isEqualTo("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 TTL 동안 조회되고, TTL이 지나면 정리되어 조회 불가")
+    void testEvictExpiredJobs_RemovesCompletedJobsAfterTtl() {
+        // Given
+        CourseGenerationJobService jobService = jobService(Runnable::run);
+        CourseGenerationJobResponse submitted = jobService.submit(request);
+
+        // When: TTL(10분) 직전
+        elapsed.set(599_000);
+        jobService.evictExpiredJobs();
+
+        // Then
+        CourseGenerationJobResponse job = jobService.getJob(submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getCourse().getCourseId()).isEqualTo("course-1");
+
+        // When: TTL 경과
+        elapsed.set(601_000);
+        jobService.evictExpiredJobs();
+
+        // Then
+        assertThatThrownBy(() -> jobService.getJob(submitted.getJobId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("아직 끝나지 않은 작업은 TTL과 무관하게 보관")
+    void testEvictExpiredJobs_KeepsUnfinishedJobs() {
+        // Given: 실행되지 않고 대기 중인 작업
+        List<Runnable> queued = new ArrayList<>();
+        CourseGenerationJobService jobService = jobService(queued::add);
+        CourseGenerationJobResponse submitted = jobService.submit(request);
+
+        // When
+        elapsed.set(3_600_000);
+        jobService.evictExpiredJobs();
+
+        // Then
+        assertThat(jobService.getJob(submitted.getJobId()).getStatus()).isEqualTo("PENDING");
+    }
+
+    private CourseGenerationJobService jobService(TaskExecutor executor) {
+        CourseGenerationJobService jobService = new CourseGenerationJobService(courseService, executor,
+                () -> System.currentTimeMillis() + elapsed.get());
+        ReflectionTestUtils.setField(jobService, "jobTtlSeconds", 600L);
+        return jobService;
+    }
+}
@@ -0,0 +1,136 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.BudgetPreset;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.entity.Region;
+import com.ddalkkak.date.repository.RegionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CoursePregenerationScheduler 단위 테스트
+ */
+class CoursePregenerationSchedulerTest {
+
+    private static final PregeneratedCoursePool.PoolKey KEY =
+            new PregeneratedCoursePool.PoolKey("mapo-hongdae", DateType.DINNER, BudgetPreset.UNDER_30K);
+
+    private CourseService courseService;
+    private RegionRepository regionRepository;
+    private PregeneratedCoursePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new PregeneratedCoursePool(mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "sizePerKey", 2);
+
+        courseService = mock(CourseService.class);
+        given(courseService.loadGenerationContext(any(CourseGenerationRequest.class)))
+                .willReturn(CoursePromptContext.builder()
+                        .candidatePlaces(List.of(Place.builder().id(1L).regionId("mapo-hongdae").build()))
+                        .build());
+        given(courseService.generateValidatedLlmResult(any(CoursePromptContext.class)))
+                .willAnswer(invocation -> new LlmCourseGenerationDto.CourseGenerationResult());
+
+        regionRepository = mock(RegionRepository.class);
+        given(regionRepository.findAllByOrderByDisplayOrderAsc())
+                .willReturn(List.of(Region.builder().id("mapo-hongdae").name("마포·홍대").build()));
+    }
+
+    @Test
+    @DisplayName("풀 소비 이벤트를 받으면 해당 조합의 부족분만큼 생성")
+    void testOnCourseConsumed_FillsDeficit() {
+        // Given
+        CoursePregenerationScheduler scheduler = scheduler(Runnable::run, 20);
+
+        // When
+        scheduler.onCourseConsumed(new PregeneratedCourseConsumedEvent(KEY));
+
+        // Then
+        assertThat(pool.deficit(KEY)).isZero();
+        verify(courseService, times(2)).generateValidatedLlmResult(any(CoursePromptContext.class));
+    }
+
+    @Test
+    @DisplayName("정기 보충은 1회 최대 생성 수까지만 여러 조합에 나눠 제출")
+    void testRefillAll_ReservesUpToMaxPerRun() {
+        // Given
+        CoursePregenerationScheduler scheduler = scheduler(Runnable::run, 20);
+        ReflectionTestUtils.setField(scheduler, "maxPerRun", 3);
+
+        // When
+        scheduler.refillAll();
+
+        // Then: 첫 조합 2개 + 다음 조합 1개
+        verify(courseService, times(3)).generateValidatedLlmResult(any(CoursePromptContext.class));
+        assertThat(pool.deficit(KEY)).isZero();
+        assertThat(pool.deficit(new PregeneratedCoursePool.PoolKey(
+                "mapo-hongdae", DateType.DINNER, BudgetPreset.RANGE_30K_50K))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행기가 작업을 거부하면 이번 회차를 중단하고, 거부된 조합은 이후 다시 제출 가능")
+    void testRefillAll_StopsWhenExecutorRejects() {
+        // Given: 첫 제출만 거부하는 실행기
+        AtomicInteger submissions = new AtomicInteger();
+        TaskExecutor executor = task -> {
+            if (submissions.incrementAndGet() == 1) {
+                throw new TaskRejectedException("queue full");
+            }
+            task.run();
+        };
+        CoursePregenerationScheduler scheduler = scheduler(executor, 20);
+
+        // When
+        scheduler.refillAll();
+
+        // Then: 거부 이후 다른 조합을 제출하지 않음
+        assertThat(submissions.get()).isEqualTo(1);
+        verify(courseService, never()).generateValidatedLlmResult(any(CoursePromptContext.class));
+
+        // When: 같은 조합의 소비 이벤트
+        scheduler.onCourseConsumed(new PregeneratedCourseConsumedEvent(KEY));
+
+        // Then: 진행 중 표시가 해제되어 정상 보충
+        assertThat(pool.deficit(KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("분당 허용 수를 넘는 생성은 다음 기회로 미룸")
+    void testOnCourseConsumed_RespectsRateLimit() {
+        // Given
+        CoursePregenerationScheduler scheduler = scheduler(Runnable::run, 1);
+
+        // When
+        scheduler.onCourseConsumed(new PregeneratedCourseConsumedEvent(KEY));
+
+        // Then
+        assertThat(pool.deficit(KEY)).isEqualTo(1);
+        verify(courseService, times(1)).generateValidatedLlmResult(any(CoursePromptContext.class));
+    }
+
+    private CoursePregenerationScheduler scheduler(TaskExecutor executor, int permitsPerMinute) {
+        return new CoursePregenerationScheduler(courseService, pool, regionRepository, executor, permitsPerMinute);
+    }
+}
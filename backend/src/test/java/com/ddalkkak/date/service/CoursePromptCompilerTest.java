@@ -0,0 +1,86 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.entity.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CoursePromptCompiler 단위 테스트
+ */
+class CoursePromptCompilerTest {
+
+    @Test
+    @DisplayName("토큰 예산 안이면 모든 후보를 축약 형식으로 포함")
+    void testCompile_IncludesAllCandidatesWithinBudget() {
+        // Given
+        CoursePromptCompiler compiler = new CoursePromptCompiler(5000, 8, "rich", new SimpleMeterRegistry());
+        CoursePromptContext context = contextOf(places(5, "음식점 > 한식"));
+
+        // When
+        CoursePromptCompiler.CompiledPrompt prompt = compiler.compile(context);
+
+        // Then
+        assertThat(prompt.includedCandidates()).isEqualTo(5);
+        assertThat(prompt.userPrompt()).contains("1|장소 1|음식점>한식|4.5|100|20000-30000|37.5560,126.9220");
+        assertThat(prompt.systemPrompt()).isSameAs(compiler.systemPrompt());
+        assertThat(prompt.savedTokens()).isPositive();
+    }
+
+    @Test
+    @DisplayName("토큰 예산 초과 시 최소 후보 수를 유지하며 카테고리별 상위 후보를 우선 포함")
+    void testCompile_PrunesWithCategoryDiversity() {
+        // Given: 한식 19곳 + 가장 낮은 순위의 카페 1곳
+        List<Place> candidates = new ArrayList<>(places(19, "음식점 > 한식"));
+        candidates.add(place(20L, "카페 > 디저트카페"));
+        CoursePromptCompiler compiler = new CoursePromptCompiler(0, 4, "rich", new SimpleMeterRegistry());
+
+        // When
+        CoursePromptCompiler.CompiledPrompt prompt = compiler.compile(contextOf(candidates));
+
+        // Then
+        assertThat(prompt.includedCandidates()).isEqualTo(4);
+        assertThat(prompt.userPrompt()).contains("\n1|").contains("\n20|").doesNotContain("\n4|");
+    }
+
+    private CoursePromptContext contextOf(List<Place> candidates) {
+        return CoursePromptContext.builder()
+                .region(Region.builder().id("mapo-hongdae").name("마포·홍대").build())
+                .dateType(DateType.DINNER)
+                .minBudget(30000)
+                .maxBudget(50000)
+                .candidatePlaces(candidates)
+                .build();
+    }
+
+    private List<Place> places(int count, String category) {
+        List<Place> places = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            places.add(place(id, category));
+        }
+        return places;
+    }
+
+    private Place place(Long id, String category) {
+        return Place.builder()
+                .id(id)
+                .name("장소 " + id)
+                .category(category)
+                .address("서울 마포구")
+                .rating(4.5)
+                .reviewCount(100)
+                .priceMin(20000)
+                .priceMax(30000)
+                .latitude(37.556)
+                .longitude(126.922)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.CourseResponse;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CourseService 커넥션 점유 테스트
+ * LLM 대기 중에는 DB 커넥션을 점유하지 않아야 함
+ * 컨트롤러가 사용하는 논블로킹 경로(LLM 비동기 호출)와 비동기 작업이 사용하는 동기 경로를 각각 검증
+ */
+@SpringBootTest(properties = "course.pregeneration.enabled=false")
+@ActiveProfiles("test")
+class CourseServiceConnectionTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private LlmStrategyManager llmStrategyManager;
+
+    @Test
+    @DisplayName("논블로킹 코스 생성(POST /courses/generate 경로)에서 LLM 응답 대기 중에는 체크아웃된 DB 커넥션이 없어야 함")
+    void testGenerateCourseReactive_NoConnectionHeldDuringLlmCall() throws Exception {
+        // Given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger activeConnectionsDuringLlm = new AtomicInteger(-1);
+
+        // LLM 대역: 응답 지연 중 활성 커넥션 수를 기록하고 빈 결과 반환 (템플릿 Fallback)
+        given(llmStrategyManager.generateCourseWithValidationAsync(any(), any())).willReturn(
+                Mono.delay(Duration.ofMillis(300))
+                        .doOnNext(tick -> activeConnectionsDuringLlm.set(pool.getActiveConnections()))
+                        .then(Mono.<LlmCourseGenerationDto.CourseGenerationResult>empty()));
+
+        // When
+        CourseResponse response = courseService.generateCourseReactive(request()).block(Duration.ofSeconds(10));
+
+        // Then
+        verify(llmStrategyManager).generateCourseWithValidationAsync(any(), any());
+        assertThat(activeConnectionsDuringLlm.get()).isZero();
+        assertThat(response).isNotNull();
+        assertThat(response.getCourseId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동기 코스 생성(비동기 작업 경로)에서 LLM 응답 대기 중에는 체크아웃된 DB 커넥션이 없어야 함")
+    void testGenerateCourse_NoConnectionHeldDuringLlmCall() throws Exception {
+        // Given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger activeConnectionsDuringLlm = new AtomicInteger(-1);
+
+        // LLM 대역: 응답 지연 중 활성 커넥션 수를 기록하고 null 반환 (템플릿 Fallback)
+        given(llmStrategyManager.generateCourseWithValidation(any(), any())).willAnswer(invocation -> {
+            Thread.sleep(300);
+            activeConnectionsDuringLlm.set(pool.getActiveConnections());
+            return null;
+        });
+
+        // When
+        CourseResponse response = courseService.generateCourse(request());
+
+        // Then
+        verify(llmStrategyManager).generateCourseWithValidation(any(), any());
+        assertThat(activeConnectionsDuringLlm.get()).isZero();
+        assertThat(response).isNotNull();
+        assertThat(response.getCourseId()).isNotNull();
+    }
+
+    private CourseGenerationRequest request() {
+        return CourseGenerationRequest.builder()
+                .regionId("mapo-hongdae")
+                .dateTypeId("dinner")
+                .budgetPresetId("30k-50k")
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.LlmCircuitBreakerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LlmCircuitBreaker 단위 테스트
+ */
+class LlmCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final List<String> transitions = new ArrayList<>();
+    private LlmCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        LlmCircuitBreakerProperties properties = new LlmCircuitBreakerProperties();
+        properties.setWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(0.5);
+        properties.setSlowCallThresholdMs(1000);
+        properties.setSlowCallRateThreshold(0.75);
+        properties.setOpenDurationMs(30_000);
+        properties.setHalfOpenPermittedCalls(2);
+
+        breaker = new LlmCircuitBreaker("gemini", properties,
+                (provider, from, to) -> transitions.add(from + "→" + to), now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채운 뒤 실패율이 임계치 이상이면 OPEN, 대기 시간 동안 호출 거부")
+    void testClosed_OpensOnFailureRate() {
+        // Given: 최소 호출 수 전에는 실패가 많아도 CLOSED
+        breaker.onFailure(100);
+        breaker.onFailure(100);
+        breaker.onSuccess(100);
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+
+        // When: 4번째 호출로 실패율 3/4
+        breaker.onFailure(100);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        now.addAndGet(29_999);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.snapshot().notPermittedCalls()).isEqualTo(2);
+        assertThat(transitions).containsExactly("CLOSED→OPEN");
+    }
+
+    @Test
+    @DisplayName("지연 호출 비율이 임계치 이상이면 성공 응답이어도 OPEN")
+    void testClosed_OpensOnSlowCallRate() {
+        // When: 4번 중 3번이 지연 임계치 이상
+        breaker.onSuccess(1000);
+        breaker.onSuccess(1500);
+        breaker.onSuccess(200);
+        breaker.onSuccess(2000);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 오래된 실패는 실패율에서 빠짐")
+    void testClosed_SlidingWindowDropsOldResults() {
+        // Given
+        breaker.onFailure(100);
+        breaker.onSuccess(100);
+        breaker.onSuccess(100);
+        breaker.onSuccess(100);
+
+        // When: 첫 실패가 밀려나고 실패 1건만 남음
+        breaker.onFailure(100);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+        assertThat(breaker.snapshot().failureRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 HALF_OPEN에서 허용 수만큼만 시험 호출하고, 모두 성공하면 CLOSED")
+    void testHalfOpen_ClosesAfterSuccessfulProbes() {
+        // Given
+        breaker.forceOpen();
+        now.addAndGet(30_000);
+
+        // When: 시험 호출 2건 허용, 3번째는 거부
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess(100);
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(100);
+
+        // Then: CLOSED로 돌아오며 윈도우도 비워짐
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+        assertThat(breaker.snapshot().bufferedCalls()).isZero();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(transitions).containsExactly("CLOSED→OPEN", "OPEN→HALF_OPEN", "HALF_OPEN→CLOSED");
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하거나 지연되면 다시 OPEN, 취소된 시험 호출은 허용 수를 돌려받음")
+    void testHalfOpen_ReopensOnFailureAndReturnsCancelledPermit() {
+        // Given
+        breaker.forceOpen();
+        now.addAndGet(30_000);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+
+        // When: 취소된 시험 호출은 결과 없이 허용 수만 반환
+        breaker.onCancelled();
+
+        // Then
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+
+        // When: 지연된 응답은 실패로 간주
+        breaker.onSuccess(1000);
+
+        // Then: 다시 OPEN, 새 대기 시간이 지나기 전에는 거부
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+        now.addAndGet(29_999);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(LlmCircuitBreaker.State.HALF_OPEN);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LlmResponseDecoder 단위 테스트
+ */
+class LlmResponseDecoderTest {
+
+    private final LlmResponseDecoder decoder = new LlmResponseDecoder(
+            new CoursePromptCompiler(1500, 8, "compact", new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("응답 본문에서 앞뒤 설명 문구를 건너뛰고 코스 JSON을 바로 디코딩")
+    void testDecode_SkipsSurroundingProse() throws IOException {
+        // Given: 코드 펜스와 설명 문구로 감싼 compact 형식 Gemini 응답
+        String body = """
+                {"candidates": [{"content": {"role": "model", "parts": [{"text":
+                  "추천 코스입니다.\\n```json\\n{\\"course_name\\": \\"홍대 {감성} 데이트\\", \\"place_ids\\": [3, 1]}\\n```\\n즐거운 시간 되세요!"}]},
+                  "finishReason": "STOP"}],
+                 "usageMetadata": {"promptTokenCount": 900, "candidatesTokenCount": 30, "totalTokenCount": 930}}
+                """;
+
+        // When
+        LlmCourseGenerationDto.CourseGenerationResult result = decoder.decode(LlmResponseDecoder.GEMINI, stream(body));
+
+        // Then
+        assertThat(result.getCourseName()).isEqualTo("홍대 {감성} 데이트");
+        assertThat(result.getPlaces()).extracting(LlmCourseGenerationDto.PlaceInCourse::getPlaceId)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("코스 JSON 구조 오류는 예외로 전파")
+    void testDecode_FailsFastOnStructuralError() {
+        // Given: place_ids 배열이 닫히지 않은 Claude 응답
+        String body = """
+                {"content": [{"type": "text", "text": "{\\"course_name\\": \\"코스\\", \\"place_ids\\": [1, 2}"}],
+                 "stop_reason": "end_turn"}
+                """;
+
+        // When & Then
+        assertThatThrownBy(() -> decoder.decode(LlmResponseDecoder.CLAUDE, stream(body)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 제한으로 종료된 응답은 null")
+    void testDecode_ReturnsNullWhenTruncated() throws IOException {
+        // Given
+        String body = """
+                {"choices": [{"message": {"role": "assistant", "content": "{\\"course_name\\": \\"코스\\", \\"place_ids\\": [1, 2]}"},
+                  "finish_reason": "length"}]}
+                """;
+
+        // When & Then
+        assertThat(decoder.decode(LlmResponseDecoder.OPENAI, stream(body))).isNull();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.config.LlmCircuitBreakerProperties;
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * LlmStrategyManager 헤징 단위 테스트
+ */
+class LlmStrategyManagerTest {
+
+    private LlmStrategyManager manager;
+    private RollingLatencyWindow primaryLatencies;
+
+    @BeforeEach
+    void setUp() {
+        manager = new LlmStrategyManager(
+                mock(GeminiCourseService.class),
+                mock(ClaudeLlmService.class),
+                mock(LlmCircuitBreakerRegistry.class),
+                new SimpleMeterRegistry(),
+                10);
+        ReflectionTestUtils.setField(manager, "hedgingPercentile", 0.9);
+        ReflectionTestUtils.setField(manager, "hedgingMinSamples", 5);
+        ReflectionTestUtils.setField(manager, "hedgingInitialDelayMs", 3000L);
+        ReflectionTestUtils.setField(manager, "hedgingMinDelayMs", 500L);
+        ReflectionTestUtils.setField(manager, "hedgingMaxDelayMs", 8000L);
+        primaryLatencies = (RollingLatencyWindow) ReflectionTestUtils.getField(manager, "primaryLatencies");
+    }
+
+    @Test
+    @DisplayName("샘플이 최소 개수보다 적으면 초기 지연 시간, 충분하면 Primary 응답 시간 p90")
+    void testCurrentHedgeDelayMs_UsesPercentileAfterMinSamples() {
+        // Given
+        for (int i = 1; i <= 4; i++) {
+            primaryLatencies.record(i * 1000L);
+        }
+        assertThat(manager.currentHedgeDelayMs()).isEqualTo(3000);
+
+        // When: 1000 ~ 5000ms 5건 + 빠른 응답 5건 (1000 ~ 1400ms)
+        primaryLatencies.record(5000);
+        for (int i = 0; i < 5; i++) {
+            primaryLatencies.record(1000 + i * 100L);
+        }
+
+        // Then: 10건 중 p90 = 9번째 = 4000ms
+        assertThat(manager.currentHedgeDelayMs()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("p90이 범위를 벗어나면 최소/최대 지연 시간으로 제한")
+    void testCurrentHedgeDelayMs_ClampsToRange() {
+        // Given: 모두 빠른 응답
+        for (int i = 0; i < 10; i++) {
+            primaryLatencies.record(100);
+        }
+
+        // Then
+        assertThat(manager.currentHedgeDelayMs()).isEqualTo(500);
+
+        // When: 모두 느린 응답 (윈도우 10건 전체 교체)
+        for (int i = 0; i < 10; i++) {
+            primaryLatencies.record(20_000);
+        }
+
+        // Then
+        assertThat(manager.currentHedgeDelayMs()).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("헤징에서 Fallback이 이기면 진행 중인 Primary 호출을 취소하고 벌크헤드 허용 수와 서킷 브레이커 기록을 반환")
+    void testHedged_CancelsPrimaryWhenFallbackWins() {
+        // Given: 응답하지 않는 Gemini, 즉시 응답하는 Claude, 공급자별 동시 호출 1건
+        AtomicBoolean geminiCancelled = new AtomicBoolean();
+        GeminiCourseService gemini = mock(GeminiCourseService.class);
+        given(gemini.getProviderName()).willReturn("gemini");
+        given(gemini.generateCourseAsync(any())).willReturn(
+                Mono.<LlmCourseGenerationDto.CourseGenerationResult>never()
+                        .doOnCancel(() -> geminiCancelled.set(true)));
+
+        LlmCourseGenerationDto.CourseGenerationResult claudeResult = new LlmCourseGenerationDto.CourseGenerationResult();
+        ClaudeLlmService claude = mock(ClaudeLlmService.class);
+        given(claude.getProviderName()).willReturn("claude");
+        given(claude.generateCourseAsync(any())).willReturn(Mono.just(claudeResult));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmCircuitBreakerRegistry circuitBreakers = new LlmCircuitBreakerRegistry(
+                List.of(gemini, claude), new LlmCircuitBreakerProperties(), meterRegistry, 1);
+        LlmStrategyManager hedging = new LlmStrategyManager(gemini, claude, circuitBreakers, meterRegistry, 10);
+        ReflectionTestUtils.setField(hedging, "hedgingEnabled", true);
+        ReflectionTestUtils.setField(hedging, "hedgingMinSamples", 5);
+        ReflectionTestUtils.setField(hedging, "hedgingInitialDelayMs", 50L);
+        RollingLatencyWindow latencies = (RollingLatencyWindow) ReflectionTestUtils.getField(hedging, "primaryLatencies");
+
+        // When
+        LlmCourseGenerationDto.CourseGenerationResult result = hedging
+                .generateCourseWithValidationAsync(CoursePromptContext.builder().build(), r -> true)
+                .block(Duration.ofSeconds(5));
+
+        // Then: Claude 결과를 사용하고 Gemini 호출은 취소됨
+        assertThat(result).isSameAs(claudeResult);
+        assertThat(geminiCancelled).isTrue();
+
+        // 벌크헤드 허용 수 반환, 취소는 서킷 브레이커 실패로 기록되지 않음
+        assertThat(meterRegistry.get("llm.bulkhead.active").tag("provider", "gemini").gauge().value()).isZero();
+        assertThat(circuitBreakers.get("gemini").snapshot().bufferedCalls()).isZero();
+
+        // 취소 시점까지의 경과 시간이 헤징 지연 산정용 샘플로 기록됨
+        assertThat(latencies.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.CoursePromptContext;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.entity.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalCoursePlanner 단위 테스트
+ */
+class LocalCoursePlannerTest {
+
+    private final LocalCoursePlanner planner = new LocalCoursePlanner(
+            true, false, 8, 10,
+            new PlaceCandidateIndex(null, null),
+            new CourseDetailEnricher()
+    );
+
+    @Test
+    @DisplayName("방문 단계와 거리를 고려해 식사 → 카페 → 바 순서로 코스 구성")
+    void testPlan_FollowsStagesAndSkipsFarPlace() {
+        // Given: 가장 높은 점수의 장소는 다른 후보와 10km 이상 떨어져 있음
+        List<Place> candidates = List.of(
+                place(1L, "음식점 > 양식", DateType.DINNER.getBit(), 9, 37.556, 126.922, 5000, 10000),
+                place(2L, "카페 > 디저트카페", DateType.DINNER.getBit() | DateType.CAFE.getBit(), 7,
+                        37.557, 126.923, 5000, 10000),
+                place(3L, "술집 > 와인바", DateType.DINNER.getBit() | DateType.NIGHT.getBit(), 7,
+                        37.555, 126.924, 5000, 10000),
+                place(4L, "음식점 > 양식", DateType.DINNER.getBit(), 10, 37.400, 127.100, 5000, 10000)
+        );
+
+        // When
+        LlmCourseGenerationDto.CourseGenerationResult result = planner.plan(contextOf(candidates));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getPlaces())
+                .extracting(LlmCourseGenerationDto.PlaceInCourse::getPlaceId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(result.getTotalBudget()).isEqualTo(45000);
+        assertThat(result.getTotalDurationMinutes()).isPositive();
+        assertThat(result.getPlaces().get(0).getTransportToNext()).startsWith("도보");
+    }
+
+    @Test
+    @DisplayName("3곳이면 예산을 넘는 경우 2곳 코스로 생성")
+    void testPlan_ShortensCourseWithinBudget() {
+        // Given: 장소당 예상 비용 30,000원, 최대 예산 50,000원 (+20% 허용)
+        List<Place> candidates = List.of(
+                place(1L, "음식점 > 양식", DateType.DINNER.getBit(), 9, 37.556, 126.922, 10000, 20000),
+                place(2L, "카페 > 디저트카페", DateType.DINNER.getBit() | DateType.CAFE.getBit(), 8,
+                        37.557, 126.923, 10000, 20000),
+                place(3L, "술집 > 와인바", DateType.DINNER.getBit() | DateType.NIGHT.getBit(), 8,
+                        37.555, 126.924, 10000, 20000)
+        );
+
+        // When
+        LlmCourseGenerationDto.CourseGenerationResult result = planner.plan(contextOf(candidates));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getPlaces()).hasSize(2);
+        assertThat(result.getTotalBudget()).isLessThanOrEqualTo(60000);
+    }
+
+    @Test
+    @DisplayName("후보가 2곳 미만이면 null 반환")
+    void testPlan_ReturnsNullWithoutEnoughCandidates() {
+        List<Place> candidates = List.of(
+                place(1L, "음식점 > 양식", DateType.DINNER.getBit(), 9, 37.556, 126.922, 5000, 10000)
+        );
+
+        assertThat(planner.plan(contextOf(candidates))).isNull();
+    }
+
+    private CoursePromptContext contextOf(List<Place> candidates) {
+        return CoursePromptContext.builder()
+                .region(Region.builder().id("mapo-hongdae").name("마포·홍대").build())
+                .dateType(DateType.DINNER)
+                .minBudget(30000)
+                .maxBudget(50000)
+                .candidatePlaces(candidates)
+                .build();
+    }
+
+    private Place place(Long id, String category, int dateTypeMask, int dateScore,
+                        double latitude, double longitude, int priceMin, int priceMax) {
+        return Place.builder()
+                .id(id)
+                .name("장소 " + id)
+                .category(category)
+                .address("서울 마포구")
+                .rating(4.5)
+                .reviewCount(100)
+                .dateScore(dateScore)
+                .dateTypeMask(dateTypeMask)
+                .priceMin(priceMin)
+                .priceMax(priceMax)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.MoodTag;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.MoodTagRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MoodTagDictionary 단위 테스트
+ */
+class MoodTagDictionaryTest {
+
+    private MoodTagRepository moodTagRepository;
+    private MoodTagDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        moodTagRepository = mock(MoodTagRepository.class);
+        given(moodTagRepository.findAll()).willReturn(new ArrayList<>(List.of(
+                new MoodTag(1, "로맨틱"), new MoodTag(2, "아늑한"), new MoodTag(70, "야경"))));
+        dictionary = new MoodTagDictionary(moodTagRepository, new ObjectMapper(), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("지정한 태그를 모두 가진 장소만 통과 (ID 배열과 백필 전 JSON 모두 지원)")
+    void testFilter_RequiresAllTags() {
+        // Given
+        Place both = Place.builder().id(1L).moodTagIds(new int[]{70, 1, 2}).build();
+        Place romanticOnly = Place.builder().id(2L).moodTagIds(new int[]{1}).build();
+        Place jsonOnly = Place.builder().id(3L).moodTags("[\"야경\", \"로맨틱\"]").build();
+
+        // When
+        Predicate<Place> romanticNightView = dictionary.filter(List.of(" 로맨틱", "야경", "야경"));
+
+        // Then
+        assertThat(romanticNightView.test(both)).isTrue();
+        assertThat(romanticNightView.test(romanticOnly)).isFalse();
+        assertThat(romanticNightView.test(jsonOnly)).isTrue();
+        assertThat(dictionary.filter(List.of("없는 태그")).test(both)).isFalse();
+        assertThat(dictionary.filter(List.of(" "))).isNull();
+        assertThat(dictionary.filter(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("처음 보는 태그는 등록 후 ID로 변환하고, ID 배열은 이름으로 복원됨")
+    void testRegister_AssignsIdsAndRestoresNames() {
+        // Given
+        given(moodTagRepository.findByName("활기찬")).willReturn(Optional.of(new MoodTag(3, "활기찬")));
+
+        // When
+        int[] ids = dictionary.register(List.of("아늑한", "활기찬", "아늑한"));
+
+        // Then
+        assertThat(ids).containsExactly(2, 3);
+        verify(moodTagRepository).insertIfAbsent("활기찬");
+        assertThat(dictionary.namesOf(Place.builder().moodTagIds(ids).build())).containsExactly("아늑한", "활기찬");
+        assertThat(dictionary.filter(List.of("활기찬")).test(Place.builder().moodTagIds(ids).build())).isTrue();
+
+        // 이미 등록된 태그는 DB를 다시 조회하지 않음
+        dictionary.register(List.of("로맨틱", "활기찬"));
+        verify(moodTagRepository, never()).findByName("로맨틱");
+        verify(moodTagRepository).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("태그 이름을 등록 없이 ID로 변환하고, 사전에 없는 태그가 있으면 null")
+    void testIdsOfNames_DoesNotRegister() {
+        // When & Then
+        assertThat(dictionary.idsOfNames(List.of("야경", " 로맨틱", "야경"))).containsExactly(70, 1);
+        assertThat(dictionary.idsOfNames(List.of("로맨틱", "없는 태그"))).isNull();
+        assertThat(dictionary.idsOfNames(null)).isEmpty();
+        verify(moodTagRepository, never()).insertIfAbsent(anyString());
+    }
+
+    @Test
+    @DisplayName("사전에 없는 태그 ID는 이름 목록에서 제외")
+    void testNamesOf_SkipsUnknownIds() {
+        // Given
+        Place place = Place.builder().id(1L).moodTagIds(new int[]{1, 5, 200, 70}).build();
+
+        // When & Then
+        assertThat(dictionary.namesOf(place)).containsExactly("로맨틱", "야경");
+    }
+}
@@ -1,10 +1,13 @@
 package com.ddalkkak.date.service;
 
+import com.ddalkkak.date.config.OutboundHttpClientFactory;
+import com.ddalkkak.date.config.OutboundHttpProperties;
 import com.ddalkkak.date.dto.CoursePromptContext;
 import com.ddalkkak.date.dto.DateType;
 import com.ddalkkak.date.dto.LlmCourseGenerationDto;
 import com.ddalkkak.date.entity.Place;
 import com.ddalkkak.date.entity.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,11 +32,15 @@ class OpenAiCourseServiceTest {
             apiKey = "test-api-key"; // Mock API 키
         }
 
+        CoursePromptCompiler promptCompiler = new CoursePromptCompiler(1500, 8, "rich", new SimpleMeterRegistry());
         openAiCourseService = new OpenAiCourseService(
                 apiKey,
                 "https://api.openai.com/v1",
                 "gpt-4-turbo-preview",
-                10
+                10,
+                promptCompiler,
+                new LlmResponseDecoder(promptCompiler),
+                new OutboundHttpClientFactory(new OutboundHttpProperties())
         );
     }
 
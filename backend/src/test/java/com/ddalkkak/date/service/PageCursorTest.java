@@ -0,0 +1,51 @@
+package com.ddalkkak.date.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PageCursor 단위 테스트
+ */
+class PageCursorTest {
+
+    @Test
+    @DisplayName("정렬 키 값이 커서에 그대로 보존됨 (null 키 포함)")
+    void testEncodeDecode_RoundTrip() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123456000);
+        String cursor = PageCursor.encode("saved", createdAt, 42L);
+        String searchCursor = PageCursor.encode("search-default", 8, null, 4.5, 120, 7L);
+
+        // When
+        String[] keys = PageCursor.decode(cursor, "saved", 2);
+        String[] searchKeys = PageCursor.decode(searchCursor, "search-default", 5);
+
+        // Then
+        assertThat(LocalDateTime.parse(keys[0])).isEqualTo(createdAt);
+        assertThat(PageCursor.parseLong(keys[1])).isEqualTo(42L);
+        assertThat(PageCursor.parseInteger(searchKeys[0])).isEqualTo(8);
+        assertThat(PageCursor.parseDouble(searchKeys[1])).isNull();
+        assertThat(PageCursor.parseDouble(searchKeys[2])).isEqualTo(4.5);
+        assertThat(cursor).doesNotContain("|", "=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 정렬 기준이 다른 커서는 거부")
+    void testDecode_RejectsInvalidCursor() {
+        String ratingCursor = PageCursor.encode("rating", 4.5, 120, 7L);
+
+        assertThatThrownBy(() -> PageCursor.decode(ratingCursor, "popularity", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(ratingCursor, "rating", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor!", "rating", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.required(PageCursor.parseLong("")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
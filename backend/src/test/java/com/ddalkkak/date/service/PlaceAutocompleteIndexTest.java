@@ -0,0 +1,127 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PlaceAutocompleteIndex 단위 테스트
+ */
+class PlaceAutocompleteIndexTest {
+
+    private List<Place> places;
+    private PlaceRepository placeRepository;
+    private PlaceAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        places = new ArrayList<>(List.of(
+                place(1L, "연남동 파스타", "서울 마포구 연남동 123", 7, 50),
+                place(2L, "연남 카페", "서울 마포구 동교로 45", 9, 10),
+                place(3L, "연희 베이커리", "서울 서대문구 연희동 7", 7, 200),
+                place(4L, "Blue Bottle", "서울 마포구 양화로 1", 8, 300)
+        ));
+
+        placeRepository = mock(PlaceRepository.class);
+        given(placeRepository.findAll()).willReturn(places);
+        index = new PlaceAutocompleteIndex(placeRepository, 10);
+    }
+
+    @Test
+    @DisplayName("접두사 일치 결과를 데이트 적합도 → 리뷰 수 순으로 반환")
+    void testComplete_RanksByDateScoreThenReviewCount() {
+        // 이름 앞부분 "연" → 2번(9점) > 3번(7점, 리뷰 200) > 1번(7점, 리뷰 50)
+        assertThat(ids(index.complete("연", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.complete("연", 2))).containsExactly(2L, 3L);
+
+        // 이름 단어/주소 단어 앞부분, 대소문자와 공백 무시
+        assertThat(ids(index.complete("연남동", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("blue b", 10))).containsExactly(4L);
+        assertThat(ids(index.complete("bottle", 10))).containsExactly(4L);
+        assertThat(index.complete("없는장소", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 검색어는 초성 트라이에서 조회")
+    void testComplete_MatchesInitialConsonants() {
+        assertThat(ids(index.complete("ㅇㄴㄷ", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("ㅇㄴ", 10))).containsExactly(2L, 1L);
+        // 완성형과 초성이 섞인 검색어
+        assertThat(ids(index.complete("연ㄴ", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트로 이전 키는 제거되고 새 키와 순위가 반영됨")
+    void testOnPlaceChanged_UpdatesKeysAndRanking() {
+        // Given: 최초 조회로 색인 로드
+        assertThat(ids(index.complete("성수", 10))).isEmpty();
+
+        // When: 1번 장소 이름/점수 변경, 새 장소 추가
+        index.onPlaceChanged(new PlaceChangedEvent(place(1L, "성수 파스타", "서울 성동구 성수동", 10, 50)));
+        index.onPlaceChanged(new PlaceChangedEvent(place(5L, "성수 베이커리", "서울 성동구 성수동", 6, 20)));
+
+        // Then
+        assertThat(ids(index.complete("성수", 10))).containsExactly(1L, 5L);
+        assertThat(ids(index.complete("ㅅㅅ", 10))).containsExactly(1L, 5L);
+        assertThat(ids(index.complete("연남", 10))).containsExactly(2L);
+        assertThat(ids(index.complete("연", 10))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("최초 로드 중에 커밋된 장소 변경은 버려지지 않고 로드가 끝난 뒤 반영됨")
+    void testOnPlaceChanged_DuringInitialLoadIsApplied() throws Exception {
+        // Given: 로드(findAll)가 끝나지 않도록 대기시킴
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        given(placeRepository.findAll()).willAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return places;
+        });
+        Thread loader = new Thread(() -> index.complete("연", 10));
+        loader.start();
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 로드 중에 변경 이벤트 도착 (로드가 끝날 때까지 대기)
+        Thread listener = new Thread(() -> index.onPlaceChanged(
+                new PlaceChangedEvent(place(5L, "연남 와인바", "서울 마포구 연남동 9", 10, 5))));
+        listener.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.getState() != Thread.State.BLOCKED && listener.isAlive() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        releaseLoad.countDown();
+        loader.join(5000);
+        listener.join(5000);
+
+        // Then
+        assertThat(ids(index.complete("연", 10))).containsExactly(5L, 2L, 3L, 1L);
+    }
+
+    private List<Long> ids(List<Place> places) {
+        return places.stream().map(Place::getId).toList();
+    }
+
+    private Place place(Long id, String name, String address, int dateScore, int reviewCount) {
+        return Place.builder()
+                .id(id)
+                .regionId("mapo")
+                .name(name)
+                .category("카페")
+                .address(address)
+                .dateScore(dateScore)
+                .reviewCount(reviewCount)
+                .build();
+    }
+}
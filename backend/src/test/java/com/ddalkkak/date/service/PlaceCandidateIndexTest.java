@@ -0,0 +1,121 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PlaceCandidateIndex 단위 테스트
+ */
+class PlaceCandidateIndexTest {
+
+    private static final int DINNER = DateType.DINNER.getBit();
+    private static final int CAFE = DateType.CAFE.getBit();
+
+    private PlaceRepository placeRepository;
+    private PlaceCandidateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        given(placeRepository.findByRegionId("mapo")).willReturn(List.of(
+                place(1L, 7, 4.5, 100, DINNER, 20000),
+                place(2L, 9, 4.2, 80, DINNER | CAFE, 10000),
+                place(3L, 8, 4.8, 300, CAFE, 8000),
+                place(4L, 10, 3.5, 500, DINNER, 20000)  // 평점 미달
+        ));
+        index = new PlaceCandidateIndex(placeRepository, mock(CategoryKeywordMatcher.class));
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 지역을 로드하고, 이후 조회는 DB 없이 스냅샷에서 반환")
+    void testFindTopCandidates_LoadsOnceThenHits() {
+        // When
+        List<Place> first = index.findTopCandidates("mapo", DateType.DINNER, 10000, 30000, 10);
+        List<Place> second = index.findTopCandidates("mapo", DateType.CAFE, 5000, 15000, 10);
+
+        // Then: 평점 미달(4번) 제외, dateScore 내림차순
+        assertThat(ids(first)).containsExactly(2L, 1L);
+        assertThat(ids(second)).containsExactly(2L, 3L);
+        assertThat(ids(index.findTopCandidates("mapo", DateType.DINNER, 10000, 30000, 1))).containsExactly(2L);
+        verify(placeRepository, times(1)).findByRegionId("mapo");
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트로 후보가 제거/추가/재정렬되고, 로드 전 지역은 무시")
+    void testOnPlaceChanged_InvalidatesLoadedRegionOnly() {
+        // Given
+        index.findTopCandidates("mapo", DateType.DINNER, 10000, 30000, 10);
+
+        // When: 2번은 평점 미달로 제외, 1번은 점수 상승, 4번은 평점 회복, 로드 전 지역 변경
+        index.onPlaceChanged(new PlaceChangedEvent(List.of(
+                place(2L, 9, 3.9, 80, DINNER | CAFE, 10000),
+                place(1L, 10, 4.5, 100, DINNER, 20000),
+                place(4L, 8, 4.1, 500, DINNER, 20000)
+        )));
+        index.onPlaceChanged(new PlaceChangedEvent(place(9L, "gangnam", 9, 4.5, 100, DINNER, 20000)));
+
+        // Then
+        assertThat(ids(index.findTopCandidates("mapo", DateType.DINNER, 10000, 30000, 10))).containsExactly(1L, 4L);
+        assertThat(ids(index.findTopCandidates("mapo", DateType.CAFE, 5000, 15000, 10))).containsExactly(3L);
+        verify(placeRepository, times(1)).findByRegionId("mapo");
+        verify(placeRepository, never()).findByRegionId("gangnam");
+    }
+
+    @Test
+    @DisplayName("로드 중 같은 지역의 변경 이벤트가 도착하면 로드 결과를 버리고 다시 로드")
+    void testFindTopCandidates_ReloadsWhenChangedDuringLoad() {
+        // Given: 첫 로드 도중 1번 장소 변경이 커밋됨 (첫 로드 결과는 변경 전 데이터)
+        Place before = place(1L, 7, 4.5, 100, DINNER, 20000);
+        Place after = place(1L, 7, 3.0, 100, DINNER, 20000);
+        given(placeRepository.findByRegionId("mapo"))
+                .willAnswer(invocation -> {
+                    index.onPlaceChanged(new PlaceChangedEvent(after));
+                    return List.of(before);
+                })
+                .willReturn(List.of(after));
+
+        // When
+        List<Place> result = index.findTopCandidates("mapo", DateType.DINNER, 10000, 30000, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(placeRepository, times(2)).findByRegionId("mapo");
+    }
+
+    private List<Long> ids(List<Place> places) {
+        return places.stream().map(Place::getId).toList();
+    }
+
+    private Place place(Long id, int dateScore, double rating, int reviewCount, int dateTypeMask, int priceMin) {
+        return place(id, "mapo", dateScore, rating, reviewCount, dateTypeMask, priceMin);
+    }
+
+    private Place place(Long id, String regionId, int dateScore, double rating, int reviewCount, int dateTypeMask,
+                        int priceMin) {
+        return Place.builder()
+                .id(id)
+                .regionId(regionId)
+                .name("장소 " + id)
+                .category("음식점")
+                .dateScore(dateScore)
+                .rating(rating)
+                .reviewCount(reviewCount)
+                .dateTypeMask(dateTypeMask)
+                .priceMin(priceMin)
+                .priceMax(priceMin + 10000)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PlaceSearchIndex 단위 테스트
+ */
+class PlaceSearchIndexTest {
+
+    private PlaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Place> places = new ArrayList<>(List.of(
+                place(1L, "mapo", "연남동 파스타", "음식점 > 양식 > 이탈리안", "서울 마포구 연남동 123"),
+                place(2L, "mapo", "카페 연남", "카페 > 디저트카페", "서울 마포구 동교로 45"),
+                place(3L, "jongno", "서촌 한옥 카페", "카페", "서울 종로구 자하문로 7"),
+                place(4L, "mapo", "Blue Bottle", "카페 > 커피전문점", "서울 마포구 양화로 1")
+        ));
+
+        PlaceRepository placeRepository = mock(PlaceRepository.class);
+        given(placeRepository.findAll()).willReturn(places);
+        index = new PlaceSearchIndex(placeRepository, 1);
+    }
+
+    @Test
+    @DisplayName("이름/카테고리/주소 부분 일치 검색과 필드별 관련도")
+    void testSearch_MatchesSubstringWithRelevance() {
+        // When
+        List<PlaceSearchIndex.Match> matches = index.search("연남", null);
+
+        // Then: 이름 앞부분 + 주소 일치(1번) > 이름 중간 일치(2번)
+        assertThat(matches).extracting(match -> match.place().getId()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(relevanceOf(matches, 1L)).isGreaterThan(relevanceOf(matches, 2L));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색, 대소문자 무시, 지역 필터")
+    void testSearch_SingleCharacterCaseInsensitiveAndRegion() {
+        assertThat(index.search("카", "mapo")).extracting(match -> match.place().getId())
+                .containsExactlyInAnyOrder(2L, 4L);
+        assertThat(index.search("blue b", null)).extracting(match -> match.place().getId())
+                .containsExactly(4L);
+        assertThat(index.search("한옥 카페", "mapo")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트가 변경분과 재구성된 색인에 반영됨")
+    void testOnPlaceChanged_AppliesUpdates() {
+        // Given: 최초 검색으로 색인 로드
+        assertThat(index.search("성수", null)).isEmpty();
+
+        // When: 새 장소 추가 (변경분), 기존 장소 이름 변경 (임계치 초과로 재구성)
+        index.onPlaceChanged(new PlaceChangedEvent(
+                place(5L, "seongsu", "성수 베이커리", "카페 > 베이커리", "서울 성동구 성수동")));
+        index.onPlaceChanged(new PlaceChangedEvent(
+                place(1L, "mapo", "성수 파스타", "음식점 > 양식", "서울 성동구 성수동")));
+
+        // Then
+        assertThat(index.search("성수", null)).extracting(match -> match.place().getId())
+                .containsExactlyInAnyOrder(1L, 5L);
+        assertThat(index.search("연남동 파스타", null)).isEmpty();
+    }
+
+    private int relevanceOf(List<PlaceSearchIndex.Match> matches, Long placeId) {
+        return matches.stream()
+                .filter(match -> match.place().getId().equals(placeId))
+                .findFirst()
+                .orElseThrow()
+                .relevance();
+    }
+
+    private Place place(Long id, String regionId, String name, String category, String address) {
+        return Place.builder()
+                .id(id)
+                .regionId(regionId)
+                .name(name)
+                .category(category)
+                .address(address)
+                .build();
+    }
+}
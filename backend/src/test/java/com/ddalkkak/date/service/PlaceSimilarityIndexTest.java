@@ -0,0 +1,144 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.MoodTag;
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.MoodTagRepository;
+import com.ddalkkak.date.repository.PlaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PlaceSimilarityIndex 단위 테스트
+ */
+class PlaceSimilarityIndexTest {
+
+    private List<Place> places;
+    private PlaceRepository placeRepository;
+    private PlaceSpatialIndex spatialIndex;
+    private PlaceSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        places = new ArrayList<>(List.of(
+                place(1L, "mapo", "음식점 > 양식 > 이탈리안", "[\"로맨틱\", \"아늑한\"]", 30000, 37.5560, 126.9220),
+                place(2L, "mapo", "음식점 > 양식 > 이탈리안", "[\"로맨틱\", \"아늑한\"]", 35000, 37.5570, 126.9230),
+                place(3L, "mapo", "음식점 > 양식", "[\"로맨틱\"]", 30000, 37.5600, 126.9300),
+                place(4L, "mapo", "카페 > 디저트카페", "[\"편안한\"]", 10000, 37.5500, 126.9100),
+                place(5L, "gangnam", "음식점 > 양식 > 이탈리안", "[\"로맨틱\", \"아늑한\"]", 30000, 37.4980, 127.0280)
+        ));
+
+        placeRepository = mock(PlaceRepository.class);
+        given(placeRepository.findAll()).willReturn(places);
+        MoodTagRepository moodTagRepository = mock(MoodTagRepository.class);
+        given(moodTagRepository.findAll()).willReturn(List.of(
+                new MoodTag(1, "로맨틱"), new MoodTag(2, "아늑한"), new MoodTag(3, "편안한")));
+        MoodTagDictionary moodTagDictionary = new MoodTagDictionary(
+                moodTagRepository, new ObjectMapper(), mock(PlatformTransactionManager.class));
+
+        spatialIndex = new PlaceSpatialIndex(placeRepository, 0.01);
+        index = new PlaceSimilarityIndex(placeRepository, spatialIndex, moodTagDictionary, 3, 3.0);
+    }
+
+    @Test
+    @DisplayName("무드 태그/카테고리/가격대/거리가 비슷한 장소 순으로 반환하고, 먼 다른 지역 장소는 후보에서 제외")
+    void testSimilar_RanksByFeatureSimilarity() {
+        // Given
+        index.rebuild();
+
+        // When
+        List<PlaceSimilarityIndex.Neighbor> similar = index.similar(1L, 10);
+
+        // Then: 상위 K(3)개, 다른 지역이면서 반경 밖인 5번은 제외
+        assertThat(similar).extracting(neighbor -> neighbor.place().getId()).containsExactly(2L, 3L, 4L);
+        assertThat(similar.get(0).score()).isGreaterThan(similar.get(1).score());
+        assertThat(index.similar(1L, 1)).hasSize(1);
+        assertThat(index.similar(999L, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트로 변경된 장소와 영향받는 장소의 이웃 목록이 갱신됨")
+    void testOnPlaceChanged_UpdatesNeighbors() {
+        // Given
+        index.rebuild();
+        assertThat(index.similar(1L, 10)).extracting(neighbor -> neighbor.place().getId()).contains(2L);
+
+        // When: 2번 장소가 카페로 바뀌고 다른 지역으로 이동
+        Place moved = place(2L, "gangnam", "카페", "[\"편안한\"]", 10000, 37.4990, 127.0290);
+        spatialIndex.onPlaceChanged(new PlaceChangedEvent(moved));
+        index.onPlaceChanged(new PlaceChangedEvent(moved));
+
+        // Then
+        assertThat(index.similar(1L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(3L, 4L);
+        assertThat(index.similar(2L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(5L);
+        assertThat(index.similar(5L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("첫 계산 전에는 요청 스레드에서 계산하지 않고 null을 반환 (DB 조회로 대체)")
+    void testSimilar_BeforeFirstBuildReturnsNull() {
+        // When & Then
+        assertThat(index.similar(1L, 10)).isNull();
+        verify(placeRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("일괄 계산 중에도 조회와 변경 이벤트는 기다리지 않고, 계산 중 도착한 일괄 변경은 교체 전에 다시 계산해 반영")
+    void testRebuild_DoesNotBlockReadsAndReplaysChanges() throws Exception {
+        // Given: 첫 계산 후, 재계산의 DB 조회가 끝나지 않도록 대기시킴
+        index.rebuild();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        given(placeRepository.findAll()).willAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return places;
+        });
+        Thread rebuilder = new Thread(index::rebuild);
+        rebuilder.start();
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 재계산 중 조회와 일괄 변경 (2번 장소가 카페로 바뀌고 다른 지역으로 이동)
+        assertThat(index.similar(1L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(2L, 3L, 4L);
+        Place moved = place(2L, "gangnam", "카페", "[\"편안한\"]", 10000, 37.4990, 127.0290);
+        spatialIndex.onPlaceChanged(new PlaceChangedEvent(moved));
+        index.onPlaceChanged(new PlaceChangedEvent(List.of(moved, places.get(4))));
+        assertThat(rebuilder.isAlive()).isTrue();
+
+        releaseLoad.countDown();
+        rebuilder.join(5000);
+
+        // Then
+        assertThat(index.similar(1L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(3L, 4L);
+        assertThat(index.similar(2L, 10)).extracting(neighbor -> neighbor.place().getId()).containsExactly(5L);
+    }
+
+    private Place place(Long id, String regionId, String category, String moodTags, int priceMin,
+                        double latitude, double longitude) {
+        return Place.builder()
+                .id(id)
+                .name("장소 " + id)
+                .regionId(regionId)
+                .category(category)
+                .moodTags(moodTags)
+                .priceMin(priceMin)
+                .priceMax(priceMin + 20000)
+                .bestTime("저녁")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
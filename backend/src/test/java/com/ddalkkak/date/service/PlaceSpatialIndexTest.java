@@ -0,0 +1,138 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.entity.Place;
+import com.ddalkkak.date.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PlaceSpatialIndex 단위 테스트
+ */
+class PlaceSpatialIndexTest {
+
+    private static final double BASE_LAT = 37.556;
+    private static final double BASE_LNG = 126.922;
+
+    private final List<Place> places = new ArrayList<>();
+    private PlaceRepository placeRepository;
+    private PlaceSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 기준 좌표 주변 약 ±10km 범위에 장소 500곳 배치
+        Random random = new Random(42);
+        for (long id = 1; id <= 500; id++) {
+            places.add(place(id, id % 2 == 0 ? "mapo" : "jongno",
+                    BASE_LAT + (random.nextDouble() - 0.5) * 0.18,
+                    BASE_LNG + (random.nextDouble() - 0.5) * 0.22));
+        }
+
+        placeRepository = mock(PlaceRepository.class);
+        given(placeRepository.findAll()).willReturn(places);
+        index = new PlaceSpatialIndex(placeRepository, 0.01);
+    }
+
+    @Test
+    @DisplayName("k-최근접 결과가 전체 거리 정렬 결과와 일치")
+    void testNearest_MatchesBruteForce() {
+        // When
+        List<PlaceSpatialIndex.Neighbor> nearest = index.nearest(BASE_LAT, BASE_LNG, 10,
+                place -> "mapo".equals(place.getRegionId()));
+
+        // Then
+        List<Long> expected = places.stream()
+                .filter(place -> "mapo".equals(place.getRegionId()))
+                .sorted(Comparator.comparingDouble(this::distanceFromBase))
+                .limit(10)
+                .map(Place::getId)
+                .toList();
+        assertThat(nearest).extracting(neighbor -> neighbor.place().getId()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("반경 조회는 반경 안의 장소만 가까운 순으로 반환")
+    void testWithinRadius_ReturnsOnlyPlacesInRadius() {
+        // When
+        List<PlaceSpatialIndex.Neighbor> within = index.withinRadius(BASE_LAT, BASE_LNG, 2.0, place -> true);
+
+        // Then
+        long expectedCount = places.stream().filter(place -> distanceFromBase(place) <= 2.0).count();
+        assertThat(within).hasSize((int) expectedCount);
+        assertThat(within).isSortedAccordingTo(Comparator.comparingDouble(PlaceSpatialIndex.Neighbor::distanceKm));
+        assertThat(within).allMatch(neighbor -> neighbor.distanceKm() <= 2.0);
+    }
+
+    @Test
+    @DisplayName("장소 변경 이벤트로 새 장소가 바로 조회됨")
+    void testOnPlaceChanged_IndexesNewPlace() {
+        // Given: 스냅샷 로드 후 기준 좌표에 새 장소 추가
+        index.nearest(BASE_LAT, BASE_LNG, 1, place -> true);
+        Place added = place(1000L, "mapo", BASE_LAT, BASE_LNG);
+
+        // When
+        index.onPlaceChanged(new PlaceChangedEvent(added));
+
+        // Then
+        List<PlaceSpatialIndex.Neighbor> nearest = index.nearest(BASE_LAT, BASE_LNG, 1, place -> true);
+        assertThat(nearest).extracting(neighbor -> neighbor.place().getId()).containsExactly(1000L);
+        assertThat(index.count(place -> true)).isEqualTo(501);
+    }
+
+    @Test
+    @DisplayName("여러 장소를 묶은 변경 이벤트는 DB 재조회 없이 한 번에 반영됨")
+    void testOnPlaceChanged_AppliesBatch() {
+        // Given: 스냅샷 로드 후 장소 100곳을 기준 좌표 근처로 옮기고, 1곳은 좌표 제거
+        index.nearest(BASE_LAT, BASE_LNG, 1, place -> true);
+        List<Place> changed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Place moved = place(places.get(i * 5).getId(), "mapo", BASE_LAT + i * 0.0001, BASE_LNG);
+            places.set(i * 5, moved);
+            changed.add(moved);
+        }
+        Place withoutCoordinates = Place.builder().id(places.get(1).getId()).regionId("jongno").build();
+        places.remove(1);
+        changed.add(withoutCoordinates);
+
+        // When
+        index.onPlaceChanged(new PlaceChangedEvent(changed));
+
+        // Then
+        List<Long> expected = places.stream()
+                .sorted(Comparator.comparingDouble(this::distanceFromBase))
+                .limit(20)
+                .map(Place::getId)
+                .toList();
+        assertThat(index.nearest(BASE_LAT, BASE_LNG, 20, place -> true))
+                .extracting(neighbor -> neighbor.place().getId()).containsExactlyElementsOf(expected);
+        assertThat(index.count(place -> true)).isEqualTo(499);
+        verify(placeRepository, times(1)).findAll();
+    }
+
+    private double distanceFromBase(Place place) {
+        return CourseDetailEnricher.distanceKm(BASE_LAT, BASE_LNG, place.getLatitude(), place.getLongitude());
+    }
+
+    private Place place(Long id, String regionId, double latitude, double longitude) {
+        return Place.builder()
+                .id(id)
+                .name("장소 " + id)
+                .category("음식점 > 한식")
+                .address("서울")
+                .regionId(regionId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
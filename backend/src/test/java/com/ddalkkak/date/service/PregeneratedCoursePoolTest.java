@@ -0,0 +1,130 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.BudgetPreset;
+import com.ddalkkak.date.dto.CourseGenerationRequest;
+import com.ddalkkak.date.dto.DateType;
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.ddalkkak.date.entity.Place;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PregeneratedCoursePool 단위 테스트
+ */
+class PregeneratedCoursePoolTest {
+
+    private static final PregeneratedCoursePool.PoolKey KEY =
+            new PregeneratedCoursePool.PoolKey("mapo-hongdae", DateType.DINNER, BudgetPreset.RANGE_30K_50K);
+
+    private ApplicationEventPublisher eventPublisher;
+    private PregeneratedCoursePool pool;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        pool = new PregeneratedCoursePool(eventPublisher, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "sizePerKey", 2);
+    }
+
+    @Test
+    @DisplayName("목표 개수까지만 쌓이고, 꺼낸 만큼 부족분이 생김")
+    void testOfferAndTake_KeepsTargetSize() {
+        // Given
+        LlmCourseGenerationDto.CourseGenerationResult first = course("첫 코스", 1L);
+        LlmCourseGenerationDto.CourseGenerationResult second = course("둘째 코스", 2L);
+
+        // When
+        assertThat(pool.deficit(KEY)).isEqualTo(2);
+        assertThat(pool.offer(KEY, first)).isTrue();
+        assertThat(pool.offer(KEY, second)).isTrue();
+        assertThat(pool.offer(KEY, course("초과 코스", 3L))).isFalse();
+
+        // Then: 먼저 쌓인 코스부터 꺼내고, 꺼낼 때마다 보충 이벤트 발행
+        assertThat(pool.deficit(KEY)).isZero();
+        assertThat(pool.take(KEY, result -> true)).isSameAs(first);
+        assertThat(pool.deficit(KEY)).isEqualTo(1);
+        assertThat(pool.take(KEY, result -> true)).isSameAs(second);
+        verify(eventPublisher, times(2)).publishEvent(new PregeneratedCourseConsumedEvent(KEY));
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 코스는 버리고 다음 코스를 반환하며, 미스는 보충 이벤트를 발행하지 않음")
+    void testTake_DiscardsInvalidAndSkipsRefillOnMiss() {
+        // Given
+        LlmCourseGenerationDto.CourseGenerationResult stale = course("오래된 코스", 1L);
+        LlmCourseGenerationDto.CourseGenerationResult valid = course("유효한 코스", 2L);
+        pool.offer(KEY, stale);
+        pool.offer(KEY, valid);
+
+        // When
+        LlmCourseGenerationDto.CourseGenerationResult taken = pool.take(KEY, result -> result != stale);
+
+        // Then
+        assertThat(taken).isSameAs(valid);
+        assertThat(pool.deficit(KEY)).isEqualTo(2);
+        verify(eventPublisher, times(1)).publishEvent(any(PregeneratedCourseConsumedEvent.class));
+
+        // When: 빈 풀과 한 번도 채워진 적 없는 조합은 미스
+        PregeneratedCoursePool.PoolKey coldKey =
+                new PregeneratedCoursePool.PoolKey("jongno-gwanghwamun", DateType.CAFE, BudgetPreset.UNDER_30K);
+
+        // Then
+        assertThat(pool.take(KEY, result -> true)).isNull();
+        assertThat(pool.take(coldKey, result -> true)).isNull();
+        verify(eventPublisher, never()).publishEvent(new PregeneratedCourseConsumedEvent(coldKey));
+        verify(eventPublisher, times(1)).publishEvent(any(PregeneratedCourseConsumedEvent.class));
+    }
+
+    @Test
+    @DisplayName("장소가 변경되면 그 장소를 포함한 코스만 제거하고 해당 조합의 보충 이벤트 발행")
+    void testOnPlaceChanged_RemovesCoursesWithChangedPlaces() {
+        // Given
+        pool.offer(KEY, course("변경 장소 포함", 1L));
+        pool.offer(KEY, course("무관한 코스", 2L));
+
+        // When
+        pool.onPlaceChanged(new PlaceChangedEvent(List.of(
+                Place.builder().id(1L).regionId("mapo-hongdae").build(),
+                Place.builder().id(2L).regionId("gangnam-yeoksam").build())));
+
+        // Then: 다른 지역의 장소 2는 이 조합과 무관
+        assertThat(pool.deficit(KEY)).isEqualTo(1);
+        assertThat(pool.take(KEY, result -> true).getCourseName()).isEqualTo("무관한 코스");
+        verify(eventPublisher, times(2)).publishEvent(new PregeneratedCourseConsumedEvent(KEY));
+    }
+
+    @Test
+    @DisplayName("직접 입력 예산이나 무드 태그를 지정한 요청은 풀 대상이 아님")
+    void testKeyOf_ExcludesCustomBudgetAndMoodTags() {
+        // Given
+        CourseGenerationRequest preset = CourseGenerationRequest.builder()
+                .regionId("mapo-hongdae").dateTypeId("dinner").budgetPresetId("30k-50k").build();
+        CourseGenerationRequest custom = CourseGenerationRequest.builder()
+                .regionId("mapo-hongdae").dateTypeId("dinner").budgetPresetId("custom").customAmount(40000).build();
+        CourseGenerationRequest tagged = CourseGenerationRequest.builder()
+                .regionId("mapo-hongdae").dateTypeId("dinner").budgetPresetId("30k-50k").moodTags(List.of("로맨틱")).build();
+
+        // Then
+        assertThat(pool.keyOf(preset)).isEqualTo(KEY);
+        assertThat(pool.keyOf(custom)).isNull();
+        assertThat(pool.keyOf(tagged)).isNull();
+    }
+
+    private LlmCourseGenerationDto.CourseGenerationResult course(String name, Long placeId) {
+        return new LlmCourseGenerationDto.CourseGenerationResult(name, null, null, null, List.of(
+                new LlmCourseGenerationDto.PlaceInCourse(placeId, 1, null, null, null, null, null)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.RegionResponse;
+import com.ddalkkak.date.entity.CourseStatus;
+import com.ddalkkak.date.entity.Region;
+import com.ddalkkak.date.repository.CourseRepository;
+import com.ddalkkak.date.repository.RegionRepository;
+import com.ddalkkak.date.repository.VisitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RegionCatalog 단위 테스트
+ */
+class RegionCatalogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 15, 20);
+
+    private RegionRepository regionRepository;
+    private RegionCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        regionRepository = mock(RegionRepository.class);
+        given(regionRepository.findAllByOrderByDisplayOrderAsc()).willReturn(List.of(
+                region("mapo", 1), region("gangnam", 2), region("jongno", 3), region("yongsan", 4), region("songpa", 5)));
+
+        // 최근 7일: 마포 5, 강남 3 (6일 전), 종로 2, 용산 1 / 코스: 마포 4, 강남 1
+        long hour = RegionCatalog.hourOf(NOW);
+        VisitRepository visitRepository = mock(VisitRepository.class);
+        given(visitRepository.countHourlyByRegionSince(any())).willReturn(List.of(
+                new Object[]{"mapo", hour, 5L},
+                new Object[]{"gangnam", hour - 6 * 24, 3L},
+                new Object[]{"jongno", hour - 1, 2L},
+                new Object[]{"yongsan", hour - 2, 1L}));
+
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        given(courseRepository.countByRegionAndStatusNot(CourseStatus.DRAFT)).willReturn(List.of(
+                new Object[]{"mapo", 4L},
+                new Object[]{"gangnam", 1L}));
+
+        catalog = new RegionCatalog(regionRepository, visitRepository, courseRepository);
+    }
+
+    @Test
+    @DisplayName("최근 7일 방문 수 상위 3개 지역이 HOT이고, 가용 코스 수는 지역별 코스 수")
+    void testGetRegions_HotRegionsAndAvailableCourses() {
+        // When
+        List<RegionResponse> regions = catalog.getRegions(NOW);
+
+        // Then
+        assertThat(regions).extracting(RegionResponse::getId)
+                .containsExactly("mapo", "gangnam", "jongno", "yongsan", "songpa");
+        assertThat(hotRegionIds(regions)).containsExactlyInAnyOrder("mapo", "gangnam", "jongno");
+        assertThat(regions).extracting(RegionResponse::getAvailableCourses).containsExactly(4, 1, 0, 0, 0);
+
+        // 같은 시간대의 다음 조회는 DB를 다시 읽지 않음
+        catalog.getRegions(NOW.plusMinutes(30));
+        verify(regionRepository, times(1)).findAllByOrderByDisplayOrderAsc();
+    }
+
+    @Test
+    @DisplayName("방문/코스 이벤트와 시간 경과로 만료된 방문이 순위와 코스 수에 반영됨")
+    void testEvents_AndSlidingWindow() {
+        // Given
+        catalog.getRegions(NOW);
+
+        // When: 송파 방문 4회, 강남 코스 삭제
+        for (int i = 0; i < 4; i++) {
+            catalog.onRegionVisited(new RegionVisitedEvent("songpa", NOW));
+        }
+        catalog.onCourseCountChanged(new RegionCourseCountChangedEvent("gangnam", -1));
+        catalog.onCourseCountChanged(new RegionCourseCountChangedEvent("songpa", 1));
+
+        // Then: 송파(4)가 종로(2)/강남(3) 중 종로를 밀어냄
+        List<RegionResponse> regions = catalog.getRegions(NOW);
+        assertThat(hotRegionIds(regions)).containsExactlyInAnyOrder("mapo", "songpa", "gangnam");
+        assertThat(regions).extracting(RegionResponse::getAvailableCourses).containsExactly(4, 0, 0, 0, 1);
+
+        // When: 하루 뒤 강남의 6일 전 방문이 만료됨
+        regions = catalog.getRegions(NOW.plusDays(1));
+
+        // Then
+        assertThat(hotRegionIds(regions)).containsExactlyInAnyOrder("mapo", "songpa", "jongno");
+
+        // When: 7일 이상 지나면 모든 방문이 만료되어 HOT 지역 없음
+        regions = catalog.getRegions(NOW.plusDays(8));
+
+        // Then
+        assertThat(hotRegionIds(regions)).isEmpty();
+        assertThat(regions).extracting(RegionResponse::getAvailableCourses).containsExactly(4, 0, 0, 0, 1);
+    }
+
+    private List<String> hotRegionIds(List<RegionResponse> regions) {
+        return regions.stream().filter(RegionResponse::getHot).map(RegionResponse::getId).toList();
+    }
+
+    private Region region(String id, int displayOrder) {
+        return Region.builder()
+                .id(id)
+                .name(id)
+                .gridRow(displayOrder)
+                .gridCol(1)
+                .displayOrder(displayOrder)
+                .build();
+    }
+}
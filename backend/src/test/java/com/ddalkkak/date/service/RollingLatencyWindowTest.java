@@ -0,0 +1,53 @@
+package com.ddalkkak.date.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RollingLatencyWindow 단위 테스트
+ */
+class RollingLatencyWindowTest {
+
+    @Test
+    @DisplayName("백분위는 nearest-rank 방식으로 계산되고, 샘플이 없으면 -1")
+    void testPercentile_NearestRank() {
+        // Given
+        RollingLatencyWindow window = new RollingLatencyWindow(100);
+        assertThat(window.percentile(0.9)).isEqualTo(-1);
+
+        // When: 1000 ~ 100ms를 역순으로 기록
+        for (int i = 10; i >= 1; i--) {
+            window.record(i * 100L);
+        }
+
+        // Then
+        assertThat(window.size()).isEqualTo(10);
+        assertThat(window.percentile(0.9)).isEqualTo(900);
+        assertThat(window.percentile(0.5)).isEqualTo(500);
+        assertThat(window.percentile(0.95)).isEqualTo(1000);
+        assertThat(window.percentile(1.0)).isEqualTo(1000);
+        assertThat(window.percentile(0.0)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 샘플부터 밀려남")
+    void testRecord_EvictsOldestSamples() {
+        // Given
+        RollingLatencyWindow window = new RollingLatencyWindow(5);
+
+        // When: 느린 응답 3건 이후 빠른 응답 5건
+        window.record(9000);
+        window.record(9000);
+        window.record(9000);
+        for (int i = 1; i <= 5; i++) {
+            window.record(i * 10L);
+        }
+
+        // Then: 최근 5건만 남음
+        assertThat(window.size()).isEqualTo(5);
+        assertThat(window.percentile(1.0)).isEqualTo(50);
+        assertThat(window.percentile(0.0)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ddalkkak.date.service;
+
+import com.ddalkkak.date.dto.LlmCourseGenerationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StreamingCourseJsonParser 단위 테스트
+ */
+class StreamingCourseJsonParserTest {
+
+    private static final String RESPONSE = """
+            {
+              "course_name": "홍대 감성 데이트",
+              "description": "설명",
+              "total_duration_minutes": 180,
+              "total_budget": 60000,
+              "places": [
+                {"place_id": 1, "sequence": 1, "duration_minutes": 90, "estimated_cost": 30000,
+                 "recommended_menu": "파스타", "recommendation_reason": "분위기 {좋음}", "transport_to_next": "도보 5분"},
+                {"place_id": 2, "sequence": 2, "duration_minutes": 90, "estimated_cost": 30000,
+                 "recommended_menu": "케이크", "recommendation_reason": "디저트 [맛집]", "transport_to_next": null}
+              ]
+            }
+            """;
+
+    private StreamingCourseJsonParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new StreamingCourseJsonParser(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("조각 경계와 무관하게 장소가 완성되는 시점에 하나씩 반환됨")
+    void testFeed_EmitsPlacesAsSoonAsComplete() throws Exception {
+        // Given: 응답을 7자 단위로 분할
+        List<LlmCourseGenerationDto.PlaceInCourse> emitted = new ArrayList<>();
+        int emittedBeforeSecondPlaceEnds = -1;
+        int secondPlaceEnd = RESPONSE.lastIndexOf('}', RESPONSE.lastIndexOf(']'));
+
+        // When
+        for (int i = 0; i < RESPONSE.length(); i += 7) {
+            int end = Math.min(i + 7, RESPONSE.length());
+            if (end > secondPlaceEnd && emittedBeforeSecondPlaceEnds < 0) {
+                emittedBeforeSecondPlaceEnds = emitted.size();
+            }
+            emitted.addAll(parser.feed(RESPONSE.substring(i, end)));
+        }
+
+        // Then
+        assertThat(emittedBeforeSecondPlaceEnds).isEqualTo(1);
+        assertThat(emitted).extracting(LlmCourseGenerationDto.PlaceInCourse::getPlaceId).containsExactly(1L, 2L);
+        assertThat(emitted.get(0).getRecommendationReason()).isEqualTo("분위기 {좋음}");
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("JSON 앞뒤의 코드 펜스는 무시하고 전체 원문을 보존")
+    void testFeed_IgnoresSurroundingText() throws Exception {
+        // When
+        List<LlmCourseGenerationDto.PlaceInCourse> emitted = new ArrayList<>();
+        emitted.addAll(parser.feed("```json\n"));
+        emitted.addAll(parser.feed(RESPONSE));
+        emitted.addAll(parser.feed("```"));
+
+        // Then
+        assertThat(emitted).hasSize(2);
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.getRawJson().trim()).isEqualTo(RESPONSE.trim());
+    }
+}